@@ -0,0 +1,58 @@
+package org.opendatadiscovery.oddplatform.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
+
+/**
+ * Deterministic payload generators shared by benchmarks, so that results are comparable across commits.
+ */
+public final class BenchmarkFixtures {
+    private static final DataSetFieldType.TypeEnum[] FIELD_TYPES = {
+        DataSetFieldType.TypeEnum.STRING,
+        DataSetFieldType.TypeEnum.INTEGER,
+        DataSetFieldType.TypeEnum.FLOAT,
+        DataSetFieldType.TypeEnum.BOOLEAN,
+        DataSetFieldType.TypeEnum.DATETIME,
+        DataSetFieldType.TypeEnum.JSON
+    };
+
+    private static final int FIELDS_PER_STRUCT = 10;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Generates a flat-ish dataset structure: every {@value #FIELDS_PER_STRUCT}th field is a struct
+     * and the following fields are its children.
+     */
+    public static List<DataSetField> datasetFields(final String datasetOddrn, final int size) {
+        final List<DataSetField> fields = new ArrayList<>(size);
+        String parentOddrn = null;
+        for (int i = 0; i < size; i++) {
+            final boolean isStruct = i % FIELDS_PER_STRUCT == 0;
+            final String oddrn = datasetOddrn + "/columns/field_" + i;
+
+            final DataSetFieldType type = new DataSetFieldType();
+            type.setType(isStruct ? DataSetFieldType.TypeEnum.STRUCT : FIELD_TYPES[i % FIELD_TYPES.length]);
+            type.setLogicalType("logical_type_" + i % FIELD_TYPES.length);
+            type.setIsNullable(i % 2 == 0);
+
+            final DataSetField field = new DataSetField();
+            field.setOddrn(oddrn);
+            field.setName("field_" + i);
+            field.setType(type);
+            field.setParentFieldOddrn(isStruct ? null : parentOddrn);
+            field.setIsPrimaryKey(i == 0);
+            field.setIsKey(false);
+            field.setIsValue(false);
+            fields.add(field);
+
+            if (isStruct) {
+                parentOddrn = oddrn;
+            }
+        }
+        return fields;
+    }
+}
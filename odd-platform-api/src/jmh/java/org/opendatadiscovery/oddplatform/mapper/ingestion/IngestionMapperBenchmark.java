@@ -0,0 +1,59 @@
+package org.opendatadiscovery.oddplatform.mapper.ingestion;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.benchmark.BenchmarkFixtures;
+import org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetadataExtension;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
+import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class IngestionMapperBenchmark {
+    private static final String DATASET_ODDRN = "//benchmark/tables/mapper";
+    private static final long DATA_SOURCE_ID = 1L;
+
+    @Param({"10", "1000", "10000"})
+    private int fieldsCount;
+
+    private final IngestionMapper ingestionMapper =
+        new IngestionMapperImpl(new DatasetFieldIngestionMapperImpl(), new DatasetVersionHashCalculator());
+
+    private DataEntity dataEntity;
+
+    @Setup
+    public void setUp() {
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            metadata.put("metadata_key_" + i, "metadata_value_" + i);
+        }
+
+        dataEntity = new DataEntity()
+            .oddrn(DATASET_ODDRN)
+            .name("benchmark_table")
+            .description("Benchmark table description")
+            .type(DataEntityType.TABLE)
+            .createdAt(OffsetDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC))
+            .metadata(List.of(new MetadataExtension().metadata(metadata)))
+            .tags(List.of(new Tag().name("benchmark"), new Tag().name("jmh")))
+            .dataset(new DataSet()
+                .rowsNumber(1000L)
+                .fieldList(BenchmarkFixtures.datasetFields(DATASET_ODDRN, fieldsCount)));
+    }
+
+    @Benchmark
+    public DataEntityIngestionDto createIngestionDto() {
+        return ingestionMapper.createIngestionDto(dataEntity, DATA_SOURCE_ID);
+    }
+}
@@ -0,0 +1,30 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.util.List;
+import org.opendatadiscovery.oddplatform.benchmark.BenchmarkFixtures;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class DatasetVersionHashCalculatorBenchmark {
+    @Param({"1000", "10000", "50000"})
+    private int fieldsCount;
+
+    private final DatasetVersionHashCalculator calculator = new DatasetVersionHashCalculator();
+
+    private List<DataSetField> fields;
+
+    @Setup
+    public void setUp() {
+        fields = BenchmarkFixtures.datasetFields("//benchmark/tables/hash", fieldsCount);
+    }
+
+    @Benchmark
+    public String calculateStructureHash() {
+        return calculator.calculateStructureHash(fields);
+    }
+}
@@ -0,0 +1,102 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.alert;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.collections4.SetValuedMap;
+import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertTypeEnum;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionTaskRun;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionTaskRun.IngestionTaskRunStatus;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionTaskRun.IngestionTaskRunType;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.AlertPojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+public class AlertActionResolverBenchmark {
+    private static final int RUNS_PER_ENTITY = 20;
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final IngestionTaskRunStatus[] STATUSES = {
+        IngestionTaskRunStatus.SUCCESS,
+        IngestionTaskRunStatus.FAILED,
+        IngestionTaskRunStatus.BROKEN,
+        IngestionTaskRunStatus.SUCCESS,
+        IngestionTaskRunStatus.SKIPPED
+    };
+
+    @Param({"100", "1000", "10000"})
+    private int entitiesCount;
+
+    private AlertActionResolver resolver;
+    private Map<String, List<IngestionTaskRun>> jobRuns;
+    private Map<String, List<IngestionTaskRun>> qualityTestRuns;
+
+    @Setup
+    public void setUp() {
+        final Map<String, SetValuedMap<Short, AlertPojo>> openAlerts = new HashMap<>();
+        jobRuns = new HashMap<>();
+        qualityTestRuns = new HashMap<>();
+
+        for (int i = 0; i < entitiesCount; i++) {
+            final String oddrn = "//benchmark/entities/" + i;
+            jobRuns.put(oddrn, taskRuns(oddrn, "//benchmark/jobs/" + i, IngestionTaskRunType.DATA_TRANSFORMER_RUN));
+            qualityTestRuns.put(oddrn, taskRuns(oddrn, null, IngestionTaskRunType.DATA_QUALITY_TEST_RUN));
+
+            // every other entity already has open alerts, so both the create and the stack paths are exercised
+            if (i % 2 == 0) {
+                final SetValuedMap<Short, AlertPojo> alerts = new HashSetValuedHashMap<>();
+                alerts.put(AlertTypeEnum.FAILED_JOB.getCode(), new AlertPojo()
+                    .setId((long) i)
+                    .setDataEntityOddrn(oddrn)
+                    .setType(AlertTypeEnum.FAILED_JOB.getCode()));
+                alerts.put(AlertTypeEnum.FAILED_DQ_TEST.getCode(), new AlertPojo()
+                    .setId((long) i + entitiesCount)
+                    .setDataEntityOddrn(oddrn)
+                    .setMessengerEntityOddrn(oddrn + "/tests/0")
+                    .setType(AlertTypeEnum.FAILED_DQ_TEST.getCode()));
+                openAlerts.put(oddrn, alerts);
+            }
+        }
+
+        resolver = new AlertActionResolverFactory().create(openAlerts, Map.of());
+    }
+
+    @Benchmark
+    public void resolveJobRunActions(final Blackhole blackhole) {
+        resolver.resolveActions(jobRuns, IngestionTaskRunType.DATA_TRANSFORMER_RUN).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void resolveQualityTestRunActions(final Blackhole blackhole) {
+        resolver.resolveActions(qualityTestRuns, IngestionTaskRunType.DATA_QUALITY_TEST_RUN)
+            .forEach(blackhole::consume);
+    }
+
+    private List<IngestionTaskRun> taskRuns(final String dataEntityOddrn,
+                                            final String taskOddrn,
+                                            final IngestionTaskRunType type) {
+        final List<IngestionTaskRun> runs = new ArrayList<>(RUNS_PER_ENTITY);
+        for (int i = 0; i < RUNS_PER_ENTITY; i++) {
+            final OffsetDateTime startTime = BASE_TIME.plusMinutes(i);
+            runs.add(IngestionTaskRun.builder()
+                .taskRunName("run_" + i)
+                .oddrn(dataEntityOddrn + "/runs/" + i)
+                .taskOddrn(taskOddrn != null ? taskOddrn : dataEntityOddrn + "/tests/" + i % 4)
+                .startTime(startTime)
+                .endTime(startTime.plusSeconds(30))
+                .status(STATUSES[i % STATUSES.length])
+                .statusReason("status reason " + i)
+                .type(type)
+                .build());
+        }
+        return runs;
+    }
+}
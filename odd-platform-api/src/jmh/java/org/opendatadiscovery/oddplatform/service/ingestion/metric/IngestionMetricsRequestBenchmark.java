@@ -0,0 +1,234 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.collections4.SetValuedMap;
+import org.opendatadiscovery.oddplatform.config.properties.MetricHistoryProperties;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionMetricsRequest;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Label;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Metric;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricPoint;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSetList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricType;
+import org.opendatadiscovery.oddplatform.mapper.ingestion.IngestionMetricsMapper;
+import org.opendatadiscovery.oddplatform.mapper.ingestion.IngestionMetricsMapperImpl;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelValuePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricChunkRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricFamilyRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelValueRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricPointRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricSeriesRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@State(Scope.Benchmark)
+public class IngestionMetricsRequestBenchmark {
+    private static final int FAMILIES_PER_SET = 10;
+    private static final int METRICS_PER_FAMILY = 10;
+    private static final int POINTS_PER_METRIC = 5;
+    private static final int BASE_TIMESTAMP = 1_672_531_200;
+
+    @Param({"10", "100", "1000"})
+    private int metricSetsCount;
+
+    // the stub repositories only assign ids while the dictionary is filled up in the setup
+    private final AtomicInteger ids = new AtomicInteger();
+    private final MetricDictionaryCache metricDictionaryCache = new MetricDictionaryCache(
+        metricEntityRepository(), metricFamilyRepository(), metricLabelRepository(), metricLabelValueRepository(),
+        metricSeriesRepository(), 500_000, Duration.ofHours(1));
+    private final IngestionMetricsMapper ingestionMetricsMapper = new IngestionMetricsMapperImpl();
+
+    // series, points and history are never written by the benchmarks
+    private final InternalIngestionMetricsServiceImpl service = new InternalIngestionMetricsServiceImpl(
+        metricDictionaryCache, metricPointRepository(),
+        new InternalMetricHistoryWriter(metricChunkRepository(), new MetricHistoryProperties()),
+        ingestionMetricsMapper, List.of());
+
+    private MetricSetList metricSetList;
+
+    @Setup
+    public void setUp() {
+        final List<MetricSet> items = new ArrayList<>(metricSetsCount);
+        for (int i = 0; i < metricSetsCount; i++) {
+            final List<MetricFamily> families = new ArrayList<>(FAMILIES_PER_SET);
+            for (int f = 0; f < FAMILIES_PER_SET; f++) {
+                families.add(new MetricFamily()
+                    .name("metric_family_" + f)
+                    .type(MetricType.GAUGE)
+                    .unit("unit")
+                    .help("Metric family " + f)
+                    .metrics(metrics()));
+            }
+            items.add(new MetricSet().oddrn("//benchmark/entities/" + i).metricFamilies(families));
+        }
+        metricSetList = new MetricSetList().items(items);
+
+        // every id is cached from now on, so the benchmark never reaches the stub repositories
+        resolveDictionaryIds().block();
+    }
+
+    @Benchmark
+    public IngestionMetricsRequest buildIngestionMetricsRequest() {
+        return service.buildIngestionMetricsRequest(metricSetList);
+    }
+
+    @Benchmark
+    public void resolveCachedDictionaryIds(final Blackhole blackhole) {
+        blackhole.consume(resolveDictionaryIds().block());
+    }
+
+    private Mono<?> resolveDictionaryIds() {
+        final IngestionMetricsRequest request = service.buildIngestionMetricsRequest(metricSetList);
+        final SetValuedMap<String, String> labels = request.labels();
+        final Mono<Collection<MetricLabelValuePojo>> labelValues = metricDictionaryCache
+            .getOrCreateLabels(labels.keySet())
+            .flatMap(labelsMap -> metricDictionaryCache.getOrCreateLabelValues(labels.entries().stream()
+                .map(e -> ingestionMetricsMapper.mapMetricLabelValue(labelsMap.get(e.getKey()).getId(), e.getValue()))
+                .toList()));
+        return Mono.zip(
+            metricDictionaryCache.getOrCreateEntities(request.metricRelatedOddrns()),
+            metricDictionaryCache.getOrCreateFamilies(request.metricFamilies()),
+            labelValues
+        );
+    }
+
+    private List<Metric> metrics() {
+        final List<Metric> metrics = new ArrayList<>(METRICS_PER_FAMILY);
+        for (int m = 0; m < METRICS_PER_FAMILY; m++) {
+            final List<MetricPoint> points = new ArrayList<>(POINTS_PER_METRIC);
+            for (int p = 0; p < POINTS_PER_METRIC; p++) {
+                points.add(new MetricPoint().timestamp(BASE_TIMESTAMP + p));
+            }
+            metrics.add(new Metric()
+                .labels(List.of(
+                    new Label().name("env").value(m % 2 == 0 ? "prod" : "stage"),
+                    new Label().name("instance").value("instance_" + m)))
+                .metricPoints(points));
+        }
+        return metrics;
+    }
+
+    private MetricEntityRepository metricEntityRepository() {
+        return oddrns -> Flux.fromIterable(oddrns)
+            .map(oddrn -> new MetricEntityPojo().setId(ids.incrementAndGet()).setEntityOddrn(oddrn));
+    }
+
+    private MetricFamilyRepository metricFamilyRepository() {
+        return new MetricFamilyRepository() {
+            @Override
+            public Flux<MetricFamilyPojo> createOrUpdateMetricFamilies(
+                final Collection<MetricFamilyPojo> metricFamilies) {
+                return Flux.fromIterable(metricFamilies)
+                    .map(family -> new MetricFamilyPojo(family).setId(ids.incrementAndGet()));
+            }
+
+            @Override
+            public Flux<MetricFamilyPojo> getByIds(final Set<Integer> familyIds) {
+                return Flux.empty();
+            }
+        };
+    }
+
+    private MetricLabelRepository metricLabelRepository() {
+        return labels -> Flux.fromIterable(labels)
+            .map(label -> label.setId(ids.incrementAndGet()));
+    }
+
+    private MetricLabelValueRepository metricLabelValueRepository() {
+        return new MetricLabelValueRepository() {
+            @Override
+            public Flux<MetricLabelValuePojo> getOrCreateMetricLabelValues(
+                final List<MetricLabelValuePojo> metricLabelValues) {
+                return Flux.fromIterable(metricLabelValues)
+                    .map(value -> new MetricLabelValuePojo(value).setId(ids.incrementAndGet()));
+            }
+
+            @Override
+            public Mono<List<MetricLabelValueDto>> getDtoByIds(final Set<Integer> labelValueIds) {
+                return Mono.just(List.of());
+            }
+        };
+    }
+
+    private MetricSeriesRepository metricSeriesRepository() {
+        return new MetricSeriesRepository() {
+            @Override
+            public Flux<MetricSeriesPojo> createOrUpdateMetricSeries(final List<MetricSeriesPojo> seriesPojos) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<MetricSeriesDto> getSeriesAndPointsByEntityOddrn(final String oddrn) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<MetricSeriesPojo> getSeriesByEntityOddrn(final String oddrn) {
+                return Flux.empty();
+            }
+        };
+    }
+
+    private MetricPointRepository metricPointRepository() {
+        return new MetricPointRepository() {
+            @Override
+            public Flux<MetricPointPojo> getPointsBySeriesId(final List<Integer> seriesIds) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<MetricPointPojo> deletePoints(final List<MetricPointPojo> pointsToDelete) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<MetricPointPojo> createOrUpdatePoints(final List<MetricPointPojo> metricPoints) {
+                return Flux.empty();
+            }
+        };
+    }
+
+    private MetricChunkRepository metricChunkRepository() {
+        return new MetricChunkRepository() {
+            @Override
+            public Flux<MetricChunkPojo> getOrCreateForUpdate(final List<MetricChunkPojo> chunkKeys) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<MetricChunkPojo> createOrUpdateChunks(final List<MetricChunkPojo> chunks) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<MetricChunkPojo> getChunks(final Collection<Integer> seriesIds,
+                                                   final LocalDateTime from,
+                                                   final LocalDateTime to,
+                                                   final Duration chunkDuration) {
+                return Flux.empty();
+            }
+        };
+    }
+}
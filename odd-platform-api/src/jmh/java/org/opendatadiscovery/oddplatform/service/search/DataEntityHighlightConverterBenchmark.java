@@ -0,0 +1,114 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntitySearchHighlight;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
+import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
+import org.opendatadiscovery.oddplatform.dto.DatasetStructureDto;
+import org.opendatadiscovery.oddplatform.dto.LabelDto;
+import org.opendatadiscovery.oddplatform.dto.OwnershipDto;
+import org.opendatadiscovery.oddplatform.dto.TagDto;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataOrigin;
+import org.opendatadiscovery.oddplatform.mapper.LabelMapperImpl;
+import org.opendatadiscovery.oddplatform.mapper.MetadataFieldMapperImpl;
+import org.opendatadiscovery.oddplatform.mapper.MetadataFieldValueMapperImpl;
+import org.opendatadiscovery.oddplatform.mapper.TagMapperImpl;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldValuePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TitlePojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class DataEntityHighlightConverterBenchmark {
+    private static final String SEARCH_TERM = "match";
+    private static final int TAGS_COUNT = 10;
+    private static final int METADATA_COUNT = 20;
+    private static final int LABELS_PER_FIELD = 3;
+
+    @Param({"10", "500", "5000"})
+    private int fieldsCount;
+
+    private final DataEntityHighlightConverter converter = new DataEntityHighlightConverter(
+        new TagMapperImpl(),
+        new MetadataFieldValueMapperImpl(new MetadataFieldMapperImpl()),
+        new LabelMapperImpl()
+    );
+
+    private DataEntityDetailsDto detailsDto;
+    private DatasetStructureDto structureDto;
+
+    @Setup
+    public void setUp() {
+        final List<TagDto> tags = new ArrayList<>(TAGS_COUNT);
+        for (int i = 0; i < TAGS_COUNT; i++) {
+            tags.add(new TagDto(new TagPojo().setId((long) i).setName(name("tag", i)), 1L, false));
+        }
+
+        final List<MetadataDto> metadata = new ArrayList<>(METADATA_COUNT);
+        for (int i = 0; i < METADATA_COUNT; i++) {
+            final MetadataOrigin origin = i % 2 == 0 ? MetadataOrigin.INTERNAL : MetadataOrigin.EXTERNAL;
+            metadata.add(new MetadataDto(
+                new MetadataFieldPojo().setId((long) i).setName(name("metadata", i)).setType("STRING")
+                    .setOrigin(origin.name()),
+                new MetadataFieldValuePojo().setMetadataFieldId((long) i).setValue(name("value", i))
+            ));
+        }
+
+        final List<OwnershipDto> ownership = List.of(OwnershipDto.builder()
+            .owner(new OwnerPojo().setId(1L).setName(name("owner", 1)))
+            .title(new TitlePojo().setId(1L).setName("Data Steward"))
+            .build());
+
+        detailsDto = DataEntityDetailsDto.detailsBuilder()
+            .dataEntity(new DataEntityPojo()
+                .setId(1L)
+                .setExternalName(name("table", 1))
+                .setExternalDescription("Table description with the " + SEARCH_TERM + " term")
+                .setInternalDescription("Internal description"))
+            .dataSource(new DataSourcePojo().setId(1L).setName(name("datasource", 1)).setOddrn("//benchmark"))
+            .namespace(new NamespacePojo().setId(1L).setName("benchmark"))
+            .ownership(ownership)
+            .tags(tags)
+            .metadata(metadata)
+            .build();
+
+        final List<DatasetFieldDto> fields = new ArrayList<>(fieldsCount);
+        for (int i = 0; i < fieldsCount; i++) {
+            final List<LabelDto> labels = new ArrayList<>(LABELS_PER_FIELD);
+            for (int l = 0; l < LABELS_PER_FIELD; l++) {
+                labels.add(new LabelDto(new LabelPojo().setId((long) l).setName(name("label", l)), false));
+            }
+            fields.add(DatasetFieldDto.builder()
+                .datasetFieldPojo(new DatasetFieldPojo()
+                    .setId((long) i)
+                    .setName(name("field", i))
+                    .setExternalDescription("Field description " + i))
+                .labels(labels)
+                .build());
+        }
+        structureDto = new DatasetStructureDto(null, fields);
+    }
+
+    @Benchmark
+    public DataEntitySearchHighlight highlight() {
+        return converter.highlight(detailsDto, structureDto, new TsQueryHighlighter(SEARCH_TERM));
+    }
+
+    private static String name(final String prefix, final int index) {
+        // every third name contains the search term, so the highlighter has to produce a realistic share of hits
+        return index % 3 == 0 ? prefix + "_" + SEARCH_TERM + "_" + index : prefix + "_" + index;
+    }
+}
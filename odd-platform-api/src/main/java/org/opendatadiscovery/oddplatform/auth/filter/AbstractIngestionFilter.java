@@ -36,11 +36,25 @@ public abstract class AbstractIngestionFilter implements WebFilter {
         return matcher.matches(exchange)
             .filter(ServerWebExchangeMatcher.MatchResult::isMatch)
             .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).then(Mono.empty())))
-            .flatMap(ignored -> chain.filter(exchange.mutate().request(getRequestDecorator(exchange)).build()))
+            .flatMap(match -> authorize(exchange, match)
+                .then(Mono.defer(() -> chain.filter(exchange.mutate().request(getRequestDecorator(exchange)).build()))))
             .onErrorResume(AccessDeniedException.class, e -> writeResponse(exchange, e.getMessage()));
     }
 
-    protected abstract ServerHttpRequestDecorator getRequestDecorator(final ServerWebExchange exchange);
+    /**
+     * Validates requests which can be authorized before their body is read.
+     */
+    protected Mono<Void> authorize(final ServerWebExchange exchange,
+                                   final ServerWebExchangeMatcher.MatchResult matchResult) {
+        return Mono.empty();
+    }
+
+    /**
+     * Validates requests which can be authorized only by their body, while it is read.
+     */
+    protected ServerHttpRequestDecorator getRequestDecorator(final ServerWebExchange exchange) {
+        return new ServerHttpRequestDecorator(exchange.getRequest());
+    }
 
     protected String resolveToken(final ServerHttpRequest request) {
         final String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
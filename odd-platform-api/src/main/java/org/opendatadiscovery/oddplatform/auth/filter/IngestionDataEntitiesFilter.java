@@ -10,6 +10,7 @@ import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.util.matcher.OrServerWebExchangeMatcher;
 import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -25,7 +26,10 @@ public class IngestionDataEntitiesFilter extends AbstractIngestionFilter {
 
     public IngestionDataEntitiesFilter(final ReactiveDataSourceRepository dataSourceRepository,
                                        final ReactiveCollectorRepository collectorRepository) {
-        super(new PathPatternParserServerWebExchangeMatcher("/ingestion/entities", HttpMethod.POST));
+        super(new OrServerWebExchangeMatcher(
+            new PathPatternParserServerWebExchangeMatcher("/ingestion/entities", HttpMethod.POST),
+            new PathPatternParserServerWebExchangeMatcher("/ingestion/entities/async", HttpMethod.POST)
+        ));
         this.dataSourceRepository = dataSourceRepository;
         this.collectorRepository = collectorRepository;
     }
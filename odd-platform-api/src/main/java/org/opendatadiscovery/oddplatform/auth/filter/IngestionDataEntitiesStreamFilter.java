@@ -0,0 +1,64 @@
+package org.opendatadiscovery.oddplatform.auth.filter;
+
+import org.opendatadiscovery.oddplatform.dto.CollectorDto;
+import org.opendatadiscovery.oddplatform.exception.NotFoundException;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(value = "auth.ingestion.filter.enabled", havingValue = "true")
+public class IngestionDataEntitiesStreamFilter extends AbstractIngestionFilter {
+    public static final String DATA_SOURCE_ODDRN_PARAM = "data_source_oddrn";
+
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final ReactiveCollectorRepository collectorRepository;
+
+    public IngestionDataEntitiesStreamFilter(final ReactiveDataSourceRepository dataSourceRepository,
+                                             final ReactiveCollectorRepository collectorRepository) {
+        super(new PathPatternParserServerWebExchangeMatcher("/ingestion/entities/stream", HttpMethod.POST));
+        this.dataSourceRepository = dataSourceRepository;
+        this.collectorRepository = collectorRepository;
+    }
+
+    @Override
+    protected ServerHttpRequestDecorator getRequestDecorator(final ServerWebExchange exchange) {
+        return new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                // Data source oddrn is passed as a query parameter, so the token can be validated
+                // before the body is read and the body itself is never buffered
+                final String dataSourceOddrn = exchange.getRequest().getQueryParams().getFirst(DATA_SOURCE_ODDRN_PARAM);
+                final String token = resolveToken(exchange.getRequest());
+
+                return dataSourceRepository.getDtoByOddrn(dataSourceOddrn)
+                    .switchIfEmpty(Mono.error(new NotFoundException("dataSource", dataSourceOddrn)))
+                    .flatMap(dto -> {
+                        if (dto.token() != null) {
+                            return Mono.just(dto.token());
+                        } else {
+                            return collectorRepository.getDto(dto.dataSource().getCollectorId())
+                                .switchIfEmpty(Mono.error(
+                                    new NotFoundException("collector", dto.dataSource().getCollectorId())))
+                                .map(CollectorDto::tokenDto);
+                        }
+                    })
+                    .doOnNext(dto -> {
+                        if (!dto.tokenPojo().getValue().equals(token)) {
+                            throw new AccessDeniedException("Token is not correct");
+                        }
+                    })
+                    .thenMany(super.getBody());
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package org.opendatadiscovery.oddplatform.auth.filter;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.opendatadiscovery.oddplatform.dto.CollectorDto;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lets only the collector, which has enqueued an ingestion job, read its status. The job is looked up
+ * by the path and the token is checked against the job's data source, the same way it was on enqueueing.
+ */
+@Component
+@ConditionalOnProperty(value = "auth.ingestion.filter.enabled", havingValue = "true")
+public class IngestionJobFilter extends AbstractIngestionFilter {
+    private static final String JOB_ID_VARIABLE = "job_id";
+
+    private final ReactiveIngestionJobRepository ingestionJobRepository;
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final ReactiveCollectorRepository collectorRepository;
+
+    public IngestionJobFilter(final ReactiveIngestionJobRepository ingestionJobRepository,
+                              final ReactiveDataSourceRepository dataSourceRepository,
+                              final ReactiveCollectorRepository collectorRepository) {
+        super(new PathPatternParserServerWebExchangeMatcher("/ingestion/jobs/{job_id}", HttpMethod.GET));
+        this.ingestionJobRepository = ingestionJobRepository;
+        this.dataSourceRepository = dataSourceRepository;
+        this.collectorRepository = collectorRepository;
+    }
+
+    @Override
+    protected Mono<Void> authorize(final ServerWebExchange exchange,
+                                   final ServerWebExchangeMatcher.MatchResult matchResult) {
+        final String token = resolveToken(exchange.getRequest());
+        final String jobId = (String) matchResult.getVariables().get(JOB_ID_VARIABLE);
+        // malformed and unknown ids are passed on, so they get the same responses as with the filter disabled
+        if (!NumberUtils.isDigits(jobId)) {
+            return Mono.empty();
+        }
+
+        return ingestionJobRepository.get(Long.parseLong(jobId))
+            .flatMap(job -> dataSourceRepository.getDtoByOddrn(job.getDataSourceOddrn())
+                .switchIfEmpty(Mono.error(() -> new AccessDeniedException("Token is not correct"))))
+            .flatMap(dto -> {
+                if (dto.token() != null) {
+                    return Mono.just(dto.token());
+                } else {
+                    return collectorRepository.getDto(dto.dataSource().getCollectorId())
+                        .switchIfEmpty(Mono.error(() -> new AccessDeniedException("Token is not correct")))
+                        .map(CollectorDto::tokenDto);
+                }
+            })
+            .doOnNext(dto -> {
+                if (!dto.tokenPojo().getValue().equals(token)) {
+                    throw new AccessDeniedException("Token is not correct");
+                }
+            })
+            .then();
+    }
+}
@@ -1,18 +1,31 @@
 package org.opendatadiscovery.oddplatform.auth.session;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.jooq.Condition;
 import org.jooq.DeleteConditionStep;
+import org.jooq.Field;
 import org.jooq.InsertResultStep;
 import org.jooq.InsertSetStep;
 import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.Row3;
 import org.jooq.SelectConditionStep;
+import org.jooq.Table;
+import org.jooq.UpdateConditionStep;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.SpringSessionPojo;
@@ -20,8 +33,10 @@ import org.opendatadiscovery.oddplatform.model.tables.records.SpringSessionAttri
 import org.opendatadiscovery.oddplatform.model.tables.records.SpringSessionRecord;
 import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
 import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupListener;
 import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.SerializationUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -29,10 +44,38 @@ import reactor.core.publisher.Mono;
 import static org.opendatadiscovery.oddplatform.model.Tables.SPRING_SESSION;
 import static org.opendatadiscovery.oddplatform.model.Tables.SPRING_SESSION_ATTRIBUTES;
 
-@RequiredArgsConstructor
-public class JooqSessionRepository implements ReactiveSessionRepository<MapSession> {
+/**
+ * Stores sessions in PostgreSQL and keeps recently used ones in a near-cache.
+ *
+ * <p>Saving a session whose attributes haven't changed since they were persisted only records
+ * its last access time, touched sessions are written in batches by {@link #flushTouches()}.
+ * Changes of session attributes and deletions of sessions are broadcast to all the platform nodes
+ * by database triggers, so the near-cache only serves sessions known to be up-to-date.
+ */
+@Slf4j
+public class JooqSessionRepository implements ReactiveSessionRepository<MapSession>, WakeupListener {
+    private static final int TOUCH_FLUSH_BATCH_SIZE = 500;
+    private static final String TOUCHES_TABLE = "touches";
+
     private final JooqReactiveOperations jooqReactiveOperations;
     private final JooqQueryHelper jooqQueryHelper;
+    private final TransactionalOperator transactionalOperator;
+    private final Cache<String, CachedSession> nearCache;
+    private final Map<String, SessionTouch> pendingTouches = new ConcurrentHashMap<>();
+
+    public JooqSessionRepository(final JooqReactiveOperations jooqReactiveOperations,
+                                 final JooqQueryHelper jooqQueryHelper,
+                                 final TransactionalOperator transactionalOperator,
+                                 final Duration nearCacheTtl,
+                                 final long nearCacheMaxSize) {
+        this.jooqReactiveOperations = jooqReactiveOperations;
+        this.jooqQueryHelper = jooqQueryHelper;
+        this.transactionalOperator = transactionalOperator;
+        this.nearCache = Caffeine.newBuilder()
+            .expireAfterWrite(nearCacheTtl)
+            .maximumSize(nearCacheMaxSize)
+            .build();
+    }
 
     @Override
     public Mono<MapSession> createSession() {
@@ -40,43 +83,35 @@ public class JooqSessionRepository implements ReactiveSessionRepository<MapSessi
     }
 
     @Override
-    @ReactiveTransactional
     public Mono<Void> save(final MapSession session) {
-        final SpringSessionRecord sessionRecord = recordFromSession(session);
-
-        final List<SpringSessionAttributesRecord> sessionAttrList = session.getAttributeNames().stream()
-            .map(attrName -> attributeRecordFromSessionAndAttrName(session, attrName))
-            .toList();
-
-        final var springSessionQuery = DSL
-            .insertInto(SPRING_SESSION)
-            .set(sessionRecord)
-            .onDuplicateKeyUpdate()
-            .set(SPRING_SESSION.LAST_ACCESS_TIME, sessionRecord.getLastAccessTime())
-            .set(SPRING_SESSION.EXPIRY_TIME, sessionRecord.getExpiryTime())
-            .set(SPRING_SESSION.PRINCIPAL_NAME, sessionRecord.getPrincipalName());
-
-        return Mono
-            .defer(() -> {
-                if (!session.getId().equals(session.getOriginalId())) {
-                    return deleteById(session.getOriginalId());
-                }
-
+        return Mono.defer(() -> {
+            final Map<String, byte[]> attributes = serializeAttributes(session);
+            final boolean idChanged = !session.getId().equals(session.getOriginalId());
+            final CachedSession persisted = idChanged ? null : nearCache.getIfPresent(session.getId());
+
+            if (persisted != null && persisted.isPersistedWith(session, attributes)) {
+                touch(session);
+                nearCache.put(session.getId(), new CachedSession(new MapSession(session), persisted.attributes()));
                 return Mono.empty();
-            })
-            .then(jooqReactiveOperations.mono(springSessionQuery))
-            .thenMany(Flux.defer(() -> {
-                if (sessionAttrList.isEmpty()) {
-                    return Flux.just();
-                }
+            }
 
-                return jooqReactiveOperations.flux(buildAttributeUpsertQuery(sessionAttrList));
-            }))
-            .then();
+            final Mono<Void> deleteOriginal = idChanged ? deleteById(session.getOriginalId()) : Mono.empty();
+
+            return transactionalOperator.transactional(deleteOriginal.then(write(session, attributes, persisted)))
+                .doOnSuccess(ignored -> {
+                    pendingTouches.remove(session.getId());
+                    nearCache.put(session.getId(), new CachedSession(new MapSession(session), attributes));
+                });
+        });
     }
 
     @Override
     public Mono<MapSession> findById(final String id) {
+        final CachedSession cached = nearCache.getIfPresent(id);
+        if (cached != null && !cached.session().isExpired()) {
+            return Mono.just(new MapSession(cached.session()));
+        }
+
         final SelectConditionStep<Record> query = DSL
             .select(SPRING_SESSION.fields())
             .select(SPRING_SESSION_ATTRIBUTES.fields())
@@ -87,17 +122,20 @@ public class JooqSessionRepository implements ReactiveSessionRepository<MapSessi
 
         return jooqReactiveOperations.flux(query)
             .collectList()
-            .map(this::mapJooqRecordToMapSession)
+            .map(this::mapJooqRecordToCachedSession)
             .flatMap(session -> {
                 if (session.isEmpty()) {
                     return Mono.empty();
                 }
 
-                if (session.get().isExpired()) {
+                applyPendingTouch(session.get().session());
+
+                if (session.get().session().isExpired()) {
                     return deleteById(id).then(Mono.empty());
                 }
 
-                return Mono.just(session.get());
+                nearCache.put(id, session.get());
+                return Mono.just(new MapSession(session.get().session()));
             });
     }
 
@@ -112,11 +150,153 @@ public class JooqSessionRepository implements ReactiveSessionRepository<MapSessi
             .deleteFrom(SPRING_SESSION)
             .where(SPRING_SESSION.PRIMARY_ID.eq(id));
 
-        return jooqReactiveOperations.mono(deleteAttributesQuery)
+        return Mono
+            .fromRunnable(() -> {
+                nearCache.invalidate(id);
+                pendingTouches.remove(id);
+            })
+            .then(jooqReactiveOperations.mono(deleteAttributesQuery))
             .then(jooqReactiveOperations.mono(deleteSessionQuery))
             .then();
     }
 
+    /**
+     * Writes last access times of the sessions touched since the previous flush.
+     * A touch never moves the last access time of a session backwards.
+     */
+    public Mono<Void> flushTouches() {
+        final Map<String, SessionTouch> touches = new HashMap<>();
+        for (final String id : pendingTouches.keySet()) {
+            final SessionTouch touch = pendingTouches.remove(id);
+            if (touch != null) {
+                touches.put(id, touch);
+            }
+        }
+
+        if (touches.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final List<Row3<String, Long, Long>> rows = touches.entrySet().stream()
+            .map(e -> DSL.row(e.getKey(), e.getValue().lastAccessTime(), e.getValue().expiryTime()))
+            .toList();
+
+        return Flux.fromIterable(ListUtils.partition(rows, TOUCH_FLUSH_BATCH_SIZE))
+            .concatMap(batch -> jooqReactiveOperations.mono(buildTouchQuery(batch)))
+            .reduce(0, Integer::sum)
+            .doOnNext(updated -> log.debug("Flushed last access time of {} sessions", updated))
+            .onErrorResume(e -> {
+                log.error("Couldn't flush last access time of {} sessions, retrying with the next flush",
+                    touches.size(), e);
+                touches.forEach(this::mergeTouch);
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    @Override
+    public void onNotification(final String sessionId) {
+        nearCache.invalidate(sessionId.trim());
+    }
+
+    @Override
+    public void onReconnect() {
+        nearCache.invalidateAll();
+    }
+
+    private Mono<Void> write(final MapSession session,
+                             final Map<String, byte[]> attributes,
+                             final CachedSession persisted) {
+        final SpringSessionRecord sessionRecord = recordFromSession(session);
+
+        final var springSessionQuery = DSL
+            .insertInto(SPRING_SESSION)
+            .set(sessionRecord)
+            .onDuplicateKeyUpdate()
+            .set(SPRING_SESSION.LAST_ACCESS_TIME, sessionRecord.getLastAccessTime())
+            .set(SPRING_SESSION.EXPIRY_TIME, sessionRecord.getExpiryTime())
+            .set(SPRING_SESSION.MAX_INACTIVE_INTERVAL, sessionRecord.getMaxInactiveInterval())
+            .set(SPRING_SESSION.PRINCIPAL_NAME, sessionRecord.getPrincipalName());
+
+        final List<SpringSessionAttributesRecord> changedAttributes = attributes.entrySet().stream()
+            .filter(e -> persisted == null || !Arrays.equals(e.getValue(), persisted.attributes().get(e.getKey())))
+            .map(e -> new SpringSessionAttributesRecord()
+                .setSessionPrimaryId(session.getId())
+                .setAttributeName(e.getKey())
+                .setAttributeBytes(e.getValue()))
+            .toList();
+
+        final Mono<Integer> deleteRemovedAttributes = Mono.defer(() -> {
+            // attributes of a session, which isn't known to this node, might have been removed on the other one
+            final Condition removedAttributes;
+            if (persisted == null) {
+                removedAttributes = SPRING_SESSION_ATTRIBUTES.ATTRIBUTE_NAME.notIn(attributes.keySet());
+            } else {
+                final Set<String> removedNames = removedAttributeNames(persisted, attributes);
+                if (removedNames.isEmpty()) {
+                    return Mono.empty();
+                }
+                removedAttributes = SPRING_SESSION_ATTRIBUTES.ATTRIBUTE_NAME.in(removedNames);
+            }
+
+            return jooqReactiveOperations.mono(DSL.deleteFrom(SPRING_SESSION_ATTRIBUTES)
+                .where(SPRING_SESSION_ATTRIBUTES.SESSION_PRIMARY_ID.eq(session.getId()))
+                .and(removedAttributes));
+        });
+
+        return jooqReactiveOperations.mono(springSessionQuery)
+            .thenMany(Flux.defer(() -> {
+                if (changedAttributes.isEmpty()) {
+                    return Flux.just();
+                }
+
+                return jooqReactiveOperations.flux(buildAttributeUpsertQuery(changedAttributes));
+            }))
+            .then(deleteRemovedAttributes)
+            .then();
+    }
+
+    private Set<String> removedAttributeNames(final CachedSession persisted, final Map<String, byte[]> attributes) {
+        return persisted.attributes().keySet().stream()
+            .filter(name -> !attributes.containsKey(name))
+            .collect(Collectors.toSet());
+    }
+
+    private void touch(final MapSession session) {
+        final SpringSessionRecord sessionRecord = recordFromSession(session);
+        mergeTouch(session.getId(), new SessionTouch(sessionRecord.getLastAccessTime(), sessionRecord.getExpiryTime()));
+    }
+
+    private void mergeTouch(final String id, final SessionTouch touch) {
+        pendingTouches.merge(id, touch, (a, b) -> a.lastAccessTime() >= b.lastAccessTime() ? a : b);
+    }
+
+    // the database might not know about the latest access of the session yet
+    private void applyPendingTouch(final MapSession session) {
+        final SessionTouch touch = pendingTouches.get(session.getId());
+        if (touch != null && touch.lastAccessTime() > session.getLastAccessedTime().getEpochSecond()) {
+            session.setLastAccessedTime(Instant.ofEpochSecond(touch.lastAccessTime()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private UpdateConditionStep<SpringSessionRecord> buildTouchQuery(final List<Row3<String, Long, Long>> rows) {
+        final Table<Record3<String, Long, Long>> touches = DSL.values(rows.toArray(Row3[]::new))
+            .as(TOUCHES_TABLE, SPRING_SESSION.PRIMARY_ID.getName(), SPRING_SESSION.LAST_ACCESS_TIME.getName(),
+                SPRING_SESSION.EXPIRY_TIME.getName());
+
+        final Field<String> primaryId = jooqQueryHelper.getField(touches, SPRING_SESSION.PRIMARY_ID);
+        final Field<Long> lastAccessTime = jooqQueryHelper.getField(touches, SPRING_SESSION.LAST_ACCESS_TIME);
+        final Field<Long> expiryTime = jooqQueryHelper.getField(touches, SPRING_SESSION.EXPIRY_TIME);
+
+        return DSL.update(SPRING_SESSION)
+            .set(SPRING_SESSION.LAST_ACCESS_TIME, lastAccessTime)
+            .set(SPRING_SESSION.EXPIRY_TIME, expiryTime)
+            .from(touches)
+            .where(SPRING_SESSION.PRIMARY_ID.eq(primaryId))
+            .and(SPRING_SESSION.LAST_ACCESS_TIME.lessThan(lastAccessTime));
+    }
+
     private InsertResultStep<SpringSessionAttributesRecord> buildAttributeUpsertQuery(
         final List<SpringSessionAttributesRecord> attributeRecords
     ) {
@@ -148,15 +328,15 @@ public class JooqSessionRepository implements ReactiveSessionRepository<MapSessi
             .setExpiryTime(expiryTime);
     }
 
-    private SpringSessionAttributesRecord attributeRecordFromSessionAndAttrName(final MapSession session,
-                                                                                final String attrName) {
-        return new SpringSessionAttributesRecord()
-            .setSessionPrimaryId(session.getId())
-            .setAttributeName(attrName)
-            .setAttributeBytes(SerializationUtils.serialize(session.getAttribute(attrName)));
+    private Map<String, byte[]> serializeAttributes(final MapSession session) {
+        return session.getAttributeNames().stream()
+            .collect(Collectors.toMap(
+                name -> name,
+                name -> SerializationUtils.serialize(session.getAttribute(name))
+            ));
     }
 
-    private Optional<MapSession> mapJooqRecordToMapSession(final List<Record> records) {
+    private Optional<CachedSession> mapJooqRecordToCachedSession(final List<Record> records) {
         if (records.isEmpty()) {
             return Optional.empty();
         }
@@ -171,6 +351,7 @@ public class JooqSessionRepository implements ReactiveSessionRepository<MapSessi
         final Map.Entry<SpringSessionPojo, List<Record>> entry = IterableUtils.first(groupedSessions.entrySet());
 
         final MapSession session = new MapSession(entry.getKey().getSessionId());
+        final Map<String, byte[]> attributes = new HashMap<>();
 
         session.setCreationTime(Instant.ofEpochSecond(entry.getKey().getCreationTime()));
         session.setLastAccessedTime(Instant.ofEpochSecond(entry.getKey().getLastAccessTime()));
@@ -183,12 +364,30 @@ public class JooqSessionRepository implements ReactiveSessionRepository<MapSessi
                 continue;
             }
 
-            session.setAttribute(
-                attributeName,
-                SerializationUtils.deserialize(record.get(SPRING_SESSION_ATTRIBUTES.ATTRIBUTE_BYTES))
-            );
+            final byte[] attributeBytes = record.get(SPRING_SESSION_ATTRIBUTES.ATTRIBUTE_BYTES);
+            attributes.put(attributeName, attributeBytes);
+            session.setAttribute(attributeName, SerializationUtils.deserialize(attributeBytes));
         }
 
-        return Optional.of(session);
+        return Optional.of(new CachedSession(session, attributes));
+    }
+
+    /**
+     * Session as it is persisted in the database, except for the last access time which might be ahead.
+     *
+     * @param session    deserialized session, never handed out without being copied
+     * @param attributes serialized session attributes
+     */
+    private record CachedSession(MapSession session, Map<String, byte[]> attributes) {
+        boolean isPersistedWith(final MapSession other, final Map<String, byte[]> otherAttributes) {
+            return session.getCreationTime().equals(other.getCreationTime())
+                && session.getMaxInactiveInterval().equals(other.getMaxInactiveInterval())
+                && attributes.size() == otherAttributes.size()
+                && otherAttributes.entrySet().stream()
+                .allMatch(e -> Arrays.equals(e.getValue(), attributes.get(e.getKey())));
+        }
+    }
+
+    private record SessionTouch(long lastAccessTime, long expiryTime) {
     }
-}
\ No newline at end of file
+}
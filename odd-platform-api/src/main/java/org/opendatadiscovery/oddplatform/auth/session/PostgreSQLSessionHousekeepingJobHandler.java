@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.auth.session;
 
 import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,6 +10,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 @Slf4j
 public class PostgreSQLSessionHousekeepingJobHandler {
     private final PostgreSQLSessionHousekeepingJob job;
+    private final JooqSessionRepository sessionRepository;
 
     @Scheduled(fixedRate = 1, timeUnit = TimeUnit.HOURS)
     public void deleteExpiredSessions() {
@@ -16,4 +18,14 @@ public class PostgreSQLSessionHousekeepingJobHandler {
         final Integer deletedSessions = job.runHousekeeping().block();
         log.debug("Deleted {} expired sessions", deletedSessions);
     }
+
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void flushTouchedSessions() {
+        sessionRepository.flushTouches().block();
+    }
+
+    @PreDestroy
+    public void flushTouchedSessionsOnShutdown() {
+        sessionRepository.flushTouches().block();
+    }
 }
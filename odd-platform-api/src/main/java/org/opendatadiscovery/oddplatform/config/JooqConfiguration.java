@@ -0,0 +1,29 @@
+package org.opendatadiscovery.oddplatform.config;
+
+import org.jooq.conf.Settings;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.opendatadiscovery.oddplatform.config.properties.SqlProperties;
+import org.opendatadiscovery.oddplatform.repository.util.JooqStatementMetricsListener;
+import org.springframework.boot.autoconfigure.jooq.DefaultConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JooqConfiguration {
+    @Bean
+    public Settings jooqSettings(final SqlProperties sqlProperties) {
+        return new Settings()
+            .withInListPadding(true)
+            .withInListPadBase(sqlProperties.getInListPadBase());
+    }
+
+    @Bean
+    public DefaultConfigurationCustomizer jooqConfigurationCustomizer(
+        final Settings jooqSettings,
+        final JooqStatementMetricsListener statementMetricsListener
+    ) {
+        return configuration -> configuration
+            .set(jooqSettings)
+            .set(new DefaultExecuteListenerProvider(statementMetricsListener));
+    }
+}
@@ -45,7 +45,8 @@ public class LoginFormSecurityConfiguration {
         return http
             .csrf().disable()
             .authorizeExchange()
-            .pathMatchers("/actuator/health", "/favicon.ico", "/ingestion/entities", "/api/slack/events").permitAll()
+            .pathMatchers("/actuator/health", "/favicon.ico", "/ingestion/entities", "/ingestion/entities/stream",
+                "/ingestion/entities/async", "/ingestion/jobs/**", "/api/slack/events").permitAll()
             .pathMatchers("/**").authenticated()
             .and().formLogin().authenticationSuccessHandler(authHandler)
             .and().logout()
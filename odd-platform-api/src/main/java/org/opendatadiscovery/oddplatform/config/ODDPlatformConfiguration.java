@@ -1,6 +1,12 @@
 package org.opendatadiscovery.oddplatform.config;
 
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.config.properties.LineageProperties;
 import org.opendatadiscovery.oddplatform.config.properties.MetricExporterProperties;
+import org.opendatadiscovery.oddplatform.config.properties.MetricHistoryProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SearchProperties;
+import org.opendatadiscovery.oddplatform.config.properties.SqlProperties;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties;
 import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +18,13 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableAspectJAutoProxy
 @EnableConfigurationProperties({
     MetricExporterProperties.class,
-    HousekeepingTTLProperties.class
+    MetricHistoryProperties.class,
+    IngestionProperties.class,
+    SearchProperties.class,
+    SqlProperties.class,
+    LineageProperties.class,
+    HousekeepingTTLProperties.class,
+    HousekeepingJobsProperties.class
 })
 public class ODDPlatformConfiguration {
 }
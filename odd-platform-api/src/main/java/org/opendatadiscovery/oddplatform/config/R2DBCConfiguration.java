@@ -1,8 +1,10 @@
 package org.opendatadiscovery.oddplatform.config;
 
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.opendatadiscovery.oddplatform.config.properties.SqlProperties;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +14,8 @@ import org.springframework.transaction.ReactiveTransactionManager;
 @Configuration
 public class R2DBCConfiguration {
     @Bean
-    public ConnectionFactory connectionFactory(final DataSourceProperties dataSourceProperties) {
+    public ConnectionFactory connectionFactory(final DataSourceProperties dataSourceProperties,
+                                               final SqlProperties sqlProperties) {
         final String r2dbcUrl = dataSourceProperties.getUrl().replace("jdbc", "r2dbc");
         return ConnectionFactories.get(
             ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
@@ -20,6 +23,8 @@ public class R2DBCConfiguration {
                 .option(ConnectionFactoryOptions.PROTOCOL, "postgresql")
                 .option(ConnectionFactoryOptions.USER, dataSourceProperties.getUsername())
                 .option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.getPassword())
+                .option(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES,
+                    sqlProperties.getPreparedStatementCacheSize())
                 .build()
         );
     }
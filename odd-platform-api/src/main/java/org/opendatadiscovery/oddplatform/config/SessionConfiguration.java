@@ -1,11 +1,15 @@
 package org.opendatadiscovery.oddplatform.config;
 
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
 import org.opendatadiscovery.oddplatform.auth.session.JooqSessionRepository;
 import org.opendatadiscovery.oddplatform.auth.session.PostgreSQLSessionHousekeepingJob;
 import org.opendatadiscovery.oddplatform.auth.session.PostgreSQLSessionHousekeepingJobHandler;
 import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
 import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupChannel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
@@ -18,6 +22,8 @@ import org.springframework.session.ReactiveMapSessionRepository;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.config.annotation.web.server.EnableSpringWebSession;
 import org.springframework.session.data.redis.config.annotation.web.server.EnableRedisWebSession;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 @Configuration
 public class SessionConfiguration {
@@ -27,19 +33,32 @@ public class SessionConfiguration {
     static class SpringWebSessionConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "session", name = "provider", havingValue = "INTERNAL_POSTGRESQL")
-        public ReactiveSessionRepository<MapSession> psqlReactiveSessionRepository(
+        public JooqSessionRepository psqlReactiveSessionRepository(
             final JooqReactiveOperations jooqReactiveOperations,
-            final JooqQueryHelper jooqQueryHelper
+            final JooqQueryHelper jooqQueryHelper,
+            final ReactiveTransactionManager reactiveTransactionManager,
+            final PostgreSQLWakeupService wakeupService,
+            @Value("${session.postgresql.near-cache-ttl:10s}") final Duration nearCacheTtl,
+            @Value("${session.postgresql.near-cache-max-size:10000}") final long nearCacheMaxSize
         ) {
-            return new JooqSessionRepository(jooqReactiveOperations, jooqQueryHelper);
+            final JooqSessionRepository repository = new JooqSessionRepository(
+                jooqReactiveOperations,
+                jooqQueryHelper,
+                TransactionalOperator.create(reactiveTransactionManager),
+                nearCacheTtl,
+                nearCacheMaxSize
+            );
+            wakeupService.subscribe(WakeupChannel.SESSION_INVALIDATED, repository);
+            return repository;
         }
 
         @ConditionalOnProperty(prefix = "session", name = "provider", havingValue = "INTERNAL_POSTGRESQL")
         @Bean
         public PostgreSQLSessionHousekeepingJobHandler scheduleHousekeepingTask(
-            final PostgreSQLSessionHousekeepingJob job
+            final PostgreSQLSessionHousekeepingJob job,
+            final JooqSessionRepository sessionRepository
         ) {
-            return new PostgreSQLSessionHousekeepingJobHandler(job);
+            return new PostgreSQLSessionHousekeepingJobHandler(job, sessionRepository);
         }
 
         @Bean
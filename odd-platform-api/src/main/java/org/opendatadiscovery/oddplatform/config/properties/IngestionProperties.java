@@ -0,0 +1,26 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("ingestion")
+@Data
+public class IngestionProperties {
+    private StreamingProperties streaming = new StreamingProperties();
+    private AsyncProperties async = new AsyncProperties();
+
+    @Data
+    public static class StreamingProperties {
+        private int chunkSize = 1000;
+        private int maxInFlightChunks = 2;
+    }
+
+    @Data
+    public static class AsyncProperties {
+        private boolean enabled;
+        private int workers = 4;
+        private Duration pollInterval = Duration.ofSeconds(5);
+        private Duration runningTimeout = Duration.ofHours(1);
+    }
+}
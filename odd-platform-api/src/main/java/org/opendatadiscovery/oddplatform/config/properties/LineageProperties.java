@@ -0,0 +1,18 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("lineage")
+@Data
+public class LineageProperties {
+    private IndexProperties index = new IndexProperties();
+
+    @Data
+    public static class IndexProperties {
+        private boolean enabled = true;
+        private Duration consistencyCheckInterval = Duration.ofMinutes(10);
+        private Duration refreshInterval = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,12 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("metrics.history")
+@Data
+public class MetricHistoryProperties {
+    private boolean enabled = false;
+    private Duration chunkDuration = Duration.ofDays(1);
+}
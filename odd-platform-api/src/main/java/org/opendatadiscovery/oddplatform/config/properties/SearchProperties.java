@@ -0,0 +1,24 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("search")
+@Data
+public class SearchProperties {
+    private VectorsProperties vectors = new VectorsProperties();
+    private SnapshotProperties snapshot = new SnapshotProperties();
+
+    @Data
+    public static class VectorsProperties {
+        private Duration coalesceWindow = Duration.ofSeconds(2);
+        private int batchSize = 500;
+    }
+
+    @Data
+    public static class SnapshotProperties {
+        private Duration ttl = Duration.ofMinutes(5);
+        private int maxIds = 50_000;
+    }
+}
@@ -0,0 +1,11 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("sql")
+@Data
+public class SqlProperties {
+    private int inListPadBase = 2;
+    private int preparedStatementCacheSize = 256;
+}
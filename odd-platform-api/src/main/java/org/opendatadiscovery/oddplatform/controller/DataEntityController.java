@@ -16,6 +16,7 @@ import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityAlertConfi
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityClassAndTypeDictionary;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDataEntityGroupFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetails;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetailsSection;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityGroupFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityGroupLineageList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityLineage;
@@ -33,6 +34,7 @@ import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValueList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValueUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataObject;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import org.opendatadiscovery.oddplatform.api.contract.model.Ownership;
 import org.opendatadiscovery.oddplatform.api.contract.model.OwnershipFormData;
@@ -129,10 +131,11 @@ public class DataEntityController implements DataEntityApi {
     @Override
     public Mono<ResponseEntity<DataEntityDetails>> getDataEntityDetails(
         final Long dataEntityId,
+        final List<DataEntityDetailsSection> fields,
         final ServerWebExchange exchange
     ) {
         return dataEntityService
-            .getDetails(dataEntityId)
+            .getDetails(dataEntityId, fields)
             .map(ResponseEntity::ok);
     }
 
@@ -407,4 +410,14 @@ public class DataEntityController implements DataEntityApi {
         return metricService.getLatestMetricsForDataEntity(dataEntityId)
             .map(ResponseEntity::ok);
     }
+
+    @Override
+    public Mono<ResponseEntity<MetricSeriesHistoryList>> getDataEntityMetricsHistory(final Long dataEntityId,
+                                                                                     final OffsetDateTime from,
+                                                                                     final OffsetDateTime to,
+                                                                                     final Long step,
+                                                                                     final ServerWebExchange exchange) {
+        return metricService.getMetricsHistoryForDataEntity(dataEntityId, from, to, step)
+            .map(ResponseEntity::ok);
+    }
 }
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.controller;
 
+import java.time.OffsetDateTime;
 import lombok.RequiredArgsConstructor;
 import org.opendatadiscovery.oddplatform.api.contract.api.DatasetFieldApi;
 import org.opendatadiscovery.oddplatform.api.contract.model.BulkEnumValueFormData;
@@ -8,6 +9,7 @@ import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldDescript
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldLabelsUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.EnumValueList;
 import org.opendatadiscovery.oddplatform.api.contract.model.Label;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import org.opendatadiscovery.oddplatform.service.DatasetFieldService;
 import org.opendatadiscovery.oddplatform.service.EnumValueService;
@@ -68,4 +70,16 @@ public class DatasetFieldController implements DatasetFieldApi {
         return metricService.getLatestMetricsForDatasetField(datasetFieldId)
             .map(ResponseEntity::ok);
     }
+
+    @Override
+    public Mono<ResponseEntity<MetricSeriesHistoryList>> getDatasetFieldMetricsHistory(
+        final Long datasetFieldId,
+        final OffsetDateTime from,
+        final OffsetDateTime to,
+        final Long step,
+        final ServerWebExchange exchange
+    ) {
+        return metricService.getMetricsHistoryForDatasetField(datasetFieldId, from, to, step)
+            .map(ResponseEntity::ok);
+    }
 }
\ No newline at end of file
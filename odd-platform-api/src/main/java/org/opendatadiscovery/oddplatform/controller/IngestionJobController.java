@@ -0,0 +1,42 @@
+package org.opendatadiscovery.oddplatform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
+import org.opendatadiscovery.oddplatform.api.contract.api.IngestionJobApi;
+import org.opendatadiscovery.oddplatform.api.contract.model.IngestionJob;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionJobService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnProperty(value = "ingestion.async.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class IngestionJobController implements IngestionJobApi {
+    private final IngestionJobService ingestionJobService;
+
+    // the payload is the ingestion contract's DataEntityList, so the endpoint isn't a part of the API specification
+    @PostMapping(path = "/ingestion/entities/async")
+    public Mono<ResponseEntity<IngestionJob>> postDataEntityListAsync(
+        @RequestBody final Mono<DataEntityList> dataEntityList
+    ) {
+        return dataEntityList
+            .filter(del -> CollectionUtils.isNotEmpty(del.getItems()))
+            .switchIfEmpty(Mono.error(() -> new BadUserRequestException("Ingestion payload is empty")))
+            .flatMap(ingestionJobService::enqueue)
+            .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job));
+    }
+
+    @Override
+    public Mono<ResponseEntity<IngestionJob>> getIngestionJob(final Long jobId,
+                                                              final ServerWebExchange exchange) {
+        return ingestionJobService.getJob(jobId).map(ResponseEntity::ok);
+    }
+}
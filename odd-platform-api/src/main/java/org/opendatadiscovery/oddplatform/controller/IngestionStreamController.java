@@ -0,0 +1,38 @@
+package org.opendatadiscovery.oddplatform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.service.ingestion.StreamingIngestionService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.opendatadiscovery.oddplatform.auth.filter.IngestionDataEntitiesStreamFilter.DATA_SOURCE_ODDRN_PARAM;
+
+@RestController
+@RequiredArgsConstructor
+public class IngestionStreamController {
+    private final StreamingIngestionService streamingIngestionService;
+
+    @PostMapping(
+        path = "/ingestion/entities/stream",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    public Mono<ResponseEntity<Void>> postDataEntityStream(
+        @RequestParam(DATA_SOURCE_ODDRN_PARAM) final String dataSourceOddrn,
+        @RequestBody final Flux<DataEntity> dataEntities
+    ) {
+        return streamingIngestionService.ingest(dataSourceOddrn, dataEntities)
+            // entities are decoded while chunks are ingested, a malformed one fails the request half way through
+            .onErrorMap(ServerWebInputException.class,
+                e -> new BadUserRequestException("Malformed data entity stream: %s", e.getReason()))
+            .thenReturn(ResponseEntity.ok().build());
+    }
+}
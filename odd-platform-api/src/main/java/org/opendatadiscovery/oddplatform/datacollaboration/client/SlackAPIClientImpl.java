@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.datacollaboration.client;
 
 import com.slack.api.methods.AsyncMethodsClient;
+import com.slack.api.methods.SlackApiException;
 import com.slack.api.methods.request.chat.ChatPostMessageRequest;
 import com.slack.api.methods.request.conversations.ConversationsListRequest;
 import com.slack.api.methods.response.conversations.ConversationsListResponse;
@@ -8,14 +9,17 @@ import com.slack.api.methods.response.users.UsersInfoResponse;
 import com.slack.api.model.Attachment;
 import com.slack.api.model.Conversation;
 import com.slack.api.model.ConversationType;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageChannelDto;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageUserDto;
+import org.opendatadiscovery.oddplatform.datacollaboration.exception.MessageProviderRateLimitException;
 import org.opendatadiscovery.oddplatform.datacollaboration.exception.SlackAPIException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -24,6 +28,10 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class SlackAPIClientImpl implements SlackAPIClient {
     private static final int LIMIT_SIZE = 200;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final String RATE_LIMITED_ERROR = "ratelimited";
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
 
     private final AsyncMethodsClient asyncMethodsClient;
 
@@ -70,9 +78,12 @@ public class SlackAPIClientImpl implements SlackAPIClient {
             .build();
 
         return Mono.fromFuture(asyncMethodsClient.chatPostMessage(req))
+            .onErrorMap(SlackApiException.class, this::mapRateLimitException)
             .handle((response, sink) -> {
                 if (!response.isOk()) {
-                    sink.error(new SlackAPIException(response.getError()));
+                    sink.error(RATE_LIMITED_ERROR.equals(response.getError())
+                        ? new MessageProviderRateLimitException(DEFAULT_RETRY_AFTER)
+                        : new SlackAPIException(response.getError()));
                     return;
                 }
 
@@ -122,6 +133,17 @@ public class SlackAPIClientImpl implements SlackAPIClient {
             });
     }
 
+    private Throwable mapRateLimitException(final SlackApiException e) {
+        if (e.getResponse() == null || e.getResponse().code() != HTTP_TOO_MANY_REQUESTS) {
+            return e;
+        }
+
+        final String retryAfter = e.getResponse().header(RETRY_AFTER_HEADER);
+        return new MessageProviderRateLimitException(NumberUtils.isDigits(retryAfter)
+            ? Duration.ofSeconds(Long.parseLong(retryAfter))
+            : DEFAULT_RETRY_AFTER);
+    }
+
     private Mono<ConversationsListResponse> requestConversationList() {
         return requestConversationList(null);
     }
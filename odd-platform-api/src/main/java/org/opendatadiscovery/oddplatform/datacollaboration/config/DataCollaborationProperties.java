@@ -10,6 +10,7 @@ public class DataCollaborationProperties {
     private int senderMessageAdvisoryLockId;
     private int receiveEventAdvisoryLockId;
     private int sendingMessagesRetryCount;
+    private SenderProperties sender = new SenderProperties();
 
     @PostConstruct
     public void validate() {
@@ -17,5 +18,35 @@ public class DataCollaborationProperties {
             throw new IllegalStateException(
                 "datacollaboration.sending-messages-retry-count property cannot be below zero");
         }
+
+        if (sender.getBatchSize() <= 0 || sender.getConcurrency() <= 0) {
+            throw new IllegalStateException(
+                "datacollaboration.sender.batch-size and concurrency properties must be positive");
+        }
+    }
+
+    @Data
+    public static class SenderProperties {
+        private int batchSize = 100;
+        private int concurrency = 16;
+        private RateLimitProperties channelRateLimit = new RateLimitProperties(1, 3);
+        private RateLimitProperties providerRateLimit = new RateLimitProperties(5, 20);
+    }
+
+    /**
+     * Token bucket refilled with {@code permitsPerSecond} tokens every second, holding up to {@code burst} tokens.
+     */
+    @Data
+    public static class RateLimitProperties {
+        private double permitsPerSecond;
+        private int burst;
+
+        public RateLimitProperties() {
+        }
+
+        public RateLimitProperties(final double permitsPerSecond, final int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
     }
 }
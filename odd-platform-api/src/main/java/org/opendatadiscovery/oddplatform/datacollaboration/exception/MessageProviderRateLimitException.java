@@ -0,0 +1,14 @@
+package org.opendatadiscovery.oddplatform.datacollaboration.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
+public class MessageProviderRateLimitException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public MessageProviderRateLimitException(final Duration retryAfter) {
+        super("Message provider rate limit exceeded, retry after %s".formatted(retryAfter));
+        this.retryAfter = retryAfter;
+    }
+}
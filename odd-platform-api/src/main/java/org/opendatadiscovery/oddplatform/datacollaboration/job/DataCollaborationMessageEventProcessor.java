@@ -2,6 +2,7 @@ package org.opendatadiscovery.oddplatform.datacollaboration.job;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -21,6 +22,8 @@ import org.opendatadiscovery.oddplatform.datacollaboration.service.MessageProvid
 import org.opendatadiscovery.oddplatform.leaderelection.PostgreSQLLeaderElectionManager;
 import org.opendatadiscovery.oddplatform.model.tables.records.MessageRecord;
 import org.opendatadiscovery.oddplatform.utils.UUIDHelper;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupChannel;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -29,6 +32,7 @@ public class DataCollaborationMessageEventProcessor extends Thread {
     private final MessageProviderEventHandlerFactory messageProviderEventHandlerFactory;
     private final DataCollaborationProperties dataCollaborationProperties;
     private final DataCollaborationRepositoryFactory dataCollaborationRepositoryFactory;
+    private final PostgreSQLWakeupService wakeupService;
 
     @Override
     public void run() {
@@ -39,7 +43,10 @@ public class DataCollaborationMessageEventProcessor extends Thread {
                     dataCollaborationRepositoryFactory.create(DSL.using(connection));
 
                 while (true) {
-                    for (final MessageEventDto event : dataCollaborationRepository.getPendingEvents()) {
+                    final List<MessageEventDto> events = dataCollaborationRepository.getPendingEvents();
+                    boolean failed = false;
+
+                    for (final MessageEventDto event : events) {
                         try {
                             handleEvent(event, dataCollaborationRepository);
                         } catch (final DataCollaborationMessageEventProcessingException e) {
@@ -49,6 +56,7 @@ public class DataCollaborationMessageEventProcessor extends Thread {
                         } catch (final Exception e) {
                             log.error("Error while handling provider events: {}", e.getMessage());
                             connection.rollback();
+                            failed = true;
                             break;
                         }
 
@@ -56,7 +64,12 @@ public class DataCollaborationMessageEventProcessor extends Thread {
                     }
 
                     connection.commit();
-                    TimeUnit.SECONDS.sleep(1);
+
+                    // keeps draining while there are pending events, otherwise waits for new ones.
+                    // Rolled back events are retried after the fallback interval at the latest
+                    if (events.isEmpty() || failed) {
+                        wakeupService.await(WakeupChannel.MESSAGE_EVENT_PENDING);
+                    }
                 }
             } catch (final InterruptedException e) {
                 Thread.currentThread().interrupt();
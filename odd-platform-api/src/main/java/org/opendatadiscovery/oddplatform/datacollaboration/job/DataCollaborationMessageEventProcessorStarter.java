@@ -9,6 +9,7 @@ import org.opendatadiscovery.oddplatform.datacollaboration.config.DataCollaborat
 import org.opendatadiscovery.oddplatform.datacollaboration.repository.DataCollaborationRepositoryFactory;
 import org.opendatadiscovery.oddplatform.datacollaboration.service.MessageProviderEventHandlerFactory;
 import org.opendatadiscovery.oddplatform.leaderelection.PostgreSQLLeaderElectionManager;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -26,6 +27,7 @@ public class DataCollaborationMessageEventProcessorStarter {
     private final MessageProviderEventHandlerFactory messageProviderEventHandlerFactory;
     private final DataCollaborationProperties dataCollaborationProperties;
     private final DataCollaborationRepositoryFactory dataCollaborationRepositoryFactory;
+    private final PostgreSQLWakeupService wakeupService;
 
     @EventListener(ApplicationReadyEvent.class)
     public void runDataCollaborationEventProcessor() {
@@ -34,7 +36,8 @@ public class DataCollaborationMessageEventProcessorStarter {
             leaderElectionManager,
             messageProviderEventHandlerFactory,
             dataCollaborationProperties,
-            dataCollaborationRepositoryFactory
+            dataCollaborationRepositoryFactory,
+            wakeupService
         ));
     }
 }
\ No newline at end of file
@@ -2,72 +2,69 @@ package org.opendatadiscovery.oddplatform.datacollaboration.job;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Optional;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.datacollaboration.config.DataCollaborationProperties;
+import org.opendatadiscovery.oddplatform.datacollaboration.config.DataCollaborationProperties.SenderProperties;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.DataEntityMessageContext;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageProviderDto;
 import org.opendatadiscovery.oddplatform.datacollaboration.exception.DataCollaborationMessageSenderException;
+import org.opendatadiscovery.oddplatform.datacollaboration.exception.MessageProviderRateLimitException;
 import org.opendatadiscovery.oddplatform.datacollaboration.repository.DataCollaborationRepository;
 import org.opendatadiscovery.oddplatform.datacollaboration.repository.DataCollaborationRepositoryFactory;
-import org.opendatadiscovery.oddplatform.datacollaboration.service.MessageProviderClient;
 import org.opendatadiscovery.oddplatform.datacollaboration.service.MessageProviderClientFactory;
+import org.opendatadiscovery.oddplatform.datacollaboration.service.MessageProviderRateLimiter;
 import org.opendatadiscovery.oddplatform.leaderelection.PostgreSQLLeaderElectionManager;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MessagePojo;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupChannel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+/**
+ * Claims pending messages in batches and posts every batch concurrently, as fast as the provider
+ * rate limits allow. Claiming and writing the results are two short transactions, so no locks are held
+ * while waiting for the rate limits or for the provider. Messages which were rate limited stay pending
+ * and are claimed again by one of the next batches.
+ *
+ * <p>The job runs on the leader only, so claims found by a new leader were left by a previous one
+ * and are released. Their messages might have been posted already and are sent once more.
+ */
 @RequiredArgsConstructor
 @Slf4j
 public class DataCollaborationMessageSenderJob extends Thread {
     private final PostgreSQLLeaderElectionManager leaderElectionManager;
     private final MessageProviderClientFactory messageProviderClientFactory;
+    private final MessageProviderRateLimiter messageProviderRateLimiter;
     private final DataCollaborationProperties dataCollaborationProperties;
     private final DataCollaborationRepositoryFactory dataCollaborationRepositoryFactory;
+    private final PostgreSQLWakeupService wakeupService;
 
     @Override
     public void run() {
+        final SenderProperties senderProperties = dataCollaborationProperties.getSender();
+
         while (!Thread.interrupted()) {
             try (final Connection connection = acquireLeaderElectionConnection()) {
-                final DataCollaborationRepository dataCollaborationRepository =
-                    dataCollaborationRepositoryFactory.create(DSL.using(connection));
+                final DSLContext dslContext = DSL.using(connection);
+
+                final int released = dataCollaborationRepositoryFactory.create(dslContext).releaseSendingClaims();
+                if (released > 0) {
+                    log.warn("Released {} messages claimed by a previous sender, they might be sent twice", released);
+                }
 
                 while (true) {
-                    final Optional<DataEntityMessageContext> sendingCandidate =
-                        dataCollaborationRepository.getSendingCandidate();
-
-                    if (sendingCandidate.isPresent()) {
-                        final DataEntityMessageContext messageCtx = sendingCandidate.get();
-                        final MessagePojo message = messageCtx.message();
-
-                        final MessageProviderClient messageProviderClient = messageProviderClientFactory
-                            .getOrFail(MessageProviderDto.valueOf(message.getProvider()));
-
-                        if (message.getTrySendCount() != null) {
-                            log.debug("Trying resending the message {} after {} unsuccessful tries",
-                                message.getUuid(), message.getTrySendCount());
-                        }
-
-                        final String messageTs;
-                        try {
-                            messageTs = messageProviderClient.postMessage(messageCtx).block();
-                        } catch (final Exception e) {
-                            log.error("Couldn't send a message to {}: {}", message.getProvider(), e.getMessage());
-
-                            if (shouldRetry(message.getTrySendCount())) {
-                                dataCollaborationRepository.incrementMessageTryCount(message.getUuid());
-                                TimeUnit.SECONDS.sleep(1);
-                            } else {
-                                dataCollaborationRepository.markMessageAsFailed(message.getUuid(), e.getMessage());
-                            }
-                            continue;
-                        }
-
-                        dataCollaborationRepository.enrichMessage(message.getUuid(), message.getCreatedAt(), messageTs);
-                    }
+                    final int sent = sendBatch(dslContext, senderProperties);
 
-                    TimeUnit.SECONDS.sleep(1);
+                    // keeps draining while messages are being sent, otherwise waits for new ones
+                    // or for the fallback interval, which also paces retries of failed messages
+                    if (sent == 0) {
+                        wakeupService.await(WakeupChannel.MESSAGE_PENDING_SEND);
+                    }
                 }
             } catch (final InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -86,6 +83,77 @@ public class DataCollaborationMessageSenderJob extends Thread {
         }
     }
 
+    /**
+     * @return amount of successfully sent messages
+     */
+    private int sendBatch(final DSLContext dslContext, final SenderProperties senderProperties) {
+        final List<DataEntityMessageContext> candidates = dslContext.transactionResult(ctx ->
+            dataCollaborationRepositoryFactory.create(ctx.dsl())
+                .claimSendingCandidates(senderProperties.getBatchSize()));
+
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        final List<SendingResult> results = Flux.fromIterable(candidates)
+            .flatMap(this::send, senderProperties.getConcurrency())
+            .collectList()
+            .block();
+
+        final int sent = dslContext.transactionResult(ctx ->
+            writeResults(dataCollaborationRepositoryFactory.create(ctx.dsl()), results));
+
+        log.debug("Sent {} of {} claimed messages", sent, candidates.size());
+        return sent;
+    }
+
+    private int writeResults(final DataCollaborationRepository dataCollaborationRepository,
+                             final List<SendingResult> results) {
+        int sent = 0;
+        for (final SendingResult result : results) {
+            final MessagePojo message = result.messageContext().message();
+
+            if (result.error() == null) {
+                dataCollaborationRepository.enrichMessage(message.getUuid(), message.getCreatedAt(),
+                    result.providerMessageId());
+                sent++;
+                continue;
+            }
+
+            if (result.error() instanceof MessageProviderRateLimitException) {
+                dataCollaborationRepository.releaseSendingClaim(message.getUuid(), message.getCreatedAt());
+                continue;
+            }
+
+            log.error("Couldn't send a message to {}: {}", message.getProvider(), result.error().getMessage());
+            if (shouldRetry(message.getTrySendCount())) {
+                dataCollaborationRepository.incrementMessageTryCount(message.getUuid());
+            } else {
+                dataCollaborationRepository.markMessageAsFailed(message.getUuid(), result.error().getMessage());
+            }
+        }
+        return sent;
+    }
+
+    private Mono<SendingResult> send(final DataEntityMessageContext messageCtx) {
+        final MessagePojo message = messageCtx.message();
+
+        if (message.getTrySendCount() != null) {
+            log.debug("Trying resending the message {} after {} unsuccessful tries",
+                message.getUuid(), message.getTrySendCount());
+        }
+
+        return Mono.defer(() -> {
+            final MessageProviderDto provider = MessageProviderDto.valueOf(message.getProvider());
+
+            return messageProviderRateLimiter.acquire(provider, message.getProviderChannelId())
+                .then(Mono.defer(() -> messageProviderClientFactory.getOrFail(provider).postMessage(messageCtx)))
+                .map(providerMessageId -> new SendingResult(messageCtx, providerMessageId, null))
+                .doOnError(MessageProviderRateLimitException.class,
+                    e -> messageProviderRateLimiter.backOff(provider, e.getRetryAfter()));
+        }).onErrorResume(e -> Mono.just(new SendingResult(messageCtx, null, e)));
+    }
+
     private boolean shouldRetry(final Short trySendCount) {
         return trySendCount == null || trySendCount < dataCollaborationProperties.getSendingMessagesRetryCount();
     }
@@ -93,4 +161,7 @@ public class DataCollaborationMessageSenderJob extends Thread {
     private Connection acquireLeaderElectionConnection() throws SQLException {
         return leaderElectionManager.acquire(dataCollaborationProperties.getSenderMessageAdvisoryLockId(), true);
     }
-}
\ No newline at end of file
+
+    private record SendingResult(DataEntityMessageContext messageContext, String providerMessageId, Throwable error) {
+    }
+}
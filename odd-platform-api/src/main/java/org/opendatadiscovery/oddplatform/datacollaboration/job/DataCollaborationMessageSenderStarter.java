@@ -8,7 +8,9 @@ import org.opendatadiscovery.oddplatform.datacollaboration.config.ConditionalOnD
 import org.opendatadiscovery.oddplatform.datacollaboration.config.DataCollaborationProperties;
 import org.opendatadiscovery.oddplatform.datacollaboration.repository.DataCollaborationRepositoryFactory;
 import org.opendatadiscovery.oddplatform.datacollaboration.service.MessageProviderClientFactory;
+import org.opendatadiscovery.oddplatform.datacollaboration.service.MessageProviderRateLimiter;
 import org.opendatadiscovery.oddplatform.leaderelection.PostgreSQLLeaderElectionManager;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -24,8 +26,10 @@ public class DataCollaborationMessageSenderStarter {
 
     private final PostgreSQLLeaderElectionManager leaderElectionManager;
     private final MessageProviderClientFactory messageProviderClientFactory;
+    private final MessageProviderRateLimiter messageProviderRateLimiter;
     private final DataCollaborationProperties dataCollaborationProperties;
     private final DataCollaborationRepositoryFactory dataCollaborationRepositoryFactory;
+    private final PostgreSQLWakeupService wakeupService;
 
     @EventListener(ApplicationReadyEvent.class)
     public void runDataCollaborationMessageSender() {
@@ -34,8 +38,10 @@ public class DataCollaborationMessageSenderStarter {
         executorService.submit(new DataCollaborationMessageSenderJob(
             leaderElectionManager,
             messageProviderClientFactory,
+            messageProviderRateLimiter,
             dataCollaborationProperties,
-            dataCollaborationRepositoryFactory
+            dataCollaborationRepositoryFactory,
+            wakeupService
         ));
     }
 }
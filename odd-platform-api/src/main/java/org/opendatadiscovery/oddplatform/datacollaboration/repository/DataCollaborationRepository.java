@@ -2,7 +2,6 @@ package org.opendatadiscovery.oddplatform.datacollaboration.repository;
 
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.DataEntityMessageContext;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageEventDto;
@@ -10,7 +9,23 @@ import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageProviderDt
 import org.opendatadiscovery.oddplatform.model.tables.records.MessageRecord;
 
 public interface DataCollaborationRepository {
-    Optional<DataEntityMessageContext> getSendingCandidate();
+    /**
+     * Claims up to {@code limit} oldest messages pending sending, skipping already claimed ones.
+     * A claim outlives the current transaction, it's released once the outcome of sending is written.
+     */
+    List<DataEntityMessageContext> claimSendingCandidates(final int limit);
+
+    /**
+     * Releases claims of messages left pending, so they are claimed again.
+     */
+    void releaseSendingClaim(final UUID messageUUID, final OffsetDateTime messageCreatedAt);
+
+    /**
+     * Releases claims of all the messages, left by a sender which stopped before writing the outcome of sending.
+     *
+     * @return amount of released messages
+     */
+    int releaseSendingClaims();
 
     void enrichMessage(final UUID messageUUID, final OffsetDateTime messageCreatedAt, final String providerMessageId);
 
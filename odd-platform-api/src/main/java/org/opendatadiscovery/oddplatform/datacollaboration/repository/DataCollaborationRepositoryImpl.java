@@ -3,15 +3,19 @@ package org.opendatadiscovery.oddplatform.datacollaboration.repository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Row2;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.DataEntityMessageContext;
 import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageEventDto;
@@ -54,7 +58,37 @@ public class DataCollaborationRepositoryImpl implements DataCollaborationReposit
     private static final String DATA_SOURCE_NAME_FIELD_ALIAS = "data_source_name";
 
     @Override
-    public Optional<DataEntityMessageContext> getSendingCandidate() {
+    public List<DataEntityMessageContext> claimSendingCandidates(final int limit) {
+        final List<Record2<UUID, OffsetDateTime>> claimed = dslContext
+            .select(MESSAGE.UUID, MESSAGE.CREATED_AT)
+            .from(MESSAGE)
+            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(MESSAGE.DATA_ENTITY_ID))
+            .where(MESSAGE.STATE.eq(MessageStateDto.PENDING_SEND.getCode()))
+            .and(MESSAGE.SENDING_CLAIMED_AT.isNull())
+            .and(DATA_ENTITY.HOLLOW.isFalse())
+            .orderBy(MESSAGE.CREATED_AT)
+            .limit(limit)
+            .forUpdate().of(MESSAGE)
+            .skipLocked()
+            .fetch();
+
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+
+        final List<Row2<UUID, OffsetDateTime>> keys = claimed.stream()
+            .map(r -> DSL.row(r.value1(), r.value2()))
+            .toList();
+        final List<OffsetDateTime> createdAts = claimed.stream().map(Record2::value2).toList();
+        final Condition claimedCondition = MESSAGE.CREATED_AT
+            .between(Collections.min(createdAts), Collections.max(createdAts))
+            .and(DSL.row(MESSAGE.UUID, MESSAGE.CREATED_AT).in(keys));
+
+        dslContext.update(MESSAGE)
+            .set(MESSAGE.SENDING_CLAIMED_AT, DSL.currentOffsetDateTime())
+            .where(claimedCondition)
+            .execute();
+
         final List<Field<?>> fields = Stream.concat(
             Stream.of(
                 DATA_ENTITY.ID,
@@ -69,7 +103,7 @@ public class DataCollaborationRepositoryImpl implements DataCollaborationReposit
         ).toList();
 
         // @formatter:off
-        final Optional<Record> ctxRecord = dslContext
+        final List<Record> ctxRecords = dslContext
             .select(fields)
             .select(jsonArrayAgg(jsonObject(
                 jsonEntry("owner_name", OWNER.NAME),
@@ -87,28 +121,52 @@ public class DataCollaborationRepositoryImpl implements DataCollaborationReposit
                 .or(NAMESPACE.ID.eq(DATA_ENTITY.NAMESPACE_ID))
             .leftJoin(TAG_TO_DATA_ENTITY).on(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
             .leftJoin(TAG).on(TAG.ID.eq(TAG_TO_DATA_ENTITY.TAG_ID))
-            .where(MESSAGE.STATE.eq(MessageStateDto.PENDING_SEND.getCode()))
-            .and(DATA_ENTITY.HOLLOW.isFalse())
+            .where(claimedCondition)
             .groupBy(fields)
             .orderBy(MESSAGE.CREATED_AT)
-            .limit(1)
-            .fetchOptional();
+            .fetch();
         // @formatter:on
 
-        if (ctxRecord.isEmpty()) {
-            return Optional.empty();
-        }
+        final Set<String> dataEntityOddrns = ctxRecords.stream()
+            .map(r -> r.get(DATA_ENTITY.ODDRN))
+            .collect(toSet());
 
-        final List<String> degNames = dslContext
-            .selectDistinct(DATA_ENTITY.INTERNAL_NAME, DATA_ENTITY.EXTERNAL_NAME)
+        final Map<String, List<String>> degNames = dslContext
+            .selectDistinct(
+                GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN,
+                DATA_ENTITY.INTERNAL_NAME,
+                DATA_ENTITY.EXTERNAL_NAME
+            )
             .from(DATA_ENTITY)
-            .leftJoin(GROUP_ENTITY_RELATIONS).on(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.eq(DATA_ENTITY.ODDRN))
-            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.eq(ctxRecord.get().get(DATA_ENTITY.ODDRN)))
-            .fetch(r -> r.get(DATA_ENTITY.INTERNAL_NAME) == null
-                ? r.get(DATA_ENTITY.EXTERNAL_NAME)
-                : r.get(DATA_ENTITY.INTERNAL_NAME));
+            .join(GROUP_ENTITY_RELATIONS).on(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.eq(DATA_ENTITY.ODDRN))
+            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.in(dataEntityOddrns))
+            .fetchGroups(
+                r -> r.get(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN),
+                r -> r.get(DATA_ENTITY.INTERNAL_NAME) == null
+                    ? r.get(DATA_ENTITY.EXTERNAL_NAME)
+                    : r.get(DATA_ENTITY.INTERNAL_NAME)
+            );
 
-        return Optional.of(mapMessageContextRecord(ctxRecord.get(), degNames));
+        return ctxRecords.stream()
+            .map(r -> mapMessageContextRecord(r, degNames.getOrDefault(r.get(DATA_ENTITY.ODDRN), List.of())))
+            .toList();
+    }
+
+    @Override
+    public void releaseSendingClaim(final UUID messageUUID, final OffsetDateTime messageCreatedAt) {
+        dslContext.update(MESSAGE)
+            .set(MESSAGE.SENDING_CLAIMED_AT, (OffsetDateTime) null)
+            .where(MESSAGE.UUID.eq(messageUUID))
+            .and(MESSAGE.CREATED_AT.eq(messageCreatedAt))
+            .execute();
+    }
+
+    @Override
+    public int releaseSendingClaims() {
+        return dslContext.update(MESSAGE)
+            .set(MESSAGE.SENDING_CLAIMED_AT, (OffsetDateTime) null)
+            .where(MESSAGE.SENDING_CLAIMED_AT.isNotNull())
+            .execute();
     }
 
     @Override
@@ -118,6 +176,7 @@ public class DataCollaborationRepositoryImpl implements DataCollaborationReposit
         dslContext.update(MESSAGE)
             .set(MESSAGE.PROVIDER_MESSAGE_ID, providerMessageId)
             .set(MESSAGE.STATE, MessageStateDto.SENT.getCode())
+            .set(MESSAGE.SENDING_CLAIMED_AT, (OffsetDateTime) null)
             .where(MESSAGE.UUID.eq(messageUUID))
             .and(MESSAGE.CREATED_AT.eq(messageCreatedAt))
             .execute();
@@ -128,6 +187,7 @@ public class DataCollaborationRepositoryImpl implements DataCollaborationReposit
         dslContext.update(MESSAGE)
             .set(MESSAGE.STATE, MessageStateDto.ERROR_SENDING.getCode())
             .set(MESSAGE.ERROR_MESSAGE, errorMessage)
+            .set(MESSAGE.SENDING_CLAIMED_AT, (OffsetDateTime) null)
             .where(MESSAGE.UUID.eq(messageUUID))
             .and(MESSAGE.CREATED_AT.eq(UUIDHelper.extractDateTimeFromUUID(messageUUID)))
             .execute();
@@ -173,7 +233,8 @@ public class DataCollaborationRepositoryImpl implements DataCollaborationReposit
         dslContext.update(MESSAGE_PROVIDER_EVENT)
             .set(MESSAGE_PROVIDER_EVENT.STATE, MessageEventStateDto.PROCESSING_FAILED.getCode())
             .set(MESSAGE_PROVIDER_EVENT.ERROR_MESSAGE, errorMessage)
-            .where(MESSAGE_PROVIDER_EVENT.ID.eq(eventId));
+            .where(MESSAGE_PROVIDER_EVENT.ID.eq(eventId))
+            .execute();
     }
 
     @Override
@@ -187,6 +248,7 @@ public class DataCollaborationRepositoryImpl implements DataCollaborationReposit
     public void incrementMessageTryCount(final UUID messageUUID) {
         dslContext.update(MESSAGE)
             .set(MESSAGE.TRY_SEND_COUNT, DSL.coalesce(MESSAGE.TRY_SEND_COUNT, DSL.inline(0)).plus(1))
+            .set(MESSAGE.SENDING_CLAIMED_AT, (OffsetDateTime) null)
             .where(MESSAGE.UUID.eq(messageUUID))
             .and(MESSAGE.CREATED_AT.eq(UUIDHelper.extractDateTimeFromUUID(messageUUID)))
             .execute();
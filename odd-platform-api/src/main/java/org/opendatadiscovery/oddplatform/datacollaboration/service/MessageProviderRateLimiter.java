@@ -0,0 +1,70 @@
+package org.opendatadiscovery.oddplatform.datacollaboration.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.datacollaboration.config.ConditionalOnDataCollaboration;
+import org.opendatadiscovery.oddplatform.datacollaboration.config.DataCollaborationProperties;
+import org.opendatadiscovery.oddplatform.datacollaboration.config.DataCollaborationProperties.RateLimitProperties;
+import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageProviderDto;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps outgoing messages within the provider rate limits: one token bucket per provider channel
+ * and one per provider, as posting is limited both per channel and per workspace.
+ */
+@Component
+@ConditionalOnDataCollaboration
+@Slf4j
+public class MessageProviderRateLimiter {
+    private final RateLimitProperties channelRateLimit;
+    private final RateLimitProperties providerRateLimit;
+
+    private final Cache<ChannelKey, TokenBucket> channelBuckets = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+    private final Map<MessageProviderDto, TokenBucket> providerBuckets = new ConcurrentHashMap<>();
+
+    public MessageProviderRateLimiter(final DataCollaborationProperties dataCollaborationProperties) {
+        this.channelRateLimit = dataCollaborationProperties.getSender().getChannelRateLimit();
+        this.providerRateLimit = dataCollaborationProperties.getSender().getProviderRateLimit();
+    }
+
+    /**
+     * Completes once a message can be posted to the channel.
+     */
+    public Mono<Void> acquire(final MessageProviderDto provider, final String channelId) {
+        return Mono.defer(() -> {
+            final Duration channelWait = channelBuckets
+                .get(new ChannelKey(provider, channelId), k -> newBucket(channelRateLimit))
+                .reserve();
+            final Duration providerWait = providerBucket(provider).reserve();
+
+            final Duration wait = channelWait.compareTo(providerWait) > 0 ? channelWait : providerWait;
+            return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+        });
+    }
+
+    /**
+     * Pauses posting to the provider after it reported exceeding its rate limit.
+     */
+    public void backOff(final MessageProviderDto provider, final Duration retryAfter) {
+        log.warn("{} rate limit exceeded, pausing sending messages for {}", provider, retryAfter);
+        providerBucket(provider).pause(retryAfter);
+    }
+
+    private TokenBucket providerBucket(final MessageProviderDto provider) {
+        return providerBuckets.computeIfAbsent(provider, p -> newBucket(providerRateLimit));
+    }
+
+    private TokenBucket newBucket(final RateLimitProperties properties) {
+        return new TokenBucket(properties.getPermitsPerSecond(), properties.getBurst(), System::nanoTime);
+    }
+
+    private record ChannelKey(MessageProviderDto provider, String channelId) {
+    }
+}
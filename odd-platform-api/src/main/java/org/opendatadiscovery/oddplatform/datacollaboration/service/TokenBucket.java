@@ -0,0 +1,66 @@
+package org.opendatadiscovery.oddplatform.datacollaboration.service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket which hands out reservations instead of rejecting callers: a caller takes a token right away
+ * and waits for the returned duration, so concurrent callers queue up in the order of their reservations.
+ */
+class TokenBucket {
+    private static final double NANOS_IN_SECOND = 1_000_000_000d;
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(final double permitsPerSecond, final int burst, final LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Token bucket rate and burst must be positive");
+        }
+
+        this.tokensPerNano = permitsPerSecond / NANOS_IN_SECOND;
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token, possibly ahead of time.
+     *
+     * @return how long the caller has to wait before using the token
+     */
+    synchronized Duration reserve() {
+        final long now = nanoClock.getAsLong();
+        refill(now);
+
+        tokens -= 1;
+        final long deficitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        return Duration.ofNanos(Math.max(refilledAt - now, 0) + deficitNanos);
+    }
+
+    /**
+     * Stops handing out tokens for the given duration, e.g. after the provider responded with Retry-After.
+     */
+    synchronized void pause(final Duration duration) {
+        final long now = nanoClock.getAsLong();
+        refill(now);
+
+        refilledAt = Math.max(refilledAt, now + duration.toNanos());
+        tokens = Math.min(tokens, 0);
+    }
+
+    // refilledAt is in the future while the bucket is paused
+    private void refill(final long now) {
+        if (now <= refilledAt) {
+            return;
+        }
+
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,20 @@
+package org.opendatadiscovery.oddplatform.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Materialized result of a search state.
+ *
+ * @param entityClassFacet entity class facet counts
+ * @param total            number of matching data entities, regardless of the selected entity class
+ * @param myObjectsTotal   number of matching data entities owned by the viewer
+ * @param dataEntityIds    ranked data entity ids, either all of them or the requested page
+ * @param hitsCount        number of ranked ids stored in the snapshot
+ */
+public record SearchResultSnapshotDto(Map<SearchFilterId, Long> entityClassFacet,
+                                      long total,
+                                      long myObjectsTotal,
+                                      List<Long> dataEntityIds,
+                                      int hitsCount) {
+}
@@ -0,0 +1,7 @@
+package org.opendatadiscovery.oddplatform.dto.dataset;
+
+import java.util.Set;
+import org.jooq.JSONB;
+
+public record DatasetFieldStatisticsDto(String datasetFieldOddrn, JSONB stats, Set<Long> labelIds) {
+}
@@ -36,6 +36,7 @@ public class DataEntityIngestionDto {
     protected DataQualityTestIngestionDto dataQualityTest;
     protected DataInputIngestionDto dataInput;
     protected DataEntityGroupDto dataEntityGroup;
+    protected String contentFingerprint;
 
     public record DataSetIngestionDto(String parentDatasetOddrn,
                                       List<DatasetFieldIngestionDto> fieldList,
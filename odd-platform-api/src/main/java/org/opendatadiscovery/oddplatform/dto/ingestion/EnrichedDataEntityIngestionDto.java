@@ -22,7 +22,7 @@ public class EnrichedDataEntityIngestionDto extends DataEntityIngestionDto {
             ingestionDto.createdAt, ingestionDto.updatedAt, ingestionDto.entityClasses, ingestionDto.type,
             ingestionDto.metadata, ingestionDto.tags, ingestionDto.specificAttributesJson, ingestionDto.dataSet,
             ingestionDto.dataTransformer, ingestionDto.dataConsumer, ingestionDto.dataQualityTest,
-            ingestionDto.dataInput, ingestionDto.dataEntityGroup);
+            ingestionDto.dataInput, ingestionDto.dataEntityGroup, ingestionDto.contentFingerprint);
 
         this.id = id;
         this.updated = updated;
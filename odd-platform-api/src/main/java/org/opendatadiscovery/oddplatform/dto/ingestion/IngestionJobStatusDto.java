@@ -0,0 +1,31 @@
+package org.opendatadiscovery.oddplatform.dto.ingestion;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+public enum IngestionJobStatusDto {
+    QUEUED(1),
+    RUNNING(2),
+    FAILED(3),
+    DONE(4);
+
+    private static final Map<Short, IngestionJobStatusDto> DICT = Arrays
+        .stream(IngestionJobStatusDto.values())
+        .collect(toMap(IngestionJobStatusDto::getCode, identity()));
+
+    @Getter
+    private final short code;
+
+    IngestionJobStatusDto(final int code) {
+        this.code = (short) code;
+    }
+
+    public static Optional<IngestionJobStatusDto> fromCode(final short code) {
+        return Optional.ofNullable(DICT.get(code));
+    }
+}
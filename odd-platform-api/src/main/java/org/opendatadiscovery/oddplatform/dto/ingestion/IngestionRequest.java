@@ -19,6 +19,9 @@ public class IngestionRequest {
     private final List<EnrichedDataEntityIngestionDto> newEntities;
     private final List<EnrichedDataEntityIngestionDto> existingEntities;
     private final List<EnrichedDataEntityIngestionDto> allEntities;
+    // existing entities whose content fingerprint hasn't changed since the previous ingestion
+    private final List<EnrichedDataEntityIngestionDto> unchangedEntities;
+    private final List<EnrichedDataEntityIngestionDto> ingestedEntities;
     private final DataEntityTotalDelta entityTotalDelta;
 
     private final List<IngestionTaskRun> taskRuns;
@@ -35,6 +38,7 @@ public class IngestionRequest {
     @Builder
     public IngestionRequest(final List<EnrichedDataEntityIngestionDto> newEntities,
                             final List<EnrichedDataEntityIngestionDto> existingEntities,
+                            final List<EnrichedDataEntityIngestionDto> unchangedEntities,
                             final List<IngestionTaskRun> taskRuns,
                             final List<LineagePojo> lineageRelations,
                             final List<DataQualityTestRelationsPojo> dataQARelations,
@@ -45,6 +49,8 @@ public class IngestionRequest {
         this.newEntities = newEntities;
         this.existingEntities = existingEntities;
         this.allEntities = Stream.concat(newEntities.stream(), existingEntities.stream()).collect(Collectors.toList());
+        this.unchangedEntities = unchangedEntities != null ? unchangedEntities : List.of();
+        this.ingestedEntities = ListUtils.union(this.allEntities, this.unchangedEntities);
 
         this.taskRuns = taskRuns;
         this.lineageRelations = lineageRelations;
@@ -0,0 +1,7 @@
+package org.opendatadiscovery.oddplatform.dto.metric;
+
+/**
+ * @param timestamp epoch seconds
+ */
+public record MetricHistoryPointDto(long timestamp, double value) {
+}
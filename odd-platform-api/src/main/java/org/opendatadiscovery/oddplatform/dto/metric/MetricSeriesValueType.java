@@ -1,5 +1,7 @@
 package org.opendatadiscovery.oddplatform.dto.metric;
 
+import java.util.Arrays;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -15,4 +17,8 @@ public enum MetricSeriesValueType {
 
     private final int code;
     private final String suffix;
+
+    public static Optional<MetricSeriesValueType> findByCode(final int code) {
+        return Arrays.stream(values()).filter(t -> t.code == code).findFirst();
+    }
 }
\ No newline at end of file
@@ -10,4 +10,6 @@ import lombok.NoArgsConstructor;
 public class PrometheusMetric {
     private Map<String, String> metric;
     private List<Object> value;
+    // samples of range vectors
+    private List<List<Object>> values;
 }
\ No newline at end of file
@@ -1,48 +1,111 @@
 package org.opendatadiscovery.oddplatform.housekeeping;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.sql.Connection;
-import java.sql.SQLException;
+import java.time.Instant;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.core.LockAssert;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties.JobProperties;
 import org.opendatadiscovery.oddplatform.housekeeping.job.HousekeepingJob;
 import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
+/**
+ * Runs every housekeeping job on its own schedule and under its own cluster-wide lock,
+ * so a long-running job neither delays the others nor gets run by several instances at once.
+ */
 @Component
 @ConditionalOnProperty(value = "housekeeping.enabled", havingValue = "true")
 @RequiredArgsConstructor
 @Slf4j
 public class HousekeepingJobManager {
+    private static final String LOCK_NAME_PREFIX = "housekeeping-";
+    private static final String DURATION_METRIC = "odd.housekeeping.job.duration";
+    private static final String DELETED_METRIC = "odd.housekeeping.job.deleted";
+    private static final String JOB_TAG = "job";
+    private static final String OUTCOME_TAG = "outcome";
+
     private final PGConnectionFactory pgConnectionFactory;
     private final List<HousekeepingJob> housekeepingJobs;
+    private final HousekeepingJobsProperties housekeepingJobsProperties;
+    private final LockProvider lockProvider;
+    private final MeterRegistry meterRegistry;
 
-    @Scheduled(fixedRate = 15, timeUnit = TimeUnit.MINUTES)
-    @SchedulerLock(name = "housekeepingJob", lockAtLeastFor = "14m", lockAtMostFor = "14m")
-    public void runHousekeepingJobs() {
-        LockAssert.assertLocked();
+    private ThreadPoolTaskScheduler scheduler;
 
-        log.debug("Running housekeeping jobs");
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleHousekeepingJobs() {
+        final LockingTaskExecutor lockingTaskExecutor = new DefaultLockingTaskExecutor(lockProvider);
 
-        try (final Connection connection = pgConnectionFactory.getConnection()) {
-            for (final HousekeepingJob housekeepingJob : housekeepingJobs) {
-                runHousekeepingJob(housekeepingJob, connection);
-            }
-        } catch (final SQLException e) {
-            log.error("Couldn't obtain connection for housekeeping", e);
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(housekeepingJobs.size(), 1));
+        scheduler.setThreadNamePrefix(LOCK_NAME_PREFIX);
+        scheduler.initialize();
+
+        for (final HousekeepingJob housekeepingJob : housekeepingJobs) {
+            final JobProperties properties = housekeepingJobsProperties.getJob(housekeepingJob.getName());
+            scheduler.scheduleAtFixedRate(
+                () -> runLocked(lockingTaskExecutor, housekeepingJob, properties),
+                properties.getInterval()
+            );
+            log.debug("Scheduled housekeeping job {} every {}", housekeepingJob.getName(), properties.getInterval());
         }
     }
 
-    private void runHousekeepingJob(final HousekeepingJob housekeepingJob, final Connection connection) {
-        try {
-            housekeepingJob.doHousekeeping(connection);
+    @PreDestroy
+    public void stopHousekeepingJobs() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    // the lock is held at least for half of the interval, so other instances skip the run instead of repeating it.
+    // A run stops after its max duration plus the batch in progress, the interval on top of it leaves plenty
+    // of room for that batch, so the lock doesn't expire under a running job
+    private void runLocked(final LockingTaskExecutor lockingTaskExecutor,
+                           final HousekeepingJob housekeepingJob,
+                           final JobProperties properties) {
+        final LockConfiguration lockConfiguration = new LockConfiguration(
+            Instant.now(),
+            LOCK_NAME_PREFIX + housekeepingJob.getName(),
+            properties.getMaxRunDuration().plus(properties.getInterval()),
+            properties.getInterval().dividedBy(2)
+        );
+
+        lockingTaskExecutor.executeWithLock((Runnable) () -> runHousekeepingJob(housekeepingJob, properties),
+            lockConfiguration);
+    }
+
+    private void runHousekeepingJob(final HousekeepingJob housekeepingJob, final JobProperties properties) {
+        log.debug("Running housekeeping job {}", housekeepingJob.getName());
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final boolean succeeded = doHousekeeping(housekeepingJob, properties);
+        sample.stop(meterRegistry.timer(DURATION_METRIC,
+            JOB_TAG, housekeepingJob.getName(),
+            OUTCOME_TAG, succeeded ? "success" : "failure"));
+    }
+
+    private boolean doHousekeeping(final HousekeepingJob housekeepingJob, final JobProperties properties) {
+        try (final Connection connection = pgConnectionFactory.getConnection()) {
+            final long deleted = housekeepingJob.doHousekeeping(connection, properties);
+            meterRegistry.counter(DELETED_METRIC, JOB_TAG, housekeepingJob.getName()).increment(deleted);
+            return true;
         } catch (final Exception e) {
-            log.error("Error while running a housekeeping job", e);
+            log.error("Error while running housekeeping job {}", housekeepingJob.getName(), e);
+            return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package org.opendatadiscovery.oddplatform.housekeeping.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("housekeeping")
+@Data
+public class HousekeepingJobsProperties {
+    private Duration interval = Duration.ofMinutes(15);
+    private int batchSize = 1000;
+    private Duration maxRunDuration = Duration.ofMinutes(10);
+    private Map<String, JobProperties> jobs = new HashMap<>();
+
+    /**
+     * Returns properties of the job with unset values taken from the defaults.
+     * A run never outlasts the job's interval, so it can't overlap with the next one.
+     */
+    public JobProperties getJob(final String jobName) {
+        final JobProperties overrides = jobs.getOrDefault(jobName, new JobProperties());
+
+        final JobProperties result = new JobProperties();
+        result.setInterval(Objects.requireNonNullElse(overrides.getInterval(), interval));
+        result.setBatchSize(Objects.requireNonNullElse(overrides.getBatchSize(), batchSize));
+        final Duration runDuration = Objects.requireNonNullElse(overrides.getMaxRunDuration(), maxRunDuration);
+        result.setMaxRunDuration(runDuration.compareTo(result.getInterval()) > 0 ? result.getInterval() : runDuration);
+        return result;
+    }
+
+    @Data
+    public static class JobProperties {
+        private Duration interval;
+        private Integer batchSize;
+        private Duration maxRunDuration;
+    }
+}
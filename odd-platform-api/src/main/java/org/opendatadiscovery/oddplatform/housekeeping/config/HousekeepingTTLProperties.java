@@ -8,4 +8,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class HousekeepingTTLProperties {
     private int resolvedAlertsDays;
     private int searchFacetsDays;
+    private int ingestionJobsDays;
+    private int taskRunsDays;
+    private int alertChunksDays;
+    private int metricChunksDays;
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
+import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.ALERT_CHUNK;
+
+@Component
+public class AlertChunkRetentionHousekeepingJob extends RetentionPartitionsHousekeepingJob {
+    private final HousekeepingTTLProperties housekeepingTTLProperties;
+
+    public AlertChunkRetentionHousekeepingJob(final PartitionService partitionService,
+                                              final HousekeepingTTLProperties housekeepingTTLProperties) {
+        super(partitionService);
+        this.housekeepingTTLProperties = housekeepingTTLProperties;
+    }
+
+    @Override
+    protected String getTargetTable() {
+        return ALERT_CHUNK.getName();
+    }
+
+    @Override
+    protected String getPartitionKey() {
+        return ALERT_CHUNK.CREATED_AT.getName();
+    }
+
+    @Override
+    protected int getRetentionDays() {
+        return housekeepingTTLProperties.getAlertChunksDays();
+    }
+}
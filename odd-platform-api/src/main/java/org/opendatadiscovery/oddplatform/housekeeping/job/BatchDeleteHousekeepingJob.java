@@ -0,0 +1,94 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties.JobProperties;
+
+/**
+ * Deletes expired rows in batches of bounded size, each one in its own transaction.
+ *
+ * <p>Batches are paginated by the key, so every batch continues the index scan where the previous one stopped
+ * instead of walking over dead tuples of already deleted rows. A run stops once it exceeds its max duration,
+ * the rest is picked up by the next run as already deleted rows don't need to be revisited.
+ */
+@Slf4j
+public abstract class BatchDeleteHousekeepingJob<K> implements HousekeepingJob {
+
+    @Override
+    public long doHousekeeping(final Connection connection, final JobProperties properties) {
+        final DSLContext dslContext = DSL.using(connection);
+        final int batchSize = properties.getBatchSize();
+        final long deadline = System.nanoTime() + properties.getMaxRunDuration().toNanos();
+
+        long deleted = 0;
+        K lastKey = null;
+        while (true) {
+            final K after = lastKey;
+            final Batch<K> batch = dslContext.transactionResult(ctx -> deleteBatch(ctx.dsl(), after, batchSize));
+            deleted += batch.deleted();
+            if (batch.keys().size() < batchSize) {
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                log.info("Housekeeping job {} reached its max run duration after deleting {} rows, "
+                    + "the rest will be deleted by the next run", getName(), deleted);
+                break;
+            }
+            lastKey = batch.keys().get(batch.keys().size() - 1);
+        }
+
+        log.debug("Housekeeping job {} deleted {} rows", getName(), deleted);
+        return deleted;
+    }
+
+    protected abstract Table<?> getTable();
+
+    /**
+     * Key to paginate over. Doesn't have to be unique, rows sharing the key are deleted within the same batch.
+     */
+    protected abstract Field<K> getKey();
+
+    protected abstract Condition getExpiredCondition();
+
+    /**
+     * Deletes rows referencing the batch which is about to be deleted.
+     */
+    protected void deleteDependants(final DSLContext dslContext, final Collection<K> keys) {
+    }
+
+    private Batch<K> deleteBatch(final DSLContext dslContext, final K after, final int batchSize) {
+        final Field<K> key = getKey();
+        final Condition condition = after == null ? getExpiredCondition() : getExpiredCondition().and(key.gt(after));
+
+        final List<K> keys = dslContext.select(key)
+            .from(getTable())
+            .where(condition)
+            .orderBy(key)
+            .limit(batchSize)
+            .forUpdate()
+            .skipLocked()
+            .fetch(key);
+
+        if (keys.isEmpty()) {
+            return new Batch<>(keys, 0);
+        }
+
+        deleteDependants(dslContext, keys);
+        final int deleted = dslContext.deleteFrom(getTable())
+            .where(key.in(keys))
+            .and(getExpiredCondition())
+            .execute();
+
+        return new Batch<>(keys, deleted);
+    }
+
+    private record Batch<K>(List<K> keys, int deleted) {
+    }
+}
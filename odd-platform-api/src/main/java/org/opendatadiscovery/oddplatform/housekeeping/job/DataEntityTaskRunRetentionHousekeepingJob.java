@@ -0,0 +1,33 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
+import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TASK_RUN;
+
+@Component
+public class DataEntityTaskRunRetentionHousekeepingJob extends RetentionPartitionsHousekeepingJob {
+    private final HousekeepingTTLProperties housekeepingTTLProperties;
+
+    public DataEntityTaskRunRetentionHousekeepingJob(final PartitionService partitionService,
+                                                     final HousekeepingTTLProperties housekeepingTTLProperties) {
+        super(partitionService);
+        this.housekeepingTTLProperties = housekeepingTTLProperties;
+    }
+
+    @Override
+    protected String getTargetTable() {
+        return DATA_ENTITY_TASK_RUN.getName();
+    }
+
+    @Override
+    protected String getPartitionKey() {
+        return DATA_ENTITY_TASK_RUN.START_TIME.getName();
+    }
+
+    @Override
+    protected int getRetentionDays() {
+        return housekeepingTTLProperties.getTaskRunsDays();
+    }
+}
@@ -4,6 +4,7 @@ import java.sql.Connection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties.JobProperties;
 import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
 
 import static java.util.Collections.emptyList;
@@ -14,7 +15,7 @@ public abstract class EmptyPartitionsHousekeepingJob implements HousekeepingJob
     private final PartitionService partitionService;
 
     @Override
-    public void doHousekeeping(final Connection connection) {
+    public long doHousekeeping(final Connection connection, final JobProperties properties) {
         final String targetTable = getTargetTable();
 
         try {
@@ -27,11 +28,17 @@ public abstract class EmptyPartitionsHousekeepingJob implements HousekeepingJob
             }
 
             log.debug("Dropped {} partitions for table {}", emptyPastPartitions.size(), targetTable);
+            return emptyPastPartitions.size();
         } catch (final Exception e) {
             throw new RuntimeException("Couldn't drop empty partitions for %s table".formatted(targetTable), e);
         }
     }
 
+    @Override
+    public String getName() {
+        return getTargetTable() + "-partitions";
+    }
+
     protected abstract String getTargetTable();
 
     protected List<String> exclusions() {
@@ -1,7 +1,16 @@
 package org.opendatadiscovery.oddplatform.housekeeping.job;
 
 import java.sql.Connection;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties.JobProperties;
 
 public interface HousekeepingJob {
-    void doHousekeeping(final Connection connection);
+    /**
+     * Name of the job, used as its configuration key, lock name and metrics tag.
+     */
+    String getName();
+
+    /**
+     * @return amount of deleted rows or dropped partitions
+     */
+    long doHousekeeping(final Connection connection, final JobProperties properties);
 }
@@ -0,0 +1,40 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatusDto;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.INGESTION_JOB;
+
+@Component
+@RequiredArgsConstructor
+public class IngestionJobHousekeepingJob extends BatchDeleteHousekeepingJob<Long> {
+    private final HousekeepingTTLProperties housekeepingTTLProperties;
+
+    @Override
+    public String getName() {
+        return "ingestion-jobs";
+    }
+
+    @Override
+    protected Table<?> getTable() {
+        return INGESTION_JOB;
+    }
+
+    @Override
+    protected Field<Long> getKey() {
+        return INGESTION_JOB.ID;
+    }
+
+    @Override
+    protected Condition getExpiredCondition() {
+        return INGESTION_JOB.STATUS.in(IngestionJobStatusDto.DONE.getCode(), IngestionJobStatusDto.FAILED.getCode())
+            .and(INGESTION_JOB.FINISHED_AT.lessOrEqual(
+                DSL.currentOffsetDateTime().minus(housekeepingTTLProperties.getIngestionJobsDays())));
+    }
+}
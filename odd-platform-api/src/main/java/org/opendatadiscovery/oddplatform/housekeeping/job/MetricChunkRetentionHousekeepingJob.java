@@ -0,0 +1,33 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
+import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_CHUNK;
+
+@Component
+public class MetricChunkRetentionHousekeepingJob extends RetentionPartitionsHousekeepingJob {
+    private final HousekeepingTTLProperties housekeepingTTLProperties;
+
+    public MetricChunkRetentionHousekeepingJob(final PartitionService partitionService,
+                                               final HousekeepingTTLProperties housekeepingTTLProperties) {
+        super(partitionService);
+        this.housekeepingTTLProperties = housekeepingTTLProperties;
+    }
+
+    @Override
+    protected String getTargetTable() {
+        return METRIC_CHUNK.getName();
+    }
+
+    @Override
+    protected String getPartitionKey() {
+        return METRIC_CHUNK.CHUNK_START.getName();
+    }
+
+    @Override
+    protected int getRetentionDays() {
+        return housekeepingTTLProperties.getMetricChunksDays();
+    }
+}
@@ -0,0 +1,104 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties.JobProperties;
+import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Enforces retention of a partitioned table by detaching and dropping partitions which ended before
+ * the retention period, so expired rows are never deleted one by one.
+ *
+ * <p>The default partition only holds rows which didn't fit into any range partition,
+ * its expired rows are deleted in batches instead.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public abstract class RetentionPartitionsHousekeepingJob implements HousekeepingJob {
+    private final PartitionService partitionService;
+
+    @Override
+    public long doHousekeeping(final Connection connection, final JobProperties properties) {
+        final String targetTable = getTargetTable();
+        final int retentionDays = getRetentionDays();
+        if (retentionDays <= 0) {
+            return 0;
+        }
+
+        final LocalDate retentionStart = DateTimeUtil.generateNow().toLocalDate().minusDays(retentionDays);
+
+        try {
+            final List<String> expiredPartitions = partitionService
+                .getPartitionsEndedBy(connection, targetTable, singletonList(getDefaultPartition()), retentionStart);
+
+            for (final String partition : expiredPartitions) {
+                log.debug("Detaching and dropping {} partition", partition);
+                partitionService.detachPartition(connection, targetTable, partition);
+                partitionService.dropPartition(connection, partition);
+            }
+
+            log.debug("Dropped {} expired partitions for table {}", expiredPartitions.size(), targetTable);
+
+            final long deleted = deleteFromDefaultPartition(connection, retentionStart, properties.getBatchSize());
+            if (deleted > 0) {
+                log.debug("Deleted {} expired rows from {} partition", deleted, getDefaultPartition());
+            }
+
+            return expiredPartitions.size() + deleted;
+        } catch (final Exception e) {
+            throw new RuntimeException("Couldn't drop expired partitions for %s table".formatted(targetTable), e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return getTargetTable() + "-retention";
+    }
+
+    protected abstract String getTargetTable();
+
+    /**
+     * Column the table is partitioned by.
+     */
+    protected abstract String getPartitionKey();
+
+    /**
+     * @return amount of days rows are kept for, non-positive value disables the retention
+     */
+    protected abstract int getRetentionDays();
+
+    private String getDefaultPartition() {
+        return getTargetTable() + "_default";
+    }
+
+    private long deleteFromDefaultPartition(final Connection connection,
+                                            final LocalDate retentionStart,
+                                            final int batchSize) throws SQLException {
+        final String query = """
+            DELETE FROM %1$s WHERE ctid IN (SELECT ctid FROM %1$s WHERE %2$s < ? LIMIT ?)
+            """.formatted(getDefaultPartition(), getPartitionKey());
+
+        long deleted = 0;
+        try (final PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setTimestamp(1, Timestamp.valueOf(retentionStart.atStartOfDay()));
+            statement.setInt(2, batchSize);
+
+            int batchDeleted;
+            do {
+                batchDeleted = statement.executeUpdate();
+                deleted += batchDeleted;
+            } while (batchDeleted == batchSize);
+        }
+
+        return deleted;
+    }
+}
@@ -1,9 +1,10 @@
 package org.opendatadiscovery.oddplatform.housekeeping.job;
 
-import java.sql.Connection;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.jooq.DSLContext;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
 import org.springframework.stereotype.Component;
@@ -12,20 +13,27 @@ import static org.opendatadiscovery.oddplatform.model.tables.SearchFacets.SEARCH
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
-public class SearchFacetsHousekeepingJob implements HousekeepingJob {
+public class SearchFacetsHousekeepingJob extends BatchDeleteHousekeepingJob<UUID> {
     private final HousekeepingTTLProperties housekeepingTTLProperties;
 
     @Override
-    public void doHousekeeping(final Connection connection) {
-        final DSLContext dslContext = DSL.using(connection);
+    public String getName() {
+        return "search-facets";
+    }
 
-        final int deletedSearchFacets = dslContext
-            .deleteFrom(SEARCH_FACETS)
-            .where(SEARCH_FACETS.LAST_ACCESSED_AT.lessOrEqual(
-                DSL.currentOffsetDateTime().minus(housekeepingTTLProperties.getSearchFacetsDays())))
-            .execute();
+    @Override
+    protected Table<?> getTable() {
+        return SEARCH_FACETS;
+    }
 
-        log.debug("Housekeeping job deleted {} outdated search facets", deletedSearchFacets);
+    @Override
+    protected Field<UUID> getKey() {
+        return SEARCH_FACETS.ID;
+    }
+
+    @Override
+    protected Condition getExpiredCondition() {
+        return SEARCH_FACETS.LAST_ACCESSED_AT.lessOrEqual(
+            DSL.currentOffsetDateTime().minus(housekeepingTTLProperties.getSearchFacetsDays()));
     }
 }
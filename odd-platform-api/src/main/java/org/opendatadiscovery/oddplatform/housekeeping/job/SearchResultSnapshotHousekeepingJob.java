@@ -0,0 +1,39 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.opendatadiscovery.oddplatform.config.properties.SearchProperties;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.tables.SearchResultSnapshot.SEARCH_RESULT_SNAPSHOT;
+
+@Component
+@RequiredArgsConstructor
+public class SearchResultSnapshotHousekeepingJob extends BatchDeleteHousekeepingJob<UUID> {
+    private final SearchProperties searchProperties;
+
+    @Override
+    public String getName() {
+        return "search-result-snapshots";
+    }
+
+    @Override
+    protected Table<?> getTable() {
+        return SEARCH_RESULT_SNAPSHOT;
+    }
+
+    @Override
+    protected Field<UUID> getKey() {
+        return SEARCH_RESULT_SNAPSHOT.SEARCH_ID;
+    }
+
+    @Override
+    protected Condition getExpiredCondition() {
+        return SEARCH_RESULT_SNAPSHOT.CREATED_AT.lessOrEqual(
+            OffsetDateTime.now().minus(searchProperties.getSnapshot().getTtl()));
+    }
+}
@@ -3,12 +3,23 @@ package org.opendatadiscovery.oddplatform.mapper;
 import java.util.Collection;
 import java.util.List;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistory;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
 
 public interface MetricsMapper {
     MetricFamily mapFromSeries(final MetricFamilyPojo family,
                                final Collection<MetricSeriesDto> series,
                                final List<MetricLabelValueDto> labelValues);
+
+    /**
+     * @param labelValues label values of the series points
+     */
+    MetricSeriesHistory mapSeriesHistory(final MetricFamilyPojo family,
+                                         final MetricSeriesPojo series,
+                                         final List<MetricLabelValueDto> labelValues,
+                                         final List<MetricHistoryPointDto> points);
 }
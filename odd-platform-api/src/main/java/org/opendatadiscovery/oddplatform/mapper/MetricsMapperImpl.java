@@ -1,6 +1,9 @@
 package org.opendatadiscovery.oddplatform.mapper;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -19,16 +22,21 @@ import org.opendatadiscovery.oddplatform.api.contract.model.GaugeValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.HistogramValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.Metric;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricHistoryPoint;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricLabel;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricPoint;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistory;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricType;
 import org.opendatadiscovery.oddplatform.api.contract.model.Quantile;
 import org.opendatadiscovery.oddplatform.api.contract.model.SummaryValue;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesValueType;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+import org.opendatadiscovery.oddplatform.utils.MetricUtils;
 import org.springframework.stereotype.Component;
 
 import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.BUCKET_UPPER_BOUND;
@@ -57,6 +65,29 @@ public class MetricsMapperImpl implements MetricsMapper {
         return metricFamily;
     }
 
+    @Override
+    public MetricSeriesHistory mapSeriesHistory(final MetricFamilyPojo family,
+                                                final MetricSeriesPojo series,
+                                                final List<MetricLabelValueDto> labelValues,
+                                                final List<MetricHistoryPointDto> points) {
+        final MetricSeriesValueType valueType = MetricSeriesValueType.findByCode(series.getValueType())
+            .orElseThrow(() -> new IllegalStateException("Unknown series value type " + series.getValueType()));
+
+        return new MetricSeriesHistory()
+            .metricFamilyId(family.getId())
+            .name(MetricUtils.generateMetricSeriesName(family.getName(), valueType))
+            .type(MetricType.valueOf(family.getType()))
+            .unit(family.getUnit())
+            .labels(labelValues.stream()
+                .map(dto -> new MetricLabel().name(dto.label().getName()).value(dto.labelValue().getValue()))
+                .toList())
+            .points(points.stream()
+                .map(p -> new MetricHistoryPoint()
+                    .timestamp(OffsetDateTime.ofInstant(Instant.ofEpochSecond(p.timestamp()), ZoneOffset.UTC))
+                    .value(p.value()))
+                .toList());
+    }
+
     private List<Metric> mapFromSeries(final MetricType metricType,
                                        final Collection<MetricSeriesDto> series,
                                        final List<MetricLabelValueDto> labelValues) {
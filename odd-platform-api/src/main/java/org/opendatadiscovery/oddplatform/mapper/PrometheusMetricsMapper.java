@@ -3,10 +3,22 @@ package org.opendatadiscovery.oddplatform.mapper;
 import java.util.List;
 import java.util.Map;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistory;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
+import org.opendatadiscovery.oddplatform.dto.metric.prometheus.PrometheusMetric;
 import org.opendatadiscovery.oddplatform.dto.metric.prometheus.PrometheusResponse;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
 
 public interface PrometheusMetricsMapper {
     List<MetricFamily> mapFromPrometheus(final List<PrometheusResponse> responses,
                                          final Map<Integer, MetricFamilyPojo> families);
+
+    /**
+     * @return samples of the range vector, NaN samples are skipped
+     */
+    List<MetricHistoryPointDto> mapHistoryPoints(final PrometheusMetric metric);
+
+    MetricSeriesHistory mapSeriesHistory(final PrometheusMetric metric,
+                                         final MetricFamilyPojo family,
+                                         final List<MetricHistoryPointDto> points);
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.api.contract.model.Bucket;
@@ -17,11 +18,14 @@ import org.opendatadiscovery.oddplatform.api.contract.model.GaugeValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.HistogramValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.Metric;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricHistoryPoint;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricLabel;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricPoint;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistory;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricType;
 import org.opendatadiscovery.oddplatform.api.contract.model.Quantile;
 import org.opendatadiscovery.oddplatform.api.contract.model.SummaryValue;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel;
 import org.opendatadiscovery.oddplatform.dto.metric.prometheus.PrometheusMetric;
 import org.opendatadiscovery.oddplatform.dto.metric.prometheus.PrometheusResponse;
@@ -35,10 +39,16 @@ import static org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesValueType
 import static org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesValueType.SUM;
 import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.BUCKET_UPPER_BOUND;
 import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.METRIC_FAMILY_ID;
+import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.NAME;
+import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.ODDRN;
+import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.TENANT_ID;
 import static org.opendatadiscovery.oddplatform.utils.MetricUtils.isSpecificSeries;
 
 @Component
 public class PrometheusMetricsMapperImpl implements PrometheusMetricsMapper {
+    // bucket bounds and quantiles stay, they tell series of the same family apart
+    private static final Set<String> HISTORY_EXCLUDED_LABELS = Set.of(
+        NAME.getLabelName(), ODDRN.getLabelName(), TENANT_ID.getLabelName(), METRIC_FAMILY_ID.getLabelName());
 
     @Override
     public List<MetricFamily> mapFromPrometheus(final List<PrometheusResponse> responses,
@@ -62,6 +72,39 @@ public class PrometheusMetricsMapperImpl implements PrometheusMetricsMapper {
         }).toList();
     }
 
+    @Override
+    public List<MetricHistoryPointDto> mapHistoryPoints(final PrometheusMetric metric) {
+        if (metric.getValues() == null) {
+            return List.of();
+        }
+        return metric.getValues().stream()
+            .map(sample -> new MetricHistoryPointDto(
+                new BigDecimal(sample.get(0).toString()).longValue(),
+                Double.parseDouble(sample.get(1).toString())))
+            .filter(p -> !Double.isNaN(p.value()))
+            .toList();
+    }
+
+    @Override
+    public MetricSeriesHistory mapSeriesHistory(final PrometheusMetric metric,
+                                                final MetricFamilyPojo family,
+                                                final List<MetricHistoryPointDto> points) {
+        return new MetricSeriesHistory()
+            .metricFamilyId(family.getId())
+            .name(metric.getMetric().get(NAME.getLabelName()))
+            .type(MetricType.valueOf(family.getType()))
+            .unit(family.getUnit())
+            .labels(metric.getMetric().entrySet().stream()
+                .filter(e -> !HISTORY_EXCLUDED_LABELS.contains(e.getKey()))
+                .map(e -> new MetricLabel().name(e.getKey()).value(e.getValue()))
+                .toList())
+            .points(points.stream()
+                .map(p -> new MetricHistoryPoint()
+                    .timestamp(OffsetDateTime.ofInstant(Instant.ofEpochSecond(p.timestamp()), ZoneOffset.UTC))
+                    .value(p.value()))
+                .toList());
+    }
+
     private List<Metric> mapMetrics(final MetricType type,
                                     final List<PrometheusMetric> metrics) {
         final List<Metric> result = new ArrayList<>();
@@ -163,7 +163,8 @@ public class IngestionMapperImpl implements IngestionMapper {
             .setHollow(false)
             .setSpecificAttributes(JSONB.jsonb(dto.getSpecificAttributesJson()))
             .setExcludeFromSearch(isExcludedFromSearch(dto))
-            .setManuallyCreated(false);
+            .setManuallyCreated(false)
+            .setContentFingerprint(dto.getContentFingerprint());
 
         if (dto instanceof EnrichedDataEntityIngestionDto entityIngestionDto) {
             pojo.setId(entityIngestionDto.getId());
@@ -199,7 +200,7 @@ public class IngestionMapperImpl implements IngestionMapper {
             .taskRunName(name)
             .oddrn(oddrn)
             .taskOddrn(transformerRun.getTransformerOddrn())
-            .startTime(transformerRun.getStartTime())
+            .startTime(getTaskRunStartTime(oddrn, transformerRun.getStartTime(), transformerRun.getEndTime()))
             .endTime(transformerRun.getEndTime())
             .status(IngestionTaskRun.IngestionTaskRunStatus.valueOf(transformerRun.getStatus().name()))
             .statusReason(transformerRun.getStatusReason())
@@ -214,7 +215,7 @@ public class IngestionMapperImpl implements IngestionMapper {
             .taskRunName(name)
             .oddrn(oddrn)
             .taskOddrn(dataQualityTestRun.getDataQualityTestOddrn())
-            .startTime(dataQualityTestRun.getStartTime())
+            .startTime(getTaskRunStartTime(oddrn, dataQualityTestRun.getStartTime(), dataQualityTestRun.getEndTime()))
             .endTime(dataQualityTestRun.getEndTime())
             .status(IngestionTaskRun.IngestionTaskRunStatus.valueOf(dataQualityTestRun.getStatus().name()))
             .statusReason(dataQualityTestRun.getStatusReason())
@@ -222,6 +223,23 @@ public class IngestionMapperImpl implements IngestionMapper {
             .build();
     }
 
+    /**
+     * Task runs are partitioned by their start time, a run reported without one is placed by its end time.
+     */
+    private OffsetDateTime getTaskRunStartTime(final String oddrn,
+                                               final OffsetDateTime startTime,
+                                               final OffsetDateTime endTime) {
+        if (startTime != null) {
+            return startTime;
+        }
+        if (endTime != null) {
+            return endTime;
+        }
+        throw new BadUserRequestException("""
+            Task run with oddrn %s has neither start_time nor end_time.
+            Please define at least one of them.""", oddrn);
+    }
+
     private DataSetIngestionDto createDatasetIngestionDto(final DataEntity dataEntity) {
         final DataSet dataset = dataEntity.getDataset();
 
@@ -20,6 +20,8 @@ import org.opendatadiscovery.oddplatform.notification.dto.DecodedWALMessage;
 import org.opendatadiscovery.oddplatform.notification.exception.NotificationSubscriberException;
 import org.opendatadiscovery.oddplatform.notification.processor.PostgresWALMessageProcessor;
 import org.opendatadiscovery.oddplatform.notification.wal.PostgresWALMessageDecoder;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupChannel;
 import org.postgresql.PGConnection;
 import org.postgresql.replication.PGReplicationStream;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
@@ -28,12 +30,15 @@ import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 @Slf4j
 public class NotificationSubscriber extends Thread {
     private static final String PG_REPLICATION_OUTPUT_PLUGIN = "pgoutput";
+    private static final int WAL_LAG_POLL_ATTEMPTS = 100;
+    private static final long WAL_LAG_POLL_INTERVAL_MILLIS = 10L;
 
     private final WalProperties walProperties;
 
     private final PostgreSQLLeaderElectionManager leaderElectionManager;
     private final PostgresWALMessageDecoder messageDecoder;
     private final PostgresWALMessageProcessor messageProcessor;
+    private final PostgreSQLWakeupService wakeupService;
 
     @Override
     public void run() {
@@ -65,19 +70,31 @@ public class NotificationSubscriber extends Thread {
                             return;
                         }
 
-                        final ByteBuffer buffer = stream.readPending();
+                        ByteBuffer buffer = stream.readPending();
 
+                        // waits for alert changes instead of polling the stream. The fallback interval keeps
+                        // the stream reporting its status to the server while there are no changes at all
                         if (buffer == null) {
-                            TimeUnit.MILLISECONDS.sleep(10L);
-                            continue;
+                            if (wakeupService.await(WakeupChannel.ALERT_CHANGED)) {
+                                buffer = awaitPending(stream);
+                            }
+                            if (buffer == null) {
+                                continue;
+                            }
                         }
 
-                        log.debug("processing LSN: {}", stream.getLastReceiveLSN());
+                        // every message is committed to the notification outbox while it is processed,
+                        // so the LSN is flushed once everything that is already received is stored
+                        while (buffer != null) {
+                            log.debug("processing LSN: {}", stream.getLastReceiveLSN());
 
-                        final Optional<DecodedWALMessage> decodedMessage = messageDecoder.decode(buffer);
+                            final Optional<DecodedWALMessage> decodedMessage = messageDecoder.decode(buffer);
 
-                        if (decodedMessage.isPresent()) {
-                            messageProcessor.process(decodedMessage.get());
+                            if (decodedMessage.isPresent()) {
+                                messageProcessor.process(decodedMessage.get());
+                            }
+
+                            buffer = stream.readPending();
                         }
 
                         stream.setAppliedLSN(stream.getLastReceiveLSN());
@@ -101,6 +118,19 @@ public class NotificationSubscriber extends Thread {
         }
     }
 
+    // a notification is delivered on commit, the change may reach the stream a bit later
+    private ByteBuffer awaitPending(final PGReplicationStream stream) throws SQLException, InterruptedException {
+        for (int i = 0; i < WAL_LAG_POLL_ATTEMPTS; i++) {
+            final ByteBuffer buffer = stream.readPending();
+            if (buffer != null) {
+                return buffer;
+            }
+            TimeUnit.MILLISECONDS.sleep(WAL_LAG_POLL_INTERVAL_MILLIS);
+        }
+
+        return null;
+    }
+
     private void registerReplicationSlot(final Connection connection,
                                          final PGConnection replicationConnection) throws SQLException {
         final String existsQuery = "SELECT EXISTS (SELECT slot_name FROM pg_replication_slots WHERE slot_name = ?)";
@@ -9,6 +9,7 @@ import org.opendatadiscovery.oddplatform.notification.config.ConditionalOnNotifi
 import org.opendatadiscovery.oddplatform.notification.config.NotificationsProperties;
 import org.opendatadiscovery.oddplatform.notification.processor.AlertNotificationMessageProcessor;
 import org.opendatadiscovery.oddplatform.notification.wal.PostgresWALMessageDecoder;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -26,11 +27,12 @@ public class NotificationSubscriberStarter {
     private final PostgresWALMessageDecoder messageDecoder;
     private final NotificationsProperties notificationsProperties;
     private final AlertNotificationMessageProcessor messageProcessor;
+    private final PostgreSQLWakeupService wakeupService;
 
     @EventListener(ApplicationReadyEvent.class)
     public void runNotificationSubscriber() {
         log.debug("Notification subscription is enabled, starting WAL parser");
         executorService.submit(new NotificationSubscriber(
-            notificationsProperties.getWal(), leaderElectionManager, messageDecoder, messageProcessor));
+            notificationsProperties.getWal(), leaderElectionManager, messageDecoder, messageProcessor, wakeupService));
     }
 }
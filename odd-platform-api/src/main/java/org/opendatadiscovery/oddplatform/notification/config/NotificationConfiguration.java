@@ -2,7 +2,10 @@ package org.opendatadiscovery.oddplatform.notification.config;
 
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.util.List;
 import org.jooq.DSLContext;
+import org.opendatadiscovery.oddplatform.notification.delivery.NotificationDispatcher;
+import org.opendatadiscovery.oddplatform.notification.delivery.NotificationOutboxRepository;
 import org.opendatadiscovery.oddplatform.notification.dto.AlertNotificationMessage;
 import org.opendatadiscovery.oddplatform.notification.processor.message.SlackMessageGenerator;
 import org.opendatadiscovery.oddplatform.notification.sender.NotificationSender;
@@ -65,4 +68,19 @@ public class NotificationConfiguration {
 
         return new AlertNotificationMessageTranslator(dslContext, jooqRecordHelper, downstreamEntitiesDepth);
     }
+
+    @Bean
+    public NotificationOutboxRepository notificationOutboxRepository(final DSLContext dslContext) {
+        return new NotificationOutboxRepository(dslContext);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public NotificationDispatcher<AlertNotificationMessage> alertNotificationDispatcher(
+        final List<NotificationSender<AlertNotificationMessage>> notificationSenders,
+        final NotificationsProperties notificationsProperties,
+        final NotificationOutboxRepository outboxRepository
+    ) {
+        return new NotificationDispatcher<>(notificationSenders, AlertNotificationMessage.class,
+            notificationsProperties.getDelivery(), outboxRepository);
+    }
 }
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.notification.config;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -9,6 +10,7 @@ public class NotificationsProperties {
     private boolean enabled;
     private String webhookUrl;
     private WalProperties wal;
+    private DeliveryProperties delivery = new DeliveryProperties();
 
     @Data
     public static class WalProperties {
@@ -16,4 +18,14 @@ public class NotificationsProperties {
         private String replicationSlotName;
         private String publicationName;
     }
+
+    @Data
+    public static class DeliveryProperties {
+        private int batchSize = 50;
+        private Duration pollInterval = Duration.ofSeconds(10);
+        private Duration claimTimeout = Duration.ofMinutes(5);
+        private int maxAttempts = 5;
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofMinutes(1);
+    }
 }
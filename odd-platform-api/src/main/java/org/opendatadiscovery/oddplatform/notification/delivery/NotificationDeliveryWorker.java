@@ -0,0 +1,130 @@
+package org.opendatadiscovery.oddplatform.notification.delivery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.model.tables.records.NotificationOutboxRecord;
+import org.opendatadiscovery.oddplatform.notification.config.NotificationsProperties.DeliveryProperties;
+import org.opendatadiscovery.oddplatform.notification.dto.NotificationMessage;
+import org.opendatadiscovery.oddplatform.notification.exception.NotificationSenderException;
+import org.opendatadiscovery.oddplatform.notification.sender.NotificationSender;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+/**
+ * Delivers outbox messages of a single {@link NotificationSender}, so a slow or unavailable receiver
+ * doesn't hold back the replication stream or the other receivers.
+ *
+ * <p>Messages are claimed in batches, so workers of all platform nodes can share the outbox.
+ * A failed message is rescheduled with exponential backoff and is kept in the outbox as a dead letter
+ * after the last attempt.
+ */
+@Slf4j
+public class NotificationDeliveryWorker<T extends NotificationMessage> extends Thread {
+    private final NotificationSender<T> sender;
+    private final Class<T> messageType;
+    private final DeliveryProperties properties;
+    private final NotificationOutboxRepository outboxRepository;
+    private final Semaphore wakeup = new Semaphore(0);
+
+    public NotificationDeliveryWorker(final NotificationSender<T> sender,
+                                      final Class<T> messageType,
+                                      final DeliveryProperties properties,
+                                      final NotificationOutboxRepository outboxRepository) {
+        super("notification-delivery-" + sender.receiverId().toLowerCase().replace(' ', '-'));
+        setDaemon(true);
+
+        this.sender = sender;
+        this.messageType = messageType;
+        this.properties = properties;
+        this.outboxRepository = outboxRepository;
+    }
+
+    /**
+     * Makes the worker look for due messages right away instead of waiting for the poll interval.
+     */
+    public void wakeup() {
+        wakeup.release();
+    }
+
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                final List<NotificationOutboxRecord> batch =
+                    outboxRepository.claim(sender.receiverId(), properties.getBatchSize(),
+                        properties.getClaimTimeout());
+
+                deliver(batch);
+
+                if (batch.size() < properties.getBatchSize()) {
+                    wakeup.tryAcquire(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    wakeup.drainPermits();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final Exception e) {
+                log.error("Error occurred while delivering notifications via {}", sender.receiverId(), e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(properties.getPollInterval().toMillis());
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        log.debug("Notification delivery worker for {} stopped", sender.receiverId());
+    }
+
+    /**
+     * Stops the worker. Messages it has claimed, but not sent yet, are released for the next worker.
+     */
+    public void shutdown(final Duration timeout) throws InterruptedException {
+        interrupt();
+        join(timeout.toMillis());
+    }
+
+    private void deliver(final List<NotificationOutboxRecord> batch) throws InterruptedException {
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                send(batch.get(i));
+            } catch (final InterruptedException e) {
+                outboxRepository.release(batch.subList(i, batch.size()).stream()
+                    .map(NotificationOutboxRecord::getId)
+                    .toList());
+                throw e;
+            }
+        }
+    }
+
+    private void send(final NotificationOutboxRecord outboxRecord) throws InterruptedException {
+        final int attempt = outboxRecord.getAttempts() + 1;
+
+        try {
+            final T message = JSONSerDeUtils.deserializeJson(outboxRecord.getMessage().data(), messageType);
+            log.debug("Sending notification message via {}: {}", sender.receiverId(), message);
+            sender.send(message);
+        } catch (final NotificationSenderException | RuntimeException e) {
+            if (attempt >= properties.getMaxAttempts()) {
+                log.error("Couldn't send notification via {} after {} attempts, it is kept as a dead letter",
+                    sender.receiverId(), attempt, e);
+                outboxRepository.deadLetter(outboxRecord.getId(), attempt, e.getMessage());
+                return;
+            }
+
+            final Duration backoff = backoff(attempt);
+            log.warn("Error occurred while sending notification via {}, attempt {} of {}, retrying in {}",
+                sender.receiverId(), attempt, properties.getMaxAttempts(), backoff, e);
+            outboxRepository.reschedule(outboxRecord.getId(), attempt, e.getMessage(), backoff);
+            return;
+        }
+
+        outboxRepository.delete(outboxRecord.getId());
+    }
+
+    private Duration backoff(final int attempt) {
+        final Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempt - 1, 30));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+}
@@ -0,0 +1,64 @@
+package org.opendatadiscovery.oddplatform.notification.delivery;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.notification.config.NotificationsProperties.DeliveryProperties;
+import org.opendatadiscovery.oddplatform.notification.dto.NotificationMessage;
+import org.opendatadiscovery.oddplatform.notification.sender.NotificationSender;
+
+/**
+ * Writes translated messages to the outbox of all configured senders and runs their delivery workers.
+ */
+@Slf4j
+public class NotificationDispatcher<T extends NotificationMessage> {
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<String> receiverIds;
+    private final NotificationOutboxRepository outboxRepository;
+    private final List<NotificationDeliveryWorker<T>> workers;
+
+    public NotificationDispatcher(final List<NotificationSender<T>> senders,
+                                  final Class<T> messageType,
+                                  final DeliveryProperties properties,
+                                  final NotificationOutboxRepository outboxRepository) {
+        this.receiverIds = senders.stream().map(NotificationSender::receiverId).toList();
+        this.outboxRepository = outboxRepository;
+        this.workers = senders.stream()
+            .map(sender -> new NotificationDeliveryWorker<>(sender, messageType, properties, outboxRepository))
+            .toList();
+    }
+
+    /**
+     * Replays dead letters, so receivers which have been fixed in the configuration get them on restart,
+     * and starts the delivery workers.
+     */
+    public void start() {
+        final int replayed = outboxRepository.replayDeadLetters(receiverIds);
+        if (replayed > 0) {
+            log.info("Replaying {} notification dead letters", replayed);
+        }
+
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Returns once the message is committed to the outbox, so the source of the message
+     * can be acknowledged right after.
+     */
+    public void dispatch(final T message) {
+        outboxRepository.save(receiverIds, message);
+        workers.forEach(NotificationDeliveryWorker::wakeup);
+    }
+
+    public void stop() {
+        for (final NotificationDeliveryWorker<T> worker : workers) {
+            try {
+                worker.shutdown(SHUTDOWN_TIMEOUT);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while stopping notification delivery worker {}", worker.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.opendatadiscovery.oddplatform.notification.delivery;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep2;
+import org.jooq.JSONB;
+import org.opendatadiscovery.oddplatform.model.tables.records.NotificationOutboxRecord;
+import org.opendatadiscovery.oddplatform.notification.dto.NotificationMessage;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.NOTIFICATION_OUTBOX;
+
+@RequiredArgsConstructor
+public class NotificationOutboxRepository {
+    private final DSLContext dslContext;
+
+    /**
+     * Writes the message once for every receiver in a single statement,
+     * so it is committed for all of them when the method returns.
+     */
+    public void save(final Collection<String> receiverIds, final NotificationMessage message) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+
+        final JSONB serialized = JSONB.jsonb(JSONSerDeUtils.serializeJson(message));
+
+        InsertValuesStep2<NotificationOutboxRecord, String, JSONB> step = dslContext
+            .insertInto(NOTIFICATION_OUTBOX, NOTIFICATION_OUTBOX.RECEIVER_ID, NOTIFICATION_OUTBOX.MESSAGE);
+
+        for (final String receiverId : receiverIds) {
+            step = step.values(receiverId, serialized);
+        }
+
+        step.execute();
+    }
+
+    /**
+     * Claims the oldest due messages of the receiver. The claim expires after the timeout,
+     * so messages of a worker which has died are delivered by another one.
+     */
+    public List<NotificationOutboxRecord> claim(final String receiverId, final int limit, final Duration timeout) {
+        final OffsetDateTime now = OffsetDateTime.now();
+
+        final var due = dslContext.select(NOTIFICATION_OUTBOX.ID)
+            .from(NOTIFICATION_OUTBOX)
+            .where(NOTIFICATION_OUTBOX.RECEIVER_ID.eq(receiverId))
+            .and(NOTIFICATION_OUTBOX.DEAD_LETTERED_AT.isNull())
+            .and(NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT.le(now))
+            .orderBy(NOTIFICATION_OUTBOX.ID)
+            .limit(limit)
+            .forUpdate()
+            .skipLocked();
+
+        return dslContext.update(NOTIFICATION_OUTBOX)
+            .set(NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT, now.plus(timeout))
+            .where(NOTIFICATION_OUTBOX.ID.in(due))
+            .returning()
+            .fetch()
+            .sortAsc(NOTIFICATION_OUTBOX.ID);
+    }
+
+    public void delete(final long id) {
+        dslContext.deleteFrom(NOTIFICATION_OUTBOX)
+            .where(NOTIFICATION_OUTBOX.ID.eq(id))
+            .execute();
+    }
+
+    public void reschedule(final long id, final int attempts, final String error, final Duration backoff) {
+        dslContext.update(NOTIFICATION_OUTBOX)
+            .set(NOTIFICATION_OUTBOX.ATTEMPTS, attempts)
+            .set(NOTIFICATION_OUTBOX.ERROR, error)
+            .set(NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT, OffsetDateTime.now().plus(backoff))
+            .where(NOTIFICATION_OUTBOX.ID.eq(id))
+            .execute();
+    }
+
+    public void deadLetter(final long id, final int attempts, final String error) {
+        dslContext.update(NOTIFICATION_OUTBOX)
+            .set(NOTIFICATION_OUTBOX.ATTEMPTS, attempts)
+            .set(NOTIFICATION_OUTBOX.ERROR, error)
+            .set(NOTIFICATION_OUTBOX.DEAD_LETTERED_AT, OffsetDateTime.now())
+            .where(NOTIFICATION_OUTBOX.ID.eq(id))
+            .execute();
+    }
+
+    /**
+     * Makes claimed messages due again, e.g. when their worker is stopped before sending them.
+     */
+    public void release(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        dslContext.update(NOTIFICATION_OUTBOX)
+            .set(NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT, OffsetDateTime.now())
+            .where(NOTIFICATION_OUTBOX.ID.in(ids))
+            .execute();
+    }
+
+    /**
+     * Puts dead letters of the receivers back into delivery with a fresh set of attempts.
+     *
+     * @return number of replayed dead letters
+     */
+    public int replayDeadLetters(final Collection<String> receiverIds) {
+        if (receiverIds.isEmpty()) {
+            return 0;
+        }
+
+        return dslContext.update(NOTIFICATION_OUTBOX)
+            .set(NOTIFICATION_OUTBOX.ATTEMPTS, 0)
+            .set(NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT, OffsetDateTime.now())
+            .set(NOTIFICATION_OUTBOX.DEAD_LETTERED_AT, (OffsetDateTime) null)
+            .where(NOTIFICATION_OUTBOX.RECEIVER_ID.in(receiverIds))
+            .and(NOTIFICATION_OUTBOX.DEAD_LETTERED_AT.isNotNull())
+            .execute();
+    }
+}
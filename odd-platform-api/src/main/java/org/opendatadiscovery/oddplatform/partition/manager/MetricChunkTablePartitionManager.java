@@ -0,0 +1,27 @@
+package org.opendatadiscovery.oddplatform.partition.manager;
+
+import java.util.List;
+import lombok.Getter;
+import org.opendatadiscovery.oddplatform.model.Tables;
+import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static java.util.Collections.singletonList;
+
+@Component
+public class MetricChunkTablePartitionManager extends AbstractPartitionManager implements PartitionManager {
+    @Value("${odd.metric-chunk.partition-period:30}")
+    @Getter
+    private int partitionDaysPeriod;
+
+    @Getter
+    private final String tableName = Tables.METRIC_CHUNK.getName();
+
+    @Getter
+    private final List<String> tableNameExclusions = singletonList(tableName + "_default");
+
+    public MetricChunkTablePartitionManager(final PartitionService partitionService) {
+        super(partitionService);
+    }
+}
@@ -22,5 +22,14 @@ public interface PartitionService {
                                         final String tableName,
                                         final List<String> tableNameExclusions) throws SQLException;
 
+    List<String> getPartitionsEndedBy(final Connection connection,
+                                      final String tableName,
+                                      final List<String> tableNameExclusions,
+                                      final LocalDate date) throws SQLException;
+
     void dropPartition(final Connection connection, final String partitionName) throws SQLException;
+
+    void detachPartition(final Connection connection,
+                         final String tableName,
+                         final String partitionName) throws SQLException;
 }
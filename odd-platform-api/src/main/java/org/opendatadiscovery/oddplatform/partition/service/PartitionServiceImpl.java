@@ -6,7 +6,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.apache.commons.collections4.CollectionUtils;
@@ -32,7 +34,7 @@ public class PartitionServiceImpl implements PartitionService {
             """);
 
         if (toExclude) {
-            sqlBuilder.append(" AND table_name NOT IN (?)");
+            sqlBuilder.append(" AND table_name NOT IN (%s)".formatted(placeholders(tableNameExclusions.size())));
         }
 
         sqlBuilder.append(" ORDER BY table_name DESC LIMIT 1");
@@ -41,7 +43,9 @@ public class PartitionServiceImpl implements PartitionService {
             statement.setString(1, DEFAULT_SCHEMA);
             statement.setString(2, tableName + "_%");
             if (toExclude) {
-                statement.setString(3, String.join(",", tableNameExclusions));
+                for (int i = 0; i < tableNameExclusions.size(); i++) {
+                    statement.setString(i + 3, tableNameExclusions.get(i));
+                }
             }
             try (final ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
@@ -58,25 +62,46 @@ public class PartitionServiceImpl implements PartitionService {
                                   final LocalDate beginDate,
                                   final LocalDate endDate) throws SQLException {
         final String partitionName = getPartitionName(tableName, beginDate, endDate);
+        final String from = beginDate.format(ISO_LOCAL_DATE);
+        final String to = endDate.format(ISO_LOCAL_DATE);
         final String sql = "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s');"
-            .formatted(partitionName, tableName, beginDate.format(ISO_LOCAL_DATE), endDate.format(ISO_LOCAL_DATE));
+            .formatted(partitionName, tableName, from, to);
 
-        try (final PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.execute();
+        final Optional<DefaultPartition> defaultPartition = getDefaultPartition(connection, tableName);
+        if (defaultPartition.isEmpty()) {
+            execute(connection, sql);
+            return partitionName;
         }
 
+        // Postgres refuses to create a partition while the default one holds rows of its range,
+        // so such rows are moved out and routed to the new partition within the same transaction
+        final String defaultPartitionName = defaultPartition.get().name();
+        final String movedRowsTable = defaultPartitionName + "_moved";
+        inTransaction(connection, () -> {
+            execute(connection, "LOCK TABLE %s IN ACCESS EXCLUSIVE MODE".formatted(defaultPartitionName));
+            execute(connection, "CREATE TEMPORARY TABLE %s (LIKE %s) ON COMMIT DROP"
+                .formatted(movedRowsTable, tableName));
+            execute(connection, """
+                WITH moved AS (DELETE FROM %s WHERE %s >= '%s' AND %s < '%s' RETURNING *)
+                INSERT INTO %s SELECT * FROM moved
+                """.formatted(defaultPartitionName, defaultPartition.get().partitionKey(), from,
+                defaultPartition.get().partitionKey(), to, movedRowsTable));
+            execute(connection, sql);
+            execute(connection, "INSERT INTO %s SELECT * FROM %s".formatted(tableName, movedRowsTable));
+        });
+
         return partitionName;
     }
 
     @Override
     public LocalDate getLastPartitionDate(final String tableName) {
-        final String[] tableNameParts = tableName.split("_");
-        if (tableNameParts.length != 3) {
-            throw new IllegalArgumentException("Cannot parse table name: %s".formatted(tableName));
+        // table names may contain underscores themselves, the partition's upper bound is always the last part
+        final String lastPartitionDateString = tableName.substring(tableName.lastIndexOf('_') + 1);
+        try {
+            return LocalDate.parse(lastPartitionDateString, PARTITION_PART_FORMATTER);
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("Cannot parse table name: %s".formatted(tableName), e);
         }
-
-        final String lastPartitionDateString = tableNameParts[tableNameParts.length - 1];
-        return LocalDate.parse(lastPartitionDateString, PARTITION_PART_FORMATTER);
     }
 
     @Override
@@ -84,6 +109,50 @@ public class PartitionServiceImpl implements PartitionService {
                                                final String tableName,
                                                final List<String> tableNameExclusions) throws SQLException {
         final LocalDate baseline = DateTimeUtil.generateNow().toLocalDate();
+
+        final List<String> emptyPartitions = new ArrayList<>();
+        for (final String partitionName : getPartitionNames(connection, tableName, tableNameExclusions)) {
+            if (isPartitionInPast(partitionName, baseline) && isPartitionEmpty(connection, partitionName)) {
+                emptyPartitions.add(partitionName);
+            }
+        }
+
+        return emptyPartitions;
+    }
+
+    @Override
+    public List<String> getPartitionsEndedBy(final Connection connection,
+                                             final String tableName,
+                                             final List<String> tableNameExclusions,
+                                             final LocalDate date) throws SQLException {
+        return getPartitionNames(connection, tableName, tableNameExclusions).stream()
+            .filter(partitionName -> !getLastPartitionDate(partitionName).isAfter(date))
+            .toList();
+    }
+
+    @Override
+    public void dropPartition(final Connection connection, final String partitionName) throws SQLException {
+        final String query = "DROP TABLE %s".formatted(partitionName);
+
+        try (final PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.execute();
+        }
+    }
+
+    @Override
+    public void detachPartition(final Connection connection,
+                                final String tableName,
+                                final String partitionName) throws SQLException {
+        final String query = "ALTER TABLE %s DETACH PARTITION %s".formatted(tableName, partitionName);
+
+        try (final PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.execute();
+        }
+    }
+
+    private List<String> getPartitionNames(final Connection connection,
+                                           final String tableName,
+                                           final List<String> tableNameExclusions) throws SQLException {
         final boolean toExclude = CollectionUtils.isNotEmpty(tableNameExclusions);
 
         final StringBuilder sqlBuilder = new StringBuilder("""
@@ -92,40 +161,28 @@ public class PartitionServiceImpl implements PartitionService {
             """);
 
         if (toExclude) {
-            sqlBuilder.append(" AND table_name NOT IN (?)");
+            sqlBuilder.append(" AND table_name NOT IN (%s)".formatted(placeholders(tableNameExclusions.size())));
         }
 
         try (final PreparedStatement statement = connection.prepareStatement(sqlBuilder.toString())) {
             statement.setString(1, DEFAULT_SCHEMA);
             statement.setString(2, tableName + "_%");
             if (toExclude) {
-                statement.setString(3, String.join(",", tableNameExclusions));
+                for (int i = 0; i < tableNameExclusions.size(); i++) {
+                    statement.setString(i + 3, tableNameExclusions.get(i));
+                }
             }
 
             try (final ResultSet resultSet = statement.executeQuery()) {
-                final List<String> emptyPartitions = new ArrayList<>();
-
+                final List<String> partitionNames = new ArrayList<>();
                 while (resultSet.next()) {
-                    final String partitionName = resultSet.getString("table_name");
-                    if (isPartitionInPast(partitionName, baseline) && isPartitionEmpty(connection, partitionName)) {
-                        emptyPartitions.add(partitionName);
-                    }
+                    partitionNames.add(resultSet.getString("table_name"));
                 }
-
-                return emptyPartitions;
+                return partitionNames;
             }
         }
     }
 
-    @Override
-    public void dropPartition(final Connection connection, final String partitionName) throws SQLException {
-        final String query = "DROP TABLE %s".formatted(partitionName);
-
-        try (final PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.execute();
-        }
-    }
-
     private boolean isPartitionInPast(final String partitionName, final LocalDate baseline) {
         return getLastPartitionDate(partitionName).isBefore(baseline);
     }
@@ -141,8 +198,61 @@ public class PartitionServiceImpl implements PartitionService {
         }
     }
 
+    private Optional<DefaultPartition> getDefaultPartition(final Connection connection,
+                                                           final String tableName) throws SQLException {
+        final String query = """
+            SELECT d.relname, a.attname
+            FROM pg_partitioned_table p
+                JOIN pg_class d ON d.oid = p.partdefid
+                JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+            WHERE p.partrelid = to_regclass(?)
+            """;
+
+        try (final PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, tableName);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return Optional.of(new DefaultPartition(resultSet.getString(1), resultSet.getString(2)));
+                }
+                return Optional.empty();
+            }
+        }
+    }
+
+    private void inTransaction(final Connection connection, final SqlAction action) throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            action.run();
+            connection.commit();
+        } catch (final SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void execute(final Connection connection, final String sql) throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.execute();
+        }
+    }
+
+    private String placeholders(final int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     private String getPartitionName(final String tableName, final LocalDate beginDate, final LocalDate endDate) {
         return String.format("%s_%s_%s", tableName, PARTITION_PART_FORMATTER.format(beginDate),
             PARTITION_PART_FORMATTER.format(endDate));
     }
+
+    private record DefaultPartition(String name, String partitionKey) {
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+        void run() throws SQLException;
+    }
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.ArrayUtils;
 import org.jooq.Record;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
@@ -14,6 +15,7 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityDto;
 import org.opendatadiscovery.oddplatform.dto.OwnershipDto;
 import org.opendatadiscovery.oddplatform.dto.TagDto;
 import org.opendatadiscovery.oddplatform.dto.attributes.DataEntityAttributes;
+import org.opendatadiscovery.oddplatform.dto.attributes.DataSetAttributes;
 import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
@@ -37,14 +39,18 @@ import static org.jooq.impl.DSL.field;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_GROUP_ENTITIES_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_VALUE_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_OWNERSHIP_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_OWNER_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_PARENT_GROUPS_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TAGS_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TAGS_RELATION_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TITLE_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.CONSUMERS_COUNT_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.DATA_ENTITY_CTE_NAME;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.GROUP_CHILDREN_COUNT_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.HAS_ALERTS_FIELD;
 
 @Component
@@ -82,15 +88,41 @@ public class DataEntityDtoMapper {
     public DataEntityDetailsDto mapDetailsRecord(final Record r) {
         final Record deRecord = jooqRecordHelper.remapCte(r, DATA_ENTITY_CTE_NAME, DATA_ENTITY);
         final DataEntityPojo dataEntity = jooqRecordHelper.extractRelation(deRecord, DATA_ENTITY, DataEntityPojo.class);
+        final Map<DataEntityClassDto, DataEntityAttributes> specificAttributes = extractSpecificAttributes(dataEntity);
 
-        return DataEntityDetailsDto.detailsBuilder()
+        final DataEntityDetailsDto dto = DataEntityDetailsDto.detailsBuilder()
             .dataEntity(dataEntity)
             .hasAlerts(r.get(field(HAS_ALERTS_FIELD), Boolean.TYPE))
             .dataSource(jooqRecordHelper.extractRelation(r, DATA_SOURCE, DataSourcePojo.class))
-            .specificAttributes(extractSpecificAttributes(dataEntity))
+            .specificAttributes(specificAttributes)
             .namespace(jooqRecordHelper.extractRelation(r, NAMESPACE, NamespacePojo.class))
             .ownership(extractOwnershipRelation(r))
+            // a tag relates to the entity once, as it was counted by the former separate tags query
+            .tags(extractTags(r, 1L))
             .build();
+
+        dto.setParentGroups(jooqRecordHelper.extractAggRelation(r, AGG_PARENT_GROUPS_FIELD, DataEntityPojo.class));
+
+        if (specificAttributes.get(DataEntityClassDto.DATA_SET) instanceof DataSetAttributes dsa) {
+            dto.setDataSetDetailsDto(new DataEntityDimensionsDto.DataSetDetailsDto(
+                dsa.getRowsCount(),
+                dsa.getFieldsCount(),
+                r.get(CONSUMERS_COUNT_FIELD, Long.class)
+            ));
+        }
+
+        if (ArrayUtils.contains(dataEntity.getEntityClassIds(), DataEntityClassDto.DATA_ENTITY_GROUP.getId())) {
+            final Set<DataEntityPojo> entities =
+                jooqRecordHelper.extractAggRelation(r, AGG_GROUP_ENTITIES_FIELD, DataEntityPojo.class);
+            final long childrenCount = r.get(GROUP_CHILDREN_COUNT_FIELD, Long.class);
+            dto.setGroupsDto(new DataEntityDimensionsDto.DataEntityGroupDimensionsDto(
+                entities,
+                entities.size() + (int) childrenCount,
+                childrenCount != 0L
+            ));
+        }
+
+        return dto;
     }
 
     public DataEntityDetailsDto mapDataEntitySearchFieldsRecord(final Record r) {
@@ -100,18 +132,18 @@ public class DataEntityDtoMapper {
             .dataSource(jooqRecordHelper.extractRelation(r, DATA_SOURCE, DataSourcePojo.class))
             .namespace(jooqRecordHelper.extractRelation(r, NAMESPACE, NamespacePojo.class))
             .ownership(extractOwnershipRelation(r))
-            .tags(extractTags(r))
+            .tags(extractTags(r, null))
             .metadata(extractMetadata(r))
             .build();
     }
 
-    private List<TagDto> extractTags(final Record r) {
+    private List<TagDto> extractTags(final Record r, final Long usedCount) {
         final Set<TagPojo> tagPojos = jooqRecordHelper.extractAggRelation(r, AGG_TAGS_FIELD, TagPojo.class);
         final Map<Long, TagToDataEntityPojo> tagRelations = jooqRecordHelper.extractAggRelation(r,
                 AGG_TAGS_RELATION_FIELD, TagToDataEntityPojo.class).stream()
             .collect(Collectors.toMap(TagToDataEntityPojo::getTagId, identity()));
         return tagPojos.stream()
-            .map(pojo -> new TagDto(pojo, null, tagRelations.get(pojo.getId()).getExternal()))
+            .map(pojo -> new TagDto(pojo, usedCount, tagRelations.get(pojo.getId()).getExternal()))
             .toList();
     }
 
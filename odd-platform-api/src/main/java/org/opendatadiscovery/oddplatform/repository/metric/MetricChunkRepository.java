@@ -0,0 +1,26 @@
+package org.opendatadiscovery.oddplatform.repository.metric;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import reactor.core.publisher.Flux;
+
+public interface MetricChunkRepository {
+    /**
+     * Locks chunks identified by series, label values and chunk start of the given ones
+     * till the end of the transaction. Missing chunks are created empty before being locked.
+     */
+    Flux<MetricChunkPojo> getOrCreateForUpdate(final List<MetricChunkPojo> chunkKeys);
+
+    Flux<MetricChunkPojo> createOrUpdateChunks(final List<MetricChunkPojo> chunks);
+
+    /**
+     * @return non-empty chunks of the series overlapping with the range, ordered by their start
+     */
+    Flux<MetricChunkPojo> getChunks(final Collection<Integer> seriesIds,
+                                    final LocalDateTime from,
+                                    final LocalDateTime to,
+                                    final Duration chunkDuration);
+}
@@ -0,0 +1,118 @@
+package org.opendatadiscovery.oddplatform.repository.metric;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jooq.InsertSetStep;
+import org.jooq.Row3;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.MetricChunkRecord;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import static org.jooq.impl.DSL.excluded;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_CHUNK;
+
+@Repository
+@RequiredArgsConstructor
+public class MetricChunkRepositoryImpl implements MetricChunkRepository {
+    private static final byte[] EMPTY_CHUNK = new byte[0];
+
+    // the same order for every transaction, so concurrent ingestions of the same series don't deadlock
+    private static final Comparator<MetricChunkPojo> KEY_ORDER = Comparator
+        .comparing(MetricChunkPojo::getSeriesId)
+        .thenComparing(MetricChunkPojo::getLabelValuesIds, Arrays::compare)
+        .thenComparing(MetricChunkPojo::getChunkStart);
+
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    @Override
+    public Flux<MetricChunkPojo> getOrCreateForUpdate(final List<MetricChunkPojo> chunkKeys) {
+        final List<MetricChunkPojo> sortedKeys = chunkKeys.stream().sorted(KEY_ORDER).toList();
+
+        final List<MetricChunkRecord> emptyChunks = sortedKeys.stream()
+            .map(k -> new MetricChunkRecord()
+                .setSeriesId(k.getSeriesId())
+                .setLabelValuesIds(k.getLabelValuesIds())
+                .setChunkStart(k.getChunkStart())
+                .setLastTimestamp(k.getChunkStart())
+                .setPointsCount(0)
+                .setData(EMPTY_CHUNK))
+            .toList();
+
+        final Flux<MetricChunkPojo> lockedChunks = jooqReactiveOperations
+            .executeInPartitionReturning(sortedKeys, ks -> {
+                final List<Row3<Integer, Integer[], LocalDateTime>> keys = ks.stream()
+                    .map(k -> DSL.row(k.getSeriesId(), k.getLabelValuesIds(), k.getChunkStart()))
+                    .toList();
+
+                final var query = DSL.selectFrom(METRIC_CHUNK)
+                    .where(DSL.row(METRIC_CHUNK.SERIES_ID, METRIC_CHUNK.LABEL_VALUES_IDS, METRIC_CHUNK.CHUNK_START)
+                        .in(keys))
+                    .orderBy(METRIC_CHUNK.SERIES_ID, METRIC_CHUNK.LABEL_VALUES_IDS, METRIC_CHUNK.CHUNK_START)
+                    .forUpdate();
+
+                return jooqReactiveOperations.flux(query);
+            })
+            .map(r -> r.into(MetricChunkPojo.class));
+
+        return jooqReactiveOperations
+            .executeInPartition(emptyChunks, rs -> {
+                InsertSetStep<MetricChunkRecord> insertStep = DSL.insertInto(METRIC_CHUNK);
+                for (int i = 0; i < rs.size() - 1; i++) {
+                    insertStep = insertStep.set(rs.get(i)).newRecord();
+                }
+                return jooqReactiveOperations.mono(insertStep.set(rs.get(rs.size() - 1)).onConflictDoNothing());
+            })
+            .thenMany(lockedChunks);
+    }
+
+    @Override
+    public Flux<MetricChunkPojo> createOrUpdateChunks(final List<MetricChunkPojo> chunks) {
+        final List<MetricChunkRecord> records = chunks.stream()
+            .sorted(KEY_ORDER)
+            .map(pojo -> jooqReactiveOperations.newRecord(METRIC_CHUNK, pojo))
+            .toList();
+
+        return jooqReactiveOperations.executeInPartitionReturning(records, rs -> {
+            InsertSetStep<MetricChunkRecord> insertStep = DSL.insertInto(METRIC_CHUNK);
+            for (int i = 0; i < rs.size() - 1; i++) {
+                insertStep = insertStep.set(rs.get(i)).newRecord();
+            }
+            return jooqReactiveOperations.flux(insertStep.set(rs.get(rs.size() - 1))
+                .onConflict(METRIC_CHUNK.SERIES_ID, METRIC_CHUNK.LABEL_VALUES_IDS, METRIC_CHUNK.CHUNK_START)
+                .doUpdate()
+                .set(METRIC_CHUNK.LAST_TIMESTAMP, excluded(METRIC_CHUNK.LAST_TIMESTAMP))
+                .set(METRIC_CHUNK.POINTS_COUNT, excluded(METRIC_CHUNK.POINTS_COUNT))
+                .set(METRIC_CHUNK.DATA, excluded(METRIC_CHUNK.DATA))
+                .returning(METRIC_CHUNK.fields()));
+        }).map(r -> r.into(MetricChunkPojo.class));
+    }
+
+    @Override
+    public Flux<MetricChunkPojo> getChunks(final Collection<Integer> seriesIds,
+                                           final LocalDateTime from,
+                                           final LocalDateTime to,
+                                           final Duration chunkDuration) {
+        if (seriesIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        final var query = DSL.selectFrom(METRIC_CHUNK)
+            .where(METRIC_CHUNK.SERIES_ID.in(seriesIds))
+            // the lower bound of the chunk start lets the planner skip partitions which ended before the range
+            .and(METRIC_CHUNK.CHUNK_START.greaterThan(from.minus(chunkDuration)))
+            .and(METRIC_CHUNK.CHUNK_START.lessOrEqual(to))
+            .and(METRIC_CHUNK.LAST_TIMESTAMP.greaterOrEqual(from))
+            .and(METRIC_CHUNK.POINTS_COUNT.greaterThan(0))
+            .orderBy(METRIC_CHUNK.CHUNK_START);
+
+        return jooqReactiveOperations.flux(query).map(r -> r.into(MetricChunkPojo.class));
+    }
+}
@@ -42,7 +42,6 @@ public class MetricFamilyRepositoryImpl implements MetricFamilyRepository {
                 .onConflictOnConstraint(METRIC_FAMILY_NAME_TYPE_UNIT_KEY)
                 .doUpdate()
                 .set(METRIC_FAMILY.DESCRIPTION, DSL.excluded(METRIC_FAMILY.DESCRIPTION))
-                .where(METRIC_FAMILY.DESCRIPTION.isNull())
                 .returning(METRIC_FAMILY.fields()));
         }).map(r -> r.into(MetricFamilyPojo.class));
     }
@@ -9,4 +9,6 @@ public interface MetricSeriesRepository {
     Flux<MetricSeriesPojo> createOrUpdateMetricSeries(final List<MetricSeriesPojo> seriesPojos);
 
     Flux<MetricSeriesDto> getSeriesAndPointsByEntityOddrn(final String oddrn);
+
+    Flux<MetricSeriesPojo> getSeriesByEntityOddrn(final String oddrn);
 }
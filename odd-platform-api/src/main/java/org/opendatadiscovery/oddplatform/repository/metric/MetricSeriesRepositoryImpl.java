@@ -62,6 +62,16 @@ public class MetricSeriesRepositoryImpl implements MetricSeriesRepository {
             .map(this::mapSeriesDto);
     }
 
+    @Override
+    public Flux<MetricSeriesPojo> getSeriesByEntityOddrn(final String oddrn) {
+        final var query = DSL.select(METRIC_SERIES.fields())
+            .from(METRIC_SERIES)
+            .join(METRIC_ENTITY).on(METRIC_SERIES.METRIC_ENTITY_ID.eq(METRIC_ENTITY.ID))
+            .where(METRIC_ENTITY.ENTITY_ODDRN.eq(oddrn));
+        return jooqReactiveOperations.flux(query)
+            .map(r -> r.into(MetricSeriesPojo.class));
+    }
+
     private MetricSeriesDto mapSeriesDto(final Record r) {
         final Set<MetricPointPojo> points = jooqRecordHelper.extractAggRelation(r, "points", MetricPointPojo.class);
         final MetricSeriesPojo seriesPojo = r.into(METRIC_SERIES).into(MetricSeriesPojo.class);
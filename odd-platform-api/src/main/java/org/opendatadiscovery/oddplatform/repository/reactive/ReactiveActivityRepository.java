@@ -5,6 +5,7 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityDto;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.ActivityPojo;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -46,7 +47,8 @@ public interface ReactiveActivityRepository {
                                               final List<Long> tagIds,
                                               final List<Long> userIds,
                                               final ActivityEventTypeDto eventType,
-                                              final List<String> oddrns,
+                                              final long ownerId,
+                                              final LineageStreamKind streamKind,
                                               final Long lastEventId,
                                               final OffsetDateTime lastEventDateTime);
 
@@ -84,5 +86,6 @@ public interface ReactiveActivityRepository {
                                            final List<Long> tagIds,
                                            final List<Long> userIds,
                                            final ActivityEventTypeDto eventType,
-                                           final List<String> oddrns);
+                                           final long ownerId,
+                                           final LineageStreamKind streamKind);
 }
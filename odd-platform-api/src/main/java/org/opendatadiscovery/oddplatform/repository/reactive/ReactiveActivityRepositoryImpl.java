@@ -16,6 +16,7 @@ import org.jooq.SelectJoinStep;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityDto;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.ActivityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
@@ -32,6 +33,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
 import static org.opendatadiscovery.oddplatform.model.Tables.OWNER;
 import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNER_LINEAGE_DEPENDENCY;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.USER_OWNER_MAPPING;
 
@@ -110,13 +112,14 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
                                                      final List<Long> tagIds,
                                                      final List<Long> userIds,
                                                      final ActivityEventTypeDto eventType,
-                                                     final List<String> oddrns,
+                                                     final long ownerId,
+                                                     final LineageStreamKind streamKind,
                                                      final Long lastEventId,
                                                      final OffsetDateTime lastEventDateTime) {
         final var baseQuery = buildBaseQuery(datasourceId, namespaceId, tagIds, List.of());
         final List<Condition> conditions = getCommonConditions(beginDate, endDate, datasourceId, namespaceId, tagIds,
             List.of(), userIds, eventType);
-        conditions.add(DATA_ENTITY.ODDRN.in(oddrns));
+        conditions.add(dependentEntityCondition(ownerId, streamKind));
         return findActivities(baseQuery, conditions, lastEventId, lastEventDateTime, size);
     }
 
@@ -182,7 +185,8 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
                                                   final List<Long> tagIds,
                                                   final List<Long> userIds,
                                                   final ActivityEventTypeDto eventType,
-                                                  final List<String> oddrns) {
+                                                  final long ownerId,
+                                                  final LineageStreamKind streamKind) {
         final var countQuery = DSL.selectCount()
             .from(ACTIVITY)
             .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(ACTIVITY.DATA_ENTITY_ID))
@@ -190,10 +194,17 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
         addJoins(countQuery, datasourceId, namespaceId, tagIds, List.of());
         final List<Condition> conditions = getCommonConditions(beginDate, endDate, datasourceId, namespaceId, tagIds,
             List.of(), userIds, eventType);
-        conditions.add(DATA_ENTITY.ODDRN.in(oddrns));
+        conditions.add(dependentEntityCondition(ownerId, streamKind));
         return getActivityCount(countQuery, conditions);
     }
 
+    private Condition dependentEntityCondition(final long ownerId, final LineageStreamKind streamKind) {
+        return DATA_ENTITY.ODDRN.in(DSL.select(OWNER_LINEAGE_DEPENDENCY.DATA_ENTITY_ODDRN)
+            .from(OWNER_LINEAGE_DEPENDENCY)
+            .where(OWNER_LINEAGE_DEPENDENCY.OWNER_ID.eq(ownerId))
+            .and(OWNER_LINEAGE_DEPENDENCY.STREAM_KIND.eq(streamKind.name())));
+    }
+
     private SelectJoinStep<?> buildBaseQuery(final Long datasourceId, final Long namespaceId,
                                              final List<Long> tagIds, final List<Long> ownerIds) {
         final List<Field<?>> selectFields = Stream
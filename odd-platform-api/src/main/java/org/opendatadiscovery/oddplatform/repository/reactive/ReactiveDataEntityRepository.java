@@ -24,12 +24,14 @@ public interface ReactiveDataEntityRepository extends ReactiveCRUDRepository<Dat
 
     Mono<Boolean> existsByNamespaceId(final long namespaceId);
 
-    Mono<Long> incrementViewCount(final long id);
+    Mono<Integer> incrementViewCounts(final Map<Long, Long> viewCountDeltas);
 
     Mono<DataEntityDimensionsDto> getDimensions(final long id);
 
     Mono<List<DataEntityDimensionsDto>> getDimensions(Collection<String> oddrns);
 
+    Mono<List<DataEntityDimensionsDto>> getDimensionsByIds(final Collection<Long> ids);
+
     Mono<DataEntityDetailsDto> getDetails(final long id);
 
     default Flux<DataEntityPojo> listAllByOddrns(final Collection<String> oddrns, boolean includeHollow) {
@@ -85,9 +87,9 @@ public interface ReactiveDataEntityRepository extends ReactiveCRUDRepository<Dat
                                                     final int size,
                                                     final OwnerPojo owner);
 
+    Mono<List<Long>> findIdsByState(final FacetStateDto state, final int limit, final OwnerPojo owner);
+
     Mono<Map<String, Set<DataEntityPojo>>> getParentDEGs(final Collection<String> oddrns);
 
     Mono<DataEntityDetailsDto> getDataEntitySearchFields(final long dataEntityId);
-
-    Mono<String> getHighlightedResult(final String text, final String query);
 }
\ No newline at end of file
@@ -7,12 +7,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.Condition;
 import org.jooq.Field;
+import org.jooq.JSON;
 import org.jooq.Name;
 import org.jooq.OrderField;
 import org.jooq.Record;
@@ -44,17 +46,21 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static org.jooq.impl.DSL.coalesce;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.countDistinct;
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.jsonArray;
 import static org.jooq.impl.DSL.jsonArrayAgg;
 import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.one;
 import static org.opendatadiscovery.oddplatform.model.Tables.ALERT;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TO_TERM;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_ENTITY_RELATIONS;
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_PARENT_GROUP_RELATIONS;
+import static org.opendatadiscovery.oddplatform.model.Tables.LINEAGE;
 import static org.opendatadiscovery.oddplatform.model.Tables.METADATA_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.METADATA_FIELD_VALUE;
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
@@ -64,14 +70,18 @@ import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_GROUP_ENTITIES_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_VALUE_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_OWNERSHIP_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_OWNER_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_PARENT_GROUPS_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TAGS_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TAGS_RELATION_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_TITLE_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.CONSUMERS_COUNT_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.DATA_ENTITY_CTE_NAME;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.GROUP_CHILDREN_COUNT_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.HAS_ALERTS_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.DATA_ENTITY_CONDITIONS;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.RANK_FIELD_ALIAS;
@@ -140,12 +150,28 @@ public class ReactiveDataEntityRepositoryImpl
     }
 
     @Override
-    public Mono<Long> incrementViewCount(final long id) {
+    public Mono<Integer> incrementViewCounts(final Map<Long, Long> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        // ids are sorted to lock rows in the same order as ingestion bulk updates do
+        final List<Map.Entry<Long, Long>> deltas = viewCountDeltas.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .toList();
+        final Long[] ids = deltas.stream().map(Map.Entry::getKey).toArray(Long[]::new);
+        final Long[] increments = deltas.stream().map(Map.Entry::getValue).toArray(Long[]::new);
+
+        final Table<?> deltasTable = DSL.table("unnest({0}, {1})", DSL.val(ids), DSL.val(increments))
+            .as("deltas", "id", "delta");
+        final Field<Long> deltaId = deltasTable.field("id", Long.class);
+        final Field<Long> delta = deltasTable.field("delta", Long.class);
+
         final var query = DSL.update(DATA_ENTITY)
-            .set(DATA_ENTITY.VIEW_COUNT, DATA_ENTITY.VIEW_COUNT.plus(1))
-            .where(DATA_ENTITY.ID.eq(id))
-            .returningResult(DATA_ENTITY.VIEW_COUNT);
-        return jooqReactiveOperations.mono(query).map(Record1::component1);
+            .set(DATA_ENTITY.VIEW_COUNT, DATA_ENTITY.VIEW_COUNT.plus(delta))
+            .from(deltasTable)
+            .where(DATA_ENTITY.ID.eq(deltaId));
+        return jooqReactiveOperations.mono(query);
     }
 
     @Override
@@ -169,12 +195,26 @@ public class ReactiveDataEntityRepositoryImpl
             .collectList();
     }
 
+    @Override
+    public Mono<List<DataEntityDimensionsDto>> getDimensionsByIds(final Collection<Long> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return Mono.just(List.of());
+        }
+        final DataEntityCTEQueryConfig cteConfig = DataEntityCTEQueryConfig.builder()
+            .conditions(List.of(DATA_ENTITY.ID.in(ids)))
+            .build();
+        final var query = baseDimensionsSelect(cteConfig);
+        return jooqReactiveOperations.flux(query)
+            .map(dataEntityDtoMapper::mapDimensionRecord)
+            .collectList();
+    }
+
     @Override
     public Mono<DataEntityDetailsDto> getDetails(final long id) {
         final DataEntityCTEQueryConfig cteConfig = DataEntityCTEQueryConfig.builder()
             .conditions(List.of(DATA_ENTITY.ID.eq(id)))
             .build();
-        final var query = baseDimensionsSelect(cteConfig);
+        final var query = baseDimensionsSelect(cteConfig, this::detailsRelationsFields);
         return jooqReactiveOperations.mono(query)
             .map(dataEntityDtoMapper::mapDetailsRecord);
     }
@@ -585,6 +625,56 @@ public class ReactiveDataEntityRepositoryImpl
             .collectList();
     }
 
+    @Override
+    public Mono<List<Long>> findIdsByState(final FacetStateDto state, final int limit, final OwnerPojo owner) {
+        final Pair<List<Condition>, List<Condition>> conditionsPair = jooqFTSHelper.resultFacetStateConditions(state);
+        final var builder = DataEntityCTEQueryConfig.builder()
+            .conditions(conditionsPair.getLeft());
+        if (StringUtils.isNotEmpty(state.getQuery())) {
+            builder.fts(new DataEntityCTEQueryConfig.Fts(state.getQuery()));
+        }
+        final DataEntityCTEQueryConfig cteConfig = builder.build();
+
+        final Name deCteName = name(DATA_ENTITY_CTE_NAME);
+        final Select<Record> dataEntitySelect = cteDataEntitySelect(cteConfig);
+        final Table<Record> deCte = dataEntitySelect.asTable(deCteName);
+
+        final List<Condition> conditions = new ArrayList<>(conditionsPair.getRight());
+        if (owner != null) {
+            conditions.add(OWNER.ID.eq(owner.getId()));
+        }
+
+        final Field<Long> deIdField = jooqQueryHelper.getField(deCte, DATA_ENTITY.ID);
+
+        // same filtering and ranking as findByState, but only ids are selected and aggregations are skipped
+        final Table<?> fromTable = DSL.table(deCteName)
+            .leftJoin(DATA_SOURCE)
+            .on(DATA_SOURCE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.DATA_SOURCE_ID)))
+            .leftJoin(NAMESPACE).on(NAMESPACE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.NAMESPACE_ID)))
+            .or(NAMESPACE.ID.eq(DATA_SOURCE.NAMESPACE_ID))
+            .leftJoin(TAG_TO_DATA_ENTITY).on(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.eq(deIdField))
+            .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(deIdField))
+            .leftJoin(OWNER).on(OWNER.ID.eq(OWNERSHIP.OWNER_ID))
+            .leftJoin(DATA_ENTITY_TO_TERM)
+            .on(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(deIdField))
+            .and(DATA_ENTITY_TO_TERM.DELETED_AT.isNull())
+            .leftJoin(GROUP_ENTITY_RELATIONS)
+            .on(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ODDRN)));
+
+        final var query = DSL.with(deCteName)
+            .asMaterialized(dataEntitySelect)
+            .select(deIdField)
+            .from(fromTable)
+            .where(conditions)
+            .groupBy(deCte.fields())
+            .orderBy(getOrderFields(cteConfig, deCte))
+            .limit(DSL.val(limit));
+
+        return jooqReactiveOperations.flux(query)
+            .map(Record1::value1)
+            .collectList();
+    }
+
     @Override
     public Mono<Map<String, Set<DataEntityPojo>>> getParentDEGs(final Collection<String> oddrns) {
         final Field<String> degOddrnField = field("deg_oddrn", String.class);
@@ -653,16 +743,6 @@ public class ReactiveDataEntityRepositoryImpl
             .map(dataEntityDtoMapper::mapDataEntitySearchFieldsRecord);
     }
 
-    @Override
-    public Mono<String> getHighlightedResult(final String text, final String query) {
-        final String tsQuery = jooqFTSHelper.tsQuery(query);
-        final String sql = "ts_headline('english', '%s', to_tsquery('%s'), 'HighlightAll=true')"
-            .formatted(text, tsQuery);
-        final var select = DSL.select(field(sql, String.class));
-        return jooqReactiveOperations.mono(select)
-            .map(Record1::value1);
-    }
-
     @Override
     protected List<Field<?>> getNonUpdatableFields() {
         final List<Field<?>> dataEntityNonUpdatableFields = List.of(
@@ -697,7 +777,61 @@ public class ReactiveDataEntityRepositoryImpl
             .and(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode())))).as(HAS_ALERTS_FIELD);
     }
 
+    /**
+     * Correlated subqueries which fold the relations shown on the details page into the dimensions query,
+     * so they are fetched within the same roundtrip instead of a separate query per relation.
+     */
+    private List<Field<?>> detailsRelationsFields(final Table<Record> deCte) {
+        final Field<Long> deId = jooqQueryHelper.getField(deCte, DATA_ENTITY.ID);
+        final Field<String> deOddrn = jooqQueryHelper.getField(deCte, DATA_ENTITY.ODDRN);
+
+        final Field<JSON> tags = field(DSL.select(jsonArrayAgg(field(TAG.asterisk().toString())))
+            .from(TAG_TO_DATA_ENTITY)
+            .join(TAG).on(TAG.ID.eq(TAG_TO_DATA_ENTITY.TAG_ID))
+            .where(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.eq(deId))
+            .and(TAG.DELETED_AT.isNull()));
+
+        final Field<JSON> tagRelations = field(DSL.select(jsonArrayAgg(field(TAG_TO_DATA_ENTITY.asterisk().toString())))
+            .from(TAG_TO_DATA_ENTITY)
+            .join(TAG).on(TAG.ID.eq(TAG_TO_DATA_ENTITY.TAG_ID))
+            .where(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.eq(deId))
+            .and(TAG.DELETED_AT.isNull()));
+
+        final Field<JSON> parentGroups = field(DSL.select(jsonArrayAgg(field(DATA_ENTITY.asterisk().toString())))
+            .from(DATA_ENTITY)
+            .where(DATA_ENTITY.ODDRN.in(DSL.select(GROUP_ENTITY_RELATIONS.GROUP_ODDRN)
+                .from(GROUP_ENTITY_RELATIONS)
+                .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.eq(deOddrn)))));
+
+        final Field<JSON> groupEntities = field(DSL.select(jsonArrayAgg(field(DATA_ENTITY.asterisk().toString())))
+            .from(GROUP_ENTITY_RELATIONS)
+            .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN))
+            .where(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.eq(deOddrn)));
+
+        final Field<Long> groupChildrenCount = field(DSL.select(count(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN))
+            .from(GROUP_PARENT_GROUP_RELATIONS)
+            .where(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN.eq(deOddrn))).cast(Long.class);
+
+        final Field<Long> consumersCount = field(DSL.select(count(one()))
+            .from(LINEAGE)
+            .where(LINEAGE.PARENT_ODDRN.eq(deOddrn))).cast(Long.class);
+
+        return List.of(
+            coalesce(tags, jsonArray()).as(AGG_TAGS_FIELD),
+            coalesce(tagRelations, jsonArray()).as(AGG_TAGS_RELATION_FIELD),
+            coalesce(parentGroups, jsonArray()).as(AGG_PARENT_GROUPS_FIELD),
+            coalesce(groupEntities, jsonArray()).as(AGG_GROUP_ENTITIES_FIELD),
+            groupChildrenCount.as(GROUP_CHILDREN_COUNT_FIELD),
+            consumersCount.as(CONSUMERS_COUNT_FIELD)
+        );
+    }
+
     private Select<Record> baseDimensionsSelect(final DataEntityCTEQueryConfig cteConfig) {
+        return baseDimensionsSelect(cteConfig, deCte -> List.of());
+    }
+
+    private Select<Record> baseDimensionsSelect(final DataEntityCTEQueryConfig cteConfig,
+                                                final Function<Table<Record>, List<Field<?>>> extraFields) {
         final Name deCteName = name(DATA_ENTITY_CTE_NAME);
         final Select<Record> dataEntitySelect = cteDataEntitySelect(cteConfig);
         final Table<Record> deCte = dataEntitySelect.asTable(deCteName);
@@ -706,11 +840,12 @@ public class ReactiveDataEntityRepositoryImpl
             .flatMap(Arrays::stream)
             .toList();
 
-        final List<Field<?>> aggregatedFields = List.of(
+        final List<Field<?>> aggregatedFields = new ArrayList<>(List.of(
             jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD),
             jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD),
             jsonArrayAgg(field(OWNERSHIP.asterisk().toString())).as(AGG_OWNERSHIP_FIELD),
-            hasAlerts(deCte));
+            hasAlerts(deCte)));
+        aggregatedFields.addAll(extraFields.apply(deCte));
 
         final Table<?> fromTable = DSL.table(deCteName)
             .leftJoin(DATA_SOURCE)
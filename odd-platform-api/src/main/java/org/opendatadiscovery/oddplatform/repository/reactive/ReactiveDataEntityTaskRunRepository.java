@@ -1,15 +1,21 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityRunStatus;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTaskRunPojo;
 import org.opendatadiscovery.oddplatform.utils.Page;
+import org.opendatadiscovery.oddplatform.utils.Pair;
 import reactor.core.publisher.Mono;
 
 public interface ReactiveDataEntityTaskRunRepository {
-    Mono<Map<String, Boolean>> existsByOddrns(final List<String> oddrns);
+    /**
+     * Task runs are identified by their oddrn and start time, the key of the partitioned table.
+     *
+     * @return whether a run with the same oddrn and start time is stored, by oddrn and start time
+     */
+    Mono<Map<Pair<String, LocalDateTime>, Boolean>> existsByKeys(final Collection<DataEntityTaskRunPojo> pojos);
 
     Mono<Void> bulkCreate(final Collection<DataEntityTaskRunPojo> pojos);
 
@@ -1,8 +1,10 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -12,6 +14,8 @@ import org.jooq.Field;
 import org.jooq.InsertSetStep;
 import org.jooq.Record;
 import org.jooq.Record1;
+import org.jooq.Record2;
+import org.jooq.Row2;
 import org.jooq.Select;
 import org.jooq.SelectConditionStep;
 import org.jooq.SortOrder;
@@ -19,12 +23,14 @@ import org.jooq.Table;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityRunStatus;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTaskLastRunPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTaskRunPojo;
 import org.opendatadiscovery.oddplatform.model.tables.records.DataEntityTaskLastRunRecord;
 import org.opendatadiscovery.oddplatform.model.tables.records.DataEntityTaskRunRecord;
 import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
 import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
 import org.opendatadiscovery.oddplatform.utils.Page;
 import org.opendatadiscovery.oddplatform.utils.Pair;
 import org.springframework.stereotype.Repository;
@@ -40,17 +46,31 @@ import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TASK_RU
 public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEntityTaskRunRepository {
     private final JooqReactiveOperations jooqReactiveOperations;
     private final JooqQueryHelper jooqQueryHelper;
+    private final HousekeepingTTLProperties housekeepingTTLProperties;
 
     @Override
-    public Mono<Map<String, Boolean>> existsByOddrns(final List<String> oddrns) {
-        final var selectQuery = DSL.select(DATA_ENTITY_TASK_RUN.ODDRN)
+    public Mono<Map<Pair<String, LocalDateTime>, Boolean>> existsByKeys(
+        final Collection<DataEntityTaskRunPojo> pojos) {
+        if (pojos.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        final List<Row2<String, LocalDateTime>> keys = pojos.stream()
+            .map(p -> DSL.row(p.getOddrn(), p.getStartTime()))
+            .toList();
+
+        final var selectQuery = DSL.select(DATA_ENTITY_TASK_RUN.ODDRN, DATA_ENTITY_TASK_RUN.START_TIME)
             .from(DATA_ENTITY_TASK_RUN)
-            .where(DATA_ENTITY_TASK_RUN.ODDRN.in(oddrns));
+            .where(startTimeRange(pojos.stream().map(DataEntityTaskRunPojo::getStartTime).toList()))
+            .and(DSL.row(DATA_ENTITY_TASK_RUN.ODDRN, DATA_ENTITY_TASK_RUN.START_TIME).in(keys));
 
         return jooqReactiveOperations.flux(selectQuery)
-            .map(Record1::component1)
+            .map(r -> Pair.of(r.component1(), r.component2()))
             .collect(Collectors.toSet())
-            .map(existingOddrns -> oddrns.stream().collect(Collectors.toMap(identity(), existingOddrns::contains)));
+            .map(existingKeys -> pojos.stream()
+                .map(p -> Pair.of(p.getOddrn(), p.getStartTime()))
+                .distinct()
+                .collect(Collectors.toMap(identity(), existingKeys::contains)));
     }
 
     @Override
@@ -88,7 +108,10 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
             final var query = DSL.update(DATA_ENTITY_TASK_RUN)
                 .set(fields)
                 .from(table)
-                .where(DATA_ENTITY_TASK_RUN.ODDRN.eq(table.field(DATA_ENTITY_TASK_RUN.ODDRN.getName(), String.class)))
+                .where(startTimeRange(rs.stream().map(DataEntityTaskRunRecord::getStartTime).toList()))
+                .and(DATA_ENTITY_TASK_RUN.ODDRN.eq(table.field(DATA_ENTITY_TASK_RUN.ODDRN.getName(), String.class)))
+                .and(DATA_ENTITY_TASK_RUN.START_TIME
+                    .eq(table.field(DATA_ENTITY_TASK_RUN.START_TIME.getName(), LocalDateTime.class)))
                 .returning();
 
             return jooqReactiveOperations.flux(query);
@@ -102,7 +125,12 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
             .filter(tr -> tr.getEndTime() != null)
             .collect(Collectors.toMap(
                 DataEntityTaskRunPojo::getTaskOddrn,
-                tr -> new DataEntityTaskLastRunPojo(tr.getTaskOddrn(), tr.getOddrn(), tr.getEndTime(), tr.getStatus()),
+                tr -> new DataEntityTaskLastRunPojo()
+                    .setTaskOddrn(tr.getTaskOddrn())
+                    .setLastTaskRunOddrn(tr.getOddrn())
+                    .setLastTaskRunStartTime(tr.getStartTime())
+                    .setEndTime(tr.getEndTime())
+                    .setStatus(tr.getStatus()),
                 (tr1, tr2) -> tr1.getEndTime().isAfter(tr2.getEndTime()) ? tr1 : tr2
             ));
 
@@ -146,6 +174,8 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
                         .set(Map.of(
                             DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_ODDRN,
                             DSL.excluded(DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_ODDRN),
+                            DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_START_TIME,
+                            DSL.excluded(DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_START_TIME),
                             DATA_ENTITY_TASK_LAST_RUN.END_TIME,
                             DSL.excluded(DATA_ENTITY_TASK_LAST_RUN.END_TIME),
                             DATA_ENTITY_TASK_LAST_RUN.STATUS,
@@ -167,6 +197,13 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
         if (status != null) {
             conditions.add(DATA_ENTITY_TASK_RUN.STATUS.eq(status.name()));
         }
+        // runs older than the retention period are about to be dropped with their partitions anyway,
+        // the bound lets the planner skip those partitions and the default one
+        if (housekeepingTTLProperties.getTaskRunsDays() > 0) {
+            conditions.add(DATA_ENTITY_TASK_RUN.START_TIME.greaterOrEqual(
+                DateTimeUtil.generateNow().toLocalDate().minusDays(housekeepingTTLProperties.getTaskRunsDays())
+                    .atStartOfDay()));
+        }
 
         final SelectConditionStep<Record> baseQuery = DSL
             .select(DATA_ENTITY_TASK_RUN.fields())
@@ -193,14 +230,39 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
 
     @Override
     public Mono<Map<String, DataEntityTaskRunPojo>> getLatestRunsMap(final Collection<String> dataQualityTestOddrns) {
-        final var lastTaskRuns = DSL.select(DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_ODDRN)
+        final var lastTaskRunsQuery = DSL
+            .select(DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_ODDRN, DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_START_TIME)
             .from(DATA_ENTITY_TASK_LAST_RUN)
-            .where(DATA_ENTITY_TASK_LAST_RUN.TASK_ODDRN.in(dataQualityTestOddrns));
-        final var query = DSL.selectFrom(DATA_ENTITY_TASK_RUN)
-            .where(DATA_ENTITY_TASK_RUN.ODDRN.in(lastTaskRuns));
-        return jooqReactiveOperations.flux(query)
-            .map(r -> r.into(DataEntityTaskRunPojo.class))
-            .collectMap(DataEntityTaskRunPojo::getTaskOddrn, identity());
+            .where(DATA_ENTITY_TASK_LAST_RUN.TASK_ODDRN.in(dataQualityTestOddrns))
+            .and(DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_START_TIME.isNotNull());
+
+        // start times are inlined as a range, so only partitions holding the last runs are scanned
+        return jooqReactiveOperations.flux(lastTaskRunsQuery)
+            .collectList()
+            .flatMap(lastTaskRuns -> {
+                if (lastTaskRuns.isEmpty()) {
+                    return Mono.just(Map.<String, DataEntityTaskRunPojo>of());
+                }
+
+                final List<Row2<String, LocalDateTime>> keys = lastTaskRuns.stream()
+                    .map(r -> DSL.row(r.value1(), r.value2()))
+                    .toList();
+                final List<LocalDateTime> startTimes = lastTaskRuns.stream().map(Record2::value2).toList();
+                final var query = DSL.selectFrom(DATA_ENTITY_TASK_RUN)
+                    .where(startTimeRange(startTimes))
+                    .and(DSL.row(DATA_ENTITY_TASK_RUN.ODDRN, DATA_ENTITY_TASK_RUN.START_TIME).in(keys));
+
+                return jooqReactiveOperations.flux(query)
+                    .map(r -> r.into(DataEntityTaskRunPojo.class))
+                    .collectMap(DataEntityTaskRunPojo::getTaskOddrn, identity());
+            });
+    }
+
+    /**
+     * Bounds the start time by constants, so the planner prunes partitions which can't hold the given runs.
+     */
+    private Condition startTimeRange(final List<LocalDateTime> startTimes) {
+        return DATA_ENTITY_TASK_RUN.START_TIME.between(Collections.min(startTimes), Collections.max(startTimes));
     }
 
     private Mono<Long> fetchCount(final Select<Record> query) {
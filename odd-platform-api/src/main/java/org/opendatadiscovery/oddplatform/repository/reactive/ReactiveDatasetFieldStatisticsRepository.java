@@ -0,0 +1,23 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.List;
+import org.opendatadiscovery.oddplatform.dto.dataset.DatasetFieldStatisticsDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies dataset field statistics in bulk. Statistics are staged into transaction scoped temporary tables first,
+ * so all methods must be called within the same transaction, {@link #stage(List)} being the first one.
+ */
+public interface ReactiveDatasetFieldStatisticsRepository {
+    Mono<Void> stage(final List<DatasetFieldStatisticsDto> statistics);
+
+    Mono<Integer> applyStatistics();
+
+    /**
+     * Replaces external statistics label relations of the staged dataset fields with the staged ones.
+     *
+     * @return ids of dataset fields which relations have been changed
+     */
+    Flux<Long> applyStatisticsLabels();
+}
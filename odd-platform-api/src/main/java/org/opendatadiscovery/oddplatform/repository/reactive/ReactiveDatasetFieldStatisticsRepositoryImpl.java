@@ -0,0 +1,175 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.opendatadiscovery.oddplatform.dto.LabelOrigin;
+import org.opendatadiscovery.oddplatform.dto.dataset.DatasetFieldStatisticsDto;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.partitionBy;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_STRUCTURE;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_VERSION;
+import static org.opendatadiscovery.oddplatform.model.Tables.LABEL_TO_DATASET_FIELD;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveDatasetFieldStatisticsRepositoryImpl implements ReactiveDatasetFieldStatisticsRepository {
+    private static final String STATS_STAGING_NAME = "dataset_field_stats_staging";
+    private static final String LABEL_STAGING_NAME = "dataset_field_stats_label_staging";
+
+    private static final Table<Record> STATS_STAGING = DSL.table(name(STATS_STAGING_NAME));
+    private static final Field<String> STATS_STAGING_ODDRN =
+        DSL.field(name(STATS_STAGING_NAME, "oddrn"), SQLDataType.VARCHAR);
+    private static final Field<JSONB> STATS_STAGING_STATS =
+        DSL.field(name(STATS_STAGING_NAME, "stats"), SQLDataType.JSONB);
+    private static final Field<Long> STATS_STAGING_FIELD_ID =
+        DSL.field(name(STATS_STAGING_NAME, "dataset_field_id"), SQLDataType.BIGINT);
+
+    private static final Table<Record> LABEL_STAGING = DSL.table(name(LABEL_STAGING_NAME));
+    private static final Field<String> LABEL_STAGING_ODDRN =
+        DSL.field(name(LABEL_STAGING_NAME, "oddrn"), SQLDataType.VARCHAR);
+    private static final Field<Long> LABEL_STAGING_LABEL_ID =
+        DSL.field(name(LABEL_STAGING_NAME, "label_id"), SQLDataType.BIGINT);
+
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    @Override
+    public Mono<Void> stage(final List<DatasetFieldStatisticsDto> statistics) {
+        final List<Map.Entry<String, Long>> labels = statistics.stream()
+            .flatMap(s -> s.labelIds().stream().map(labelId -> Map.entry(s.datasetFieldOddrn(), labelId)))
+            .toList();
+
+        return createStagingTables()
+            .then(jooqReactiveOperations.executeInPartition(statistics, this::stageStatistics))
+            .then(jooqReactiveOperations.executeInPartition(labels, this::stageLabels))
+            .then(resolveDatasetFieldIds())
+            .then();
+    }
+
+    @Override
+    public Mono<Integer> applyStatistics() {
+        final var query = DSL.update(DATASET_FIELD)
+            .set(DATASET_FIELD.STATS, STATS_STAGING_STATS)
+            .from(STATS_STAGING)
+            .where(DATASET_FIELD.ID.eq(STATS_STAGING_FIELD_ID));
+
+        return jooqReactiveOperations.mono(query);
+    }
+
+    @Override
+    public Flux<Long> applyStatisticsLabels() {
+        final String statisticsOrigin = LabelOrigin.EXTERNAL_STATISTICS.toString();
+
+        final var deleteQuery = DSL.deleteFrom(LABEL_TO_DATASET_FIELD)
+            .using(STATS_STAGING)
+            .where(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID.eq(STATS_STAGING_FIELD_ID))
+            .and(LABEL_TO_DATASET_FIELD.ORIGIN.eq(statisticsOrigin))
+            .andNotExists(DSL.selectOne()
+                .from(LABEL_STAGING)
+                .where(LABEL_STAGING_ODDRN.eq(STATS_STAGING_ODDRN))
+                .and(LABEL_STAGING_LABEL_ID.eq(LABEL_TO_DATASET_FIELD.LABEL_ID)))
+            .returning(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID);
+
+        // relations which already exist with any origin are left intact, like the label relations upsert does
+        final var insertQuery = DSL.insertInto(LABEL_TO_DATASET_FIELD,
+                LABEL_TO_DATASET_FIELD.LABEL_ID, LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID,
+                LABEL_TO_DATASET_FIELD.ORIGIN)
+            .select(DSL.selectDistinct(LABEL_STAGING_LABEL_ID, STATS_STAGING_FIELD_ID, DSL.val(statisticsOrigin))
+                .from(LABEL_STAGING)
+                .join(STATS_STAGING).on(STATS_STAGING_ODDRN.eq(LABEL_STAGING_ODDRN))
+                .where(STATS_STAGING_FIELD_ID.isNotNull()))
+            .onConflictDoNothing()
+            .returning(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID);
+
+        return jooqReactiveOperations.flux(deleteQuery)
+            .concatWith(jooqReactiveOperations.flux(insertQuery))
+            .map(r -> r.get(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID));
+    }
+
+    private Mono<Void> createStagingTables() {
+        final var statsQuery = DSL.query("""
+            create temporary table if not exists {0} (
+                oddrn varchar(255) not null,
+                stats jsonb not null,
+                dataset_field_id bigint
+            ) on commit drop""", STATS_STAGING);
+        final var labelsQuery = DSL.query("""
+            create temporary table if not exists {0} (
+                oddrn varchar(255) not null,
+                label_id bigint not null
+            ) on commit drop""", LABEL_STAGING);
+
+        return jooqReactiveOperations.mono(statsQuery)
+            .then(jooqReactiveOperations.mono(labelsQuery))
+            .then();
+    }
+
+    // every partition is bound as two arrays instead of a bind parameter per value
+    private Mono<Integer> stageStatistics(final List<DatasetFieldStatisticsDto> statistics) {
+        final String[] oddrns = statistics.stream()
+            .map(DatasetFieldStatisticsDto::datasetFieldOddrn)
+            .toArray(String[]::new);
+        final String[] stats = statistics.stream()
+            .map(s -> s.stats().data())
+            .toArray(String[]::new);
+
+        final Table<?> staged = DSL.table("unnest({0}, {1})", DSL.val(oddrns), DSL.val(stats))
+            .as("staged", "oddrn", "stats");
+
+        final var query = DSL.insertInto(STATS_STAGING, STATS_STAGING_ODDRN, STATS_STAGING_STATS)
+            .select(DSL.select(staged.field("oddrn", String.class), staged.field("stats", String.class)
+                    .cast(SQLDataType.JSONB))
+                .from(staged));
+
+        return jooqReactiveOperations.mono(query);
+    }
+
+    private Mono<Integer> stageLabels(final List<Map.Entry<String, Long>> labels) {
+        final String[] oddrns = labels.stream().map(Map.Entry::getKey).toArray(String[]::new);
+        final Long[] labelIds = labels.stream().map(Map.Entry::getValue).toArray(Long[]::new);
+
+        final Table<?> staged = DSL.table("unnest({0}, {1})", DSL.val(oddrns), DSL.val(labelIds))
+            .as("staged", "oddrn", "label_id");
+
+        final var query = DSL.insertInto(LABEL_STAGING, LABEL_STAGING_ODDRN, LABEL_STAGING_LABEL_ID)
+            .select(DSL.select(staged.field("oddrn", String.class), staged.field("label_id", Long.class))
+                .from(staged));
+
+        return jooqReactiveOperations.mono(query);
+    }
+
+    // statistics are applied to the dataset field of the latest dataset version only
+    private Mono<Integer> resolveDatasetFieldIds() {
+        final Field<Long> version = DATASET_VERSION.VERSION.as("version");
+        final Field<Long> maxVersion = DSL.max(DATASET_VERSION.VERSION)
+            .over(partitionBy(DATASET_FIELD.ODDRN))
+            .as("max_version");
+
+        final Table<?> versions = DSL.select(DATASET_FIELD.ODDRN, DATASET_FIELD.ID, version, maxVersion)
+            .from(DATASET_FIELD)
+            .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DATASET_FIELD.ID))
+            .join(DATASET_VERSION).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
+            .where(DATASET_FIELD.ODDRN.in(DSL.select(STATS_STAGING_ODDRN).from(STATS_STAGING)))
+            .asTable("versions");
+
+        final var query = DSL.update(STATS_STAGING)
+            .set(STATS_STAGING_FIELD_ID, versions.field(DATASET_FIELD.ID))
+            .from(versions)
+            .where(versions.field(DATASET_FIELD.ODDRN).eq(STATS_STAGING_ODDRN))
+            .and(versions.field(version).eq(versions.field(maxVersion)));
+
+        return jooqReactiveOperations.mono(query);
+    }
+}
@@ -0,0 +1,25 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.time.Duration;
+import org.jooq.JSONB;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveIngestionJobRepository {
+    Mono<IngestionJobPojo> create(final IngestionJobPojo pojo);
+
+    Mono<IngestionJobPojo> get(final long id);
+
+    /**
+     * Claims the oldest queued job and marks it as running. A job is claimed only when there are no earlier
+     * unfinished jobs of the same data source, which preserves per data source ingestion ordering.
+     *
+     * @param runningTimeout - period after which a running job is considered abandoned and can be claimed again
+     * @return - claimed job
+     */
+    Mono<IngestionJobPojo> claimNext(final Duration runningTimeout);
+
+    Mono<Void> markAsDone(final long id, final JSONB phaseTimings);
+
+    Mono<Void> markAsFailed(final long id, final String errorMessage, final JSONB phaseTimings);
+}
@@ -0,0 +1,102 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.impl.DSL;
+import org.jooq.types.DayToSecond;
+import org.opendatadiscovery.oddplatform.model.tables.IngestionJob;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.IngestionJobRecord;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatusDto.DONE;
+import static org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatusDto.FAILED;
+import static org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatusDto.QUEUED;
+import static org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatusDto.RUNNING;
+import static org.opendatadiscovery.oddplatform.model.Tables.INGESTION_JOB;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveIngestionJobRepositoryImpl implements ReactiveIngestionJobRepository {
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    @Override
+    public Mono<IngestionJobPojo> create(final IngestionJobPojo pojo) {
+        final IngestionJobRecord record = jooqReactiveOperations.newRecord(INGESTION_JOB, pojo);
+
+        return jooqReactiveOperations
+            .mono(DSL.insertInto(INGESTION_JOB).set(record).returning())
+            .map(r -> r.into(IngestionJobPojo.class));
+    }
+
+    @Override
+    public Mono<IngestionJobPojo> get(final long id) {
+        final var query = DSL.selectFrom(INGESTION_JOB).where(INGESTION_JOB.ID.eq(id));
+
+        return jooqReactiveOperations.mono(query).map(r -> r.into(IngestionJobPojo.class));
+    }
+
+    @Override
+    public Mono<IngestionJobPojo> claimNext(final Duration runningTimeout) {
+        // lease expiry is compared with started_at, which is set by the database, so database time is used as well
+        final Field<OffsetDateTime> abandonedThreshold =
+            DSL.currentOffsetDateTime().minus(DSL.inline(DayToSecond.valueOf(runningTimeout)));
+        final IngestionJob previous = INGESTION_JOB.as("previous");
+
+        final var previousUnfinished = DSL.selectOne()
+            .from(previous)
+            .where(previous.DATA_SOURCE_ODDRN.eq(INGESTION_JOB.DATA_SOURCE_ODDRN))
+            .and(previous.ID.lt(INGESTION_JOB.ID))
+            .and(previous.STATUS.eq(QUEUED.getCode())
+                .or(previous.STATUS.eq(RUNNING.getCode()).and(previous.STARTED_AT.gt(abandonedThreshold))));
+
+        final var candidate = DSL.select(INGESTION_JOB.ID)
+            .from(INGESTION_JOB)
+            .where(INGESTION_JOB.STATUS.eq(QUEUED.getCode())
+                .or(INGESTION_JOB.STATUS.eq(RUNNING.getCode())
+                    .and(INGESTION_JOB.STARTED_AT.le(abandonedThreshold))))
+            .andNotExists(previousUnfinished)
+            .orderBy(INGESTION_JOB.ID)
+            .limit(1)
+            .forUpdate()
+            .skipLocked();
+
+        final var query = DSL.update(INGESTION_JOB)
+            .set(INGESTION_JOB.STATUS, RUNNING.getCode())
+            .set(INGESTION_JOB.STARTED_AT, DSL.currentOffsetDateTime())
+            .where(INGESTION_JOB.ID.eq(candidate))
+            .returning();
+
+        return jooqReactiveOperations.mono(query).map(r -> r.into(IngestionJobPojo.class));
+    }
+
+    @Override
+    public Mono<Void> markAsDone(final long id, final JSONB phaseTimings) {
+        // payload isn't needed anymore, so it is dropped to keep the queue table small
+        final var query = DSL.update(INGESTION_JOB)
+            .set(INGESTION_JOB.STATUS, DONE.getCode())
+            .set(INGESTION_JOB.PAYLOAD, (JSONB) null)
+            .set(INGESTION_JOB.PHASE_TIMINGS, phaseTimings)
+            .set(INGESTION_JOB.FINISHED_AT, DSL.currentOffsetDateTime())
+            .where(INGESTION_JOB.ID.eq(id));
+
+        return jooqReactiveOperations.mono(query).then();
+    }
+
+    @Override
+    public Mono<Void> markAsFailed(final long id, final String errorMessage, final JSONB phaseTimings) {
+        final var query = DSL.update(INGESTION_JOB)
+            .set(INGESTION_JOB.STATUS, FAILED.getCode())
+            .set(INGESTION_JOB.ERROR_MESSAGE, errorMessage)
+            .set(INGESTION_JOB.PHASE_TIMINGS, phaseTimings)
+            .set(INGESTION_JOB.FINISHED_AT, DSL.currentOffsetDateTime())
+            .where(INGESTION_JOB.ID.eq(id));
+
+        return jooqReactiveOperations.mono(query).then();
+    }
+}
@@ -30,4 +30,14 @@ public interface ReactiveLineageRepository extends ReactiveCRUDRepository<Lineag
     Mono<Map<String, Integer>> getChildrenCount(final Set<String> oddrns);
 
     Mono<Map<String, Integer>> getParentCount(final Set<String> oddrns);
+
+    Flux<LineagePojo> listAllRelations();
+
+    Mono<Long> countRelations();
+
+    /**
+     * Marks lineage changes of the current transaction as already applied by the given lineage graph index,
+     * so the index doesn't rebuild itself once it gets notified about them.
+     */
+    Mono<Void> markChangesAppliedBy(final String indexInstanceId);
 }
@@ -11,6 +11,7 @@ import org.jooq.Field;
 import org.jooq.InsertValuesStep3;
 import org.jooq.Name;
 import org.jooq.Record;
+import org.jooq.Record1;
 import org.jooq.Record2;
 import org.jooq.TableField;
 import org.jooq.impl.DSL;
@@ -37,6 +38,9 @@ import static org.opendatadiscovery.oddplatform.model.Tables.LINEAGE;
 @Repository
 public class ReactiveLineageRepositoryImpl extends ReactiveAbstractCRUDRepository<LineageRecord, LineagePojo>
     implements ReactiveLineageRepository {
+    // read by the lineage_changed trigger
+    private static final String INDEX_INSTANCE_SETTING = "odd.lineage_index_instance";
+
     public ReactiveLineageRepositoryImpl(final JooqReactiveOperations jooqReactiveOperations,
                                          final JooqQueryHelper jooqQueryHelper) {
         super(jooqReactiveOperations, jooqQueryHelper, LINEAGE, LineagePojo.class);
@@ -129,6 +133,27 @@ public class ReactiveLineageRepositoryImpl extends ReactiveAbstractCRUDRepositor
             .map(r -> r.into(LineagePojo.class));
     }
 
+    @Override
+    public Flux<LineagePojo> listAllRelations() {
+        final var query = DSL.select(LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN, LINEAGE.ESTABLISHER_ODDRN)
+            .from(LINEAGE);
+        return jooqReactiveOperations.flux(query).map(r -> r.into(LineagePojo.class));
+    }
+
+    @Override
+    public Mono<Long> countRelations() {
+        final var query = DSL.select(count(one()).cast(Long.class)).from(LINEAGE);
+        return jooqReactiveOperations.mono(query).map(Record1::value1);
+    }
+
+    @Override
+    public Mono<Void> markChangesAppliedBy(final String indexInstanceId) {
+        // the setting is local to the current transaction
+        final var query = DSL.select(DSL.function("set_config", String.class,
+            val(INDEX_INSTANCE_SETTING), val(indexInstanceId), DSL.inline(true)));
+        return jooqReactiveOperations.mono(query).then();
+    }
+
     private CommonTableExpression<Record> lineageCte(final Collection<String> oddrns,
                                                      final LineageDepth lineageDepth,
                                                      final LineageStreamKind streamKind) {
@@ -0,0 +1,34 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.Collection;
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerLineageDependencyStatePojo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveOwnerLineageDependencyRepository {
+    Mono<OwnerLineageDependencyStatePojo> getState(final long ownerId);
+
+    /**
+     * Starts tracking changes of the dependencies of the owner, if not yet.
+     *
+     * @return current version of the dependencies of the owner
+     */
+    Mono<Long> registerOwner(final long ownerId);
+
+    /**
+     * @return oddrns of the owned entities, which are neither hollow nor deleted
+     */
+    Flux<String> getOwnedOddrns(final long ownerId);
+
+    /**
+     * Replaces the dependencies of the owner and marks them refreshed up to the given version.
+     * Does nothing if the dependencies are already refreshed up to the same or a later version.
+     */
+    Mono<Void> replaceDependencies(final long ownerId,
+                                   final long version,
+                                   final Map<LineageStreamKind, Collection<String>> dependencies);
+
+    Flux<Long> getStaleOwnerIds(final int limit);
+}
@@ -0,0 +1,104 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jooq.InsertSetStep;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerLineageDependencyStatePojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.OwnerLineageDependencyRecord;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.jooq.impl.DSL.excluded;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNER_LINEAGE_DEPENDENCY;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNER_LINEAGE_DEPENDENCY_STATE;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveOwnerLineageDependencyRepositoryImpl implements ReactiveOwnerLineageDependencyRepository {
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    @Override
+    public Mono<OwnerLineageDependencyStatePojo> getState(final long ownerId) {
+        final var query = DSL.selectFrom(OWNER_LINEAGE_DEPENDENCY_STATE)
+            .where(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID.eq(ownerId));
+        return jooqReactiveOperations.mono(query)
+            .map(r -> r.into(OwnerLineageDependencyStatePojo.class));
+    }
+
+    @Override
+    public Mono<Long> registerOwner(final long ownerId) {
+        final var query = DSL.insertInto(OWNER_LINEAGE_DEPENDENCY_STATE)
+            .set(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID, ownerId)
+            .onConflict(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID)
+            .doUpdate()
+            .set(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID, excluded(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID))
+            .returning(OWNER_LINEAGE_DEPENDENCY_STATE.VERSION);
+        return jooqReactiveOperations.mono(query)
+            .map(r -> r.get(OWNER_LINEAGE_DEPENDENCY_STATE.VERSION));
+    }
+
+    @Override
+    public Flux<String> getOwnedOddrns(final long ownerId) {
+        final var query = DSL.select(DATA_ENTITY.ODDRN)
+            .from(OWNERSHIP)
+            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(OWNERSHIP.DATA_ENTITY_ID))
+            .where(OWNERSHIP.OWNER_ID.eq(ownerId))
+            .and(DATA_ENTITY.HOLLOW.isFalse())
+            .and(DATA_ENTITY.DELETED_AT.isNull());
+        return jooqReactiveOperations.flux(query)
+            .map(r -> r.get(DATA_ENTITY.ODDRN));
+    }
+
+    @Override
+    @ReactiveTransactional
+    public Mono<Void> replaceDependencies(final long ownerId,
+                                          final long version,
+                                          final Map<LineageStreamKind, Collection<String>> dependencies) {
+        // locks the state first, so concurrent refreshes of the same owner don't interleave,
+        // and a refresh computed for an older version than the stored one doesn't overwrite it
+        final var refreshState = DSL.update(OWNER_LINEAGE_DEPENDENCY_STATE)
+            .set(OWNER_LINEAGE_DEPENDENCY_STATE.REFRESHED_VERSION, version)
+            .where(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID.eq(ownerId))
+            .and(OWNER_LINEAGE_DEPENDENCY_STATE.REFRESHED_VERSION.lt(version));
+
+        final var deleteDependencies = DSL.deleteFrom(OWNER_LINEAGE_DEPENDENCY)
+            .where(OWNER_LINEAGE_DEPENDENCY.OWNER_ID.eq(ownerId));
+
+        final List<OwnerLineageDependencyRecord> records = dependencies.entrySet().stream()
+            .flatMap(e -> e.getValue().stream().map(oddrn -> new OwnerLineageDependencyRecord()
+                .setOwnerId(ownerId)
+                .setStreamKind(e.getKey().name())
+                .setDataEntityOddrn(oddrn)))
+            .toList();
+
+        return jooqReactiveOperations.mono(refreshState)
+            .filter(updated -> updated > 0)
+            .flatMap(ignored -> jooqReactiveOperations.mono(deleteDependencies))
+            .flatMap(ignored -> jooqReactiveOperations.executeInPartition(records, rs -> {
+                InsertSetStep<OwnerLineageDependencyRecord> insertStep = DSL.insertInto(OWNER_LINEAGE_DEPENDENCY);
+                for (int i = 0; i < rs.size() - 1; i++) {
+                    insertStep = insertStep.set(rs.get(i)).newRecord();
+                }
+                return jooqReactiveOperations.mono(insertStep.set(rs.get(rs.size() - 1)));
+            }));
+    }
+
+    @Override
+    public Flux<Long> getStaleOwnerIds(final int limit) {
+        final var query = DSL.select(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID)
+            .from(OWNER_LINEAGE_DEPENDENCY_STATE)
+            .where(OWNER_LINEAGE_DEPENDENCY_STATE.VERSION.gt(OWNER_LINEAGE_DEPENDENCY_STATE.REFRESHED_VERSION))
+            .limit(limit);
+        return jooqReactiveOperations.flux(query)
+            .map(r -> r.get(OWNER_LINEAGE_DEPENDENCY_STATE.OWNER_ID));
+    }
+}
@@ -37,6 +37,8 @@ public interface ReactiveSearchEntrypointRepository {
 
     Mono<Integer> updateChangedOwnershipVectors(final long ownershipId);
 
+    Mono<Integer> updateOwnerVectorsForDataEntities(final List<Long> dataEntityIds);
+
     Mono<Integer> updateChangedLabelVector(final long labelId);
 
     Mono<Integer> updateDatasetFieldSearchVectors(final long datasetFieldId);
@@ -44,4 +46,26 @@ public interface ReactiveSearchEntrypointRepository {
     Mono<Integer> updateMetadataVectors(final long dataEntityId);
 
     Mono<Integer> updateMetadataVectors(final List<Long> dataEntityIds);
+
+    Mono<Integer> markDirty(final Collection<Long> dataEntityIds);
+
+    Mono<Integer> markDirtyByOddrns(final Collection<String> dataEntityOddrns);
+
+    Mono<Integer> markDirtyByNamespace(final long namespaceId);
+
+    Mono<Integer> markDirtyByDataSource(final long dataSourceId);
+
+    Mono<Integer> markDirtyByTag(final long tagId);
+
+    Mono<Integer> markDirtyByOwner(final long ownerId);
+
+    Mono<Integer> markDirtyByOwnership(final long ownershipId);
+
+    Mono<Integer> markDirtyByLabel(final long labelId);
+
+    Mono<Integer> markDirtyByDatasetField(final long datasetFieldId);
+
+    Mono<Integer> markDirtyByDatasetFields(final Collection<Long> datasetFieldIds);
+
+    Mono<List<Long>> claimDirty(final int limit);
 }
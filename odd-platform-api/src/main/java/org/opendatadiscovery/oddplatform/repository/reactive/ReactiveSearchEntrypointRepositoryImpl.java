@@ -10,6 +10,7 @@ import org.jooq.Insert;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record3;
+import org.jooq.Select;
 import org.jooq.SelectConditionStep;
 import org.jooq.SelectHavingStep;
 import org.jooq.SelectOnConditionStep;
@@ -18,6 +19,7 @@ import org.jooq.UpdateConditionStep;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.model.Tables;
+import org.opendatadiscovery.oddplatform.model.tables.records.SearchEntrypointDirtyRecord;
 import org.opendatadiscovery.oddplatform.model.tables.records.SearchEntrypointRecord;
 import org.opendatadiscovery.oddplatform.repository.util.FTSEntity;
 import org.opendatadiscovery.oddplatform.repository.util.JooqFTSHelper;
@@ -39,6 +41,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.METADATA_FIELD_VALU
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
 import static org.opendatadiscovery.oddplatform.model.Tables.OWNER;
 import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT_DIRTY;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
@@ -61,7 +64,8 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
             updateNamespaceVectorForDataEntities(dataEntityIds),
             updateMetadataVectors(dataEntityIds),
             updateStructureVectorForDataEntitiesByIds(dataEntityIds),
-            updateTagVectorsForDataEntities(dataEntityIds)
+            updateTagVectorsForDataEntities(dataEntityIds),
+            updateOwnerVectorsForDataEntities(dataEntityIds)
         ).then();
     }
 
@@ -405,6 +409,41 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
         return jooqReactiveOperations.mono(ownershipQuery);
     }
 
+    @Override
+    public Mono<Integer> updateOwnerVectorsForDataEntities(final List<Long> dataEntityIds) {
+        final Field<Long> dataEntityId = field("data_entity_id", Long.class);
+
+        final Field<String> ownerNameAlias = field("owner_name", String.class);
+        final Field<String> titleNameAlias = field("title_name", String.class);
+
+        final List<Field<?>> vectorFields = List.of(
+            OWNER.NAME.as(ownerNameAlias),
+            TITLE.NAME.as(titleNameAlias)
+        );
+
+        final SelectConditionStep<Record> vectorSelect = DSL.select(vectorFields)
+            .select(DATA_ENTITY.ID.as(dataEntityId))
+            .from(OWNER)
+            .join(OWNERSHIP).on(OWNERSHIP.OWNER_ID.eq(OWNER.ID))
+            .join(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID))
+            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(OWNERSHIP.DATA_ENTITY_ID))
+            .and(DATA_ENTITY.HOLLOW.isFalse())
+            .and(DATA_ENTITY.DELETED_AT.isNull())
+            .where(DATA_ENTITY.ID.in(dataEntityIds));
+
+        final Insert<? extends Record> ownerQuery = jooqFTSHelper.buildVectorUpsert(
+            vectorSelect,
+            dataEntityId,
+            vectorFields,
+            SEARCH_ENTRYPOINT.OWNER_VECTOR,
+            FTS_CONFIG_DETAILS_MAP.get(FTSEntity.DATA_ENTITY),
+            true,
+            Map.of(ownerNameAlias, OWNER.NAME, titleNameAlias, TITLE.NAME)
+        );
+
+        return jooqReactiveOperations.mono(ownerQuery);
+    }
+
     @Override
     public Mono<Integer> updateChangedLabelVector(final long labelId) {
         final SelectConditionStep<Record1<String>> deOddrnsQuery = DSL.select(DATA_ENTITY.ODDRN)
@@ -562,6 +601,127 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
         return jooqReactiveOperations.mono(datasetFieldQuery);
     }
 
+    @Override
+    public Mono<Integer> markDirty(final Collection<Long> dataEntityIds) {
+        if (dataEntityIds.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        return markDirty(DSL.select(DATA_ENTITY.ID).from(DATA_ENTITY).where(DATA_ENTITY.ID.in(dataEntityIds)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByOddrns(final Collection<String> dataEntityOddrns) {
+        if (dataEntityOddrns.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        return markDirty(DSL.select(DATA_ENTITY.ID).from(DATA_ENTITY).where(DATA_ENTITY.ODDRN.in(dataEntityOddrns)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByNamespace(final long namespaceId) {
+        return markDirty(DSL.select(DATA_ENTITY.ID)
+            .from(DATA_ENTITY)
+            .join(DATA_SOURCE).on(DATA_SOURCE.ID.eq(DATA_ENTITY.DATA_SOURCE_ID))
+            .where(DATA_SOURCE.NAMESPACE_ID.eq(namespaceId)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByDataSource(final long dataSourceId) {
+        return markDirty(DSL.select(DATA_ENTITY.ID)
+            .from(DATA_ENTITY)
+            .where(DATA_ENTITY.DATA_SOURCE_ID.eq(dataSourceId)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByTag(final long tagId) {
+        return markDirty(DSL.select(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID)
+            .from(TAG_TO_DATA_ENTITY)
+            .where(TAG_TO_DATA_ENTITY.TAG_ID.eq(tagId)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByOwner(final long ownerId) {
+        return markDirty(DSL.select(OWNERSHIP.DATA_ENTITY_ID)
+            .from(OWNERSHIP)
+            .where(OWNERSHIP.OWNER_ID.eq(ownerId)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByOwnership(final long ownershipId) {
+        return markDirty(DSL.select(OWNERSHIP.DATA_ENTITY_ID)
+            .from(OWNERSHIP)
+            .where(OWNERSHIP.ID.eq(ownershipId)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByLabel(final long labelId) {
+        return markDirty(DSL.selectDistinct(DATA_ENTITY.ID)
+            .from(DATA_ENTITY)
+            .join(DATASET_VERSION).on(DATASET_VERSION.DATASET_ODDRN.eq(DATA_ENTITY.ODDRN))
+            .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
+            .join(LABEL_TO_DATASET_FIELD)
+            .on(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID.eq(DATASET_STRUCTURE.DATASET_FIELD_ID))
+            .where(LABEL_TO_DATASET_FIELD.LABEL_ID.eq(labelId)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByDatasetField(final long datasetFieldId) {
+        return markDirty(DSL.selectDistinct(DATA_ENTITY.ID)
+            .from(DATA_ENTITY)
+            .join(DATASET_VERSION).on(DATASET_VERSION.DATASET_ODDRN.eq(DATA_ENTITY.ODDRN))
+            .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
+            .where(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(datasetFieldId)));
+    }
+
+    @Override
+    public Mono<Integer> markDirtyByDatasetFields(final Collection<Long> datasetFieldIds) {
+        if (datasetFieldIds.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        // ids are bound as a single array, so the amount of fields isn't limited by the bind parameters count
+        return markDirty(DSL.selectDistinct(DATA_ENTITY.ID)
+            .from(DATA_ENTITY)
+            .join(DATASET_VERSION).on(DATASET_VERSION.DATASET_ODDRN.eq(DATA_ENTITY.ODDRN))
+            .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
+            .where(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DSL.any(datasetFieldIds.toArray(Long[]::new)))));
+    }
+
+    /**
+     * Removes at most {@code limit} of the oldest dirty marks and returns their data entity ids.
+     * Rows locked by a concurrent claim are skipped, so several instances can drain the set simultaneously.
+     * Must be called within the same transaction as the recalculation so that the marks are restored on failure.
+     */
+    @Override
+    public Mono<List<Long>> claimDirty(final int limit) {
+        final var candidates = DSL.select(SEARCH_ENTRYPOINT_DIRTY.DATA_ENTITY_ID)
+            .from(SEARCH_ENTRYPOINT_DIRTY)
+            .orderBy(SEARCH_ENTRYPOINT_DIRTY.MARKED_AT)
+            .limit(limit)
+            .forUpdate()
+            .skipLocked();
+
+        final var query = DSL.deleteFrom(SEARCH_ENTRYPOINT_DIRTY)
+            .where(SEARCH_ENTRYPOINT_DIRTY.DATA_ENTITY_ID.in(candidates))
+            .returning(SEARCH_ENTRYPOINT_DIRTY.DATA_ENTITY_ID);
+
+        return jooqReactiveOperations.flux(query)
+            .map(SearchEntrypointDirtyRecord::getDataEntityId)
+            .collectList();
+    }
+
+    // Repeated marks of the same data entity collapse into a single row which keeps its original marked_at,
+    // so frequently edited entities don't get starved by the oldest-first claiming
+    private Mono<Integer> markDirty(final Select<Record1<Long>> dataEntityIdSelect) {
+        final var query = DSL.insertInto(SEARCH_ENTRYPOINT_DIRTY, SEARCH_ENTRYPOINT_DIRTY.DATA_ENTITY_ID)
+            .select(dataEntityIdSelect)
+            .onConflictDoNothing();
+
+        return jooqReactiveOperations.mono(query);
+    }
+
     private Mono<Integer> updateStructureVectorForDataEntities(final Condition datasetQueryCondition) {
         final String dsOddrnAlias = "dsv_dataset_oddrn";
 
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
 import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
@@ -13,8 +14,18 @@ public interface ReactiveSearchFacetRepository {
 
     Mono<SearchFacetsPojo> update(final SearchFacetsPojo pojo);
 
+    /**
+     * Reads the facet state without touching its last access time, see {@link #updateLastAccessedAt}.
+     */
     Mono<SearchFacetsPojo> get(final UUID id);
 
+    /**
+     * Moves last access times of the facet states forward, earlier times than the persisted ones are ignored.
+     *
+     * @return amount of updated facet states
+     */
+    Mono<Integer> updateLastAccessedAt(final Map<UUID, OffsetDateTime> lastAccessTimes);
+
     Mono<Map<SearchFilterId, Long>> getTagFacetForTerms(final String facetQuery,
                                                         final int page,
                                                         final int size,
@@ -1,21 +1,28 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import javax.annotation.PostConstruct;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Record3;
 import org.jooq.Table;
+import org.jooq.UpdateConditionStep;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
@@ -27,6 +34,10 @@ import org.opendatadiscovery.oddplatform.model.tables.records.SearchFacetsRecord
 import org.opendatadiscovery.oddplatform.repository.util.JooqFTSHelper;
 import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
 import org.opendatadiscovery.oddplatform.utils.Pair;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupChannel;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -50,12 +61,19 @@ import static org.opendatadiscovery.oddplatform.model.Tables.TERM;
 import static org.opendatadiscovery.oddplatform.model.Tables.TERM_OWNERSHIP;
 import static org.opendatadiscovery.oddplatform.model.Tables.TERM_SEARCH_ENTRYPOINT;
 
+/**
+ * Facet states are read on every results page, facet refresh and filter options request, so they are
+ * cached by search id. A state changes only with {@link #update}, which evicts it from caches of all
+ * the platform nodes via a notification trigger. Last access times are tracked by the callers
+ * and written in batches with {@link #updateLastAccessedAt}.
+ *
+ * <p>A state loaded on a cache miss is cached only if its id hasn't been invalidated while it was loading,
+ * so a state read before an update commits can't outlive the invalidation of the update.
+ */
 @Repository
-@RequiredArgsConstructor
-public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRepository {
-
-    private final JooqReactiveOperations jooqReactiveOperations;
-    private final JooqFTSHelper jooqFTSHelper;
+public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRepository, WakeupListener {
+    private static final int LAST_ACCESS_FLUSH_BATCH_SIZE = 500;
+    private static final int INVALIDATION_STRIPES = 64;
 
     private static final Collector<Record3<Long, String, Integer>, ?, Map<SearchFilterId, Long>> FACET_COLLECTOR
         = Collectors.toMap(
@@ -63,6 +81,34 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
         r -> r.component3().longValue()
     );
 
+    private final JooqReactiveOperations jooqReactiveOperations;
+    private final JooqFTSHelper jooqFTSHelper;
+    private final PostgreSQLWakeupService wakeupService;
+    private final Cache<UUID, SearchFacetsPojo> facetStateCache;
+    // invalidation generations of ids, ids sharing a stripe share the generation
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public ReactiveSearchFacetRepositoryImpl(
+        final JooqReactiveOperations jooqReactiveOperations,
+        final JooqFTSHelper jooqFTSHelper,
+        final PostgreSQLWakeupService wakeupService,
+        @Value("${odd.search-facets.cache-ttl:10m}") final Duration cacheTtl,
+        @Value("${odd.search-facets.cache-max-size:10000}") final long cacheMaxSize
+    ) {
+        this.jooqReactiveOperations = jooqReactiveOperations;
+        this.jooqFTSHelper = jooqFTSHelper;
+        this.wakeupService = wakeupService;
+        this.facetStateCache = Caffeine.newBuilder()
+            .expireAfterWrite(cacheTtl)
+            .maximumSize(cacheMaxSize)
+            .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        wakeupService.subscribe(WakeupChannel.SEARCH_FACETS_CHANGED, this);
+    }
+
     @Override
     public Mono<SearchFacetsPojo> create(final SearchFacetsPojo pojo) {
         final SearchFacetsRecord record = jooqReactiveOperations.newRecord(SEARCH_FACETS, pojo);
@@ -83,17 +129,61 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
 
         return jooqReactiveOperations
             .mono(query)
-            .map(r -> r.into(SearchFacetsPojo.class));
+            .map(r -> r.into(SearchFacetsPojo.class))
+            .doFinally(ignored -> invalidate(pojo.getId()));
     }
 
     @Override
     public Mono<SearchFacetsPojo> get(final UUID id) {
-        final var query = DSL.update(SEARCH_FACETS)
-            .set(SEARCH_FACETS.LAST_ACCESSED_AT, DSL.currentOffsetDateTime())
-            .where(SEARCH_FACETS.ID.eq(id))
-            .returning();
+        final SearchFacetsPojo cached = facetStateCache.getIfPresent(id);
+        if (cached != null) {
+            return Mono.just(new SearchFacetsPojo(cached));
+        }
+
+        final int stripe = stripe(id);
+        final long generation = invalidations.get(stripe);
+        final var query = DSL.selectFrom(SEARCH_FACETS).where(SEARCH_FACETS.ID.eq(id));
+
+        return jooqReactiveOperations.mono(query)
+            .map(r -> r.into(SearchFacetsPojo.class))
+            .doOnNext(pojo -> {
+                facetStateCache.put(id, new SearchFacetsPojo(pojo));
+                // checked after the put, so an invalidation racing with it either sees the state or bumps
+                // the generation first
+                if (invalidations.get(stripe) != generation) {
+                    facetStateCache.invalidate(id);
+                }
+            });
+    }
+
+    @Override
+    public Mono<Integer> updateLastAccessedAt(final Map<UUID, OffsetDateTime> lastAccessTimes) {
+        if (lastAccessTimes.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        // ids are sorted to lock rows in the same order as concurrent flushes of other nodes do
+        final List<Map.Entry<UUID, OffsetDateTime>> accesses = lastAccessTimes.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .toList();
+
+        return Flux.fromIterable(ListUtils.partition(accesses, LAST_ACCESS_FLUSH_BATCH_SIZE))
+            .concatMap(batch -> jooqReactiveOperations.mono(buildLastAccessQuery(batch)))
+            .reduce(0, Integer::sum);
+    }
 
-        return jooqReactiveOperations.mono(query).map(r -> r.into(SearchFacetsPojo.class));
+    @Override
+    public void onNotification(final String searchId) {
+        try {
+            invalidate(UUID.fromString(searchId.trim()));
+        } catch (final IllegalArgumentException e) {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void onReconnect() {
+        invalidateAll();
     }
 
     @Override
@@ -432,6 +522,41 @@ public class ReactiveSearchFacetRepositoryImpl implements ReactiveSearchFacetRep
             .collect(FACET_COLLECTOR);
     }
 
+    private void invalidate(final UUID id) {
+        invalidations.incrementAndGet(stripe(id));
+        facetStateCache.invalidate(id);
+    }
+
+    private void invalidateAll() {
+        for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+            invalidations.incrementAndGet(i);
+        }
+        facetStateCache.invalidateAll();
+    }
+
+    private int stripe(final UUID id) {
+        return Math.floorMod(id.hashCode(), INVALIDATION_STRIPES);
+    }
+
+    private UpdateConditionStep<SearchFacetsRecord> buildLastAccessQuery(
+        final List<Map.Entry<UUID, OffsetDateTime>> batch
+    ) {
+        final UUID[] ids = batch.stream().map(Map.Entry::getKey).toArray(UUID[]::new);
+        final OffsetDateTime[] accessTimes = batch.stream().map(Map.Entry::getValue).toArray(OffsetDateTime[]::new);
+
+        final Table<?> accessesTable = DSL.table("unnest({0}, {1})", DSL.val(ids), DSL.val(accessTimes))
+            .as("accesses", "id", "accessed_at");
+        final Field<UUID> accessId = accessesTable.field("id", UUID.class);
+        final Field<OffsetDateTime> accessedAt = accessesTable.field("accessed_at", OffsetDateTime.class);
+
+        // another node might have already written a later access
+        return DSL.update(SEARCH_FACETS)
+            .set(SEARCH_FACETS.LAST_ACCESSED_AT, accessedAt)
+            .from(accessesTable)
+            .where(SEARCH_FACETS.ID.eq(accessId))
+            .and(SEARCH_FACETS.LAST_ACCESSED_AT.lessThan(accessedAt));
+    }
+
     private List<Integer> typeIdsByName(final String name) {
         return Arrays.stream(DataEntityTypeDto.values())
             .filter(s -> StringUtils.containsIgnoreCase(name, s.name()))
@@ -0,0 +1,33 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.opendatadiscovery.oddplatform.dto.SearchResultSnapshotDto;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSearchResultSnapshotRepository {
+    /**
+     * Returns the current generation of the searched data. It grows with every change of the data
+     * search results depend on, so it has to be taken before the search queries run.
+     */
+    Mono<Long> getDataGeneration();
+
+    /**
+     * Returns a non-expired snapshot of the current data generation with the slice of ranked ids,
+     * starting from the offset.
+     */
+    Mono<SearchResultSnapshotDto> get(final UUID searchId,
+                                      final String stateHash,
+                                      final long ownerId,
+                                      final int offset,
+                                      final int limit,
+                                      final Duration ttl);
+
+    Mono<Void> save(final UUID searchId,
+                    final String stateHash,
+                    final long ownerId,
+                    final long dataGeneration,
+                    final SearchResultSnapshotDto snapshot);
+
+    Mono<Void> deleteBySearchId(final UUID searchId);
+}
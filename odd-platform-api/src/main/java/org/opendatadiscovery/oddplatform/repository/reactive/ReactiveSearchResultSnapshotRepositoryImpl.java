@@ -0,0 +1,127 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record1;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterId;
+import org.opendatadiscovery.oddplatform.dto.SearchResultSnapshotDto;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_RESULT_SNAPSHOT;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveSearchResultSnapshotRepositoryImpl implements ReactiveSearchResultSnapshotRepository {
+    private static final TypeReference<List<EntityClassFacetCount>> FACET_TYPE_REFERENCE = new TypeReference<>() {
+    };
+
+    // last_value isn't bound to the session, unlike currval, and doesn't wait for the bumping transactions
+    private static final Field<Long> DATA_GENERATION =
+        DSL.field("(SELECT last_value FROM search_data_generation)", Long.class);
+
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    @Override
+    public Mono<Long> getDataGeneration() {
+        return jooqReactiveOperations.mono(DSL.select(DATA_GENERATION)).map(Record1::value1);
+    }
+
+    @Override
+    public Mono<SearchResultSnapshotDto> get(final UUID searchId,
+                                             final String stateHash,
+                                             final long ownerId,
+                                             final int offset,
+                                             final int limit,
+                                             final Duration ttl) {
+        // postgres arrays are 1-based and slice bounds are inclusive
+        final Field<Long[]> idsSlice = DSL.field("{0}[{1}:{2}]", SQLDataType.BIGINT.getArrayDataType(),
+            SEARCH_RESULT_SNAPSHOT.DATA_ENTITY_IDS, DSL.val(offset + 1), DSL.val(offset + limit));
+        final Field<Integer> hitsCount = DSL.field("cardinality({0})", Integer.class,
+            SEARCH_RESULT_SNAPSHOT.DATA_ENTITY_IDS);
+
+        final var query = DSL
+            .select(SEARCH_RESULT_SNAPSHOT.ENTITY_CLASS_FACET, SEARCH_RESULT_SNAPSHOT.TOTAL,
+                SEARCH_RESULT_SNAPSHOT.MY_OBJECTS_TOTAL, idsSlice, hitsCount)
+            .from(SEARCH_RESULT_SNAPSHOT)
+            .where(SEARCH_RESULT_SNAPSHOT.SEARCH_ID.eq(searchId))
+            .and(SEARCH_RESULT_SNAPSHOT.STATE_HASH.eq(stateHash))
+            .and(SEARCH_RESULT_SNAPSHOT.OWNER_ID.eq(ownerId))
+            .and(SEARCH_RESULT_SNAPSHOT.DATA_GENERATION.eq(DATA_GENERATION))
+            .and(SEARCH_RESULT_SNAPSHOT.CREATED_AT.greaterThan(OffsetDateTime.now().minus(ttl)));
+
+        return jooqReactiveOperations.mono(query)
+            .map(r -> new SearchResultSnapshotDto(
+                deserializeFacet(r.value1()),
+                r.value2(),
+                r.value3(),
+                r.value4() != null ? Arrays.asList(r.value4()) : List.of(),
+                r.value5() != null ? r.value5() : 0
+            ));
+    }
+
+    @Override
+    public Mono<Void> save(final UUID searchId,
+                           final String stateHash,
+                           final long ownerId,
+                           final long dataGeneration,
+                           final SearchResultSnapshotDto snapshot) {
+        final JSONB facet = JSONB.jsonb(JSONSerDeUtils.serializeJson(snapshot.entityClassFacet().entrySet().stream()
+            .map(e -> new EntityClassFacetCount(e.getKey().getEntityId(), e.getKey().getName(), e.getValue()))
+            .toList()));
+        final Long[] ids = snapshot.dataEntityIds().toArray(Long[]::new);
+
+        final var query = DSL.insertInto(SEARCH_RESULT_SNAPSHOT)
+            .set(SEARCH_RESULT_SNAPSHOT.SEARCH_ID, searchId)
+            .set(SEARCH_RESULT_SNAPSHOT.STATE_HASH, stateHash)
+            .set(SEARCH_RESULT_SNAPSHOT.OWNER_ID, ownerId)
+            .set(SEARCH_RESULT_SNAPSHOT.DATA_ENTITY_IDS, ids)
+            .set(SEARCH_RESULT_SNAPSHOT.ENTITY_CLASS_FACET, facet)
+            .set(SEARCH_RESULT_SNAPSHOT.TOTAL, snapshot.total())
+            .set(SEARCH_RESULT_SNAPSHOT.MY_OBJECTS_TOTAL, snapshot.myObjectsTotal())
+            .set(SEARCH_RESULT_SNAPSHOT.DATA_GENERATION, dataGeneration)
+            .set(SEARCH_RESULT_SNAPSHOT.CREATED_AT, DSL.currentOffsetDateTime())
+            .onConflict(SEARCH_RESULT_SNAPSHOT.SEARCH_ID, SEARCH_RESULT_SNAPSHOT.STATE_HASH,
+                SEARCH_RESULT_SNAPSHOT.OWNER_ID)
+            .doUpdate()
+            .set(SEARCH_RESULT_SNAPSHOT.DATA_ENTITY_IDS, ids)
+            .set(SEARCH_RESULT_SNAPSHOT.ENTITY_CLASS_FACET, facet)
+            .set(SEARCH_RESULT_SNAPSHOT.TOTAL, snapshot.total())
+            .set(SEARCH_RESULT_SNAPSHOT.MY_OBJECTS_TOTAL, snapshot.myObjectsTotal())
+            .set(SEARCH_RESULT_SNAPSHOT.DATA_GENERATION, dataGeneration)
+            .set(SEARCH_RESULT_SNAPSHOT.CREATED_AT, DSL.currentOffsetDateTime());
+
+        return jooqReactiveOperations.mono(query).then();
+    }
+
+    @Override
+    public Mono<Void> deleteBySearchId(final UUID searchId) {
+        return jooqReactiveOperations
+            .mono(DSL.deleteFrom(SEARCH_RESULT_SNAPSHOT).where(SEARCH_RESULT_SNAPSHOT.SEARCH_ID.eq(searchId)))
+            .then();
+    }
+
+    private Map<SearchFilterId, Long> deserializeFacet(final JSONB facet) {
+        return JSONSerDeUtils.deserializeJson(facet.data(), FACET_TYPE_REFERENCE).stream()
+            .collect(Collectors.toMap(
+                c -> SearchFilterId.builder().entityId(c.id()).name(c.name()).build(),
+                EntityClassFacetCount::count
+            ));
+    }
+
+    record EntityClassFacetCount(long id, String name, long count) {
+    }
+}
@@ -22,6 +22,10 @@ public class DataEntityCTEQueryConfig {
     public static final String AGG_PARENT_ENTITY_FIELD = "parent_entity";
     public static final String AGG_METADATA_FIELD = "metadata";
     public static final String AGG_METADATA_VALUE_FIELD = "metadata_value";
+    public static final String AGG_PARENT_GROUPS_FIELD = "parent_groups";
+    public static final String AGG_GROUP_ENTITIES_FIELD = "group_entities";
+    public static final String GROUP_CHILDREN_COUNT_FIELD = "group_children_count";
+    public static final String CONSUMERS_COUNT_FIELD = "consumers_count";
 
     private List<Condition> conditions;
     private LimitOffset limitOffset;
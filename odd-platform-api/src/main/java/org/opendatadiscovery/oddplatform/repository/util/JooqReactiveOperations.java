@@ -1,49 +1,68 @@
 package org.opendatadiscovery.oddplatform.repository.util;
 
+import io.r2dbc.spi.Connection;
 import java.util.List;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.ListUtils;
+import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
 import org.jooq.RowCountQuery;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
-@RequiredArgsConstructor
 public class JooqReactiveOperations {
     private static final int BATCH_SIZE = 1000;
+    // PostgreSQL protocol limit of bind values in a single statement
+    private static final int MAX_BIND_VALUES = Short.MAX_VALUE;
 
     private final DSLContext mappingDSLContext = DSL.using(SQLDialect.POSTGRES);
 
     private final DatabaseClient databaseClient;
+    private final Settings jooqSettings;
+    private final Settings unpaddedJooqSettings;
+    private final ExecuteListenerProvider statementMetricsListenerProvider;
+
+    public JooqReactiveOperations(final DatabaseClient databaseClient,
+                                  final Settings jooqSettings,
+                                  final JooqStatementMetricsListener statementMetricsListener) {
+        this.databaseClient = databaseClient;
+        this.jooqSettings = jooqSettings;
+        this.unpaddedJooqSettings = SettingsTools.clone(jooqSettings).withInListPadding(false);
+        this.statementMetricsListenerProvider = new DefaultExecuteListenerProvider(statementMetricsListener);
+    }
 
     public Mono<Integer> mono(final RowCountQuery query) {
         return databaseClient.inConnection(c -> {
-            DSL.using(c).attach(query);
+            attach(c, query);
             return Mono.from(query);
         });
     }
 
     public <R extends Record> Mono<R> mono(final ResultQuery<R> query) {
         return databaseClient.inConnection(c -> {
-            DSL.using(c).attach(query);
+            attach(c, query);
             return Mono.from(query);
         }).onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
     }
 
     public <R extends Record> Flux<R> flux(final ResultQuery<R> query) {
         return databaseClient.inConnectionMany(c -> {
-            DSL.using(c).attach(query);
+            attach(c, query);
             return Flux.from(query);
         }).onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
     }
@@ -93,4 +112,22 @@ public class JooqReactiveOperations {
         result.addAll(records);
         return result;
     }
+
+    // shared settings keep the statement text of queries with IN lists of similar size the same
+    private void attach(final Connection connection, final Query query) {
+        final Configuration configuration = DSL.using(connection).configuration()
+            .set(SQLDialect.POSTGRES)
+            .set(isPaddingAllowed(query) ? jooqSettings : unpaddedJooqSettings)
+            .set(statementMetricsListenerProvider);
+        query.attach(configuration);
+    }
+
+    // a padded IN list stays below pad base times its size, so the bind values of the unattached query
+    // tell whether padding could push the statement beyond the bind values limit
+    private boolean isPaddingAllowed(final Query query) {
+        if (!Boolean.TRUE.equals(jooqSettings.isInListPadding())) {
+            return true;
+        }
+        return (long) query.getBindValues().size() * jooqSettings.getInListPadBase() <= MAX_BIND_VALUES;
+    }
 }
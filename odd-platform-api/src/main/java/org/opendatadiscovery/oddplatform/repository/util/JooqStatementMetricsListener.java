@@ -0,0 +1,57 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.opendatadiscovery.oddplatform.config.properties.SqlProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures how long jOOQ takes to render statements and how stable the rendered statement text is.
+ *
+ * <p>Distinct rendered statements are tracked in a set sized like the prepared statement cache
+ * of a connection. Its hit rate is an estimate of how often the text of a statement repeats,
+ * it doesn't reflect the actual cache of the database driver.
+ */
+@Component
+public class JooqStatementMetricsListener implements ExecuteListener {
+    private static final String RENDER_TIME_METRIC = "odd_jooq_render_time";
+    private static final String DISTINCT_STATEMENTS_NAME = "odd_jooq_distinct_statements";
+    private static final String RENDER_START_KEY = JooqStatementMetricsListener.class.getName() + ".renderStart";
+
+    private final Timer renderTimer;
+    private final Cache<String, Boolean> statements;
+
+    public JooqStatementMetricsListener(final MeterRegistry meterRegistry, final SqlProperties sqlProperties) {
+        this.renderTimer = Timer.builder(RENDER_TIME_METRIC)
+            .description("Time spent rendering SQL statements")
+            .register(meterRegistry);
+        this.statements = Caffeine.newBuilder()
+            .maximumSize(Math.max(sqlProperties.getPreparedStatementCacheSize(), 1))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, statements, DISTINCT_STATEMENTS_NAME);
+    }
+
+    @Override
+    public void renderStart(final ExecuteContext ctx) {
+        ctx.data(RENDER_START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void renderEnd(final ExecuteContext ctx) {
+        if (ctx.data(RENDER_START_KEY) instanceof Long renderStart) {
+            renderTimer.record(System.nanoTime() - renderStart, TimeUnit.NANOSECONDS);
+        }
+
+        final String sql = ctx.sql();
+        if (sql != null && statements.getIfPresent(sql) == null) {
+            statements.put(sql, Boolean.TRUE);
+        }
+    }
+}
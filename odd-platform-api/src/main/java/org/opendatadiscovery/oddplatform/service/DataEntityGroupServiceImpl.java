@@ -198,10 +198,7 @@ public class DataEntityGroupServiceImpl implements DataEntityGroupService {
     }
 
     private Mono<DataEntityPojo> updateSearchVectors(final DataEntityPojo pojo) {
-        return Mono.zip(
-            reactiveSearchEntrypointRepository.updateDataEntityVectors(pojo.getId()),
-            reactiveSearchEntrypointRepository.updateNamespaceVectorForDataEntity(pojo.getId())
-        ).thenReturn(pojo);
+        return reactiveSearchEntrypointRepository.markDirty(List.of(pojo.getId())).thenReturn(pojo);
     }
 
     private Mono<Void> logDEGCreatedActivityEvent(final DataEntityRef ref) {
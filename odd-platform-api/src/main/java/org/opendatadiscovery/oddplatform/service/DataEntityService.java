@@ -5,6 +5,7 @@ import java.util.List;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityClassAndTypeDictionary;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDataEntityGroupFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetails;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetailsSection;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityRef;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityUsageInfo;
@@ -42,7 +43,9 @@ public interface DataEntityService {
                                      final int size,
                                      final OwnerPojo owner);
 
-    Mono<DataEntityDetails> getDetails(final long dataEntityId);
+    Mono<DataEntityList> listByIds(final List<Long> ids, final long total);
+
+    Mono<DataEntityDetails> getDetails(final long dataEntityId, final Collection<DataEntityDetailsSection> sections);
 
     Mono<List<String>> getDependentDataEntityOddrns(final LineageStreamKind streamKind);
 
@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.service;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,7 @@ import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityClassAndTypeDictionary;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDataEntityGroupFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetails;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetailsSection;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityRef;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityUsageInfo;
@@ -70,7 +72,6 @@ import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepo
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldValueRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermRepository;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityLog;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityParameter;
@@ -104,6 +105,7 @@ public class DataEntityServiceImpl implements DataEntityService {
     private final TagService tagService;
     private final DataEntityFilledService dataEntityFilledService;
     private final MetadataFieldService metadataFieldService;
+    private final DataEntityViewCounter dataEntityViewCounter;
 
     private final ReactiveMetadataFieldValueRepository reactiveMetadataFieldValueRepository;
     private final ReactiveMetadataFieldRepository reactiveMetadataFieldRepository;
@@ -115,7 +117,6 @@ public class DataEntityServiceImpl implements DataEntityService {
     private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
     private final ReactiveGroupEntityRelationRepository reactiveGroupEntityRelationRepository;
     private final ReactiveDataEntityStatisticsRepository dataEntityStatisticsRepository;
-    private final ReactiveTagRepository tagRepository;
 
     private final DataEntityMapper dataEntityMapper;
     private final MetadataFieldMapper metadataFieldMapper;
@@ -159,17 +160,35 @@ public class DataEntityServiceImpl implements DataEntityService {
     }
 
     @Override
-    @ReactiveTransactional
-    public Mono<DataEntityDetails> getDetails(final long dataEntityId) {
-        return reactiveDataEntityRepository.getDetails(dataEntityId)
-            .switchIfEmpty(Mono.error(new NotFoundException("Data entity", dataEntityId)))
-            .flatMap(dto -> enrichEntityClassDetails(List.of(dto)))
+    public Mono<DataEntityList> listByIds(final List<Long> ids, final long total) {
+        return reactiveDataEntityRepository.getDimensionsByIds(ids)
+            .flatMap(this::enrichEntityClassDetails)
             .flatMap(this::enrichParentGroups)
-            .flatMap(dtos -> {
-                final DataEntityDetailsDto details = (DataEntityDetailsDto) dtos.get(0);
-                return enrichDataEntityDetails(details);
+            .map(dtos -> {
+                final Map<Long, DataEntityDimensionsDto> dict = dtos.stream()
+                    .collect(Collectors.toMap(dto -> dto.getDataEntity().getId(), identity()));
+                final List<DataEntityDimensionsDto> ordered = ids.stream()
+                    .map(dict::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+                return new Page<>(ordered, total, true);
             })
-            .flatMap(this::incrementViewCount)
+            .map(dataEntityMapper::mapPojos);
+    }
+
+    @Override
+    public Mono<DataEntityDetails> getDetails(final long dataEntityId,
+                                              final Collection<DataEntityDetailsSection> sections) {
+        final Set<DataEntityDetailsSection> requestedSections = CollectionUtils.isEmpty(sections)
+            ? EnumSet.allOf(DataEntityDetailsSection.class)
+            : EnumSet.copyOf(sections);
+
+        // tags, parent groups and entity class counters come with the details query itself
+        return reactiveDataEntityRepository.getDetails(dataEntityId)
+            .switchIfEmpty(Mono.error(new NotFoundException("Data entity", dataEntityId)))
+            .flatMap(this::enrichDependentEntities)
+            .flatMap(dto -> enrichDataEntityDetails(dto, requestedSections))
+            .map(this::registerView)
             .map(dataEntityMapper::mapDtoDetails);
     }
 
@@ -250,7 +269,7 @@ public class DataEntityServiceImpl implements DataEntityService {
                 .filter(createdValues -> createdValues.size() == metadataFieldValuePojos.size())
                 .switchIfEmpty(Mono.error(new BadUserRequestException("Metadata with this name already exists")))
             ))
-            .flatMap(fields -> reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId)
+            .flatMap(fields -> reactiveSearchEntrypointRepository.markDirty(List.of(dataEntityId))
                 .thenReturn(fields))
             .flatMap(fields -> dataEntityFilledService.markEntityFilled(dataEntityId, INTERNAL_METADATA)
                 .thenReturn(fields))
@@ -271,7 +290,7 @@ public class DataEntityServiceImpl implements DataEntityService {
             .flatMap(fieldPojo -> reactiveMetadataFieldValueRepository.update(metadataFieldValuePojo)
                 .map(valuePojo -> Tuples.of(fieldPojo, valuePojo)))
             .flatMap(function((fieldPojo, valuePojo) -> reactiveSearchEntrypointRepository
-                .updateMetadataVectors(dataEntityId)
+                .markDirty(List.of(dataEntityId))
                 .thenReturn(Tuples.of(fieldPojo, valuePojo))))
             .map(function(
                 (fieldPojo, valuePojo) -> metadataFieldValueMapper.mapDto(new MetadataDto(fieldPojo, valuePojo))));
@@ -281,7 +300,7 @@ public class DataEntityServiceImpl implements DataEntityService {
     @ReactiveTransactional
     public Mono<Void> deleteMetadata(final long dataEntityId, final long metadataFieldId) {
         return reactiveMetadataFieldValueRepository.delete(dataEntityId, metadataFieldId)
-            .then(reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId))
+            .then(reactiveSearchEntrypointRepository.markDirty(List.of(dataEntityId)))
             .thenMany(reactiveMetadataFieldValueRepository.listByDataEntityIds(List.of(dataEntityId), INTERNAL))
             .collectList()
             .flatMap(metadata -> {
@@ -300,7 +319,7 @@ public class DataEntityServiceImpl implements DataEntityService {
                                                        final InternalDescriptionFormData formData) {
         return reactiveDataEntityRepository.setInternalDescription(dataEntityId, formData.getInternalDescription())
             .map(pojo -> new InternalDescription().internalDescription(pojo.getInternalDescription()))
-            .flatMap(in -> reactiveSearchEntrypointRepository.updateDataEntityVectors(dataEntityId)
+            .flatMap(in -> reactiveSearchEntrypointRepository.markDirty(List.of(dataEntityId))
                 .thenReturn(in))
             .flatMap(in -> {
                 if (StringUtils.isNotEmpty(in.getInternalDescription())) {
@@ -321,7 +340,7 @@ public class DataEntityServiceImpl implements DataEntityService {
         final InternalNameFormData formData) {
         return reactiveDataEntityRepository.setInternalName(dataEntityId, formData.getInternalName())
             .map(pojo -> new InternalName().internalName(pojo.getInternalName()))
-            .flatMap(in -> reactiveSearchEntrypointRepository.updateDataEntityVectors(dataEntityId)
+            .flatMap(in -> reactiveSearchEntrypointRepository.markDirty(List.of(dataEntityId))
                 .thenReturn(in))
             .flatMap(in -> {
                 if (StringUtils.isNotEmpty(in.getInternalName())) {
@@ -342,7 +361,7 @@ public class DataEntityServiceImpl implements DataEntityService {
         final TagsFormData formData) {
         final Set<String> names = new HashSet<>(formData.getTagNameList());
         return tagService.updateRelationsWithDataEntity(dataEntityId, names)
-            .flatMap(tags -> reactiveSearchEntrypointRepository.updateTagVectorsForDataEntity(dataEntityId)
+            .flatMap(tags -> reactiveSearchEntrypointRepository.markDirty(List.of(dataEntityId))
                 .thenReturn(tags))
             .flatMap(tags -> {
                 final List<TagDto> internalTags = tags.stream()
@@ -431,18 +450,18 @@ public class DataEntityServiceImpl implements DataEntityService {
             && contains(pojo.getEntityClassIds(), DATA_ENTITY_GROUP.getId());
     }
 
-    private Mono<DataEntityDetailsDto> incrementViewCount(final DataEntityDetailsDto dto) {
-        return reactiveDataEntityRepository.incrementViewCount(dto.getDataEntity().getId())
-            .map(count -> {
-                dto.getDataEntity().setViewCount(count);
-                return dto;
-            })
-            .switchIfEmpty(Mono.just(dto));
+    private DataEntityDetailsDto registerView(final DataEntityDetailsDto dto) {
+        final DataEntityPojo dataEntity = dto.getDataEntity();
+        dataEntity.setViewCount(dataEntityViewCounter.registerView(dataEntity.getId(), dataEntity.getViewCount()));
+        return dto;
     }
 
     private Mono<Map<String, DataEntityTaskRunPojo>> getLastRunsForQualityTests(
         final List<DataEntityDimensionsDto> dataEntities) {
         final Set<String> qualityTests = entityClassOddrns(dataEntities, DataEntityClassDto.DATA_QUALITY_TEST);
+        if (qualityTests.isEmpty()) {
+            return Mono.just(Map.of());
+        }
         return reactiveDataEntityTaskRunRepository.getLatestRunsMap(qualityTests);
     }
 
@@ -485,12 +504,53 @@ public class DataEntityServiceImpl implements DataEntityService {
             }));
     }
 
+    private Mono<DataEntityDetailsDto> enrichDependentEntities(final DataEntityDetailsDto dto) {
+        final List<DataEntityDimensionsDto> dtos = List.of(dto);
+
+        final Mono<Map<String, DataEntityPojo>> dependencies = reactiveDataEntityRepository
+            .listAllByOddrns(getSpecificAttributesDependentOddrns(dtos), false)
+            .collectMap(DataEntityPojo::getOddrn, identity());
+
+        return Mono.zip(dependencies, getLastRunsForQualityTests(dtos))
+            .map(function((dependenciesMap, lastTaskRunsMap) -> {
+                enrichDependentEntities(dto, dependenciesMap, lastTaskRunsMap);
+                return dto;
+            }));
+    }
+
     private void enrichEntityClassDetails(final DataEntityDimensionsDto dto,
                                           final Map<String, DataEntityPojo> depsRepository,
                                           final Map<String, DataEntityTaskRunPojo> lastRuns,
                                           final Map<String, Set<DataEntityPojo>> childrenMap,
                                           final Map<String, Long> degChildrenCount,
                                           final Map<String, Long> consumersMap) {
+        final String oddrn = dto.getDataEntity().getOddrn();
+
+        if (dto.getSpecificAttributes().get(DATA_SET) instanceof DataSetAttributes dsa) {
+            final Long consumersCount = Optional.ofNullable(consumersMap.get(oddrn)).orElse(0L);
+            dto.setDataSetDetailsDto(new DataEntityDetailsDto.DataSetDetailsDto(
+                dsa.getRowsCount(),
+                dsa.getFieldsCount(),
+                consumersCount
+            ));
+        }
+
+        enrichDependentEntities(dto, depsRepository, lastRuns);
+
+        if (contains(dto.getDataEntity().getEntityClassIds(), DATA_ENTITY_GROUP.getId())) {
+            final Set<DataEntityPojo> entityList = childrenMap.getOrDefault(oddrn, Set.of());
+            final Long childrenCount = degChildrenCount.getOrDefault(oddrn, 0L);
+            dto.setGroupsDto(new DataEntityDimensionsDto.DataEntityGroupDimensionsDto(
+                entityList,
+                entityList.size() + childrenCount.intValue(),
+                childrenCount != 0L
+            ));
+        }
+    }
+
+    private void enrichDependentEntities(final DataEntityDimensionsDto dto,
+                                         final Map<String, DataEntityPojo> depsRepository,
+                                         final Map<String, DataEntityTaskRunPojo> lastRuns) {
         final Function<Collection<String>, Collection<DataEntityPojo>> fetcher = oddrns -> oddrns.stream()
             .map(depsRepository::get)
             .filter(Objects::nonNull)
@@ -499,15 +559,6 @@ public class DataEntityServiceImpl implements DataEntityService {
 
         dto.getSpecificAttributes().forEach((t, attrs) -> {
             switch (t) {
-                case DATA_SET -> {
-                    final DataSetAttributes dsa = (DataSetAttributes) attrs;
-                    final Long consumersCount = Optional.ofNullable(consumersMap.get(oddrn)).orElse(0L);
-                    dto.setDataSetDetailsDto(new DataEntityDetailsDto.DataSetDetailsDto(
-                        dsa.getRowsCount(),
-                        dsa.getFieldsCount(),
-                        consumersCount
-                    ));
-                }
                 case DATA_TRANSFORMER -> {
                     final DataTransformerAttributes dta = (DataTransformerAttributes) attrs;
                     final var dataTransformerDetailsDto = new DataEntityDimensionsDto.DataTransformerDetailsDto(
@@ -543,16 +594,6 @@ public class DataEntityServiceImpl implements DataEntityService {
                 }
             }
         });
-
-        if (contains(dto.getDataEntity().getEntityClassIds(), DATA_ENTITY_GROUP.getId())) {
-            final Set<DataEntityPojo> entityList = childrenMap.getOrDefault(oddrn, Set.of());
-            final Long childrenCount = degChildrenCount.getOrDefault(oddrn, 0L);
-            dto.setGroupsDto(new DataEntityDimensionsDto.DataEntityGroupDimensionsDto(
-                entityList,
-                entityList.size() + childrenCount.intValue(),
-                childrenCount != 0L
-            ));
-        }
     }
 
     private Mono<List<DataEntityDimensionsDto>> enrichParentGroups(
@@ -567,19 +608,26 @@ public class DataEntityServiceImpl implements DataEntityService {
             });
     }
 
-    private Mono<DataEntityDetailsDto> enrichDataEntityDetails(final DataEntityDetailsDto dto) {
-        final Mono<List<MetadataDto>> metadataDto =
-            reactiveMetadataFieldRepository.getDtosByDataEntityId(dto.getDataEntity().getId());
-        final Mono<List<DatasetVersionPojo>> datasetVersions = getDatasetVersions(dto);
-        final Mono<List<TermRefDto>> terms =
-            reactiveTermRepository.getDataEntityTerms(dto.getDataEntity().getId()).collectList();
-        final Mono<List<TagDto>> tags = tagRepository.listDataEntityDtos(dto.getDataEntity().getId());
-        return Mono.zip(metadataDto, datasetVersions, terms, tags)
-            .map(function((metadata, versions, termsList, tagList) -> {
-                dto.setMetadata(metadata);
-                dto.setDatasetVersions(versions);
-                dto.setTerms(termsList);
-                dto.setTags(tagList);
+    private Mono<DataEntityDetailsDto> enrichDataEntityDetails(final DataEntityDetailsDto dto,
+                                                               final Set<DataEntityDetailsSection> sections) {
+        final long dataEntityId = dto.getDataEntity().getId();
+
+        final Mono<Optional<List<MetadataDto>>> metadataDto = sections.contains(DataEntityDetailsSection.METADATA)
+            ? reactiveMetadataFieldRepository.getDtosByDataEntityId(dataEntityId).map(Optional::of)
+            : Mono.just(Optional.empty());
+        final Mono<Optional<List<DatasetVersionPojo>>> datasetVersions =
+            sections.contains(DataEntityDetailsSection.DATASET_VERSIONS)
+                ? getDatasetVersions(dto).map(Optional::of)
+                : Mono.just(Optional.empty());
+        final Mono<Optional<List<TermRefDto>>> terms = sections.contains(DataEntityDetailsSection.TERMS)
+            ? reactiveTermRepository.getDataEntityTerms(dataEntityId).collectList().map(Optional::of)
+            : Mono.just(Optional.empty());
+
+        return Mono.zip(metadataDto, datasetVersions, terms)
+            .map(function((metadata, versions, termsList) -> {
+                metadata.ifPresent(dto::setMetadata);
+                versions.ifPresent(dto::setDatasetVersions);
+                termsList.ifPresent(dto::setTerms);
                 return dto;
             }));
     }
@@ -0,0 +1,90 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Aggregates data entity page views in memory and periodically adds them to data_entity.view_count
+ * with a single statement, so viewing a data entity doesn't lock and rewrite its row.
+ */
+@Component
+@Slf4j
+public class DataEntityViewCounter {
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    // merge/remove lock only a single hash bin, so concurrent views of different entities don't contend
+    private final Map<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    private final ReactiveDataEntityRepository reactiveDataEntityRepository;
+    private final Duration flushInterval;
+
+    private Disposable worker;
+
+    public DataEntityViewCounter(final ReactiveDataEntityRepository reactiveDataEntityRepository,
+                                 @Value("${odd.view-count.flush-interval:5s}") final Duration flushInterval) {
+        this.reactiveDataEntityRepository = reactiveDataEntityRepository;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Registers a view and returns the view count including views which haven't been flushed yet.
+     */
+    public long registerView(final long dataEntityId, final Long persistedViewCount) {
+        final long pending = pendingViews.merge(dataEntityId, 1L, Long::sum);
+        return (persistedViewCount != null ? persistedViewCount : 0L) + pending;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runWorker() {
+        worker = Mono.delay(flushInterval)
+            .then(Mono.defer(this::flush))
+            .onErrorResume(e -> {
+                log.error("Error occurred while flushing data entity view counts", e);
+                return Mono.empty();
+            })
+            .repeat()
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stopWorker() {
+        if (worker != null) {
+            worker.dispose();
+        }
+        try {
+            flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (final Exception e) {
+            log.error("Couldn't flush data entity view counts on shutdown", e);
+        }
+    }
+
+    Mono<Void> flush() {
+        if (pendingViews.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final Map<Long, Long> deltas = new HashMap<>();
+        for (final Long dataEntityId : pendingViews.keySet()) {
+            final Long delta = pendingViews.remove(dataEntityId);
+            if (delta != null) {
+                deltas.put(dataEntityId, delta);
+            }
+        }
+
+        return reactiveDataEntityRepository.incrementViewCounts(deltas)
+            .doOnNext(updated -> log.debug("Flushed view counts of {} data entities", updated))
+            .doOnError(e -> deltas.forEach((id, delta) -> pendingViews.merge(id, delta, Long::sum)))
+            .then();
+    }
+}
@@ -119,13 +119,12 @@ public class DataSourceServiceImpl implements DataSourceService {
     }
 
     private Mono<DataSourceDto> updateSearchVectors(final DataSourceDto dto) {
-        final Mono<Integer> namespaceVector = Mono.just(dto)
-            .filter(d -> d.namespace() != null)
-            .flatMap(d -> searchEntrypointRepository.updateChangedNamespaceVector(d.namespace().getId()))
-            .switchIfEmpty(searchEntrypointRepository.clearNamespaceVector(dto.dataSource().getId()));
-        return Mono.zip(
-            searchEntrypointRepository.updateChangedDataSourceVector(dto.dataSource().getId()),
-            namespaceVector
-        ).thenReturn(dto);
+        // namespace vector is cleared right away since recalculation doesn't reset vectors without a source
+        final Mono<Integer> clearNamespaceVector = Mono.just(dto)
+            .filter(d -> d.namespace() == null)
+            .flatMap(d -> searchEntrypointRepository.clearNamespaceVector(d.dataSource().getId()));
+        return clearNamespaceVector
+            .then(searchEntrypointRepository.markDirtyByDataSource(dto.dataSource().getId()))
+            .thenReturn(dto);
     }
 }
\ No newline at end of file
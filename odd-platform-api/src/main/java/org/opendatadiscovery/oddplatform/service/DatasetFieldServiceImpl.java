@@ -5,14 +5,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.MultiValuedMap;
-import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.JSONB;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
@@ -24,6 +22,7 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityFilledField;
 import org.opendatadiscovery.oddplatform.dto.EnumValueOrigin;
 import org.opendatadiscovery.oddplatform.dto.LabelOrigin;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.dto.dataset.DatasetFieldStatisticsDto;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldStat;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetStatistics;
@@ -38,6 +37,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.EnumValuePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelToDatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldStatisticsRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveEnumValueRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLabelRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
@@ -50,19 +50,18 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.opendatadiscovery.oddplatform.dto.DataEntityFilledField.DATASET_FIELD_LABELS;
 import static org.opendatadiscovery.oddplatform.utils.ActivityParameterNames.DatasetFieldInformationUpdated.DATASET_FIELD_ID;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class DatasetFieldServiceImpl implements DatasetFieldService {
     private final DatasetFieldApiMapper datasetFieldApiMapper;
     private final ReactiveLabelService labelService;
     private final LabelMapper labelMapper;
     private final ReactiveDatasetFieldRepository reactiveDatasetFieldRepository;
+    private final ReactiveDatasetFieldStatisticsRepository datasetFieldStatisticsRepository;
     private final ReactiveLabelRepository reactiveLabelRepository;
     private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
     private final DataEntityFilledService dataEntityFilledService;
@@ -87,7 +86,7 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
                 return dataEntityFilledService.markEntityFilledByDatasetFieldId(datasetFieldId,
                     DataEntityFilledField.DATASET_FIELD_DESCRIPTION).thenReturn(description);
             })
-            .flatMap(description -> reactiveSearchEntrypointRepository.updateDatasetFieldSearchVectors(datasetFieldId)
+            .flatMap(description -> reactiveSearchEntrypointRepository.markDirtyByDatasetField(datasetFieldId)
                 .thenReturn(description));
     }
 
@@ -100,7 +99,7 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
         return reactiveLabelRepository.deleteInternalRelations(datasetFieldId)
             .then(getUpdatedRelations(names, datasetFieldId))
             .flatMapMany(reactiveLabelRepository::createRelations)
-            .then(reactiveSearchEntrypointRepository.updateDatasetFieldSearchVectors(datasetFieldId))
+            .then(reactiveSearchEntrypointRepository.markDirtyByDatasetField(datasetFieldId))
             .then(markDataEntityByLabels(formData.getLabels(), datasetFieldId))
             .then(reactiveLabelRepository.listDatasetFieldDtos(datasetFieldId))
             .flatMapMany(Flux::fromIterable)
@@ -141,81 +140,36 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
                 return acc;
             });
 
-        final Set<String> datasetOddrns = datasetStatisticsList.getItems().stream()
-            .map(DataSetStatistics::getDatasetOddrn)
-            .collect(toSet());
-
-        return reactiveDatasetFieldRepository
-            .getLastVersionDatasetFieldsByOddrns(new ArrayList<>(statistics.keySet()))
-            .collectList()
-            .flatMap(existingFields -> Mono.zipDelayError(
-                updateFieldsStatistics(statistics, existingFields),
-                updateFieldsLabels(statistics, existingFields)
-            ))
-            .then(reactiveSearchEntrypointRepository.updateStructureVectorForDataEntitiesByOddrns(datasetOddrns))
-            .then();
-    }
-
-    private Mono<Void> updateFieldsLabels(final Map<String, DataSetFieldStat> statisticsDict,
-                                          final List<DatasetFieldPojo> existingFields) {
-        final Set<String> labelNames = statisticsDict.values().stream()
+        final Set<String> labelNames = statistics.values().stream()
             .flatMap(stat -> stat.getTags() != null ? stat.getTags().stream() : Stream.empty())
             .map(Tag::getName)
             .collect(toSet());
 
-        final Map<String, DatasetFieldPojo> datasetFieldDict = existingFields.stream()
-            .collect(toMap(DatasetFieldPojo::getOddrn, identity()));
-
-        return labelService
-            .getOrCreateLabelsByName(labelNames)
-            .collectMap(LabelPojo::getName, identity())
-            .flatMap(labels -> {
-                final Set<LabelToDatasetFieldPojo> relationsToCreate = transposeDatasetStatisticsDict(statisticsDict)
-                    .entries().stream()
-                    .map(e -> createExternalStatisticsRelation(
-                        labels.get(e.getKey()).getId(),
-                        datasetFieldDict.get(e.getValue()).getId()
-                    ))
-                    .collect(toSet());
-
-                final List<Long> datasetFieldIds = datasetFieldDict.values().stream()
-                    .map(DatasetFieldPojo::getId)
-                    .toList();
-
-                return reactiveLabelRepository
-                    .listLabelRelations(datasetFieldIds, LabelOrigin.EXTERNAL_STATISTICS)
-                    .collectList()
-                    .flatMap(existingRelations -> {
-                        final List<LabelToDatasetFieldPojo> relationsToDelete = existingRelations.stream()
-                            .filter(r -> !relationsToCreate.contains(r))
-                            .toList();
-
-                        return reactiveLabelRepository
-                            .deleteRelations(relationsToDelete)
-                            .then(reactiveLabelRepository.createRelations(relationsToCreate).collectList());
-                    });
-            })
+        // only label changes affect search vectors, so datasets with merely refreshed stats aren't marked dirty
+        return labelService.getOrCreateLabelsByName(labelNames)
+            .collectMap(LabelPojo::getName, LabelPojo::getId)
+            .flatMap(labelIds -> datasetFieldStatisticsRepository.stage(toStatisticsDtos(statistics, labelIds)))
+            .then(datasetFieldStatisticsRepository.applyStatistics())
+            .thenMany(datasetFieldStatisticsRepository.applyStatisticsLabels())
+            .collect(toSet())
+            .flatMap(reactiveSearchEntrypointRepository::markDirtyByDatasetFields)
             .then();
     }
 
-    private Mono<Void> updateFieldsStatistics(final Map<String, DataSetFieldStat> statisticsDict,
-                                              final List<DatasetFieldPojo> existingFields) {
-        final List<DatasetFieldPojo> fieldsToUpdate = new ArrayList<>();
-
-        for (final DatasetFieldPojo field : existingFields) {
-            final DataSetFieldStat stat = statisticsDict.get(field.getOddrn());
-            if (stat == null) {
-                log.error("Unexpected behaviour while building an update object for datasetField {}",
-                    field.getOddrn());
-
-                continue;
-            }
-
-            field.setStats(JSONB.jsonb(JSONSerDeUtils.serializeJson(stat)));
-            fieldsToUpdate.add(field);
-        }
-
-        return reactiveDatasetFieldRepository.bulkUpdate(fieldsToUpdate).then();
+    private List<DatasetFieldStatisticsDto> toStatisticsDtos(final Map<String, DataSetFieldStat> statistics,
+                                                             final Map<String, Long> labelIds) {
+        return statistics.entrySet().stream()
+            .map(e -> new DatasetFieldStatisticsDto(
+                e.getKey(),
+                JSONB.jsonb(JSONSerDeUtils.serializeJson(e.getValue())),
+                e.getValue().getTags() != null
+                    ? e.getValue().getTags().stream()
+                    .map(t -> labelIds.get(t.getName()))
+                    .filter(Objects::nonNull)
+                    .collect(toSet())
+                    : Set.of()
+            ))
+            .toList();
     }
 
     private Mono<DataEntityFilledPojo> markDataEntityByLabels(final List<String> internalLabels,
@@ -239,29 +193,6 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
             .collectList();
     }
 
-    private LabelToDatasetFieldPojo createExternalStatisticsRelation(final long labelId, final long datasetFieldId) {
-        return new LabelToDatasetFieldPojo()
-            .setLabelId(labelId)
-            .setDatasetFieldId(datasetFieldId)
-            .setOrigin(LabelOrigin.EXTERNAL_STATISTICS.toString());
-    }
-
-    private MultiValuedMap<String, String> transposeDatasetStatisticsDict(
-        final Map<String, DataSetFieldStat> statisticsDict
-    ) {
-        final MultiValuedMap<String, String> result = new HashSetValuedHashMap<>();
-
-        statisticsDict.forEach((datasetOddrn, stat) -> {
-            if (stat.getTags() != null) {
-                for (final Tag tag : stat.getTags()) {
-                    result.put(tag.getName(), datasetOddrn);
-                }
-            }
-        });
-
-        return result;
-    }
-
     private List<DatasetFieldPojo> extractPojosToCreate(final DatasetFieldIngestionDto fieldIngestionDto) {
         return fieldIngestionDto.fieldsToCreate().values().stream()
             .map(pair -> getDatasetFieldUpdatedCopy(pair, false))
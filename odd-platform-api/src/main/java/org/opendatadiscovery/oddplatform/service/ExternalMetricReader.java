@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.service;
 
 import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -9,14 +10,19 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistory;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import org.opendatadiscovery.oddplatform.dto.metric.ExternalMetricLastValueDto;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
+import org.opendatadiscovery.oddplatform.dto.metric.prometheus.PrometheusMetric;
 import org.opendatadiscovery.oddplatform.dto.metric.prometheus.PrometheusResponse;
 import org.opendatadiscovery.oddplatform.exception.PrometheusException;
 import org.opendatadiscovery.oddplatform.mapper.PrometheusMetricsMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
 import org.opendatadiscovery.oddplatform.repository.metric.ExternalMetricLastValueRepository;
 import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.opendatadiscovery.oddplatform.utils.timeseries.TimeSeriesUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpHeaders;
@@ -42,6 +48,7 @@ public class ExternalMetricReader implements MetricReader {
     private static final int LAG_WINDOW = 2;
     private static final String INSTANT_QUERY_URL = "/api/v1/query";
     private static final String LAST_METRIC_QUERY_PATTERN = "last_over_time({%s}[%ss])";
+    private static final String RAW_SAMPLES_QUERY_PATTERN = "{%s}[%ss]";
     private static final String LABEL_PATTERN = "%s='%s'";
 
     private final WebClient webClient;
@@ -79,11 +86,66 @@ public class ExternalMetricReader implements MetricReader {
             }));
     }
 
+    /**
+     * Raw samples are fetched with a range vector selector evaluated at the end of the range
+     * and downsampled here, as Prometheus range functions drop the metric name.
+     */
+    @Override
+    public Mono<MetricSeriesHistoryList> getMetricsRangeForOddrn(final String oddrn,
+                                                                final OffsetDateTime from,
+                                                                final OffsetDateTime to) {
+        return getMetricsHistory(oddrn, from, to, null);
+    }
+
+    @Override
+    public Mono<MetricSeriesHistoryList> getDownsampledMetricsForOddrn(final String oddrn,
+                                                                      final OffsetDateTime from,
+                                                                      final OffsetDateTime to,
+                                                                      final Duration step) {
+        return getMetricsHistory(oddrn, from, to, step);
+    }
+
+    private Mono<MetricSeriesHistoryList> getMetricsHistory(final String oddrn,
+                                                           final OffsetDateTime from,
+                                                           final OffsetDateTime to,
+                                                           final Duration step) {
+        final long seconds = Duration.between(from, to).toSeconds() + 1;
+        return externalMetricLastValueRepository.getByOddrn(oddrn)
+            .map(ExternalMetricLastValueDto::familyPojo)
+            .collectMap(MetricFamilyPojo::getId, Function.identity())
+            .flatMap(families -> Flux.fromIterable(families.keySet())
+                .map(familyId -> RAW_SAMPLES_QUERY_PATTERN.formatted(getQueryLabels(oddrn, familyId), seconds))
+                .flatMap(query -> executeQuery(BodyInserters.fromFormData("query", query)
+                    .with("time", String.valueOf(to.toEpochSecond()))))
+                .flatMapIterable(response -> response.getData().getResult())
+                .map(metric -> mapSeriesHistory(metric, families, from.toEpochSecond(), step))
+                .filter(history -> !history.getPoints().isEmpty())
+                .collectList())
+            .map(items -> new MetricSeriesHistoryList().items(items));
+    }
+
+    private MetricSeriesHistory mapSeriesHistory(final PrometheusMetric metric,
+                                                 final Map<Integer, MetricFamilyPojo> families,
+                                                 final long from,
+                                                 final Duration step) {
+        final MetricFamilyPojo family =
+            families.get(Integer.valueOf(metric.getMetric().get(METRIC_FAMILY_ID.getLabelName())));
+        final List<MetricHistoryPointDto> points = mapper.mapHistoryPoints(metric).stream()
+            .filter(p -> p.timestamp() >= from)
+            .toList();
+        return mapper.mapSeriesHistory(metric, family,
+            step == null ? points : TimeSeriesUtils.downsample(points, step));
+    }
+
     private Mono<PrometheusResponse> getMetricLastValue(final String query) {
+        return executeQuery(BodyInserters.fromFormData("query", query));
+    }
+
+    private Mono<PrometheusResponse> executeQuery(final BodyInserters.FormInserter<String> formData) {
         return webClient.method(HttpMethod.POST)
             .uri(uriBuilder -> uriBuilder.path(INSTANT_QUERY_URL).build())
             .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-            .body(BodyInserters.fromFormData("query", query))
+            .body(formData)
             .retrieve()
             .bodyToMono(PrometheusResponse.class)
             .onErrorMap(e -> {
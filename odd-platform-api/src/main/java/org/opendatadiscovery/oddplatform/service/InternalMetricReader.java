@@ -1,23 +1,38 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.ListValuedMap;
 import org.apache.commons.collections4.MultiMapUtils;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistory;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
+import org.opendatadiscovery.oddplatform.config.properties.MetricHistoryProperties;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
 import org.opendatadiscovery.oddplatform.mapper.MetricsMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricChunkRepository;
 import org.opendatadiscovery.oddplatform.repository.metric.MetricFamilyRepository;
 import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelValueRepository;
 import org.opendatadiscovery.oddplatform.repository.metric.MetricSeriesRepository;
+import org.opendatadiscovery.oddplatform.utils.timeseries.GorillaChunkCodec;
+import org.opendatadiscovery.oddplatform.utils.timeseries.TimeSeriesUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -31,6 +46,8 @@ public class InternalMetricReader implements MetricReader {
     private final MetricSeriesRepository metricSeriesRepository;
     private final MetricLabelValueRepository metricLabelValueRepository;
     private final MetricFamilyRepository metricFamilyRepository;
+    private final MetricChunkRepository metricChunkRepository;
+    private final MetricHistoryProperties metricHistoryProperties;
     private final MetricsMapper metricsMapper;
 
     @Override
@@ -46,6 +63,86 @@ public class InternalMetricReader implements MetricReader {
             .map(function(this::mapToMetricSet));
     }
 
+    @Override
+    public Mono<MetricSeriesHistoryList> getMetricsRangeForOddrn(final String oddrn,
+                                                                final OffsetDateTime from,
+                                                                final OffsetDateTime to) {
+        return getMetricsHistory(oddrn, from, to, UnaryOperator.identity());
+    }
+
+    @Override
+    public Mono<MetricSeriesHistoryList> getDownsampledMetricsForOddrn(final String oddrn,
+                                                                      final OffsetDateTime from,
+                                                                      final OffsetDateTime to,
+                                                                      final Duration step) {
+        return getMetricsHistory(oddrn, from, to, points -> TimeSeriesUtils.downsample(points, step));
+    }
+
+    private Mono<MetricSeriesHistoryList> getMetricsHistory(final String oddrn,
+                                                           final OffsetDateTime from,
+                                                           final OffsetDateTime to,
+                                                           final UnaryOperator<List<MetricHistoryPointDto>> transform) {
+        return metricSeriesRepository.getSeriesByEntityOddrn(oddrn)
+            .collectMap(MetricSeriesPojo::getId)
+            .filter(series -> !series.isEmpty())
+            .flatMap(series -> metricChunkRepository.getChunks(series.keySet(),
+                    from.atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime(),
+                    to.atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime(),
+                    metricHistoryProperties.getChunkDuration())
+                .collectList()
+                .flatMap(chunks -> {
+                    final Set<Integer> familyIds = series.values().stream()
+                        .map(MetricSeriesPojo::getMetricFamilyId)
+                        .collect(Collectors.toSet());
+                    final Set<Integer> labelValueIds = chunks.stream()
+                        .flatMap(c -> Arrays.stream(c.getLabelValuesIds()))
+                        .collect(Collectors.toSet());
+                    return Mono.zip(
+                        metricFamilyRepository.getByIds(familyIds).collectMap(MetricFamilyPojo::getId),
+                        metricLabelValueRepository.getDtoByIds(labelValueIds),
+                        Mono.just(decodeChunks(chunks, from.toEpochSecond(), to.toEpochSecond()))
+                    );
+                })
+                .map(function((families, labelValues, pointsBySeries) -> {
+                    final Map<Integer, MetricLabelValueDto> labelValuesById = labelValues.stream()
+                        .collect(Collectors.toMap(dto -> dto.labelValue().getId(), dto -> dto));
+                    final List<MetricSeriesHistory> items = pointsBySeries.entrySet().stream()
+                        .map(e -> {
+                            final MetricSeriesPojo seriesPojo = series.get(e.getKey().seriesId());
+                            return metricsMapper.mapSeriesHistory(
+                                families.get(seriesPojo.getMetricFamilyId()),
+                                seriesPojo,
+                                e.getKey().labelValuesIds().stream().map(labelValuesById::get).toList(),
+                                transform.apply(e.getValue())
+                            );
+                        })
+                        .toList();
+                    return new MetricSeriesHistoryList().items(items);
+                })))
+            .defaultIfEmpty(new MetricSeriesHistoryList().items(List.of()));
+    }
+
+    /**
+     * Chunks come ordered by their start and don't overlap, so concatenated points stay sorted.
+     */
+    private Map<SeriesKey, List<MetricHistoryPointDto>> decodeChunks(final List<MetricChunkPojo> chunks,
+                                                                     final long from,
+                                                                     final long to) {
+        final Map<SeriesKey, List<MetricHistoryPointDto>> result = new LinkedHashMap<>();
+        for (final MetricChunkPojo chunk : chunks) {
+            final List<MetricHistoryPointDto> points = GorillaChunkCodec.decode(chunk.getData()).stream()
+                .filter(p -> p.timestamp() >= from && p.timestamp() <= to)
+                .toList();
+            if (!points.isEmpty()) {
+                result.computeIfAbsent(
+                    new SeriesKey(chunk.getSeriesId(), Arrays.asList(chunk.getLabelValuesIds())),
+                    ignored -> new ArrayList<>()
+                ).addAll(points);
+            }
+        }
+        return result;
+    }
+
     private Mono<List<MetricLabelValueDto>> getLabelValues(final Collection<MetricSeriesDto> series) {
         final Set<Integer> labelValueIds = series.stream().flatMap(s -> s.points().stream())
             .flatMap(p -> Arrays.stream(p.getLabelValuesIds()))
@@ -63,4 +160,7 @@ public class InternalMetricReader implements MetricReader {
         metricSet.setMetricFamilies(metricFamilies);
         return metricSet;
     }
+
+    private record SeriesKey(Integer seriesId, List<Integer> labelValuesIds) {
+    }
 }
@@ -1,16 +1,12 @@
 package org.opendatadiscovery.oddplatform.service;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -34,8 +30,13 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.service.lineage.LineageComponentsAssembler;
+import org.opendatadiscovery.oddplatform.service.lineage.LineageGraphIndex;
 import org.opendatadiscovery.oddplatform.utils.Pair;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
@@ -55,6 +56,7 @@ public class LineageServiceImpl implements LineageService {
     private final ReactiveDataEntityRepository reactiveDataEntityRepository;
     private final ReactiveGroupEntityRelationRepository groupEntityRelationRepository;
     private final LineageMapper lineageMapper;
+    private final LineageGraphIndex lineageGraphIndex;
 
     @Override
     public Mono<DataEntityGroupLineageList> getDataEntityGroupLineage(final Long dataEntityGroupId) {
@@ -63,8 +65,7 @@ public class LineageServiceImpl implements LineageService {
             .collectList()
             .flatMap(entitiesOddrns -> {
                 final Mono<Map<String, DataEntityDimensionsDto>> dict = getDataEntityWithDatasourceMap(entitiesOddrns);
-                final Mono<List<LineagePojo>> relations = lineageRepository.getLineageRelations(entitiesOddrns)
-                    .collectList();
+                final Mono<List<LineagePojo>> relations = getRelationsBetween(entitiesOddrns);
                 return Mono.zip(dict, relations);
             })
             .map(function((dict, relations) -> {
@@ -73,9 +74,8 @@ public class LineageServiceImpl implements LineageService {
                     .filter(r -> !isDegODDRN(r.getChildOddrn(), dict) && !isDegODDRN(r.getParentOddrn(), dict))
                     .toList();
                 dict.entrySet().removeIf(e -> isDEG(e.getValue().getDataEntity()));
-                final Map<String, List<LineagePojo>> relationsMap = buildRelationsMap(filteredRelations);
                 final Map<String, Set<LineagePojo>> establishedRelations =
-                    establishDEGRelations(dict.keySet(), relationsMap);
+                    LineageComponentsAssembler.assemble(dict.keySet(), filteredRelations);
                 final List<DataEntityLineageStreamDto> items = establishedRelations.entrySet().stream()
                     .map(oddrnRelations -> getLineageStream(oddrnRelations.getKey(), oddrnRelations.getValue(), dict))
                     .toList();
@@ -92,11 +92,10 @@ public class LineageServiceImpl implements LineageService {
         return reactiveDataEntityRepository.getDataEntityWithDataSourceAndNamespace(dataEntityId)
             .switchIfEmpty(Mono.error(new NotFoundException("DataEntity", dataEntityId)))
             .flatMap(root -> {
-                final Flux<LineagePojo> lineageRelations = lineageRepository
-                    .getLineageRelations(Set.of(root.getDataEntity().getOddrn()), LineageDepth.of(lineageDepth),
-                        lineageStreamKind);
-                final Flux<LineagePojo> expandedRelations = lineageRepository
-                    .getLineageRelationsForDepthOne(expandedEntityIds, lineageStreamKind);
+                final Flux<LineagePojo> lineageRelations =
+                    getLineageRelations(root.getDataEntity().getOddrn(), lineageDepth, lineageStreamKind);
+                final Flux<LineagePojo> expandedRelations =
+                    getExpandedRelations(expandedEntityIds, lineageStreamKind);
                 return lineageRelations.mergeWith(expandedRelations)
                     .distinct()
                     .collectList()
@@ -110,8 +109,7 @@ public class LineageServiceImpl implements LineageService {
                 final var repositoryMapsMono = groupEntityRelationRepository.fetchGroupRelations(oddrnsToFetch)
                     .flatMap(groupRelations -> getGroupsAndEntitiesMaps(oddrnsToFetch, groupRelations));
 
-                return Mono.zip(repositoryMapsMono, lineageRepository.getChildrenCount(oddrnsToFetch),
-                        lineageRepository.getParentCount(oddrnsToFetch))
+                return Mono.zip(repositoryMapsMono, getChildrenCount(oddrnsToFetch), getParentCount(oddrnsToFetch))
                     .map(function((repositoryMaps, childrenCountMap, parentsCountMap) -> {
                         final DataEntityLineageStreamDto lineageStream = getLineageStream(repositoryMaps.getT1(),
                             repositoryMaps.getT2(), relations, childrenCountMap, parentsCountMap);
@@ -128,8 +126,76 @@ public class LineageServiceImpl implements LineageService {
             .map(LineagePojo::getEstablisherOddrn)
             .collect(Collectors.toSet());
 
-        return lineageRepository.batchDeleteByEstablisherOddrn(establishers)
-            .thenMany(lineageRepository.batchInsertLineages(pojos));
+        return lineageRepository.markChangesAppliedBy(lineageGraphIndex.getInstanceId())
+            .thenMany(lineageRepository.batchDeleteByEstablisherOddrn(establishers))
+            .collectList()
+            .flatMapMany(removed -> lineageRepository.batchInsertLineages(pojos)
+                .collectList()
+                .flatMap(added -> updateIndexAfterCommit(removed, added).thenReturn(added))
+                .flatMapIterable(identity()));
+    }
+
+    // the index is shared by all the requests, so it mustn't see changes of a transaction which may roll back
+    private Mono<Void> updateIndexAfterCommit(final List<LineagePojo> removed, final List<LineagePojo> added) {
+        final Runnable update = () -> {
+            lineageGraphIndex.removeRelations(removed);
+            lineageGraphIndex.addRelations(added);
+        };
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(update);
+                }
+            }))
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(update))
+            .then();
+    }
+
+    private Flux<LineagePojo> getLineageRelations(final String rootOddrn,
+                                                  final int lineageDepth,
+                                                  final LineageStreamKind lineageStreamKind) {
+        if (lineageGraphIndex.isReady()) {
+            return Flux.defer(() -> Flux.fromIterable(
+                lineageGraphIndex.getRelations(Set.of(rootOddrn), lineageDepth, lineageStreamKind)));
+        }
+        return lineageRepository.getLineageRelations(Set.of(rootOddrn), LineageDepth.of(lineageDepth),
+            lineageStreamKind);
+    }
+
+    private Flux<LineagePojo> getExpandedRelations(final List<Long> expandedEntityIds,
+                                                   final LineageStreamKind lineageStreamKind) {
+        if (!lineageGraphIndex.isReady()) {
+            return lineageRepository.getLineageRelationsForDepthOne(expandedEntityIds, lineageStreamKind);
+        }
+        if (CollectionUtils.isEmpty(expandedEntityIds)) {
+            return Flux.empty();
+        }
+        return reactiveDataEntityRepository.get(expandedEntityIds)
+            .map(DataEntityPojo::getOddrn)
+            .collectList()
+            .flatMapIterable(oddrns -> lineageGraphIndex.getRelations(oddrns, 1, lineageStreamKind));
+    }
+
+    private Mono<List<LineagePojo>> getRelationsBetween(final List<String> oddrns) {
+        if (lineageGraphIndex.isReady()) {
+            return Mono.fromSupplier(() -> lineageGraphIndex.getRelationsBetween(oddrns));
+        }
+        return lineageRepository.getLineageRelations(oddrns).collectList();
+    }
+
+    private Mono<Map<String, Integer>> getChildrenCount(final Set<String> oddrns) {
+        if (lineageGraphIndex.isReady()) {
+            return Mono.fromSupplier(() -> lineageGraphIndex.getChildrenCount(oddrns));
+        }
+        return lineageRepository.getChildrenCount(oddrns);
+    }
+
+    private Mono<Map<String, Integer>> getParentCount(final Set<String> oddrns) {
+        if (lineageGraphIndex.isReady()) {
+            return Mono.fromSupplier(() -> lineageGraphIndex.getParentCount(oddrns));
+        }
+        return lineageRepository.getParentCount(oddrns);
     }
 
     private DataEntityLineageStreamDto getLineageStream(
@@ -197,41 +263,6 @@ public class LineageServiceImpl implements LineageService {
         return new DataEntityLineageStreamDto(nodes, edges, List.of(), Map.of());
     }
 
-    private Map<String, Set<LineagePojo>> establishDEGRelations(final Set<String> degOddrns,
-                                                                final Map<String, List<LineagePojo>> relationsMap) {
-        final Set<String> participatedOddrns = new HashSet<>();
-        final Map<String, Set<LineagePojo>> result = new HashMap<>();
-        degOddrns.stream()
-            .filter(oddrn -> !participatedOddrns.contains(oddrn))
-            .forEach(oddrn -> {
-                final Set<LineagePojo> oddrnRelations =
-                    getRelationsForEntities(new HashSet<>(), Set.of(oddrn), new HashSet<>(), relationsMap);
-                oddrnRelations.forEach(pojo -> {
-                    participatedOddrns.add(pojo.getChildOddrn());
-                    participatedOddrns.add(pojo.getParentOddrn());
-                });
-                result.put(oddrn, oddrnRelations);
-            });
-        return result;
-    }
-
-    private Set<LineagePojo> getRelationsForEntities(final Set<String> handledOddrns,
-                                                     final Set<String> oddrnsToHandle,
-                                                     final Set<LineagePojo> establishedRelations,
-                                                     final Map<String, List<LineagePojo>> relationsMap) {
-        if (CollectionUtils.isEmpty(oddrnsToHandle)) {
-            return establishedRelations;
-        }
-        oddrnsToHandle.stream()
-            .flatMap(entityOddrn -> relationsMap.getOrDefault(entityOddrn, List.of()).stream())
-            .forEach(establishedRelations::add);
-        final Set<String> establishedRelationOddrns = establishedRelations.stream()
-            .flatMap(r -> Stream.of(r.getChildOddrn(), r.getParentOddrn()))
-            .collect(Collectors.toSet());
-        final Set<String> newOddrns = SetUtils.difference(establishedRelationOddrns, handledOddrns).toSet();
-        return getRelationsForEntities(establishedRelationOddrns, newOddrns, establishedRelations, relationsMap);
-    }
-
     private Mono<Map<String, DataEntityDimensionsDto>> getDataEntityWithDatasourceMap(final Collection<String> oddrns) {
         return reactiveDataEntityRepository.getDataEntitiesWithDataSourceAndNamespace(oddrns)
             .collect(Collectors.toMap(d -> d.getDataEntity().getOddrn(), identity()));
@@ -279,28 +310,6 @@ public class LineageServiceImpl implements LineageService {
             .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
     }
 
-    private Map<String, List<LineagePojo>> buildRelationsMap(final List<LineagePojo> relations) {
-        final Map<String, List<LineagePojo>> relationsMap = new HashMap<>();
-        relations.forEach(pojo -> {
-            relationsMap.compute(pojo.getParentOddrn(), compute(pojo));
-            relationsMap.compute(pojo.getChildOddrn(), compute(pojo));
-        });
-        return relationsMap;
-    }
-
-    private BiFunction<String, List<LineagePojo>, List<LineagePojo>> compute(final LineagePojo pojo) {
-        return (k, v) -> {
-            if (v == null) {
-                final List<LineagePojo> pojos = new ArrayList<>();
-                pojos.add(pojo);
-                return pojos;
-            } else {
-                v.add(pojo);
-                return v;
-            }
-        };
-    }
-
     private boolean isDegODDRN(final String oddrn,
                                final Map<String, DataEntityDimensionsDto> dictionary) {
         return isDEG(dictionary.get(oddrn).getDataEntity());
@@ -1,8 +1,27 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import reactor.core.publisher.Mono;
 
 public interface MetricReader {
     Mono<MetricSet> getLatestMetricsForOddrn(final String oddrn);
+
+    /**
+     * @return raw points of every series of the entity within the range, sorted by timestamp
+     */
+    Mono<MetricSeriesHistoryList> getMetricsRangeForOddrn(final String oddrn,
+                                                         final OffsetDateTime from,
+                                                         final OffsetDateTime to);
+
+    /**
+     * @return points of every series of the entity within the range averaged over every step,
+     * stamped with the start of their step
+     */
+    Mono<MetricSeriesHistoryList> getDownsampledMetricsForOddrn(final String oddrn,
+                                                               final OffsetDateTime from,
+                                                               final OffsetDateTime to,
+                                                               final Duration step);
 }
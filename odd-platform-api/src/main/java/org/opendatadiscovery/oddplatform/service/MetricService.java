@@ -1,5 +1,7 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.time.OffsetDateTime;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import reactor.core.publisher.Mono;
 
@@ -7,4 +9,20 @@ public interface MetricService {
     Mono<MetricSet> getLatestMetricsForDataEntity(final long dataEntityId);
 
     Mono<MetricSet> getLatestMetricsForDatasetField(final long datasetFieldId);
+
+    /**
+     * @param stepSeconds downsampling step, raw points are returned if it's null
+     */
+    Mono<MetricSeriesHistoryList> getMetricsHistoryForDataEntity(final long dataEntityId,
+                                                                final OffsetDateTime from,
+                                                                final OffsetDateTime to,
+                                                                final Long stepSeconds);
+
+    /**
+     * @param stepSeconds downsampling step, raw points are returned if it's null
+     */
+    Mono<MetricSeriesHistoryList> getMetricsHistoryForDatasetField(final long datasetFieldId,
+                                                                  final OffsetDateTime from,
+                                                                  final OffsetDateTime to,
+                                                                  final Long stepSeconds);
 }
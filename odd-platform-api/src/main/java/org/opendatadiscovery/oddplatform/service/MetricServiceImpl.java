@@ -1,7 +1,11 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
@@ -32,4 +36,46 @@ public class MetricServiceImpl implements MetricService {
             .map(DatasetFieldPojo::getOddrn)
             .flatMap(metricReader::getLatestMetricsForOddrn);
     }
+
+    @Override
+    public Mono<MetricSeriesHistoryList> getMetricsHistoryForDataEntity(final long dataEntityId,
+                                                                       final OffsetDateTime from,
+                                                                       final OffsetDateTime to,
+                                                                       final Long stepSeconds) {
+        return validateRange(from, to, stepSeconds)
+            .then(dataEntityRepository.get(dataEntityId))
+            .switchIfEmpty(Mono.error(new NotFoundException("Data Entity", dataEntityId)))
+            .flatMap(pojo -> getMetricsHistory(pojo.getOddrn(), from, to, stepSeconds));
+    }
+
+    @Override
+    public Mono<MetricSeriesHistoryList> getMetricsHistoryForDatasetField(final long datasetFieldId,
+                                                                         final OffsetDateTime from,
+                                                                         final OffsetDateTime to,
+                                                                         final Long stepSeconds) {
+        return validateRange(from, to, stepSeconds)
+            .then(datasetFieldRepository.get(datasetFieldId))
+            .switchIfEmpty(Mono.error(new NotFoundException("Dataset Field", datasetFieldId)))
+            .flatMap(pojo -> getMetricsHistory(pojo.getOddrn(), from, to, stepSeconds));
+    }
+
+    private Mono<MetricSeriesHistoryList> getMetricsHistory(final String oddrn,
+                                                            final OffsetDateTime from,
+                                                            final OffsetDateTime to,
+                                                            final Long stepSeconds) {
+        if (stepSeconds == null) {
+            return metricReader.getMetricsRangeForOddrn(oddrn, from, to);
+        }
+        return metricReader.getDownsampledMetricsForOddrn(oddrn, from, to, Duration.ofSeconds(stepSeconds));
+    }
+
+    private Mono<Void> validateRange(final OffsetDateTime from, final OffsetDateTime to, final Long stepSeconds) {
+        if (from.isAfter(to)) {
+            return Mono.error(new BadUserRequestException("Metrics history range start must not be after its end"));
+        }
+        if (stepSeconds != null && stepSeconds <= 0) {
+            return Mono.error(new BadUserRequestException("Metrics history step must be positive"));
+        }
+        return Mono.empty();
+    }
 }
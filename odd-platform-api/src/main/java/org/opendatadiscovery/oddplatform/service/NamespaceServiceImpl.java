@@ -92,7 +92,7 @@ public class NamespaceServiceImpl implements NamespaceService {
 
     private Mono<NamespacePojo> updateSearchVectors(final NamespacePojo pojo) {
         return Mono.zip(
-            searchEntrypointRepository.updateChangedNamespaceVector(pojo.getId()),
+            searchEntrypointRepository.markDirtyByNamespace(pojo.getId()),
             termSearchEntrypointRepository.updateChangedNamespaceVector(pojo.getId())
         ).thenReturn(pojo);
     }
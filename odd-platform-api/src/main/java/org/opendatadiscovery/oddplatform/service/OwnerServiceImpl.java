@@ -102,7 +102,7 @@ public class OwnerServiceImpl implements OwnerService {
 
     private Mono<OwnerPojo> updateSearchVectors(final OwnerPojo owner) {
         return Mono.zip(
-            searchEntrypointRepository.updateChangedOwnerVectors(owner.getId()),
+            searchEntrypointRepository.markDirtyByOwner(owner.getId()),
             termSearchEntrypointRepository.updateChangedOwnerVectors(owner.getId())
         ).thenReturn(owner);
     }
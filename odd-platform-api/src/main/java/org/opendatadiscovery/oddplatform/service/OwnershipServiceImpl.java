@@ -114,7 +114,7 @@ public class OwnershipServiceImpl implements OwnershipService {
                 return Mono.just(ownershipPojo);
             })
             .then(ownershipRepository.get(ownershipId))
-            .flatMap(dto -> searchEntrypointRepository.updateChangedOwnershipVectors(ownershipId)
+            .flatMap(dto -> searchEntrypointRepository.markDirtyByOwnership(ownershipId)
                 .thenReturn(dto))
             .map(ownershipMapper::mapDto);
     }
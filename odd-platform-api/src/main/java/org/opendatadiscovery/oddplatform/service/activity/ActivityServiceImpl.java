@@ -21,9 +21,10 @@ import org.opendatadiscovery.oddplatform.dto.security.UserDto;
 import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
 import org.opendatadiscovery.oddplatform.mapper.ActivityMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.ActivityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveActivityRepository;
-import org.opendatadiscovery.oddplatform.service.DataEntityService;
 import org.opendatadiscovery.oddplatform.service.activity.handler.ActivityHandler;
+import org.opendatadiscovery.oddplatform.service.lineage.OwnerLineageDependencyService;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -35,7 +36,7 @@ import static reactor.function.TupleUtils.function;
 @Slf4j
 public class ActivityServiceImpl implements ActivityService {
     private final ReactiveActivityRepository activityRepository;
-    private final DataEntityService dataEntityService;
+    private final OwnerLineageDependencyService ownerLineageDependencyService;
     private final AuthIdentityProvider authIdentityProvider;
     private final ActivityMapper activityMapper;
     private final List<ActivityHandler> handlers;
@@ -209,9 +210,10 @@ public class ActivityServiceImpl implements ActivityService {
                                                     final Long lastEventId,
                                                     final OffsetDateTime lastEventDateTime,
                                                     final LineageStreamKind lineageStreamKind) {
-        return dataEntityService.getDependentDataEntityOddrns(lineageStreamKind)
-            .flatMapMany(oddrns -> activityRepository.findDependentActivities(beginDate, endDate, size, datasourceId,
-                namespaceId, tagIds, userIds, eventType, oddrns, lastEventId, lastEventDateTime))
+        return fetchOwnerWithRefreshedDependencies()
+            .flatMapMany(owner -> activityRepository.findDependentActivities(beginDate, endDate, size, datasourceId,
+                namespaceId, tagIds, userIds, eventType, owner.getId(), lineageStreamKind, lastEventId,
+                lastEventDateTime))
             .map(activityMapper::mapToActivity)
             .switchIfEmpty(Flux.empty());
     }
@@ -251,12 +253,17 @@ public class ActivityServiceImpl implements ActivityService {
                                                    final List<Long> userIds,
                                                    final ActivityEventTypeDto eventType,
                                                    final LineageStreamKind lineageStreamKind) {
-        return dataEntityService.getDependentDataEntityOddrns(lineageStreamKind)
-            .flatMap(oddrns -> activityRepository.getDependentActivitiesCount(beginDate, endDate, datasourceId,
-                namespaceId, tagIds, userIds, eventType, oddrns))
+        return fetchOwnerWithRefreshedDependencies()
+            .flatMap(owner -> activityRepository.getDependentActivitiesCount(beginDate, endDate, datasourceId,
+                namespaceId, tagIds, userIds, eventType, owner.getId(), lineageStreamKind))
             .defaultIfEmpty(0L);
     }
 
+    private Mono<OwnerPojo> fetchOwnerWithRefreshedDependencies() {
+        return authIdentityProvider.fetchAssociatedOwner()
+            .flatMap(owner -> ownerLineageDependencyService.ensureRefreshed(owner.getId()).thenReturn(owner));
+    }
+
     private ActivityHandler getActivityHandler(final ActivityEventTypeDto eventType) {
         return handlers.stream().filter(handler -> handler.isHandle(eventType))
             .findFirst()
@@ -0,0 +1,68 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calculates a fingerprint of the whole ingested data entity, including its structure, lineage,
+ * metadata, tags and group members. Equal fingerprints mean that the collector sent an identical entity
+ * for the same data source.
+ *
+ * <p>The entity's updated_at isn't a part of the fingerprint: collectors often report it on every run,
+ * so it would make every entity look changed. It gets refreshed with the next change of the content.
+ */
+@Component
+public class DataEntityFingerprintCalculator {
+    private static final String ALGORITHM = "SHA-256";
+
+    // properties and map entries are sorted so that the fingerprint doesn't depend on the serialization order
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .addMixIn(DataEntity.class, DataEntityFingerprintMixIn.class)
+        .build();
+
+    public String calculate(final DataEntity dataEntity, final long dataSourceId) {
+        final MessageDigest md = createSHA256MessageDigest();
+
+        // an entity moved to another data source has to be ingested again even if its content is the same
+        md.update((dataSourceId + ":").getBytes(StandardCharsets.UTF_8));
+        try (final OutputStream os = new DigestOutputStream(OutputStream.nullOutputStream(), md)) {
+            OBJECT_MAPPER.writeValue(os, dataEntity);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private MessageDigest createSHA256MessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private abstract static class DataEntityFingerprintMixIn {
+        @JsonIgnore
+        abstract OffsetDateTime getUpdatedAt();
+    }
+}
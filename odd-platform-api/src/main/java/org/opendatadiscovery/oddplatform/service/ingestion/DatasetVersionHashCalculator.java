@@ -1,9 +1,18 @@
 package org.opendatadiscovery.oddplatform.service.ingestion;
 
+import com.fasterxml.jackson.databind.SequenceWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.opendatadiscovery.oddplatform.dto.ingestion.HashableDatasetField;
@@ -13,6 +22,12 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 import org.springframework.stereotype.Component;
 
+/**
+ * Calculates dataset structure hash as SHA-256 of the JSON array of {@link HashableDatasetField} sorted by oddrn.
+ *
+ * <p>Fields are serialized one by one straight into the digest, so no intermediate JSON document is built.
+ * The hash is byte-compatible with the previously stored version_hash values.
+ */
 @Component
 public class DatasetVersionHashCalculator {
     private static final String ALGORITHM = "SHA-256";
@@ -23,55 +38,55 @@ public class DatasetVersionHashCalculator {
             return EMPTY_FIELDS_HASH;
         }
 
-        final List<HashableDatasetField> sortedFields = fields.stream()
-            .map(f -> HashableDatasetField.builder()
-                .name(f.getName())
-                .oddrn(f.getOddrn())
-                .parentFieldOddrn(f.getParentFieldOddrn())
-                .type(f.getType())
-                .isKey(BooleanUtils.toBoolean(f.getIsKey()))
-                .isValue(BooleanUtils.toBoolean(f.getIsValue()))
-                .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
-                .build())
-            .sorted(Comparator.comparing(HashableDatasetField::getOddrn))
-            .toList();
-
-        return calculateHash(sortedFields);
+        return calculateHash(fields, DataSetField::getOddrn, f -> HashableDatasetField.builder()
+            .name(f.getName())
+            .oddrn(f.getOddrn())
+            .parentFieldOddrn(f.getParentFieldOddrn())
+            .type(f.getType())
+            .isKey(BooleanUtils.toBoolean(f.getIsKey()))
+            .isValue(BooleanUtils.toBoolean(f.getIsValue()))
+            .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
+            .build());
     }
 
     public String calculateStructureHashFromPojos(final List<DatasetFieldPojo> fields) {
         if (CollectionUtils.isEmpty(fields)) {
             return EMPTY_FIELDS_HASH;
         }
-        final List<HashableDatasetField> sortedFields = fields.stream()
-            .map(f -> {
-                final DataSetFieldType dataSetFieldType =
-                    JSONSerDeUtils.deserializeJson(f.getType().data(), DataSetFieldType.class);
-                return HashableDatasetField.builder()
-                    .name(f.getName())
-                    .oddrn(f.getOddrn())
-                    .parentFieldOddrn(f.getParentFieldOddrn())
-                    .type(dataSetFieldType)
-                    .isKey(BooleanUtils.toBoolean(f.getIsKey()))
-                    .isValue(BooleanUtils.toBoolean(f.getIsValue()))
-                    .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
-                    .build();
-            })
-            .sorted(Comparator.comparing(HashableDatasetField::getOddrn))
-            .toList();
 
-        return calculateHash(sortedFields);
+        // wide schemas reuse a handful of distinct types, so each distinct JSONB type is deserialized only once
+        final Map<String, DataSetFieldType> types = new HashMap<>();
+
+        return calculateHash(fields, DatasetFieldPojo::getOddrn, f -> HashableDatasetField.builder()
+            .name(f.getName())
+            .oddrn(f.getOddrn())
+            .parentFieldOddrn(f.getParentFieldOddrn())
+            .type(types.computeIfAbsent(f.getType().data(),
+                data -> JSONSerDeUtils.deserializeJson(data, DataSetFieldType.class)))
+            .isKey(BooleanUtils.toBoolean(f.getIsKey()))
+            .isValue(BooleanUtils.toBoolean(f.getIsValue()))
+            .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
+            .build());
     }
 
-    private String calculateHash(final List<HashableDatasetField> sortedFields) {
-        final MessageDigest md = createSHA256MessageDigest();
-        final StringBuilder sb = new StringBuilder();
+    private <T> String calculateHash(final List<T> fields,
+                                     final Function<T, String> oddrnExtractor,
+                                     final Function<T, HashableDatasetField> hashableFieldMapper) {
+        final List<T> sortedFields = fields.stream()
+            .sorted(Comparator.comparing(oddrnExtractor))
+            .toList();
 
-        for (final byte b : md.digest(JSONSerDeUtils.serializeJson(sortedFields).getBytes())) {
-            sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+        final MessageDigest md = createSHA256MessageDigest();
+        try (final SequenceWriter writer =
+                 JSONSerDeUtils.arrayWriter(new DigestOutputStream(OutputStream.nullOutputStream(), md))) {
+            for (final T field : sortedFields) {
+                writer.write(hashableFieldMapper.apply(field));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        return sb.toString();
+        return HexFormat.of().formatHex(md.digest());
     }
 
     private MessageDigest createSHA256MessageDigest() {
@@ -0,0 +1,11 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import org.opendatadiscovery.oddplatform.api.contract.model.IngestionJob;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import reactor.core.publisher.Mono;
+
+public interface IngestionJobService {
+    Mono<IngestionJob> enqueue(final DataEntityList dataEntityList);
+
+    Mono<IngestionJob> getJob(final long jobId);
+}
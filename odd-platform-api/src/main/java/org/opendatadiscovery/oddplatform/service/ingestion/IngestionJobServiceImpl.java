@@ -0,0 +1,63 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jooq.JSONB;
+import org.opendatadiscovery.oddplatform.api.contract.model.IngestionJob;
+import org.opendatadiscovery.oddplatform.api.contract.model.IngestionJobStatus;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatusDto;
+import org.opendatadiscovery.oddplatform.exception.NotFoundException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class IngestionJobServiceImpl implements IngestionJobService {
+    private final ReactiveIngestionJobRepository ingestionJobRepository;
+    private final ReactiveDataSourceRepository dataSourceRepository;
+
+    @Override
+    public Mono<IngestionJob> enqueue(final DataEntityList dataEntityList) {
+        final IngestionJobPojo pojo = new IngestionJobPojo()
+            .setDataSourceOddrn(dataEntityList.getDataSourceOddrn())
+            .setPayload(JSONB.jsonb(JSONSerDeUtils.serializeJson(dataEntityList)))
+            .setStatus(IngestionJobStatusDto.QUEUED.getCode());
+
+        return dataSourceRepository.getDtoByOddrn(dataEntityList.getDataSourceOddrn())
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("dataSource", dataEntityList.getDataSourceOddrn())))
+            .then(ingestionJobRepository.create(pojo))
+            .map(this::mapJob);
+    }
+
+    @Override
+    public Mono<IngestionJob> getJob(final long jobId) {
+        return ingestionJobRepository.get(jobId)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("ingestion job", jobId)))
+            .map(this::mapJob);
+    }
+
+    private IngestionJob mapJob(final IngestionJobPojo pojo) {
+        final Map<String, Long> phaseTimings = pojo.getPhaseTimings() != null
+            ? JSONSerDeUtils.deserializeJson(pojo.getPhaseTimings().data(), new TypeReference<Map<String, Long>>() {
+            })
+            : Map.of();
+        final IngestionJobStatusDto status = IngestionJobStatusDto.fromCode(pojo.getStatus())
+            .orElseThrow(() -> new IllegalStateException("Unknown ingestion job status: " + pojo.getStatus()));
+
+        return new IngestionJob()
+            .jobId(pojo.getId())
+            .dataSourceOddrn(pojo.getDataSourceOddrn())
+            .status(IngestionJobStatus.fromValue(status.name()))
+            .createdAt(pojo.getCreatedAt())
+            .startedAt(pojo.getStartedAt())
+            .finishedAt(pojo.getFinishedAt())
+            .errorMessage(pojo.getErrorMessage())
+            .phaseTimingsMs(phaseTimings);
+    }
+}
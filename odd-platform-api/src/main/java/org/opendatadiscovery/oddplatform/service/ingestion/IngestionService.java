@@ -1,11 +1,17 @@
 package org.opendatadiscovery.oddplatform.service.ingestion;
 
+import java.time.Duration;
+import java.util.function.BiConsumer;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
+import org.opendatadiscovery.oddplatform.service.ingestion.processor.IngestionProcessingPhase;
 import reactor.core.publisher.Mono;
 
 public interface IngestionService {
     Mono<Void> ingest(final DataEntityList dataEntityList);
 
+    Mono<Void> ingest(final DataEntityList dataEntityList,
+                      final BiConsumer<IngestionProcessingPhase, Duration> phaseTimingsConsumer);
+
     Mono<Void> ingestStats(final DatasetStatisticsList datasetStatisticsList);
 }
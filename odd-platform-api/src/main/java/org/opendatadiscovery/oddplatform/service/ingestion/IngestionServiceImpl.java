@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service.ingestion;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -7,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +38,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
 import org.opendatadiscovery.oddplatform.service.DatasetFieldService;
+import org.opendatadiscovery.oddplatform.service.ingestion.processor.IngestionProcessingPhase;
 import org.opendatadiscovery.oddplatform.service.ingestion.processor.IngestionProcessorChain;
 import org.opendatadiscovery.oddplatform.service.metric.OTLPMetricService;
 import org.springframework.stereotype.Service;
@@ -53,6 +56,7 @@ public class IngestionServiceImpl implements IngestionService {
     private final IngestionProcessorChain ingestionProcessorChain;
     private final OTLPMetricService otlpMetricService;
     private final DatasetFieldService datasetFieldService;
+    private final DataEntityFingerprintCalculator dataEntityFingerprintCalculator;
 
     private final ReactiveDataEntityRepository dataEntityRepository;
     private final ReactiveDataSourceRepository dataSourceRepository;
@@ -62,10 +66,18 @@ public class IngestionServiceImpl implements IngestionService {
     @Override
     @ReactiveTransactional
     public Mono<Void> ingest(final DataEntityList dataEntityList) {
+        return ingest(dataEntityList, (phase, duration) -> {
+        });
+    }
+
+    @Override
+    @ReactiveTransactional
+    public Mono<Void> ingest(final DataEntityList dataEntityList,
+                             final BiConsumer<IngestionProcessingPhase, Duration> phaseTimingsConsumer) {
         return dataSourceRepository.getIdByOddrnForUpdate(dataEntityList.getDataSourceOddrn())
             .switchIfEmpty(Mono.error(() -> new NotFoundException("dataSource", dataEntityList.getDataSourceOddrn())))
             .flatMap(dataSourceId -> persistDataEntities(dataSourceId, dataEntityList.getItems()))
-            .flatMap(ingestionProcessorChain::processIngestionRequest)
+            .flatMap(request -> ingestionProcessorChain.processIngestionRequest(request, phaseTimingsConsumer))
             .flatMap(otlpMetricService::exportMetrics)
             .then();
     }
@@ -79,7 +91,7 @@ public class IngestionServiceImpl implements IngestionService {
                                                        final List<DataEntity> dataEntities) {
         final Map<String, DataEntityIngestionDto> ingestionDtoMap = dataEntities.stream()
             .filter(d -> !d.getType().equals(JOB_RUN))
-            .map(de -> ingestionMapper.createIngestionDto(de, dataSourceId))
+            .map(de -> createIngestionDto(de, dataSourceId))
             .collect(Collectors.toMap(DataEntityIngestionDto::getOddrn, identity()));
 
         final List<IngestionTaskRun> taskRuns = dataEntities.stream()
@@ -94,36 +106,41 @@ public class IngestionServiceImpl implements IngestionService {
                     .stream()
                     .collect(Collectors.partitioningBy(d -> existingPojoDict.containsKey(d.getOddrn())));
 
-                final List<DataEntitySpecificAttributesDelta> specificAttributesDeltas = ingestionDtoMap.entrySet()
-                    .stream()
-                    .filter(e -> existingPojoDict.containsKey(e.getKey()))
-                    .filter(e -> DataEntityTypeDto.MICROSERVICE != e.getValue().getType())
-                    .map(e -> new DataEntitySpecificAttributesDelta(
-                        e.getKey(),
-                        e.getValue().getEntityClasses(),
-                        ObjectUtils.defaultIfNull(
-                            existingPojoDict.get(e.getKey()).getSpecificAttributes(),
-                            JSONB.jsonb("{}")
-                        ).data(),
-                        e.getValue().getSpecificAttributesJson()
-                    ))
-                    .toList();
-
-                final List<EnrichedDataEntityIngestionDto> enrichedExistingDtos = ingestionDtoPartitions.get(true)
+                // existing entities which were re-sent without any change are excluded from further processing
+                final Map<Boolean, List<EnrichedDataEntityIngestionDto>> existingDtoPartitions = ingestionDtoPartitions
+                    .get(true)
                     .stream()
                     .map(existingDto -> {
                         final DataEntityPojo existingPojo = existingPojoDict.get(existingDto.getOddrn());
-                        final boolean isEntityUpdated = isEntityUpdated(existingDto, existingPojo);
+                        final boolean isContentChanged = isContentChanged(existingDto, existingPojo);
 
-                        return new EnrichedDataEntityIngestionDto(existingPojo.getId(), existingDto, isEntityUpdated);
+                        return new EnrichedDataEntityIngestionDto(existingPojo.getId(), existingDto, isContentChanged);
                     })
-                    .toList();
+                    .collect(Collectors.partitioningBy(EnrichedDataEntityIngestionDto::isUpdated));
+
+                final List<EnrichedDataEntityIngestionDto> enrichedExistingDtos = existingDtoPartitions.get(true);
+                final List<EnrichedDataEntityIngestionDto> unchangedDtos = existingDtoPartitions.get(false);
+
+                if (!unchangedDtos.isEmpty()) {
+                    log.debug("Skipping {} unchanged data entities", unchangedDtos.size());
+                }
 
-                final List<DataEntityPojo> entitiesToUpdate = enrichedExistingDtos.stream()
-                    .filter(EnrichedDataEntityIngestionDto::isUpdated)
-                    .map(ingestionMapper::dtoToPojo)
+                final List<DataEntitySpecificAttributesDelta> specificAttributesDeltas = enrichedExistingDtos
+                    .stream()
+                    .filter(dto -> DataEntityTypeDto.MICROSERVICE != dto.getType())
+                    .map(dto -> new DataEntitySpecificAttributesDelta(
+                        dto.getOddrn(),
+                        dto.getEntityClasses(),
+                        ObjectUtils.defaultIfNull(
+                            existingPojoDict.get(dto.getOddrn()).getSpecificAttributes(),
+                            JSONB.jsonb("{}")
+                        ).data(),
+                        dto.getSpecificAttributesJson()
+                    ))
                     .toList();
 
+                final List<DataEntityPojo> entitiesToUpdate = ingestionMapper.dtoToPojo(enrichedExistingDtos);
+
                 final List<DataEntityPojo> pojosToCreate = ingestionMapper.dtoToPojo(ingestionDtoPartitions.get(false));
 
                 final Flux<DataEntityPojo> updated = dataEntityRepository.bulkUpdate(entitiesToUpdate);
@@ -137,14 +154,15 @@ public class IngestionServiceImpl implements IngestionService {
 
                 return updated.thenMany(enrichedNewDtos)
                     .collectList()
-                    .map(newEntities -> buildIngestionRequest(newEntities, enrichedExistingDtos, taskRuns,
-                        specificAttributesDeltas, totalDelta));
+                    .map(newEntities -> buildIngestionRequest(newEntities, enrichedExistingDtos, unchangedDtos,
+                        taskRuns, specificAttributesDeltas, totalDelta));
             });
     }
 
     private IngestionRequest buildIngestionRequest(
         final List<EnrichedDataEntityIngestionDto> newEntities,
         final List<EnrichedDataEntityIngestionDto> existingEntities,
+        final List<EnrichedDataEntityIngestionDto> unchangedEntities,
         final List<IngestionTaskRun> taskRuns,
         final List<DataEntitySpecificAttributesDelta> specificAttributesDeltas,
         final DataEntityTotalDelta entityTotalDelta
@@ -177,6 +195,7 @@ public class IngestionServiceImpl implements IngestionService {
         return IngestionRequest.builder()
             .newEntities(newEntities)
             .existingEntities(existingEntities)
+            .unchangedEntities(unchangedEntities)
             .taskRuns(taskRuns)
             .lineageRelations(lineageRelations)
             .dataQARelations(dataQATestRelations)
@@ -263,11 +282,14 @@ public class IngestionServiceImpl implements IngestionService {
         return result;
     }
 
-    private boolean isEntityUpdated(final DataEntityIngestionDto dto, final DataEntityPojo dePojo) {
-        return dePojo.getHollow()
-            || dePojo.getUpdatedAt() == null
-            || dto.getUpdatedAt() == null
-            || !dto.getUpdatedAt().equals(dePojo.getUpdatedAt().atOffset(dto.getUpdatedAt().getOffset()));
+    private DataEntityIngestionDto createIngestionDto(final DataEntity dataEntity, final long dataSourceId) {
+        final DataEntityIngestionDto dto = ingestionMapper.createIngestionDto(dataEntity, dataSourceId);
+        dto.setContentFingerprint(dataEntityFingerprintCalculator.calculate(dataEntity, dataSourceId));
+        return dto;
+    }
+
+    private boolean isContentChanged(final DataEntityIngestionDto dto, final DataEntityPojo dePojo) {
+        return dePojo.getHollow() || !dto.getContentFingerprint().equals(dePojo.getContentFingerprint());
     }
 
     private DataEntityTotalDelta calculateTotalDeltaCount(final List<DataEntityPojo> newPojos,
@@ -0,0 +1,9 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface StreamingIngestionService {
+    Mono<Void> ingest(final String dataSourceOddrn, final Flux<DataEntity> dataEntities);
+}
@@ -0,0 +1,42 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.exception.NotFoundException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreamingIngestionServiceImpl implements StreamingIngestionService {
+    private final IngestionService ingestionService;
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final IngestionProperties ingestionProperties;
+
+    @Override
+    public Mono<Void> ingest(final String dataSourceOddrn, final Flux<DataEntity> dataEntities) {
+        final IngestionProperties.StreamingProperties streaming = ingestionProperties.getStreaming();
+
+        return dataSourceRepository.getDtoByOddrn(dataSourceOddrn)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("dataSource", dataSourceOddrn)))
+            .thenMany(dataEntities.buffer(streaming.getChunkSize()))
+            .index()
+            // every chunk goes through the transactional proxy, so it gets its own transaction,
+            // data source lock and processor chain pass
+            .concatMap(chunk -> {
+                log.debug("Ingesting chunk #{} of {} entities for data source {}",
+                    chunk.getT1(), chunk.getT2().size(), dataSourceOddrn);
+
+                return ingestionService.ingest(new DataEntityList()
+                    .dataSourceOddrn(dataSourceOddrn)
+                    .items(chunk.getT2()));
+            }, streaming.getMaxInFlightChunks())
+            .then();
+    }
+}
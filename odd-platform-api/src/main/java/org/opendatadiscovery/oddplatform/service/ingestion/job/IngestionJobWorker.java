@@ -0,0 +1,85 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.job;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.JSONB;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.opendatadiscovery.oddplatform.service.ingestion.IngestionService;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(value = "ingestion.async.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionJobWorker {
+    private final ReactiveIngestionJobRepository ingestionJobRepository;
+    private final IngestionService ingestionService;
+    private final IngestionProperties ingestionProperties;
+
+    private Disposable workers;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runWorkers() {
+        final int workersCount = ingestionProperties.getAsync().getWorkers();
+        log.debug("Starting {} ingestion job workers", workersCount);
+
+        workers = Flux.range(0, workersCount)
+            .flatMap(ignored -> workerLoop(), workersCount)
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        if (workers != null) {
+            workers.dispose();
+        }
+    }
+
+    private Mono<Void> workerLoop() {
+        final IngestionProperties.AsyncProperties properties = ingestionProperties.getAsync();
+
+        return Mono.defer(() -> ingestionJobRepository.claimNext(properties.getRunningTimeout()))
+            .flatMap(job -> execute(job).thenReturn(true))
+            .defaultIfEmpty(false)
+            .onErrorResume(e -> {
+                log.error("Error occurred while claiming an ingestion job", e);
+                return Mono.just(false);
+            })
+            // drain the queue continuously and wait only when there is nothing to process
+            .flatMap(processed -> processed ? Mono.<Void>empty() : Mono.delay(properties.getPollInterval()).then())
+            .repeat()
+            .then();
+    }
+
+    private Mono<Void> execute(final IngestionJobPojo job) {
+        final Map<String, Long> phaseTimings = new ConcurrentHashMap<>();
+
+        log.debug("Processing ingestion job {} for data source {}", job.getId(), job.getDataSourceOddrn());
+
+        return Mono.fromCallable(() -> JSONSerDeUtils.deserializeJson(job.getPayload().data(), DataEntityList.class))
+            .flatMap(dataEntityList -> ingestionService.ingest(dataEntityList,
+                (phase, duration) -> phaseTimings.put(phase.name(), duration.toMillis())))
+            .then(Mono.defer(() -> ingestionJobRepository.markAsDone(job.getId(), serializeTimings(phaseTimings))))
+            .onErrorResume(e -> {
+                log.error("Ingestion job {} failed", job.getId(), e);
+                return ingestionJobRepository.markAsFailed(job.getId(), e.getMessage(), serializeTimings(phaseTimings));
+            });
+    }
+
+    private JSONB serializeTimings(final Map<String, Long> phaseTimings) {
+        return JSONB.jsonb(JSONSerDeUtils.serializeJson(phaseTimings));
+    }
+}
@@ -38,25 +38,17 @@ import org.opendatadiscovery.oddplatform.ingestion.contract.model.Quantile;
 import org.opendatadiscovery.oddplatform.mapper.ingestion.IngestionMetricsMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
-import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelValuePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
-import org.opendatadiscovery.oddplatform.repository.metric.MetricEntityRepository;
-import org.opendatadiscovery.oddplatform.repository.metric.MetricFamilyRepository;
-import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelRepository;
-import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelValueRepository;
 import org.opendatadiscovery.oddplatform.repository.metric.MetricPointRepository;
-import org.opendatadiscovery.oddplatform.repository.metric.MetricSeriesRepository;
 import org.opendatadiscovery.oddplatform.service.ingestion.metric.extractors.internal.MetricSeriesExtractor;
 import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
-import org.opendatadiscovery.oddplatform.utils.MetricUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuples;
 
-import static java.util.function.Function.identity;
 import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.BUCKET_UPPER_BOUND;
 import static org.opendatadiscovery.oddplatform.utils.MetricUtils.buildMetricFamilyKey;
 import static reactor.function.TupleUtils.function;
@@ -65,12 +57,9 @@ import static reactor.function.TupleUtils.function;
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "metrics.storage", havingValue = "INTERNAL_POSTGRES", matchIfMissing = true)
 public class InternalIngestionMetricsServiceImpl implements IngestionMetricsService {
-    private final MetricEntityRepository metricEntityRepository;
-    private final MetricFamilyRepository metricFamilyRepository;
-    private final MetricLabelRepository metricLabelRepository;
-    private final MetricLabelValueRepository metricLabelValueRepository;
-    private final MetricSeriesRepository metricSeriesRepository;
+    private final MetricDictionaryCache metricDictionaryCache;
     private final MetricPointRepository metricPointRepository;
+    private final InternalMetricHistoryWriter metricHistoryWriter;
     private final IngestionMetricsMapper ingestionMetricsMapper;
     private final List<MetricSeriesExtractor> extractors;
 
@@ -83,13 +72,11 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
         final LocalDateTime ingestedTime = DateTimeUtil.generateNow();
         final IngestionMetricsRequest request = buildIngestionMetricsRequest(metricSetList);
 
-        final Mono<Map<String, MetricEntityPojo>> registeredOddrns = metricEntityRepository
-            .registerMetricEntityOddrns(request.metricRelatedOddrns())
-            .collect(Collectors.toMap(MetricEntityPojo::getEntityOddrn, identity()));
+        final Mono<Map<String, MetricEntityPojo>> registeredOddrns =
+            metricDictionaryCache.getOrCreateEntities(request.metricRelatedOddrns());
 
-        final Mono<Map<String, MetricFamilyPojo>> savedMetricFamilies = metricFamilyRepository
-            .createOrUpdateMetricFamilies(request.metricFamilies().values())
-            .collect(Collectors.toMap(MetricUtils::buildMetricFamilyKey, identity()));
+        final Mono<Map<String, MetricFamilyPojo>> savedMetricFamilies =
+            metricDictionaryCache.getOrCreateFamilies(request.metricFamilies());
 
         final Mono<IngestionMetricLabelsDto> metricLabelsMono = getOrCreateMetricLabels(request.labels());
         return Mono.zip(registeredOddrns, savedMetricFamilies, metricLabelsMono)
@@ -97,7 +84,7 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
                 -> createMetricSeriesAndMetricPoints(request.points(), oddrnsMap, families, labels, ingestedTime)));
     }
 
-    private IngestionMetricsRequest buildIngestionMetricsRequest(final MetricSetList metricSetList) {
+    IngestionMetricsRequest buildIngestionMetricsRequest(final MetricSetList metricSetList) {
         final Set<String> metricRelatedOddrns = new HashSet<>();
         final Map<String, MetricFamilyPojo> metricFamilies = new HashMap<>();
         final SetValuedMap<String, String> labels = new HashSetValuedHashMap<>();
@@ -146,21 +133,17 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
         if (labels == null || labels.isEmpty()) {
             return Mono.just(new IngestionMetricLabelsDto(Map.of(), MultiMapUtils.newSetValuedHashMap()));
         }
-        final List<MetricLabelPojo> metricLabelPojos = labels.keySet().stream()
-            .map(l -> new MetricLabelPojo().setName(l))
-            .toList();
-        final Mono<Map<String, MetricLabelPojo>> savedMetricLabels = metricLabelRepository
-            .getOrCreateMetricLabels(metricLabelPojos)
-            .collect(Collectors.toMap(MetricLabelPojo::getName, identity()));
-        return savedMetricLabels.flatMap(labelsMap -> {
+        return metricDictionaryCache.getOrCreateLabels(labels.keySet()).flatMap(labelsMap -> {
             final List<MetricLabelValuePojo> metricLabelValuePojos = labels.entries().stream()
                 .map(e -> ingestionMetricsMapper.mapMetricLabelValue(labelsMap.get(e.getKey()).getId(), e.getValue()))
                 .toList();
-            return metricLabelValueRepository.getOrCreateMetricLabelValues(metricLabelValuePojos)
-                .collect(
-                    MultiMapUtils::<String, MetricLabelValuePojo>newSetValuedHashMap,
-                    (map, value) -> map.put(value.getValue(), value))
-                .map(valuesMap -> new IngestionMetricLabelsDto(labelsMap, valuesMap));
+            return metricDictionaryCache.getOrCreateLabelValues(metricLabelValuePojos)
+                .map(values -> {
+                    final SetValuedMap<String, MetricLabelValuePojo> valuesMap =
+                        MultiMapUtils.newSetValuedHashMap();
+                    values.forEach(value -> valuesMap.put(value.getValue(), value));
+                    return new IngestionMetricLabelsDto(labelsMap, valuesMap);
+                });
         });
     }
 
@@ -173,18 +156,17 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
             labels, ingestedDateTime);
         final List<MetricSeriesPojo> metricSeriesPojos = metricSeriesList.stream()
             .map(MetricSeriesDto::series)
-            .distinct()
             .toList();
-        return metricSeriesRepository.createOrUpdateMetricSeries(metricSeriesPojos)
-            .collectList()
+        return metricDictionaryCache.getOrCreateSeries(metricSeriesPojos)
             .flatMap(series -> {
                 final List<MetricPointPojo> pointsToIngest = metricSeriesList.stream()
                     .flatMap(dto -> {
-                        final Integer createdSeriesId = getCreatedSeriesId(series, dto.series());
+                        final Integer createdSeriesId =
+                            series.get(MetricDictionaryCache.SeriesKey.of(dto.series())).getId();
                         return dto.points().stream()
                             .peek(point -> point.setSeriesId(createdSeriesId));
                     }).toList();
-                final List<Integer> seriesIds = series.stream().map(MetricSeriesPojo::getId).toList();
+                final List<Integer> seriesIds = series.values().stream().map(MetricSeriesPojo::getId).toList();
                 return metricPointRepository.getPointsBySeriesId(seriesIds)
                     .collectList()
                     .flatMap(existingPoints -> {
@@ -192,7 +174,7 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
                             Stream.concat(existingPoints.stream(), pointsToIngest.stream())
                                 .flatMap(p -> Arrays.stream(p.getLabelValuesIds()))
                                 .collect(Collectors.toSet());
-                        return metricLabelValueRepository.getDtoByIds(labelValueIds)
+                        return metricDictionaryCache.getLabelValueDtos(labelValueIds)
                             .map(labelDtos -> {
                                 final Set<Integer> systemLabelValues = getSystemLabelValues(labelDtos);
                                 return Tuples.of(existingPoints, systemLabelValues);
@@ -205,7 +187,9 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
                             .filter(pi -> !needToDeletePoint(pi, existingPoints, systemLabelValues))
                             .toList();
                         return metricPointRepository.deletePoints(pointsToDelete)
-                            .then(metricPointRepository.createOrUpdatePoints(filteredPoints).collectList());
+                            .then(metricPointRepository.createOrUpdatePoints(filteredPoints).collectList())
+                            // history keeps points older than the latest ones as well
+                            .then(metricHistoryWriter.appendPoints(pointsToIngest));
                     }));
             })
             .then();
@@ -264,18 +248,6 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
         }
     }
 
-    private Integer getCreatedSeriesId(final List<MetricSeriesPojo> createdSeries,
-                                       final MetricSeriesPojo seriesPojo) {
-        return createdSeries.stream()
-            .filter(pojo -> pojo.getMetricEntityId().equals(seriesPojo.getMetricEntityId())
-                && pojo.getMetricFamilyId().equals(seriesPojo.getMetricFamilyId())
-                && pojo.getValueType().equals(seriesPojo.getValueType())
-                && Arrays.equals(pojo.getMetricLabelsIds(), seriesPojo.getMetricLabelsIds()))
-            .findFirst()
-            .map(MetricSeriesPojo::getId)
-            .orElseThrow();
-    }
-
     private Comparator<MetricPoint> timestampComparator() {
         return (mp1, mp2) -> {
             final Integer firstTime = Optional.ofNullable(mp1.getTimestamp())
@@ -0,0 +1,103 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.MetricHistoryProperties;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricChunkRepository;
+import org.opendatadiscovery.oddplatform.utils.timeseries.GorillaChunkCodec;
+import org.opendatadiscovery.oddplatform.utils.timeseries.TimeSeriesUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Appends ingested points to the compressed chunks of their series. Chunks are rewritten as a whole,
+ * they are locked first, so concurrent ingestions of the same series don't lose each other's points.
+ * Has to be called within a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "metrics.storage", havingValue = "INTERNAL_POSTGRES", matchIfMissing = true)
+public class InternalMetricHistoryWriter {
+    private final MetricChunkRepository metricChunkRepository;
+    private final MetricHistoryProperties metricHistoryProperties;
+
+    public Mono<Void> appendPoints(final Collection<MetricPointPojo> points) {
+        if (!metricHistoryProperties.isEnabled()) {
+            return Mono.empty();
+        }
+
+        final Duration chunkDuration = metricHistoryProperties.getChunkDuration();
+        final Map<ChunkKey, List<MetricHistoryPointDto>> pointsByChunk = points.stream()
+            .filter(p -> p.getValue() != null)
+            .collect(Collectors.groupingBy(
+                p -> ChunkKey.of(p, chunkDuration),
+                Collectors.mapping(this::mapPoint, Collectors.toList())
+            ));
+        if (pointsByChunk.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final List<MetricChunkPojo> chunkKeys = pointsByChunk.keySet().stream()
+            .map(ChunkKey::toPojo)
+            .toList();
+
+        return metricChunkRepository.getOrCreateForUpdate(chunkKeys)
+            .map(chunk -> appendToChunk(chunk, pointsByChunk.get(ChunkKey.of(chunk))))
+            .collectList()
+            .flatMapMany(metricChunkRepository::createOrUpdateChunks)
+            .count()
+            .doOnNext(count -> log.debug("Appended {} points to {} metric chunks", points.size(), count))
+            .then();
+    }
+
+    private MetricChunkPojo appendToChunk(final MetricChunkPojo chunk, final List<MetricHistoryPointDto> points) {
+        final List<MetricHistoryPointDto> merged =
+            TimeSeriesUtils.merge(GorillaChunkCodec.decode(chunk.getData()), points);
+        final MetricHistoryPointDto last = merged.get(merged.size() - 1);
+
+        return chunk
+            .setData(GorillaChunkCodec.encode(merged))
+            .setPointsCount(merged.size())
+            .setLastTimestamp(toLocalDateTime(last.timestamp()));
+    }
+
+    private MetricHistoryPointDto mapPoint(final MetricPointPojo point) {
+        return new MetricHistoryPointDto(point.getTimestamp().toEpochSecond(ZoneOffset.UTC), point.getValue());
+    }
+
+    private static LocalDateTime toLocalDateTime(final long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private record ChunkKey(Integer seriesId, List<Integer> labelValuesIds, LocalDateTime chunkStart) {
+        static ChunkKey of(final MetricPointPojo point, final Duration chunkDuration) {
+            final long timestamp = point.getTimestamp().toEpochSecond(ZoneOffset.UTC);
+            return new ChunkKey(point.getSeriesId(), Arrays.asList(point.getLabelValuesIds()),
+                toLocalDateTime(TimeSeriesUtils.bucketStart(timestamp, chunkDuration)));
+        }
+
+        static ChunkKey of(final MetricChunkPojo chunk) {
+            return new ChunkKey(chunk.getSeriesId(), Arrays.asList(chunk.getLabelValuesIds()), chunk.getChunkStart());
+        }
+
+        MetricChunkPojo toPojo() {
+            return new MetricChunkPojo()
+                .setSeriesId(seriesId)
+                .setLabelValuesIds(labelValuesIds.toArray(Integer[]::new))
+                .setChunkStart(chunkStart);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelValuePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricFamilyRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelValueRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricSeriesRepository;
+import org.opendatadiscovery.oddplatform.utils.MetricUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Process-local dictionary of metric entities, families, labels, label values and series ids.
+ * Dictionary rows are never deleted, so a cached id stays valid. Missed entries are written through
+ * the repositories and cached only after the ingestion transaction commits, so rolled back ids never get cached.
+ */
+@Component
+@ConditionalOnProperty(name = "metrics.storage", havingValue = "INTERNAL_POSTGRES", matchIfMissing = true)
+public class MetricDictionaryCache {
+    private final MetricEntityRepository metricEntityRepository;
+    private final MetricFamilyRepository metricFamilyRepository;
+    private final MetricLabelRepository metricLabelRepository;
+    private final MetricLabelValueRepository metricLabelValueRepository;
+    private final MetricSeriesRepository metricSeriesRepository;
+
+    private final Cache<String, MetricEntityPojo> entities;
+    private final Cache<String, MetricFamilyPojo> families;
+    private final Cache<String, MetricLabelPojo> labels;
+    private final Cache<LabelValueKey, MetricLabelValuePojo> labelValues;
+    private final Cache<Integer, MetricLabelValueDto> labelValueDtos;
+    private final Cache<SeriesKey, MetricSeriesPojo> series;
+
+    public MetricDictionaryCache(final MetricEntityRepository metricEntityRepository,
+                                 final MetricFamilyRepository metricFamilyRepository,
+                                 final MetricLabelRepository metricLabelRepository,
+                                 final MetricLabelValueRepository metricLabelValueRepository,
+                                 final MetricSeriesRepository metricSeriesRepository,
+                                 @Value("${metrics.dictionary-cache.max-size:500000}") final long maxSize,
+                                 @Value("${metrics.dictionary-cache.ttl:1h}") final Duration ttl) {
+        this.metricEntityRepository = metricEntityRepository;
+        this.metricFamilyRepository = metricFamilyRepository;
+        this.metricLabelRepository = metricLabelRepository;
+        this.metricLabelValueRepository = metricLabelValueRepository;
+        this.metricSeriesRepository = metricSeriesRepository;
+        this.entities = buildCache(maxSize, ttl);
+        this.families = buildCache(maxSize, ttl);
+        this.labels = buildCache(maxSize, ttl);
+        this.labelValues = buildCache(maxSize, ttl);
+        this.labelValueDtos = buildCache(maxSize, ttl);
+        this.series = buildCache(maxSize, ttl);
+    }
+
+    public Mono<Map<String, MetricEntityPojo>> getOrCreateEntities(final Set<String> oddrns) {
+        final Map<String, String> requested = oddrns.stream()
+            .collect(Collectors.toMap(Function.identity(), Function.identity()));
+        return getOrCreate(entities, requested, (oddrn, cached) -> true,
+            missed -> metricEntityRepository.registerMetricEntityOddrns(Set.copyOf(missed)),
+            MetricEntityPojo::getEntityOddrn);
+    }
+
+    /**
+     * @param metricFamilies families by their {@link MetricUtils#buildMetricFamilyKey} key
+     */
+    public Mono<Map<String, MetricFamilyPojo>> getOrCreateFamilies(
+        final Map<String, MetricFamilyPojo> metricFamilies
+    ) {
+        // the upsert overwrites the description, so a family is written whenever it comes with another one
+        return getOrCreate(families, metricFamilies,
+            (family, cached) -> Objects.equals(cached.getDescription(), family.getDescription()),
+            metricFamilyRepository::createOrUpdateMetricFamilies,
+            MetricUtils::buildMetricFamilyKey);
+    }
+
+    public Mono<Map<String, MetricLabelPojo>> getOrCreateLabels(final Set<String> names) {
+        final Map<String, MetricLabelPojo> requested = names.stream()
+            .collect(Collectors.toMap(Function.identity(), name -> new MetricLabelPojo().setName(name)));
+        return getOrCreate(labels, requested, (label, cached) -> true,
+            missed -> metricLabelRepository.getOrCreateMetricLabels(List.copyOf(missed)),
+            MetricLabelPojo::getName);
+    }
+
+    public Mono<Collection<MetricLabelValuePojo>> getOrCreateLabelValues(final List<MetricLabelValuePojo> values) {
+        final Map<LabelValueKey, MetricLabelValuePojo> requested = values.stream()
+            .collect(Collectors.toMap(LabelValueKey::of, Function.identity(), (first, second) -> first));
+        return getOrCreate(labelValues, requested, (value, cached) -> true,
+            missed -> metricLabelValueRepository.getOrCreateMetricLabelValues(List.copyOf(missed)),
+            LabelValueKey::of)
+            .map(Map::values);
+    }
+
+    public Mono<Map<SeriesKey, MetricSeriesPojo>> getOrCreateSeries(final List<MetricSeriesPojo> seriesPojos) {
+        final Map<SeriesKey, MetricSeriesPojo> requested = seriesPojos.stream()
+            .collect(Collectors.toMap(SeriesKey::of, Function.identity(), (first, second) -> first));
+        return getOrCreate(series, requested, (s, cached) -> true,
+            missed -> metricSeriesRepository.createOrUpdateMetricSeries(List.copyOf(missed)),
+            SeriesKey::of);
+    }
+
+    /**
+     * Label values with their labels never change, so they are cached as soon as they are read.
+     */
+    public Mono<List<MetricLabelValueDto>> getLabelValueDtos(final Set<Integer> ids) {
+        final Map<Integer, MetricLabelValueDto> present = labelValueDtos.getAllPresent(ids);
+        if (present.size() == ids.size()) {
+            return Mono.just(List.copyOf(present.values()));
+        }
+        final Set<Integer> missed = ids.stream()
+            .filter(id -> !present.containsKey(id))
+            .collect(Collectors.toSet());
+        return metricLabelValueRepository.getDtoByIds(missed)
+            .map(loaded -> {
+                loaded.forEach(dto -> labelValueDtos.put(dto.labelValue().getId(), dto));
+                return Stream.concat(present.values().stream(), loaded.stream()).toList();
+            });
+    }
+
+    private <K, P, V> Mono<Map<K, V>> getOrCreate(final Cache<K, V> cache,
+                                                  final Map<K, P> requested,
+                                                  final BiPredicate<P, V> reusable,
+                                                  final Function<Collection<P>, Flux<V>> writer,
+                                                  final Function<V, K> keyExtractor) {
+        final Map<K, V> result = new HashMap<>(requested.size());
+        final Map<K, P> missed = new HashMap<>();
+        requested.forEach((key, pojo) -> {
+            final V cached = cache.getIfPresent(key);
+            if (cached != null && reusable.test(pojo, cached)) {
+                result.put(key, cached);
+            } else {
+                missed.put(key, pojo);
+            }
+        });
+        if (missed.isEmpty()) {
+            return Mono.just(result);
+        }
+
+        return writer.apply(missed.values())
+            .collectMap(keyExtractor)
+            .flatMap(written -> putAfterCommit(cache, written).thenReturn(written))
+            .map(written -> {
+                result.putAll(written);
+                return result;
+            });
+    }
+
+    private <K, V> Mono<Void> putAfterCommit(final Cache<K, V> cache, final Map<K, V> entries) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(() -> cache.putAll(entries));
+                }
+            }))
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> cache.putAll(entries)))
+            .then();
+    }
+
+    private static <K, V> Cache<K, V> buildCache(final long maxSize, final Duration ttl) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    private record LabelValueKey(Integer labelId, String value) {
+        static LabelValueKey of(final MetricLabelValuePojo pojo) {
+            return new LabelValueKey(pojo.getMetricLabelId(), pojo.getValue());
+        }
+    }
+
+    public record SeriesKey(Integer metricEntityId,
+                            Integer metricFamilyId,
+                            Integer valueType,
+                            List<Integer> labelsIds) {
+        public static SeriesKey of(final MetricSeriesPojo pojo) {
+            return new SeriesKey(pojo.getMetricEntityId(), pojo.getMetricFamilyId(), pojo.getValueType(),
+                pojo.getMetricLabelsIds() == null ? List.of() : Arrays.asList(pojo.getMetricLabelsIds()));
+        }
+    }
+}
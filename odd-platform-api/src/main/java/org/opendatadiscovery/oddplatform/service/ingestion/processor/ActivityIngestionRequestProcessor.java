@@ -2,6 +2,7 @@ package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityContextInfo;
@@ -41,6 +42,16 @@ public class ActivityIngestionRequestProcessor implements IngestionRequestProces
         return IngestionProcessingPhase.FINALIZING;
     }
 
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.ACTIVITY);
+    }
+
     private List<ActivityCreateEvent> createActivityEvents(final ActivityContextInfo ctx,
                                                            final Map<Long, String> dtoMap) {
         return dtoMap.entrySet()
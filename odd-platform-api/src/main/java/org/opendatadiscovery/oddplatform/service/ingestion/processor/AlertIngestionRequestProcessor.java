@@ -76,6 +76,20 @@ public class AlertIngestionRequestProcessor implements IngestionRequestProcessor
         return IngestionProcessingPhase.FINALIZING;
     }
 
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(
+            IngestionResource.DATA_ENTITY,
+            IngestionResource.DATASET_STRUCTURE,
+            IngestionResource.DATA_QUALITY_TEST_RELATION
+        );
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.ALERT);
+    }
+
     private Mono<AlertStateSnapshotKey> getAlertStateSnapshotKey(final IngestionRequest request) {
         if (CollectionUtils.isEmpty(request.getTaskRuns())) {
             return CollectionUtils.isNotEmpty(request.getChangedDatasetOddrns())
@@ -42,12 +42,14 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
 
     @Override
     public Mono<Void> process(final IngestionRequest request) {
-        return ingestNewDatasetStructure(request)
-            .then(ingestExistingDatasetStructure(request))
-            .then(labelIngestionService.ingestExternalLabels(request))
-            .then(datasetFieldMetadataIngestionService.ingestMetadata(request))
-            .then(enumValuesIngestionService.ingestEnumValues(request))
-            .then();
+        // new and existing datasets don't share versions, and labels, field metadata and enum values
+        // only need dataset fields to be in place, so each group is issued without waiting for its siblings
+        return Mono.when(ingestNewDatasetStructure(request), ingestExistingDatasetStructure(request))
+            .then(Mono.when(
+                labelIngestionService.ingestExternalLabels(request),
+                datasetFieldMetadataIngestionService.ingestMetadata(request),
+                enumValuesIngestionService.ingestEnumValues(request)
+            ));
     }
 
     @Override
@@ -57,6 +59,16 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
             .anyMatch(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET));
     }
 
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.DATASET_STRUCTURE);
+    }
+
     private Mono<Void> ingestNewDatasetStructure(final IngestionRequest request) {
         final Map<Long, EnrichedDataEntityIngestionDto> datasetDict = request.getNewEntities().stream()
             .filter(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
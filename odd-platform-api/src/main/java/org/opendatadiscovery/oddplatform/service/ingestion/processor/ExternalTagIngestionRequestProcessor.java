@@ -54,6 +54,16 @@ public class ExternalTagIngestionRequestProcessor implements IngestionRequestPro
         return true;
     }
 
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.TAG);
+    }
+
     private List<TagToDataEntityPojo> getUpdatedRelations(final Map<String, TagPojo> tagsMap,
                                                           final IngestionRequest dataStructure) {
         return dataStructure.getAllEntities().stream()
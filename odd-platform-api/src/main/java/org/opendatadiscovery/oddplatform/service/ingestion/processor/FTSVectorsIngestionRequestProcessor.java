@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
 import org.opendatadiscovery.oddplatform.dto.ingestion.EnrichedDataEntityIngestionDto;
@@ -22,7 +23,8 @@ public class FTSVectorsIngestionRequestProcessor implements IngestionRequestProc
             .map(EnrichedDataEntityIngestionDto::getId)
             .toList();
 
-        return searchEntrypointRepository.recalculateVectors(idsToProcess);
+        // vectors are recalculated by SearchVectorsRecalculationWorker outside of the ingestion transaction
+        return searchEntrypointRepository.markDirty(idsToProcess).then();
     }
 
     @Override
@@ -36,4 +38,14 @@ public class FTSVectorsIngestionRequestProcessor implements IngestionRequestProc
     public IngestionProcessingPhase getPhase() {
         return IngestionProcessingPhase.FINALIZING;
     }
+
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.SEARCH_VECTOR);
+    }
 }
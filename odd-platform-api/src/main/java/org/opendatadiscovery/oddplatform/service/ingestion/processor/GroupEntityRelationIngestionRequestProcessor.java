@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
@@ -24,4 +25,14 @@ public class GroupEntityRelationIngestionRequestProcessor implements IngestionRe
     public boolean shouldProcess(final IngestionRequest request) {
         return CollectionUtils.isNotEmpty(request.getGroupEntityRelations());
     }
+
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.GROUP_ENTITY_RELATION);
+    }
 }
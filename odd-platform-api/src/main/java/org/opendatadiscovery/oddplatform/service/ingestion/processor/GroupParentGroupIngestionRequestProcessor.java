@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
@@ -21,4 +22,14 @@ public class GroupParentGroupIngestionRequestProcessor implements IngestionReque
     public boolean shouldProcess(final IngestionRequest request) {
         return CollectionUtils.isNotEmpty(request.getGroupParentGroupRelations());
     }
+
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.GROUP_PARENT_GROUP_RELATION);
+    }
 }
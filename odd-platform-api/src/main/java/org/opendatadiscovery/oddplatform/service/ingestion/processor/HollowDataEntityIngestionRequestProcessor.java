@@ -35,8 +35,18 @@ public class HollowDataEntityIngestionRequestProcessor implements IngestionReque
         return IngestionProcessingPhase.INITIAL;
     }
 
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
     private Set<String> extractHollowCandidates(final IngestionRequest request) {
-        final Set<String> existingEntitiesOddrns = request.getAllEntities()
+        final Set<String> existingEntitiesOddrns = request.getIngestedEntities()
             .stream()
             .map(EnrichedDataEntityIngestionDto::getOddrn)
             .collect(Collectors.toSet());
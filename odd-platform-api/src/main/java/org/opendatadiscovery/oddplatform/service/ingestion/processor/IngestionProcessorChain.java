@@ -1,56 +1,138 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Executes ingestion processors as a dependency graph.
+ *
+ * <p>A processor waits only for processors of the earlier phases which write resources it reads or writes,
+ * or which read resources it writes. Everything else is started right away, so the ingestion takes
+ * as long as the longest dependency path instead of the sum of all phases.
+ */
 @Component
 @Slf4j
 public class IngestionProcessorChain {
-    private final Map<IngestionProcessingPhase, List<IngestionRequestProcessor>> ingestionRequestProcessors;
+    private final List<IngestionRequestProcessor> ingestionRequestProcessors;
+    private final Map<IngestionRequestProcessor, List<IngestionRequestProcessor>> dependencies;
 
     public IngestionProcessorChain(final List<IngestionRequestProcessor> ingestionRequestProcessors) {
         this.ingestionRequestProcessors = ingestionRequestProcessors.stream()
+            .sorted(Comparator.comparingInt(ip -> ip.getPhase().getOrder()))
+            .toList();
+
+        final Map<IngestionRequestProcessor, List<IngestionRequestProcessor>> graph = new IdentityHashMap<>();
+        for (final IngestionRequestProcessor processor : this.ingestionRequestProcessors) {
+            final List<IngestionRequestProcessor> processorDependencies = this.ingestionRequestProcessors.stream()
+                .filter(ip -> ip.getPhase().getOrder() < processor.getPhase().getOrder())
+                .filter(ip -> conflicts(ip, processor))
+                .toList();
+            log.debug("Processor: {}, depends on: {}", processor.getClass().getName(), processorDependencies.stream()
+                .map(ip -> ip.getClass().getSimpleName())
+                .toList());
+            graph.put(processor, processorDependencies);
+        }
+        this.dependencies = Collections.unmodifiableMap(graph);
+    }
+
+    public Mono<IngestionRequest> processIngestionRequest(final IngestionRequest request) {
+        return processIngestionRequest(request, (phase, duration) -> {
+        });
+    }
+
+    public Mono<IngestionRequest> processIngestionRequest(
+        final IngestionRequest request,
+        final BiConsumer<IngestionProcessingPhase, Duration> phaseTimingsConsumer
+    ) {
+        return Mono.defer(() -> {
+            final Map<IngestionRequestProcessor, Mono<ProcessorExecution>> executions = new IdentityHashMap<>();
+
+            // processors are sorted by phase, so dependencies are always registered before their dependents
+            for (final IngestionRequestProcessor processor : ingestionRequestProcessors) {
+                final boolean shouldProcess = processor.shouldProcess(request);
+                log.debug("Phase: {}, Processor: {}, Scheduled: {}",
+                    processor.getPhase(), processor.getClass().getName(), shouldProcess);
+                if (!shouldProcess) {
+                    continue;
+                }
+
+                final List<Mono<ProcessorExecution>> awaited = dependencies.get(processor).stream()
+                    .map(executions::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+                executions.put(processor, Mono.when(awaited)
+                    .then(Mono.defer(() -> execute(processor, request)))
+                    .cache());
+            }
+
+            return Flux.merge(executions.values())
+                .collectList()
+                .doOnNext(completed -> reportPhaseTimings(completed, phaseTimingsConsumer))
+                .thenReturn(request);
+        });
+    }
+
+    private Mono<ProcessorExecution> execute(final IngestionRequestProcessor processor,
+                                             final IngestionRequest request) {
+        final long startedAt = System.nanoTime();
+        return processor.process(request)
+            .then(Mono.fromCallable(() -> {
+                final ProcessorExecution execution =
+                    new ProcessorExecution(processor.getPhase(), startedAt, System.nanoTime());
+                log.debug("Phase: {}, Processor: {} took {} ms", processor.getPhase(),
+                    processor.getClass().getName(), Duration.ofNanos(execution.duration()).toMillis());
+                return execution;
+            }));
+    }
+
+    private void reportPhaseTimings(final List<ProcessorExecution> executions,
+                                    final BiConsumer<IngestionProcessingPhase, Duration> phaseTimingsConsumer) {
+        executions.stream()
             .collect(Collectors.groupingBy(
-                IngestionRequestProcessor::getPhase,
+                ProcessorExecution::phase,
                 () -> new TreeMap<>(Comparator.comparingInt(IngestionProcessingPhase::getOrder)),
                 Collectors.toList()
-            ));
+            ))
+            .forEach((phase, phaseExecutions) -> {
+                final long startedAt = phaseExecutions.stream().mapToLong(ProcessorExecution::startedAt).min()
+                    .orElseThrow();
+                final long finishedAt = phaseExecutions.stream().mapToLong(ProcessorExecution::finishedAt).max()
+                    .orElseThrow();
+                final Duration duration = Duration.ofNanos(finishedAt - startedAt);
+                log.debug("Phase: {} took {} ms", phase, duration.toMillis());
+                phaseTimingsConsumer.accept(phase, duration);
+            });
     }
 
-    public Mono<IngestionRequest> processIngestionRequest(final IngestionRequest request) {
-        return Flux.fromStream(ingestionRequestProcessors.entrySet().stream())
-            .<Mono<IngestionRequest>>handle((e, sink) -> {
-                final List<Mono<IngestionRequest>> phaseExecutions =
-                    getPhaseExecutions(request, e.getKey(), e.getValue());
+    private static boolean conflicts(final IngestionRequestProcessor earlier,
+                                     final IngestionRequestProcessor later) {
+        return intersects(earlier.writes(), later.reads())
+            || intersects(earlier.writes(), later.writes())
+            || intersects(earlier.reads(), later.writes());
+    }
 
-                if (CollectionUtils.isNotEmpty(phaseExecutions)) {
-                    sink.next(Mono.zip(phaseExecutions, voids -> request));
-                }
-            })
-            .concatMap(execution -> execution)
-            .then(Mono.just(request));
-    }
-
-    private List<Mono<IngestionRequest>> getPhaseExecutions(final IngestionRequest request,
-                                                            final IngestionProcessingPhase phase,
-                                                            final List<IngestionRequestProcessor> processors) {
-        return processors
-            .stream()
-            .filter(ip -> {
-                final boolean shouldProcess = ip.shouldProcess(request);
-                log.debug("Phase: {}, Processor: {}, Scheduled: {}", phase, ip.getClass().getName(), shouldProcess);
-                return shouldProcess;
-            })
-            .map(ip -> ip.process(request).thenReturn(request))
-            .toList();
+    private static boolean intersects(final Set<IngestionResource> first, final Set<IngestionResource> second) {
+        return first.stream().anyMatch(second::contains);
+    }
+
+    private record ProcessorExecution(IngestionProcessingPhase phase, long startedAt, long finishedAt) {
+        long duration() {
+            return finishedAt - startedAt;
+        }
     }
 }
@@ -1,5 +1,7 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.util.EnumSet;
+import java.util.Set;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
 import reactor.core.publisher.Mono;
 
@@ -11,4 +13,20 @@ public interface IngestionRequestProcessor {
     default IngestionProcessingPhase getPhase() {
         return IngestionProcessingPhase.MAIN;
     }
+
+    /**
+     * Resources which the processor reads. By default a processor is assumed to read everything,
+     * so it waits for all processors of the earlier phases.
+     */
+    default Set<IngestionResource> reads() {
+        return EnumSet.allOf(IngestionResource.class);
+    }
+
+    /**
+     * Resources which the processor writes. By default a processor is assumed to write everything,
+     * so all processors of the later phases wait for it.
+     */
+    default Set<IngestionResource> writes() {
+        return EnumSet.allOf(IngestionResource.class);
+    }
 }
@@ -0,0 +1,21 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.processor;
+
+/**
+ * Parts of the platform state which ingestion processors read or write.
+ * Used by {@link IngestionProcessorChain} to derive dependencies between processors.
+ */
+public enum IngestionResource {
+    DATA_ENTITY,
+    DATASET_STRUCTURE,
+    METADATA,
+    TAG,
+    LINEAGE,
+    DATA_QUALITY_TEST_RELATION,
+    GROUP_ENTITY_RELATION,
+    GROUP_PARENT_GROUP_RELATION,
+    TASK_RUN,
+    STATISTICS,
+    ALERT,
+    SEARCH_VECTOR,
+    ACTIVITY
+}
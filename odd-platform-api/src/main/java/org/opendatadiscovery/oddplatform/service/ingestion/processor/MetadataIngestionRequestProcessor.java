@@ -84,6 +84,16 @@ public class MetadataIngestionRequestProcessor implements IngestionRequestProces
         return true;
     }
 
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.METADATA);
+    }
+
     private List<MetadataInfo> retrieveMetadataInfoFromDataStructure(final IngestionRequest dataStructure) {
         return dataStructure.getAllEntities().stream()
             .filter(e -> MapUtils.isNotEmpty(e.getMetadata()))
@@ -2,15 +2,16 @@ package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
-import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionTaskRun;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityTaskRunMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTaskRunPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityTaskRunRepository;
+import org.opendatadiscovery.oddplatform.utils.Pair;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -23,21 +24,17 @@ public class TaskRunIngestionRequestProcessor implements IngestionRequestProcess
     @Override
     @ReactiveTransactional
     public Mono<Void> process(final IngestionRequest request) {
-        final List<String> taskRunOddrns = request.getTaskRuns()
-            .stream()
-            .map(IngestionTaskRun::getOddrn)
-            .toList();
-
         final List<DataEntityTaskRunPojo> pojos = request.getTaskRuns()
             .stream()
             .map(dataEntityTaskRunMapper::mapTaskRun)
             .toList();
 
-        return dataEntityTaskRunRepository.existsByOddrns(taskRunOddrns)
+        return dataEntityTaskRunRepository.existsByKeys(pojos)
             .flatMap(existDict -> {
                 final Map<Boolean, List<DataEntityTaskRunPojo>> partitioned = pojos
                     .stream()
-                    .collect(Collectors.partitioningBy(p -> existDict.getOrDefault(p.getOddrn(), false)));
+                    .collect(Collectors.partitioningBy(
+                        p -> existDict.getOrDefault(Pair.of(p.getOddrn(), p.getStartTime()), false)));
 
                 return Mono.zipDelayError(
                     dataEntityTaskRunRepository.bulkCreate(partitioned.get(false)),
@@ -51,4 +48,14 @@ public class TaskRunIngestionRequestProcessor implements IngestionRequestProcess
     public boolean shouldProcess(final IngestionRequest request) {
         return CollectionUtils.isNotEmpty(request.getTaskRuns());
     }
+
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of(IngestionResource.DATA_ENTITY);
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.TASK_RUN);
+    }
 }
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTotalDelta;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
@@ -23,4 +24,14 @@ public class UsageReportIngestionRequestProcessor implements IngestionRequestPro
     public boolean shouldProcess(final IngestionRequest request) {
         return true;
     }
+
+    @Override
+    public Set<IngestionResource> reads() {
+        return Set.of();
+    }
+
+    @Override
+    public Set<IngestionResource> writes() {
+        return Set.of(IngestionResource.STATISTICS);
+    }
 }
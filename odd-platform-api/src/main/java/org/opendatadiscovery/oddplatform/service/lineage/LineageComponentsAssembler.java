@@ -0,0 +1,101 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+
+/**
+ * Splits lineage relations between entities into connected components, regardless of relation direction.
+ *
+ * <p>Oddrns are interned into dense int ids once and components are built with a union-find
+ * over int arrays, so assembling takes time linear in the amount of entities and relations.
+ */
+@UtilityClass
+public class LineageComponentsAssembler {
+    /**
+     * @param entityOddrns oddrns of the entities, the first one of every component represents it
+     * @param relations    relations between the entities
+     * @return relations of every component by its representative oddrn in the order of the entities,
+     * an entity without relations is a component with no relations
+     */
+    public static Map<String, Set<LineagePojo>> assemble(final Collection<String> entityOddrns,
+                                                         final List<LineagePojo> relations) {
+        final Map<String, Integer> ids = new HashMap<>(entityOddrns.size() * 2);
+        entityOddrns.forEach(oddrn -> ids.putIfAbsent(oddrn, ids.size()));
+
+        final int[] parentIds = new int[relations.size()];
+        final int[] childIds = new int[relations.size()];
+        for (int i = 0; i < relations.size(); i++) {
+            parentIds[i] = ids.computeIfAbsent(relations.get(i).getParentOddrn(), ignored -> ids.size());
+            childIds[i] = ids.computeIfAbsent(relations.get(i).getChildOddrn(), ignored -> ids.size());
+        }
+
+        final DisjointSets components = new DisjointSets(ids.size());
+        for (int i = 0; i < relations.size(); i++) {
+            components.union(parentIds[i], childIds[i]);
+        }
+
+        final String[] representatives = new String[ids.size()];
+        final Map<String, Set<LineagePojo>> result = new LinkedHashMap<>();
+        for (final String oddrn : entityOddrns) {
+            final int root = components.find(ids.get(oddrn));
+            if (representatives[root] == null) {
+                representatives[root] = oddrn;
+                result.put(oddrn, new LinkedHashSet<>());
+            }
+        }
+
+        for (int i = 0; i < relations.size(); i++) {
+            final String representative = representatives[components.find(parentIds[i])];
+            // components without any of the given entities are skipped
+            if (representative != null) {
+                result.get(representative).add(relations.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static class DisjointSets {
+        private final int[] parents;
+        private final int[] sizes;
+
+        DisjointSets(final int size) {
+            parents = new int[size];
+            sizes = new int[size];
+            for (int i = 0; i < size; i++) {
+                parents[i] = i;
+                sizes[i] = 1;
+            }
+        }
+
+        int find(final int id) {
+            int current = id;
+            while (parents[current] != current) {
+                parents[current] = parents[parents[current]];
+                current = parents[current];
+            }
+            return current;
+        }
+
+        void union(final int first, final int second) {
+            int firstRoot = find(first);
+            int secondRoot = find(second);
+            if (firstRoot == secondRoot) {
+                return;
+            }
+            if (sizes[firstRoot] < sizes[secondRoot]) {
+                final int swap = firstRoot;
+                firstRoot = secondRoot;
+                secondRoot = swap;
+            }
+            parents[secondRoot] = firstRoot;
+            sizes[firstRoot] += sizes[secondRoot];
+        }
+    }
+}
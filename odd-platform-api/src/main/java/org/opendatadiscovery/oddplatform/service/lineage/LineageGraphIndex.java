@@ -0,0 +1,346 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory adjacency index of the lineage table.
+ *
+ * <p>Oddrns are interned into int node ids and every node keeps its distinct parents and children
+ * as primitive int arrays. The same parent-child pair may be established by several entities,
+ * so the amount of lineage rows behind each edge is tracked to apply deletions incrementally.
+ *
+ * <p>The index is empty and not ready until the first {@link #replace(LineageGraph)} call,
+ * callers are expected to fall back to the lineage table meanwhile.
+ *
+ * <p>Changes applied between {@link #startRebuild()} and {@link #replace(LineageGraph)} are replayed
+ * on the new graph, as the lineage table might have been read before they were committed.
+ * A change committed right before the read, but applied after the rebuild has started, is replayed twice;
+ * the relations count check of {@link LineageGraphIndexWorker} catches that.
+ */
+@Component
+public class LineageGraphIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private LineageGraph graph = new LineageGraph();
+    private List<Consumer<LineageGraph>> pendingChanges;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Identifies this index among the indexes of all the platform nodes.
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Starts recording the changes to be replayed on the graph passed to {@link #replace(LineageGraph)}.
+     * Has to be called before the lineage table is read.
+     */
+    public void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void cancelRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replace(final LineageGraph newGraph) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.forEach(change -> change.accept(newGraph));
+                pendingChanges = null;
+            }
+            graph = newGraph;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addRelations(final Collection<LineagePojo> relations) {
+        modify(relations, graph -> graph::add);
+    }
+
+    public void removeRelations(final Collection<LineagePojo> relations) {
+        modify(relations, graph -> graph::remove);
+    }
+
+    public long getRelationsCount() {
+        lock.readLock().lock();
+        try {
+            return graph.relationsCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns distinct relations reachable from the roots within the given amount of hops,
+     * the same set the recursive lineage CTE selects.
+     */
+    public List<LineagePojo> getRelations(final Collection<String> rootOddrns,
+                                          final int depth,
+                                          final LineageStreamKind streamKind) {
+        lock.readLock().lock();
+        try {
+            return graph.traverse(rootOddrns, Math.max(depth, 1), streamKind);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns distinct relations which have both ends within the given oddrns.
+     */
+    public List<LineagePojo> getRelationsBetween(final Collection<String> oddrns) {
+        lock.readLock().lock();
+        try {
+            return graph.relationsBetween(oddrns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Integer> getChildrenCount(final Collection<String> oddrns) {
+        lock.readLock().lock();
+        try {
+            return graph.degrees(oddrns, LineageStreamKind.DOWNSTREAM);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Integer> getParentCount(final Collection<String> oddrns) {
+        lock.readLock().lock();
+        try {
+            return graph.degrees(oddrns, LineageStreamKind.UPSTREAM);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void modify(final Collection<LineagePojo> relations,
+                        final Function<LineageGraph, Consumer<LineagePojo>> operation) {
+        if (relations.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            // changes made before the first build has started are picked up by the build itself
+            if (ready) {
+                relations.forEach(operation.apply(graph));
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(g -> relations.forEach(operation.apply(g)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mutable, non thread-safe lineage graph. Built off-lock and published with {@link #replace(LineageGraph)}.
+     */
+    public static class LineageGraph {
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final int[] EMPTY = new int[0];
+
+        private final Map<String, Integer> nodeIds = new HashMap<>();
+        private final List<String> oddrns = new ArrayList<>();
+        private final Map<Long, Integer> edgeMultiplicity = new HashMap<>();
+
+        private int[][] children = new int[INITIAL_CAPACITY][];
+        private int[] childrenSize = new int[INITIAL_CAPACITY];
+        private int[][] parents = new int[INITIAL_CAPACITY][];
+        private int[] parentsSize = new int[INITIAL_CAPACITY];
+
+        private long relationsCount;
+
+        public void add(final LineagePojo relation) {
+            final int parent = intern(relation.getParentOddrn());
+            final int child = intern(relation.getChildOddrn());
+            relationsCount++;
+            if (edgeMultiplicity.merge(edgeKey(parent, child), 1, Integer::sum) == 1) {
+                append(children, childrenSize, parent, child);
+                append(parents, parentsSize, child, parent);
+            }
+        }
+
+        public void remove(final LineagePojo relation) {
+            final Integer parent = nodeIds.get(relation.getParentOddrn());
+            final Integer child = nodeIds.get(relation.getChildOddrn());
+            if (parent == null || child == null) {
+                return;
+            }
+            final long key = edgeKey(parent, child);
+            final Integer multiplicity = edgeMultiplicity.get(key);
+            if (multiplicity == null) {
+                return;
+            }
+            relationsCount--;
+            if (multiplicity > 1) {
+                edgeMultiplicity.put(key, multiplicity - 1);
+                return;
+            }
+            edgeMultiplicity.remove(key);
+            delete(children[parent], childrenSize, parent, child);
+            delete(parents[child], parentsSize, child, parent);
+        }
+
+        private List<LineagePojo> traverse(final Collection<String> rootOddrns,
+                                           final int hops,
+                                           final LineageStreamKind streamKind) {
+            final boolean downstream = streamKind == LineageStreamKind.DOWNSTREAM;
+            final int[][] adjacency = downstream ? children : parents;
+            final int[] adjacencySize = downstream ? childrenSize : parentsSize;
+
+            final BitSet visited = new BitSet(oddrns.size());
+            int[] frontier = new int[rootOddrns.size()];
+            int frontierSize = 0;
+            for (final String oddrn : rootOddrns) {
+                final Integer root = nodeIds.get(oddrn);
+                if (root != null && !visited.get(root)) {
+                    visited.set(root);
+                    frontier[frontierSize++] = root;
+                }
+            }
+
+            final List<LineagePojo> relations = new ArrayList<>();
+            for (int hop = 0; hop < hops && frontierSize > 0; hop++) {
+                int[] next = new int[Math.max(frontierSize, 16)];
+                int nextSize = 0;
+                for (int i = 0; i < frontierSize; i++) {
+                    final int node = frontier[i];
+                    final int[] neighbours = adjacency[node];
+                    for (int j = 0; j < adjacencySize[node]; j++) {
+                        final int neighbour = neighbours[j];
+                        relations.add(downstream ? relation(node, neighbour) : relation(neighbour, node));
+                        if (!visited.get(neighbour)) {
+                            visited.set(neighbour);
+                            if (nextSize == next.length) {
+                                next = Arrays.copyOf(next, nextSize * 2);
+                            }
+                            next[nextSize++] = neighbour;
+                        }
+                    }
+                }
+                frontier = next;
+                frontierSize = nextSize;
+            }
+            return relations;
+        }
+
+        private List<LineagePojo> relationsBetween(final Collection<String> oddrnsToMatch) {
+            final BitSet members = new BitSet(oddrns.size());
+            for (final String oddrn : oddrnsToMatch) {
+                final Integer node = nodeIds.get(oddrn);
+                if (node != null) {
+                    members.set(node);
+                }
+            }
+
+            final List<LineagePojo> relations = new ArrayList<>();
+            for (int node = members.nextSetBit(0); node >= 0; node = members.nextSetBit(node + 1)) {
+                for (int j = 0; j < childrenSize[node]; j++) {
+                    if (members.get(children[node][j])) {
+                        relations.add(relation(node, children[node][j]));
+                    }
+                }
+            }
+            return relations;
+        }
+
+        private Map<String, Integer> degrees(final Collection<String> oddrnsToCount,
+                                             final LineageStreamKind streamKind) {
+            final int[] sizes = streamKind == LineageStreamKind.DOWNSTREAM ? childrenSize : parentsSize;
+            final Map<String, Integer> result = new HashMap<>();
+            for (final String oddrn : oddrnsToCount) {
+                final Integer node = nodeIds.get(oddrn);
+                if (node != null && sizes[node] > 0) {
+                    result.put(oddrn, sizes[node]);
+                }
+            }
+            return result;
+        }
+
+        private int intern(final String oddrn) {
+            final Integer existing = nodeIds.get(oddrn);
+            if (existing != null) {
+                return existing;
+            }
+            final int id = oddrns.size();
+            oddrns.add(oddrn);
+            nodeIds.put(oddrn, id);
+            if (id == children.length) {
+                final int capacity = id * 2;
+                children = Arrays.copyOf(children, capacity);
+                childrenSize = Arrays.copyOf(childrenSize, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                parentsSize = Arrays.copyOf(parentsSize, capacity);
+            }
+            children[id] = EMPTY;
+            parents[id] = EMPTY;
+            return id;
+        }
+
+        private LineagePojo relation(final int parent, final int child) {
+            return new LineagePojo()
+                .setParentOddrn(oddrns.get(parent))
+                .setChildOddrn(oddrns.get(child));
+        }
+
+        private static void append(final int[][] adjacency, final int[] sizes, final int node, final int neighbour) {
+            final int size = sizes[node];
+            if (size == adjacency[node].length) {
+                adjacency[node] = Arrays.copyOf(adjacency[node], Math.max(4, size * 2));
+            }
+            adjacency[node][size] = neighbour;
+            sizes[node] = size + 1;
+        }
+
+        private static void delete(final int[] neighbours, final int[] sizes, final int node, final int neighbour) {
+            final int last = sizes[node] - 1;
+            for (int i = 0; i <= last; i++) {
+                if (neighbours[i] == neighbour) {
+                    neighbours[i] = neighbours[last];
+                    sizes[node] = last;
+                    return;
+                }
+            }
+        }
+
+        private static long edgeKey(final int parent, final int child) {
+            return ((long) parent << 32) | (child & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.LineageProperties;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.service.lineage.LineageGraphIndex.LineageGraph;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupChannel;
+import org.opendatadiscovery.oddplatform.wakeup.WakeupListener;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Warms {@link LineageGraphIndex} up at startup and rebuilds it once the lineage table has been changed
+ * by another platform node or whenever its relations count diverges from the lineage table.
+ *
+ * <p>Lineage changes are announced by a notification trigger with the index which has already applied them,
+ * see {@link ReactiveLineageRepository#markChangesAppliedBy}. Notifications sent while the listening
+ * connection was down are lost, so the index is rebuilt after every reconnect as well.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LineageGraphIndexWorker implements WakeupListener {
+    private final LineageGraphIndex lineageGraphIndex;
+    private final ReactiveLineageRepository lineageRepository;
+    private final LineageProperties lineageProperties;
+    private final PostgreSQLWakeupService wakeupService;
+
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private volatile long nextConsistencyCheckAt;
+    private Disposable worker;
+
+    @PostConstruct
+    public void subscribe() {
+        wakeupService.subscribe(WakeupChannel.LINEAGE_CHANGED, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runWorker() {
+        final LineageProperties.IndexProperties properties = lineageProperties.getIndex();
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        worker = Mono.defer(this::rebuild)
+            .then(Mono.defer(this::refresh)
+                .delaySubscription(properties.getRefreshInterval())
+                .repeat()
+                .then())
+            .onErrorResume(e -> {
+                log.error("Error occurred while maintaining lineage graph index", e);
+                return Mono.delay(properties.getConsistencyCheckInterval()).then();
+            })
+            .repeat()
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stopWorker() {
+        if (worker != null) {
+            worker.dispose();
+        }
+    }
+
+    @Override
+    public void onNotification(final String payload) {
+        if (!lineageGraphIndex.getInstanceId().equals(payload)) {
+            stale.set(true);
+        }
+    }
+
+    @Override
+    public void onReconnect() {
+        stale.set(true);
+    }
+
+    Mono<Void> refresh() {
+        if (stale.get()) {
+            log.debug("Lineage table has been changed by another platform node, rebuilding lineage graph index");
+            return rebuild();
+        }
+        if (System.currentTimeMillis() >= nextConsistencyCheckAt) {
+            return checkConsistency();
+        }
+        return Mono.empty();
+    }
+
+    private Mono<Void> checkConsistency() {
+        return lineageRepository.countRelations()
+            .flatMap(count -> {
+                final long indexed = lineageGraphIndex.getRelationsCount();
+                if (count == indexed) {
+                    scheduleConsistencyCheck();
+                    return Mono.empty();
+                }
+                log.warn("Lineage graph index holds {} relations while lineage table has {}, rebuilding",
+                    indexed, count);
+                return rebuild();
+            });
+    }
+
+    Mono<Void> rebuild() {
+        final long startedAt = System.currentTimeMillis();
+        return Mono.fromRunnable(() -> {
+                // changes notified from now on might be missed by the read, so they make the index stale again
+                stale.set(false);
+                lineageGraphIndex.startRebuild();
+            })
+            .then(lineageRepository.listAllRelations().collect(LineageGraph::new, LineageGraph::add))
+            .doOnNext(graph -> {
+                lineageGraphIndex.replace(graph);
+                scheduleConsistencyCheck();
+                log.info("Lineage graph index built with {} relations in {} ms",
+                    lineageGraphIndex.getRelationsCount(), System.currentTimeMillis() - startedAt);
+            })
+            .doOnError(e -> {
+                lineageGraphIndex.cancelRebuild();
+                stale.set(true);
+            })
+            .doOnCancel(lineageGraphIndex::cancelRebuild)
+            .then();
+    }
+
+    private void scheduleConsistencyCheck() {
+        nextConsistencyCheckAt = System.currentTimeMillis()
+            + lineageProperties.getIndex().getConsistencyCheckInterval().toMillis();
+    }
+}
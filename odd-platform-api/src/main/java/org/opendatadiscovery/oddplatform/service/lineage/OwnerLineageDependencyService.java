@@ -0,0 +1,119 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageDepth;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerLineageDependencyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static reactor.function.TupleUtils.function;
+
+/**
+ * Keeps the upstream and downstream neighbours of the entities of every owner materialized in
+ * owner_lineage_dependency, so lineage activity feeds join them instead of passing them as a list.
+ *
+ * <p>An owner's dependencies are materialized on the first request. From then on, database triggers bump
+ * the owner's version on every change of its ownerships, entities or their lineage. Stale dependencies
+ * are refreshed in the background and, if still stale, on the next request.
+ */
+@Service
+@Slf4j
+public class OwnerLineageDependencyService {
+    private static final int REFRESH_BATCH_SIZE = 100;
+
+    private final ReactiveOwnerLineageDependencyRepository dependencyRepository;
+    private final ReactiveLineageRepository lineageRepository;
+    private final LineageGraphIndex lineageGraphIndex;
+    private final Duration refreshInterval;
+
+    private Disposable worker;
+
+    public OwnerLineageDependencyService(
+        final ReactiveOwnerLineageDependencyRepository dependencyRepository,
+        final ReactiveLineageRepository lineageRepository,
+        final LineageGraphIndex lineageGraphIndex,
+        @Value("${odd.lineage-dependencies.refresh-interval:1m}") final Duration refreshInterval
+    ) {
+        this.dependencyRepository = dependencyRepository;
+        this.lineageRepository = lineageRepository;
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Completes once the materialized dependencies of the owner are up-to-date.
+     */
+    public Mono<Void> ensureRefreshed(final long ownerId) {
+        return dependencyRepository.getState(ownerId)
+            .filter(state -> state.getRefreshedVersion() >= state.getVersion())
+            .hasElement()
+            .flatMap(refreshed -> refreshed ? Mono.empty() : refresh(ownerId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runWorker() {
+        worker = Mono.delay(refreshInterval)
+            .thenMany(Flux.defer(() -> dependencyRepository.getStaleOwnerIds(REFRESH_BATCH_SIZE)))
+            .concatMap(this::refresh)
+            .onErrorResume(e -> {
+                log.error("Error occurred while refreshing owner lineage dependencies", e);
+                return Mono.empty();
+            })
+            .repeat()
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stopWorker() {
+        if (worker != null) {
+            worker.dispose();
+        }
+    }
+
+    Mono<Void> refresh(final long ownerId) {
+        // the version is taken before reading, so changes made meanwhile leave the dependencies stale
+        return dependencyRepository.registerOwner(ownerId)
+            .flatMap(version -> dependencyRepository.getOwnedOddrns(ownerId)
+                .collect(Collectors.toSet())
+                .flatMap(owned -> Mono.zip(
+                    getDependencies(owned, LineageStreamKind.UPSTREAM),
+                    getDependencies(owned, LineageStreamKind.DOWNSTREAM)
+                ))
+                .flatMap(function((upstream, downstream) -> {
+                    final Map<LineageStreamKind, Collection<String>> dependencies = Map.of(
+                        LineageStreamKind.UPSTREAM, upstream,
+                        LineageStreamKind.DOWNSTREAM, downstream
+                    );
+                    return dependencyRepository.replaceDependencies(ownerId, version, dependencies);
+                })))
+            .doOnSuccess(ignored -> log.debug("Refreshed lineage dependencies of owner {}", ownerId));
+    }
+
+    private Mono<Set<String>> getDependencies(final Set<String> ownedOddrns, final LineageStreamKind streamKind) {
+        if (ownedOddrns.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        final Flux<LineagePojo> relations = lineageGraphIndex.isReady()
+            ? Flux.defer(() -> Flux.fromIterable(lineageGraphIndex.getRelations(ownedOddrns, 1, streamKind)))
+            : lineageRepository.getLineageRelations(ownedOddrns, LineageDepth.of(1), streamKind);
+        return relations
+            .flatMap(r -> Flux.just(r.getParentOddrn(), r.getChildOddrn()))
+            .filter(Predicate.not(ownedOddrns::contains))
+            .collect(Collectors.toSet());
+    }
+}
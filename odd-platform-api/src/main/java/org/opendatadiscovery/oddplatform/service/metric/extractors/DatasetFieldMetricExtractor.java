@@ -35,7 +35,7 @@ public class DatasetFieldMetricExtractor implements MetricExtractor {
 
     @Override
     public Stream<MetricData> extract(final IngestionRequest dataStructure) {
-        final Stream<Pair<MetricDataTriplet, ? extends PointData>> metricStream = dataStructure.getAllEntities()
+        final Stream<Pair<MetricDataTriplet, ? extends PointData>> metricStream = dataStructure.getIngestedEntities()
             .stream()
             .filter(de -> de.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
             .flatMap(de -> de.getDataSet().fieldList().stream()
@@ -19,7 +19,7 @@ import static org.opendatadiscovery.oddplatform.service.metric.extractors.Extrac
 public class DatasetMetricExtractor implements MetricExtractor {
     @Override
     public Stream<MetricData> extract(final IngestionRequest dataStructure) {
-        final Stream<Pair<MetricDataTriplet, ? extends PointData>> metricStream = dataStructure.getAllEntities()
+        final Stream<Pair<MetricDataTriplet, ? extends PointData>> metricStream = dataStructure.getIngestedEntities()
             .stream()
             .filter(de -> de.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
             .map(this::buildMetrics);
@@ -22,10 +22,12 @@ public class DataEntityHighlightServiceImpl implements DataEntityHighlightServic
     private final ReactiveDataEntityRepository dataEntityRepository;
     private final ReactiveDatasetVersionRepository datasetVersionRepository;
     private final DataEntityHighlightConverter converter;
+    private final SearchFacetAccessTracker searchFacetAccessTracker;
 
     @Override
     public Mono<DataEntitySearchHighlight> highlightDataEntity(final UUID searchId, final long dataEntityId) {
         final Mono<String> queryStringMono = searchFacetRepository.get(searchId)
+            .doOnNext(ignored -> searchFacetAccessTracker.registerAccess(searchId))
             .map(SearchFacetsPojo::getQueryString)
             .switchIfEmpty(Mono.error(new NotFoundException("Search", searchId)));
         final Mono<DataEntityDetailsDto> detailsMono =
@@ -34,14 +36,7 @@ public class DataEntityHighlightServiceImpl implements DataEntityHighlightServic
             .getLatestDatasetVersion(dataEntityId)
             .switchIfEmpty(Mono.just(new DatasetStructureDto()));
         return Mono.zip(queryStringMono, detailsMono, latestDatasetVersion)
-            .flatMap(function(this::getHighlightedResult));
-    }
-
-    private Mono<DataEntitySearchHighlight> getHighlightedResult(final String queryString,
-                                                                 final DataEntityDetailsDto detailsDto,
-                                                                 final DatasetStructureDto structureDto) {
-        final String searchableString = converter.convert(detailsDto, structureDto);
-        return dataEntityRepository.getHighlightedResult(searchableString, queryString)
-            .map(highlightedString -> converter.parseHighlightedString(highlightedString, detailsDto, structureDto));
+            .map(function((queryString, detailsDto, structureDto) ->
+                converter.highlight(detailsDto, structureDto, new TsQueryHighlighter(queryString))));
     }
 }
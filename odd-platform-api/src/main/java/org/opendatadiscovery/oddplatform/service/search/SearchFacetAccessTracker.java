@@ -0,0 +1,94 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the latest access time of every used search in memory and periodically writes them to
+ * search_facets.last_accessed_at in batches, so reading search results doesn't rewrite the facet state row.
+ * The flush interval is expected to be far below the search facets housekeeping TTL.
+ */
+@Component
+@Slf4j
+public class SearchFacetAccessTracker {
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Map<UUID, OffsetDateTime> pendingAccesses = new ConcurrentHashMap<>();
+
+    private final ReactiveSearchFacetRepository searchFacetRepository;
+    private final Duration flushInterval;
+
+    private Disposable worker;
+
+    public SearchFacetAccessTracker(final ReactiveSearchFacetRepository searchFacetRepository,
+                                    @Value("${odd.search-facets.last-access-flush-interval:1m}")
+                                    final Duration flushInterval) {
+        this.searchFacetRepository = searchFacetRepository;
+        this.flushInterval = flushInterval;
+    }
+
+    public void registerAccess(final UUID searchId) {
+        pendingAccesses.put(searchId, OffsetDateTime.now(ZoneOffset.UTC));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runWorker() {
+        worker = Mono.delay(flushInterval)
+            .then(Mono.defer(this::flush))
+            .onErrorResume(e -> {
+                log.error("Error occurred while flushing search facets last access times", e);
+                return Mono.empty();
+            })
+            .repeat()
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stopWorker() {
+        if (worker != null) {
+            worker.dispose();
+        }
+        try {
+            flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (final Exception e) {
+            log.error("Couldn't flush search facets last access times on shutdown", e);
+        }
+    }
+
+    Mono<Void> flush() {
+        if (pendingAccesses.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final Map<UUID, OffsetDateTime> accesses = new HashMap<>();
+        for (final UUID searchId : pendingAccesses.keySet()) {
+            final OffsetDateTime accessedAt = pendingAccesses.remove(searchId);
+            if (accessedAt != null) {
+                accesses.put(searchId, accessedAt);
+            }
+        }
+
+        return searchFacetRepository.updateLastAccessedAt(accesses)
+            .doOnNext(updated -> log.debug("Flushed last access times of {} searches", updated))
+            .doOnError(e -> accesses.forEach((id, accessedAt) -> pendingAccesses.merge(id, accessedAt, this::latest)))
+            .then();
+    }
+
+    private OffsetDateTime latest(final OffsetDateTime first, final OffsetDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -1,8 +1,10 @@
 package org.opendatadiscovery.oddplatform.service.search;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
@@ -16,19 +18,24 @@ import org.opendatadiscovery.oddplatform.api.contract.model.MultipleFacetType;
 import org.opendatadiscovery.oddplatform.api.contract.model.SearchFacetsData;
 import org.opendatadiscovery.oddplatform.api.contract.model.SearchFormData;
 import org.opendatadiscovery.oddplatform.auth.AuthIdentityProvider;
+import org.opendatadiscovery.oddplatform.config.properties.SearchProperties;
 import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
 import org.opendatadiscovery.oddplatform.dto.FacetType;
 import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
 import org.opendatadiscovery.oddplatform.dto.SearchFilterId;
+import org.opendatadiscovery.oddplatform.dto.SearchResultSnapshotDto;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityMapper;
 import org.opendatadiscovery.oddplatform.mapper.FacetStateMapper;
 import org.opendatadiscovery.oddplatform.mapper.SearchMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchFacetsPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchResultSnapshotRepository;
 import org.opendatadiscovery.oddplatform.service.DataEntityService;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -38,6 +45,8 @@ import static reactor.function.TupleUtils.function;
 @RequiredArgsConstructor
 @Slf4j
 public class SearchServiceImpl implements SearchService {
+    private static final long NO_OWNER_ID = 0L;
+
     private final SearchMapper searchMapper;
     private final FacetStateMapper facetStateMapper;
     private final DataEntityMapper dataEntityMapper;
@@ -45,6 +54,9 @@ public class SearchServiceImpl implements SearchService {
     private final DataEntityService dataEntityService;
     private final ReactiveDataEntityRepository reactiveDataEntityRepository;
     private final AuthIdentityProvider authIdentityProvider;
+    private final ReactiveSearchResultSnapshotRepository searchResultSnapshotRepository;
+    private final SearchProperties searchProperties;
+    private final SearchFacetAccessTracker searchFacetAccessTracker;
 
     @Override
     public Flux<CountableSearchFilter> getFilterOptions(final UUID searchId,
@@ -66,7 +78,9 @@ public class SearchServiceImpl implements SearchService {
         return fetchFacetState(searchId)
             .flatMap(pojo -> {
                 final FacetStateDto state = facetStateMapper.pojoToState(pojo);
-                return getFacetsData(pojo.getId(), state);
+                return fetchOwner()
+                    .flatMap(owner -> getSnapshot(pojo, state, owner, 0, 0))
+                    .map(snapshot -> mapFacetsData(pojo.getId(), state, snapshot));
             });
     }
 
@@ -77,7 +91,9 @@ public class SearchServiceImpl implements SearchService {
         return Mono
             .just(facetStateMapper.mapStateToPojo(state))
             .flatMap(searchFacetRepository::create)
-            .flatMap(p -> getFacetsData(p.getId(), state));
+            .flatMap(p -> fetchOwner()
+                .flatMap(owner -> createSnapshot(p, state, owner))
+                .map(snapshot -> mapFacetsData(p.getId(), state, snapshot)));
     }
 
     @Override
@@ -91,21 +107,36 @@ public class SearchServiceImpl implements SearchService {
                 return facetStateMapper.mapStateToPojo(searchId, mergedState);
             })
             .flatMap(searchFacetRepository::update)
-            .flatMap(p -> getFacetsData(p.getId(), facetStateMapper.pojoToState(p)));
+            .flatMap(p -> {
+                final FacetStateDto state = facetStateMapper.pojoToState(p);
+                return searchResultSnapshotRepository.deleteBySearchId(p.getId())
+                    .then(fetchOwner())
+                    .flatMap(owner -> createSnapshot(p, state, owner))
+                    .map(snapshot -> mapFacetsData(p.getId(), state, snapshot));
+            });
     }
 
     @Override
     public Mono<DataEntityList> getSearchResults(final UUID searchId,
                                                  final Integer page,
                                                  final Integer size) {
+        final int offset = (page - 1) * size;
         return fetchFacetState(searchId)
             .flatMap(pojo -> {
                 final FacetStateDto state = facetStateMapper.pojoToState(pojo);
-                if (state.isMyObjects()) {
-                    return authIdentityProvider.fetchAssociatedOwner()
-                        .flatMap(owner -> dataEntityService.findByState(state, page, size, owner));
-                }
-                return dataEntityService.findByState(state, page, size);
+                return fetchOwner()
+                    .filter(owner -> !state.isMyObjects() || owner.isPresent())
+                    .flatMap(owner -> getSnapshot(pojo, state, owner, offset, size)
+                        .flatMap(snapshot -> {
+                            if (offset + size > snapshot.hitsCount()
+                                && snapshot.hitsCount() >= searchProperties.getSnapshot().getMaxIds()) {
+                                // the page lies beyond the materialized ids, so the search query is re-run
+                                return dataEntityService
+                                    .findByState(state, page, size, state.isMyObjects() ? owner.get() : null);
+                            }
+                            final long total = state.isMyObjects() ? snapshot.myObjectsTotal() : snapshot.total();
+                            return dataEntityService.listByIds(snapshot.dataEntityIds(), total);
+                        }));
             });
     }
 
@@ -117,44 +148,103 @@ public class SearchServiceImpl implements SearchService {
             .map(dataEntityMapper::mapRef);
     }
 
-    private Mono<SearchFacetsData> getFacetsData(final UUID searchId, final FacetStateDto state) {
+    private Mono<SearchResultSnapshotDto> getSnapshot(final SearchFacetsPojo pojo,
+                                                      final FacetStateDto state,
+                                                      final Optional<OwnerPojo> owner,
+                                                      final int offset,
+                                                      final int limit) {
+        return searchResultSnapshotRepository
+            .get(pojo.getId(), stateHash(pojo), ownerId(owner), offset, limit,
+                searchProperties.getSnapshot().getTtl())
+            .switchIfEmpty(Mono.defer(() -> createSnapshot(pojo, state, owner)
+                .map(snapshot -> slice(snapshot, offset, limit))));
+    }
+
+    private Mono<SearchResultSnapshotDto> createSnapshot(final SearchFacetsPojo pojo,
+                                                         final FacetStateDto state,
+                                                         final Optional<OwnerPojo> owner) {
         final Mono<Map<SearchFilterId, Long>> entityClassFacet = searchFacetRepository
             .getEntityClassFacetForDataEntity(state);
 
         final Mono<Long> allCount = reactiveDataEntityRepository.countByState(state);
 
-        final Mono<Long> myObjectsCount = authIdentityProvider.fetchAssociatedOwner()
-            .flatMap(owner -> reactiveDataEntityRepository.countByState(state, owner))
-            .switchIfEmpty(Mono.just(0L));
-
-        return Mono.zip(entityClassFacet, allCount, myObjectsCount).map(
-            function((entityClassFacetMap, totalCount, myObjectsTotalCount) -> {
-                final List<CountableSearchFilter> entityClasses = entityClassFacetMap.entrySet().stream()
-                    .map(e -> searchMapper.mapCountableSearchFilter(e.getKey(), e.getValue()))
-                    .sorted(Comparator.comparing(CountableSearchFilter::getCount).reversed())
-                    .toList();
-
-                state.selectedDataEntityClass().ifPresent(id -> {
-                    for (final CountableSearchFilter entityClass : entityClasses) {
-                        if (entityClass.getId().equals(id)) {
-                            entityClass.setSelected(true);
-                        }
-                    }
-                });
-
-                return new SearchFacetsData()
-                    .searchId(searchId)
-                    .query(state.getQuery())
-                    .total(totalCount)
-                    .myObjectsTotal(myObjectsTotalCount)
-                    .myObjects(state.isMyObjects())
-                    .facetState(facetStateMapper.mapDto(entityClasses, state));
-            }));
+        final Mono<Long> myObjectsCount = owner
+            .map(o -> reactiveDataEntityRepository.countByState(state, o))
+            .orElseGet(() -> Mono.just(0L));
+
+        final Mono<List<Long>> rankedIds = state.isMyObjects() && owner.isEmpty()
+            ? Mono.just(List.of())
+            : reactiveDataEntityRepository.findIdsByState(state, searchProperties.getSnapshot().getMaxIds(),
+                state.isMyObjects() ? owner.get() : null);
+
+        // the generation is taken first, so data changed during the queries makes the snapshot stale right away
+        return searchResultSnapshotRepository.getDataGeneration()
+            .flatMap(generation -> Mono.zip(entityClassFacet, allCount, myObjectsCount, rankedIds)
+                .map(function((entityClassFacetMap, totalCount, myObjectsTotalCount, ids) ->
+                    new SearchResultSnapshotDto(entityClassFacetMap, totalCount, myObjectsTotalCount, ids, ids.size())))
+                .flatMap(snapshot -> searchResultSnapshotRepository
+                    .save(pojo.getId(), stateHash(pojo), ownerId(owner), generation, snapshot)
+                    .thenReturn(snapshot)));
+    }
+
+    private SearchResultSnapshotDto slice(final SearchResultSnapshotDto snapshot,
+                                          final int offset,
+                                          final int limit) {
+        final List<Long> ids = snapshot.dataEntityIds();
+        final List<Long> page = ids.subList(Math.min(offset, ids.size()), Math.min(offset + limit, ids.size()));
+        return new SearchResultSnapshotDto(snapshot.entityClassFacet(), snapshot.total(), snapshot.myObjectsTotal(),
+            page, snapshot.hitsCount());
+    }
+
+    private SearchFacetsData mapFacetsData(final UUID searchId,
+                                           final FacetStateDto state,
+                                           final SearchResultSnapshotDto snapshot) {
+        final List<CountableSearchFilter> entityClasses = snapshot.entityClassFacet().entrySet().stream()
+            .map(e -> searchMapper.mapCountableSearchFilter(e.getKey(), e.getValue()))
+            .sorted(Comparator.comparing(CountableSearchFilter::getCount).reversed())
+            .toList();
+
+        state.selectedDataEntityClass().ifPresent(id -> {
+            for (final CountableSearchFilter entityClass : entityClasses) {
+                if (entityClass.getId().equals(id)) {
+                    entityClass.setSelected(true);
+                }
+            }
+        });
+
+        return new SearchFacetsData()
+            .searchId(searchId)
+            .query(state.getQuery())
+            .total(snapshot.total())
+            .myObjectsTotal(snapshot.myObjectsTotal())
+            .myObjects(state.isMyObjects())
+            .facetState(facetStateMapper.mapDto(entityClasses, state));
+    }
+
+    private Mono<Optional<OwnerPojo>> fetchOwner() {
+        return authIdentityProvider.fetchAssociatedOwner()
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty());
+    }
+
+    private long ownerId(final Optional<OwnerPojo> owner) {
+        return owner.map(OwnerPojo::getId).orElse(NO_OWNER_ID);
+    }
+
+    /**
+     * Hash of the persisted search state. Any facet or query change produces a new hash,
+     * so snapshots of the previous state are never served.
+     */
+    private String stateHash(final SearchFacetsPojo pojo) {
+        final String filters = pojo.getFilters() != null ? pojo.getFilters().data() : "";
+        final String state = pojo.getQueryString() + '\u0000' + filters;
+        return DigestUtils.md5DigestAsHex(state.getBytes(StandardCharsets.UTF_8));
     }
 
     private Mono<SearchFacetsPojo> fetchFacetState(final UUID searchId) {
         return searchFacetRepository.get(searchId)
-            .switchIfEmpty(Mono.error(() -> new NotFoundException("Search not found")));
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Search not found")))
+            .doOnNext(ignored -> searchFacetAccessTracker.registerAccess(searchId));
     }
 
     private Function<FacetStateDto, Mono<Map<SearchFilterId, Long>>> getFacetFetchOperation(
@@ -0,0 +1,12 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import reactor.core.publisher.Mono;
+
+public interface SearchVectorsRecalculationService {
+    /**
+     * Claims up to {@code limit} dirty data entities and recalculates their search vectors.
+     *
+     * @return amount of claimed data entities
+     */
+    Mono<Integer> recalculateDirtyVectors(final int limit);
+}
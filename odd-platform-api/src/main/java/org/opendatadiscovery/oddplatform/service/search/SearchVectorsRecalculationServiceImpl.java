@@ -0,0 +1,22 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class SearchVectorsRecalculationServiceImpl implements SearchVectorsRecalculationService {
+    private final ReactiveSearchEntrypointRepository searchEntrypointRepository;
+
+    @Override
+    @ReactiveTransactional
+    public Mono<Integer> recalculateDirtyVectors(final int limit) {
+        return searchEntrypointRepository.claimDirty(limit)
+            .filter(ids -> !ids.isEmpty())
+            .flatMap(ids -> searchEntrypointRepository.recalculateVectors(ids).thenReturn(ids.size()))
+            .defaultIfEmpty(0);
+    }
+}
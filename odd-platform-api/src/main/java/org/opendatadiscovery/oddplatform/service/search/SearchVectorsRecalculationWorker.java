@@ -0,0 +1,50 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.config.properties.SearchProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchVectorsRecalculationWorker {
+    private final SearchVectorsRecalculationService searchVectorsRecalculationService;
+    private final SearchProperties searchProperties;
+
+    private Disposable worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runWorker() {
+        final SearchProperties.VectorsProperties properties = searchProperties.getVectors();
+
+        worker = Mono.defer(() -> searchVectorsRecalculationService.recalculateDirtyVectors(properties.getBatchSize()))
+            .doOnNext(count -> {
+                if (count > 0) {
+                    log.debug("Recalculated search vectors for {} data entities", count);
+                }
+            })
+            .onErrorResume(e -> {
+                log.error("Error occurred while recalculating search vectors", e);
+                return Mono.just(0);
+            })
+            // full batch means there is a backlog to drain, otherwise wait for more marks to coalesce
+            .flatMap(count -> count >= properties.getBatchSize()
+                ? Mono.<Void>empty()
+                : Mono.delay(properties.getCoalesceWindow()).then())
+            .repeat()
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stopWorker() {
+        if (worker != null) {
+            worker.dispose();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.tartarus.snowball.ext.EnglishStemmer;
+
+/**
+ * In-process equivalent of {@code ts_headline('english', text, to_tsquery(query), 'HighlightAll=true')}
+ * for queries built by {@code JooqFTSHelper#tsQuery}, i.e. prefix terms joined with AND.
+ *
+ * <p>Words are runs of letters and digits. Words with digits are only lowercased, like the english configuration
+ * does for numwords, the rest are dropped if they are english stop words and otherwise stemmed with the Snowball
+ * english stemmer. A word is highlighted when its lexeme starts with any lexeme of the query.
+ *
+ * <p>Not thread-safe, an instance is meant to highlight a single search result.
+ */
+public class TsQueryHighlighter {
+    private static final String HIGHLIGHT_TAG = "<b>";
+    private static final String HIGHLIGHT_TAG_END = "</b>";
+
+    // contents of PostgreSQL's tsearch_data/english.stop
+    private static final Set<String> STOP_WORDS = Set.of(
+        "i", "me", "my", "myself", "we", "our", "ours", "ourselves", "you", "your", "yours", "yourself",
+        "yourselves", "he", "him", "his", "himself", "she", "her", "hers", "herself", "it", "its", "itself",
+        "they", "them", "their", "theirs", "themselves", "what", "which", "who", "whom", "this", "that", "these",
+        "those", "am", "is", "are", "was", "were", "be", "been", "being", "have", "has", "had", "having", "do",
+        "does", "did", "doing", "a", "an", "the", "and", "but", "if", "or", "because", "as", "until", "while",
+        "of", "at", "by", "for", "with", "about", "against", "between", "into", "through", "during", "before",
+        "after", "above", "below", "to", "from", "up", "down", "in", "out", "on", "off", "over", "under", "again",
+        "further", "then", "once", "here", "there", "when", "where", "why", "how", "all", "any", "both", "each",
+        "few", "more", "most", "other", "some", "such", "no", "nor", "not", "only", "own", "same", "so", "than",
+        "too", "very", "s", "t", "can", "will", "just", "don", "should", "now"
+    );
+
+    private final EnglishStemmer stemmer = new EnglishStemmer();
+    private final List<String> queryLexemes = new ArrayList<>();
+
+    public TsQueryHighlighter(final String plainQuery) {
+        if (StringUtils.isEmpty(plainQuery)) {
+            return;
+        }
+        final String query = plainQuery.trim();
+        int position = 0;
+        while (position < query.length()) {
+            final int start = nextWordStart(query, position);
+            if (start == query.length()) {
+                break;
+            }
+            final int end = wordEnd(query, start);
+            final String lexeme = lexeme(query.substring(start, end));
+            if (lexeme != null && !queryLexemes.contains(lexeme)) {
+                queryLexemes.add(lexeme);
+            }
+            position = end;
+        }
+    }
+
+    /**
+     * Returns the text with every matching word wrapped into highlight tags
+     * or null if nothing in the text matches the query.
+     */
+    public String highlight(final String text) {
+        if (StringUtils.isEmpty(text) || queryLexemes.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder result = null;
+        int copiedUntil = 0;
+        int position = 0;
+        while (position < text.length()) {
+            final int start = nextWordStart(text, position);
+            if (start == text.length()) {
+                break;
+            }
+            final int end = wordEnd(text, start);
+            if (matches(text.substring(start, end))) {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + 16);
+                }
+                result.append(text, copiedUntil, start)
+                    .append(HIGHLIGHT_TAG)
+                    .append(text, start, end)
+                    .append(HIGHLIGHT_TAG_END);
+                copiedUntil = end;
+            }
+            position = end;
+        }
+
+        if (result == null) {
+            return null;
+        }
+        return result.append(text, copiedUntil, text.length()).toString();
+    }
+
+    private boolean matches(final String word) {
+        final String lexeme = lexeme(word);
+        if (lexeme == null) {
+            return false;
+        }
+        for (final String queryLexeme : queryLexemes) {
+            if (lexeme.startsWith(queryLexeme)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String lexeme(final String word) {
+        final String lowerCased = word.toLowerCase(Locale.ROOT);
+        if (containsDigit(lowerCased)) {
+            return lowerCased;
+        }
+        if (STOP_WORDS.contains(lowerCased)) {
+            return null;
+        }
+        stemmer.setCurrent(lowerCased);
+        stemmer.stem();
+        return stemmer.getCurrent();
+    }
+
+    private static boolean containsDigit(final String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isDigit(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int nextWordStart(final String text, final int from) {
+        int position = from;
+        while (position < text.length() && !Character.isLetterOrDigit(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int wordEnd(final String text, final int start) {
+        int position = start;
+        while (position < text.length() && Character.isLetterOrDigit(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+}
@@ -24,6 +24,7 @@ import org.opendatadiscovery.oddplatform.mapper.TermMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchFacetsPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermRepository;
+import org.opendatadiscovery.oddplatform.service.search.SearchFacetAccessTracker;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -37,6 +38,7 @@ public class TermSearchServiceImpl implements TermSearchService {
     private final TermMapper termMapper;
     private final ReactiveTermRepository reactiveTermRepository;
     private final ReactiveSearchFacetRepository reactiveSearchFacetRepository;
+    private final SearchFacetAccessTracker searchFacetAccessTracker;
 
     @Override
     public Flux<CountableSearchFilter> getFilterOptions(final UUID searchId,
@@ -107,7 +109,8 @@ public class TermSearchServiceImpl implements TermSearchService {
 
     private Mono<SearchFacetsPojo> fetchFacetState(final UUID searchId) {
         return reactiveSearchFacetRepository.get(searchId)
-            .switchIfEmpty(Mono.error(() -> new NotFoundException("Search not found")));
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Search not found")))
+            .doOnNext(ignored -> searchFacetAccessTracker.registerAccess(searchId));
     }
 
     private Mono<TermSearchFacetsData> getFacetsData(final UUID searchId, final FacetStateDto state) {
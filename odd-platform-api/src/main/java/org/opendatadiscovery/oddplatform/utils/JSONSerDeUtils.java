@@ -5,8 +5,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import org.jetbrains.annotations.Nullable;
 import org.jooq.JSONB;
 
@@ -64,4 +69,18 @@ public class JSONSerDeUtils {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Streams values as elements of a JSON array into the given output stream.
+     * The produced bytes are the same as {@link #serializeJson(Object)} of a list with these values.
+     */
+    public static SequenceWriter arrayWriter(final OutputStream outputStream) {
+        try {
+            return OBJECT_MAPPER.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .writeValuesAsArray(outputStream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package org.opendatadiscovery.oddplatform.utils.timeseries;
+
+/**
+ * Reads bits in the order they were written by {@link BitWriter}.
+ */
+class BitReader {
+    private final byte[] buffer;
+    private int bitPosition;
+
+    BitReader(final byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    boolean readBit() {
+        if (bitPosition >= buffer.length * 8) {
+            throw new IllegalStateException("Unexpected end of the chunk");
+        }
+        final boolean bit = (buffer[bitPosition >>> 3] & (0x80 >>> (bitPosition & 7))) != 0;
+        bitPosition++;
+        return bit;
+    }
+
+    long readBits(final int count) {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value = (value << 1) | (readBit() ? 1L : 0L);
+        }
+        return value;
+    }
+}
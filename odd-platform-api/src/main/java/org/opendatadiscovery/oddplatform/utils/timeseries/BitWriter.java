@@ -0,0 +1,47 @@
+package org.opendatadiscovery.oddplatform.utils.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * Appends bits most significant first, the last byte is padded with zeros.
+ */
+class BitWriter {
+    private byte[] buffer;
+    private int bitPosition;
+
+    BitWriter(final int expectedBytes) {
+        this.buffer = new byte[Math.max(expectedBytes, 8)];
+    }
+
+    void writeBit(final boolean bit) {
+        ensureCapacity(1);
+        if (bit) {
+            buffer[bitPosition >>> 3] |= (byte) (0x80 >>> (bitPosition & 7));
+        }
+        bitPosition++;
+    }
+
+    /**
+     * Writes the lowest {@code count} bits of the value.
+     */
+    void writeBits(final long value, final int count) {
+        ensureCapacity(count);
+        for (int i = count - 1; i >= 0; i--) {
+            if (((value >>> i) & 1L) != 0) {
+                buffer[bitPosition >>> 3] |= (byte) (0x80 >>> (bitPosition & 7));
+            }
+            bitPosition++;
+        }
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, (bitPosition + 7) >>> 3);
+    }
+
+    private void ensureCapacity(final int bits) {
+        final int requiredBytes = (bitPosition + bits + 7) >>> 3;
+        if (requiredBytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, requiredBytes));
+        }
+    }
+}
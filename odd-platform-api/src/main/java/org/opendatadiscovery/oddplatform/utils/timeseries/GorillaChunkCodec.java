@@ -0,0 +1,154 @@
+package org.opendatadiscovery.oddplatform.utils.timeseries;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
+
+/**
+ * Compresses points of a single series the way Gorilla does: timestamps are stored as delta-of-deltas
+ * and values as XOR with the previous value, so regularly collected and slowly changing metrics
+ * take a couple of bits per point.
+ *
+ * <p>Layout: 32 bits points count, 64 bits first timestamp, 64 bits first value, then for every next point
+ * <ul>
+ *     <li>delta-of-delta: '0' for 0, '10' + 7 bits, '110' + 9 bits, '1110' + 12 bits or '1111' + 64 bits</li>
+ *     <li>value: '0' for the same value, '10' + meaningful bits within the previous leading and trailing zeros
+ *     window or '11' + 5 bits leading zeros + 6 bits meaningful bits length - 1 + meaningful bits</li>
+ * </ul>
+ */
+@UtilityClass
+public class GorillaChunkCodec {
+    private static final int MAX_LEADING_ZEROS = 31;
+
+    /**
+     * @param points points sorted by timestamp
+     */
+    public static byte[] encode(final List<MetricHistoryPointDto> points) {
+        final BitWriter writer = new BitWriter(16 + points.size() * 2);
+        writer.writeBits(points.size(), 32);
+        if (points.isEmpty()) {
+            return writer.toByteArray();
+        }
+
+        final MetricHistoryPointDto first = points.get(0);
+        writer.writeBits(first.timestamp(), 64);
+        writer.writeBits(Double.doubleToRawLongBits(first.value()), 64);
+
+        long previousTimestamp = first.timestamp();
+        long previousDelta = 0;
+        long previousValue = Double.doubleToRawLongBits(first.value());
+        int previousLeadingZeros = -1;
+        int previousTrailingZeros = 0;
+
+        for (int i = 1; i < points.size(); i++) {
+            final MetricHistoryPointDto point = points.get(i);
+
+            final long delta = point.timestamp() - previousTimestamp;
+            writeDeltaOfDelta(writer, delta - previousDelta);
+            previousTimestamp = point.timestamp();
+            previousDelta = delta;
+
+            final long value = Double.doubleToRawLongBits(point.value());
+            final long xor = value ^ previousValue;
+            previousValue = value;
+            if (xor == 0) {
+                writer.writeBit(false);
+                continue;
+            }
+
+            writer.writeBit(true);
+            final int leadingZeros = Math.min(Long.numberOfLeadingZeros(xor), MAX_LEADING_ZEROS);
+            final int trailingZeros = Long.numberOfTrailingZeros(xor);
+            if (previousLeadingZeros >= 0
+                && leadingZeros >= previousLeadingZeros
+                && trailingZeros >= previousTrailingZeros) {
+                writer.writeBit(false);
+                writer.writeBits(xor >>> previousTrailingZeros, 64 - previousLeadingZeros - previousTrailingZeros);
+                continue;
+            }
+
+            final int meaningfulBits = 64 - leadingZeros - trailingZeros;
+            writer.writeBit(true);
+            writer.writeBits(leadingZeros, 5);
+            writer.writeBits(meaningfulBits - 1, 6);
+            writer.writeBits(xor >>> trailingZeros, meaningfulBits);
+            previousLeadingZeros = leadingZeros;
+            previousTrailingZeros = trailingZeros;
+        }
+
+        return writer.toByteArray();
+    }
+
+    public static List<MetricHistoryPointDto> decode(final byte[] chunk) {
+        if (chunk == null || chunk.length == 0) {
+            return List.of();
+        }
+
+        final BitReader reader = new BitReader(chunk);
+        final int count = (int) reader.readBits(32);
+        final List<MetricHistoryPointDto> points = new ArrayList<>(count);
+        if (count == 0) {
+            return points;
+        }
+
+        long timestamp = reader.readBits(64);
+        long value = reader.readBits(64);
+        points.add(new MetricHistoryPointDto(timestamp, Double.longBitsToDouble(value)));
+
+        long delta = 0;
+        int leadingZeros = 0;
+        int trailingZeros = 0;
+        for (int i = 1; i < count; i++) {
+            delta += readDeltaOfDelta(reader);
+            timestamp += delta;
+
+            if (reader.readBit()) {
+                if (reader.readBit()) {
+                    leadingZeros = (int) reader.readBits(5);
+                    final int meaningfulBits = (int) reader.readBits(6) + 1;
+                    trailingZeros = 64 - leadingZeros - meaningfulBits;
+                }
+                value ^= reader.readBits(64 - leadingZeros - trailingZeros) << trailingZeros;
+            }
+
+            points.add(new MetricHistoryPointDto(timestamp, Double.longBitsToDouble(value)));
+        }
+
+        return points;
+    }
+
+    private static void writeDeltaOfDelta(final BitWriter writer, final long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            writer.writeBit(false);
+        } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+            writer.writeBits(0b10, 2);
+            writer.writeBits(deltaOfDelta + 63, 7);
+        } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+            writer.writeBits(0b110, 3);
+            writer.writeBits(deltaOfDelta + 255, 9);
+        } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+            writer.writeBits(0b1110, 4);
+            writer.writeBits(deltaOfDelta + 2047, 12);
+        } else {
+            writer.writeBits(0b1111, 4);
+            writer.writeBits(deltaOfDelta, 64);
+        }
+    }
+
+    private static long readDeltaOfDelta(final BitReader reader) {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (!reader.readBit()) {
+            return reader.readBits(7) - 63;
+        }
+        if (!reader.readBit()) {
+            return reader.readBits(9) - 255;
+        }
+        if (!reader.readBit()) {
+            return reader.readBits(12) - 2047;
+        }
+        return reader.readBits(64);
+    }
+}
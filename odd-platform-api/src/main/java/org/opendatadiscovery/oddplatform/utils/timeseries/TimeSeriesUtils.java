@@ -0,0 +1,55 @@
+package org.opendatadiscovery.oddplatform.utils.timeseries;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.experimental.UtilityClass;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
+
+@UtilityClass
+public class TimeSeriesUtils {
+    /**
+     * @return start of the bucket of the given duration the timestamp belongs to, in epoch seconds
+     */
+    public static long bucketStart(final long timestamp, final Duration bucket) {
+        final long bucketSeconds = bucket.toSeconds();
+        return Math.floorDiv(timestamp, bucketSeconds) * bucketSeconds;
+    }
+
+    /**
+     * Merges points into the sorted ones, a merged point replaces an existing one with the same timestamp.
+     *
+     * @return points sorted by timestamp
+     */
+    public static List<MetricHistoryPointDto> merge(final List<MetricHistoryPointDto> sortedPoints,
+                                                    final Collection<MetricHistoryPointDto> points) {
+        final TreeMap<Long, MetricHistoryPointDto> merged = new TreeMap<>();
+        sortedPoints.forEach(p -> merged.put(p.timestamp(), p));
+        points.forEach(p -> merged.put(p.timestamp(), p));
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Averages points within every step, resulting points are stamped with the start of their step.
+     *
+     * @param sortedPoints points sorted by timestamp
+     */
+    public static List<MetricHistoryPointDto> downsample(final List<MetricHistoryPointDto> sortedPoints,
+                                                         final Duration step) {
+        final Map<Long, double[]> buckets = new TreeMap<>();
+        for (final MetricHistoryPointDto point : sortedPoints) {
+            final double[] sumAndCount = buckets
+                .computeIfAbsent(bucketStart(point.timestamp(), step), ignored -> new double[2]);
+            sumAndCount[0] += point.value();
+            sumAndCount[1]++;
+        }
+
+        final List<MetricHistoryPointDto> result = new ArrayList<>(buckets.size());
+        buckets.forEach((start, sumAndCount) -> result.add(
+            new MetricHistoryPointDto(start, sumAndCount[0] / sumAndCount[1])));
+        return result;
+    }
+}
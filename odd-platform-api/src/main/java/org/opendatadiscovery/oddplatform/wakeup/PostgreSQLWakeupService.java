@@ -0,0 +1,24 @@
+package org.opendatadiscovery.oddplatform.wakeup;
+
+public interface PostgreSQLWakeupService {
+    /**
+     * Blocks the caller thread until the channel is notified or the fallback interval passes,
+     * whichever comes first. Notifications received while nobody waits are coalesced into one,
+     * so a worker draining its work before waiting doesn't miss anything.
+     *
+     * <p>Every channel is expected to have a single waiting worker.
+     *
+     * @param channel channel to wait on
+     *
+     * @return true if the channel has been notified, false if the fallback interval has passed
+     */
+    boolean await(final WakeupChannel channel) throws InterruptedException;
+
+    /**
+     * Registers a listener which receives every notification of the channel with its payload.
+     *
+     * @param channel  channel to listen to
+     * @param listener listener to be called on the listener thread
+     */
+    void subscribe(final WakeupChannel channel, final WakeupListener listener);
+}
@@ -0,0 +1,143 @@
+package org.opendatadiscovery.oddplatform.wakeup;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listens to all {@link WakeupChannel}s on a dedicated connection, wakes up workers waiting on them
+ * and passes notifications to the subscribed listeners.
+ *
+ * <p>Notifications sent while the listening connection is down are lost, so every waiting worker
+ * is woken up once the connection is reestablished and the fallback interval covers the rest.
+ */
+@Component
+@Slf4j
+public class PostgreSQLWakeupServiceImpl implements PostgreSQLWakeupService {
+    private static final int LISTEN_TIMEOUT_MILLIS = 10_000;
+    private static final long RECONNECT_DELAY_SECONDS = 5;
+
+    private final PGConnectionFactory pgConnectionFactory;
+    private final Duration fallbackInterval;
+    private final Map<WakeupChannel, Semaphore> signals = new EnumMap<>(WakeupChannel.class);
+    private final Map<WakeupChannel, List<WakeupListener>> listeners = new EnumMap<>(WakeupChannel.class);
+
+    private Thread listenerThread;
+
+    public PostgreSQLWakeupServiceImpl(final PGConnectionFactory pgConnectionFactory,
+                                       @Value("${wakeup.fallback-interval:5s}") final Duration fallbackInterval) {
+        this.pgConnectionFactory = pgConnectionFactory;
+        this.fallbackInterval = fallbackInterval;
+        for (final WakeupChannel channel : WakeupChannel.values()) {
+            signals.put(channel, new Semaphore(0));
+            listeners.put(channel, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    @PostConstruct
+    public void startListening() {
+        listenerThread = new Thread(this::listen, "postgresql-wakeup-listener-thread");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stopListening() {
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean await(final WakeupChannel channel) throws InterruptedException {
+        final Semaphore signal = signals.get(channel);
+        final boolean notified = signal.tryAcquire(fallbackInterval.toMillis(), TimeUnit.MILLISECONDS);
+        signal.drainPermits();
+        return notified;
+    }
+
+    @Override
+    public void subscribe(final WakeupChannel channel, final WakeupListener listener) {
+        listeners.get(channel).add(listener);
+    }
+
+    private void listen() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try (final Connection connection = pgConnectionFactory.getConnection()) {
+                try (final Statement statement = connection.createStatement()) {
+                    for (final WakeupChannel channel : WakeupChannel.values()) {
+                        statement.execute("LISTEN %s".formatted(channel.getChannelName()));
+                    }
+                }
+                log.debug("Listening to wakeup channels {}", Arrays.toString(WakeupChannel.values()));
+
+                for (final WakeupChannel channel : WakeupChannel.values()) {
+                    signal(channel);
+                    listeners.get(channel).forEach(l -> callListener(l, WakeupListener::onReconnect));
+                }
+
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (!Thread.currentThread().isInterrupted()) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(LISTEN_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+
+                    for (final PGNotification notification : notifications) {
+                        WakeupChannel.fromChannelName(notification.getName())
+                            .ifPresent(channel -> dispatch(channel, notification.getParameter()));
+                    }
+                }
+            } catch (final Exception e) {
+                log.error("Error occurred while listening to wakeup channels, reconnecting in {} seconds",
+                    RECONNECT_DELAY_SECONDS, e);
+            }
+
+            try {
+                TimeUnit.SECONDS.sleep(RECONNECT_DELAY_SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        log.debug("Stopped listening to wakeup channels");
+    }
+
+    private void dispatch(final WakeupChannel channel, final String payload) {
+        signal(channel);
+        listeners.get(channel).forEach(l -> callListener(l, listener -> listener.onNotification(payload)));
+    }
+
+    // a failing listener mustn't break the listening connection for the others
+    private void callListener(final WakeupListener listener, final Consumer<WakeupListener> call) {
+        try {
+            call.accept(listener);
+        } catch (final Exception e) {
+            log.error("Error occurred while calling wakeup listener {}", listener, e);
+        }
+    }
+
+    // a single permit is enough to wake up the worker, it drains all the work before waiting again
+    private void signal(final WakeupChannel channel) {
+        final Semaphore signal = signals.get(channel);
+        if (signal.availablePermits() == 0) {
+            signal.release();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.opendatadiscovery.oddplatform.wakeup;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * PostgreSQL notification channels, notified by triggers once there is new work for a worker
+ * or once data cached by the platform nodes has been changed.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum WakeupChannel {
+    MESSAGE_PENDING_SEND("odd_message_pending_send"),
+    MESSAGE_EVENT_PENDING("odd_message_event_pending"),
+    ALERT_CHANGED("odd_alert_changed"),
+    SESSION_INVALIDATED("odd_session_invalidated"),
+    SEARCH_FACETS_CHANGED("odd_search_facets_changed"),
+    LINEAGE_CHANGED("odd_lineage_changed");
+
+    private static final Map<String, WakeupChannel> DICT = Arrays
+        .stream(WakeupChannel.values())
+        .collect(toMap(WakeupChannel::getChannelName, identity()));
+
+    private final String channelName;
+
+    public static Optional<WakeupChannel> fromChannelName(final String channelName) {
+        return Optional.ofNullable(DICT.get(channelName));
+    }
+}
@@ -0,0 +1,15 @@
+package org.opendatadiscovery.oddplatform.wakeup;
+
+/**
+ * Receives notifications of a {@link WakeupChannel} together with their payloads.
+ * Listeners are called on the listener thread, so they must not block.
+ */
+public interface WakeupListener {
+    void onNotification(final String payload);
+
+    /**
+     * Called once the listening connection is (re)established.
+     * Notifications sent while the connection was down are lost.
+     */
+    void onReconnect();
+}
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS ingestion_job
+(
+    id                BIGSERIAL PRIMARY KEY,
+    data_source_oddrn VARCHAR(255)             NOT NULL,
+    payload           JSONB,
+    status            SMALLINT                 NOT NULL,
+    phase_timings     JSONB,
+    error_message     TEXT,
+    created_at        TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    started_at        TIMESTAMP WITH TIME ZONE,
+    finished_at       TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS ingestion_job_data_source_oddrn_status_idx ON ingestion_job (data_source_oddrn, status);
+CREATE INDEX IF NOT EXISTS ingestion_job_status_idx ON ingestion_job (status);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS search_entrypoint_dirty
+(
+    data_entity_id BIGINT PRIMARY KEY,
+    marked_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS search_entrypoint_dirty_marked_at_idx ON search_entrypoint_dirty (marked_at);
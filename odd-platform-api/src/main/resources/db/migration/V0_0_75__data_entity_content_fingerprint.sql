@@ -0,0 +1,2 @@
+ALTER TABLE data_entity
+    ADD COLUMN IF NOT EXISTS content_fingerprint VARCHAR(64);
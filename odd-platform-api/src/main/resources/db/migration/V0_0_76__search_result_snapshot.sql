@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS search_result_snapshot
+(
+    search_id          UUID                     NOT NULL REFERENCES search_facets (id) ON DELETE CASCADE,
+    state_hash         VARCHAR(64)              NOT NULL,
+    owner_id           BIGINT                   NOT NULL,
+    data_entity_ids    BIGINT[]                 NOT NULL,
+    entity_class_facet JSONB                    NOT NULL,
+    total              BIGINT                   NOT NULL,
+    my_objects_total   BIGINT                   NOT NULL,
+    created_at         TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (search_id, state_hash, owner_id)
+);
+
+CREATE INDEX IF NOT EXISTS search_result_snapshot_created_at_idx ON search_result_snapshot (created_at);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS notification_dead_letter
+(
+    id          BIGSERIAL PRIMARY KEY,
+    receiver_id VARCHAR(64)              NOT NULL,
+    message     JSONB                    NOT NULL,
+    attempts    INTEGER                  NOT NULL,
+    error       TEXT,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS notification_dead_letter_receiver_id_idx ON notification_dead_letter (receiver_id);
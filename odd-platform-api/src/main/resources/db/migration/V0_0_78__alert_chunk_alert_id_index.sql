@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS alert_chunk_alert_id_idx ON alert_chunk (alert_id);
@@ -0,0 +1,112 @@
+-- last runs are resolved by (oddrn, start_time) now, a partitioned table can't be referenced by oddrn alone
+ALTER TABLE data_entity_task_last_run
+    DROP CONSTRAINT IF EXISTS data_entity_task_last_run_last_task_run_oddrn_fkey;
+
+ALTER TABLE data_entity_task_last_run
+    ADD COLUMN IF NOT EXISTS last_task_run_start_time TIMESTAMP WITHOUT TIME ZONE;
+
+-- data_entity_task_run
+ALTER TABLE data_entity_task_run
+    RENAME TO data_entity_task_run_unpartitioned;
+
+ALTER SEQUENCE data_entity_task_run_id_seq OWNED BY NONE;
+
+CREATE TABLE data_entity_task_run
+(
+    id            BIGINT      NOT NULL DEFAULT nextval('data_entity_task_run_id_seq'),
+    oddrn         VARCHAR,
+    start_time    TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_time      TIMESTAMP WITHOUT TIME ZONE,
+    status_reason VARCHAR,
+    status        VARCHAR(64) NOT NULL,
+    type          VARCHAR(64),
+    task_oddrn    VARCHAR,
+    name          VARCHAR(255)
+) PARTITION BY RANGE (start_time);
+
+ALTER SEQUENCE data_entity_task_run_id_seq OWNED BY data_entity_task_run.id;
+
+-- runs which don't fall into any partition, e.g. ingested long after the retention period
+CREATE TABLE data_entity_task_run_default PARTITION OF data_entity_task_run DEFAULT;
+
+-- existing runs go to a single legacy partition, dropped as a whole once it's out of the retention period.
+-- Following partitions are created by the application starting from its upper bound
+DO
+$$
+    DECLARE
+        upper_bound DATE := (now() AT TIME ZONE 'UTC')::date + 1;
+    BEGIN
+        EXECUTE format(
+            'CREATE TABLE data_entity_task_run_19700101_%s PARTITION OF data_entity_task_run '
+                'FOR VALUES FROM (%L) TO (%L)',
+            to_char(upper_bound, 'YYYYMMDD'), '1970-01-01', upper_bound
+        );
+    END
+$$;
+
+INSERT INTO data_entity_task_run (id, oddrn, start_time, end_time, status_reason, status, type, task_oddrn, name)
+SELECT id,
+       oddrn,
+       COALESCE(start_time, end_time, '1970-01-01'::timestamp),
+       end_time,
+       status_reason,
+       status,
+       type,
+       task_oddrn,
+       name
+FROM data_entity_task_run_unpartitioned;
+
+DROP TABLE data_entity_task_run_unpartitioned;
+
+ALTER TABLE data_entity_task_run
+    ADD CONSTRAINT data_entity_task_run_pkey PRIMARY KEY (id, start_time),
+    ADD CONSTRAINT data_entity_task_run_oddrn_key UNIQUE (oddrn, start_time),
+    ADD CONSTRAINT data_entity_task_run_task_oddrn_fk FOREIGN KEY (task_oddrn) REFERENCES data_entity (oddrn);
+
+CREATE INDEX IF NOT EXISTS data_entity_task_run_oddrn_idx ON data_entity_task_run (oddrn);
+
+CREATE INDEX IF NOT EXISTS data_entity_task_run_task_oddrn_end_time_idx
+    ON data_entity_task_run (task_oddrn, end_time);
+
+CREATE INDEX IF NOT EXISTS data_entity_task_run_end_time_idx ON data_entity_task_run (end_time);
+
+UPDATE data_entity_task_last_run lr
+SET last_task_run_start_time = tr.start_time
+FROM data_entity_task_run tr
+WHERE tr.oddrn = lr.last_task_run_oddrn;
+
+-- alert_chunk
+ALTER TABLE alert_chunk
+    RENAME TO alert_chunk_unpartitioned;
+
+CREATE TABLE alert_chunk
+(
+    alert_id    BIGINT                      NOT NULL,
+    created_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    description TEXT
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE alert_chunk_default PARTITION OF alert_chunk DEFAULT;
+
+DO
+$$
+    DECLARE
+        upper_bound DATE := (now() AT TIME ZONE 'UTC')::date + 1;
+    BEGIN
+        EXECUTE format(
+            'CREATE TABLE alert_chunk_19700101_%s PARTITION OF alert_chunk FOR VALUES FROM (%L) TO (%L)',
+            to_char(upper_bound, 'YYYYMMDD'), '1970-01-01', upper_bound
+        );
+    END
+$$;
+
+INSERT INTO alert_chunk (alert_id, created_at, description)
+SELECT alert_id, created_at, description
+FROM alert_chunk_unpartitioned;
+
+DROP TABLE alert_chunk_unpartitioned;
+
+ALTER TABLE alert_chunk
+    ADD CONSTRAINT alert_chunk_fk FOREIGN KEY (alert_id) REFERENCES alert (id);
+
+CREATE INDEX IF NOT EXISTS alert_chunk_alert_id_idx ON alert_chunk (alert_id);
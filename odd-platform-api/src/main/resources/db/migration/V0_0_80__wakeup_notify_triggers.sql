@@ -0,0 +1,40 @@
+-- wakes up workers listening to the channel passed as the trigger argument, see WakeupChannel.
+-- Notifications with the same channel and payload are sent once per transaction
+CREATE OR REPLACE FUNCTION notify_wakeup() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify(TG_ARGV[0], '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- messages waiting to be sent to a message provider. Updates of messages which are already pending,
+-- e.g. counting failed tries, don't wake the sender up, so retries are paced by its fallback interval
+CREATE TRIGGER message_pending_send_insert_wakeup
+    AFTER INSERT
+    ON message
+    FOR EACH ROW
+    WHEN (NEW.state = 1)
+EXECUTE FUNCTION notify_wakeup('odd_message_pending_send');
+
+CREATE TRIGGER message_pending_send_update_wakeup
+    AFTER UPDATE
+    ON message
+    FOR EACH ROW
+    WHEN (NEW.state = 1 AND OLD.state IS DISTINCT FROM NEW.state)
+EXECUTE FUNCTION notify_wakeup('odd_message_pending_send');
+
+-- message provider events waiting to be processed
+CREATE TRIGGER message_provider_event_pending_wakeup
+    AFTER INSERT
+    ON message_provider_event
+    FOR EACH ROW
+    WHEN (NEW.state = 1)
+EXECUTE FUNCTION notify_wakeup('odd_message_event_pending');
+
+-- alert changes are delivered by the WAL subscriber
+CREATE TRIGGER alert_changed_wakeup
+    AFTER INSERT OR UPDATE
+    ON alert
+    FOR EACH STATEMENT
+EXECUTE FUNCTION notify_wakeup('odd_alert_changed');
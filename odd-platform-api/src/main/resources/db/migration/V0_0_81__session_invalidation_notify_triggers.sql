@@ -0,0 +1,27 @@
+-- evicts the session from near-caches of all the platform nodes, see JooqSessionRepository.
+-- Touching a session only updates spring_session, so it doesn't invalidate anything
+CREATE OR REPLACE FUNCTION notify_session_invalidated() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_TABLE_NAME = 'spring_session' THEN
+        PERFORM pg_notify('odd_session_invalidated', OLD.primary_id);
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('odd_session_invalidated', OLD.session_primary_id);
+    ELSE
+        PERFORM pg_notify('odd_session_invalidated', NEW.session_primary_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER spring_session_attributes_invalidated
+    AFTER INSERT OR UPDATE OR DELETE
+    ON spring_session_attributes
+    FOR EACH ROW
+EXECUTE FUNCTION notify_session_invalidated();
+
+CREATE TRIGGER spring_session_invalidated
+    AFTER DELETE
+    ON spring_session
+    FOR EACH ROW
+EXECUTE FUNCTION notify_session_invalidated();
@@ -0,0 +1,15 @@
+-- evicts the facet state from caches of all the platform nodes, see ReactiveSearchFacetRepositoryImpl.
+-- Last access time updates don't change the state, so they don't invalidate anything
+CREATE OR REPLACE FUNCTION notify_search_facets_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('odd_search_facets_changed', NEW.id::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER search_facets_changed
+    AFTER UPDATE OF filters, query_string
+    ON search_facets
+    FOR EACH ROW
+EXECUTE FUNCTION notify_search_facets_changed();
@@ -0,0 +1,29 @@
+-- history of internal metrics, points of every series are kept in compressed chunks, one per series and time bucket.
+-- See GorillaChunkCodec for the data layout. Chunks are partitioned by their start, so the retention drops
+-- whole partitions
+CREATE TABLE IF NOT EXISTS metric_chunk
+(
+    series_id        INT                         NOT NULL,
+    label_values_ids INT[]                       NOT NULL,
+    chunk_start      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_timestamp   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    points_count     INT                         NOT NULL,
+    data             BYTEA                       NOT NULL,
+
+    PRIMARY KEY (series_id, label_values_ids, chunk_start),
+    CONSTRAINT metric_chunk_metric_series_fk FOREIGN KEY (series_id) REFERENCES metric_series (id)
+) PARTITION BY RANGE (chunk_start);
+
+CREATE TABLE metric_chunk_default PARTITION OF metric_chunk DEFAULT;
+
+DO
+$$
+    DECLARE
+        upper_bound DATE := (now() AT TIME ZONE 'UTC')::date + 1;
+    BEGIN
+        EXECUTE format(
+            'CREATE TABLE metric_chunk_19700101_%s PARTITION OF metric_chunk FOR VALUES FROM (%L) TO (%L)',
+            to_char(upper_bound, 'YYYYMMDD'), '1970-01-01', upper_bound
+        );
+    END
+$$;
@@ -0,0 +1,90 @@
+-- upstream and downstream neighbours of the entities of every owner, joined by the lineage activity feeds,
+-- see OwnerLineageDependencyService. A dependency set is refreshed once the version of its owner,
+-- bumped by the triggers below, outgrows the refreshed one
+CREATE TABLE IF NOT EXISTS owner_lineage_dependency_state
+(
+    owner_id          bigint PRIMARY KEY,
+    version           bigint NOT NULL DEFAULT 1,
+    refreshed_version bigint NOT NULL DEFAULT 0,
+
+    CONSTRAINT owner_lineage_dependency_state_fk_owner FOREIGN KEY (owner_id) REFERENCES owner (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS owner_lineage_dependency_state_stale_idx
+    ON owner_lineage_dependency_state (owner_id) WHERE version > refreshed_version;
+
+CREATE TABLE IF NOT EXISTS owner_lineage_dependency
+(
+    owner_id          bigint       NOT NULL,
+    stream_kind       varchar(16)  NOT NULL,
+    data_entity_oddrn varchar(512) NOT NULL,
+
+    CONSTRAINT owner_lineage_dependency_pk PRIMARY KEY (owner_id, stream_kind, data_entity_oddrn),
+    CONSTRAINT owner_lineage_dependency_fk_state FOREIGN KEY (owner_id)
+        REFERENCES owner_lineage_dependency_state (owner_id) ON DELETE CASCADE
+);
+
+CREATE OR REPLACE FUNCTION ownership_owner_lineage_dependency_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        UPDATE owner_lineage_dependency_state SET version = version + 1 WHERE owner_id = OLD.owner_id;
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        UPDATE owner_lineage_dependency_state SET version = version + 1 WHERE owner_id = NEW.owner_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER ownership_owner_lineage_dependency_changed
+    AFTER INSERT OR DELETE OR UPDATE OF owner_id, data_entity_id
+    ON ownership
+    FOR EACH ROW
+EXECUTE FUNCTION ownership_owner_lineage_dependency_changed();
+
+-- dependency sets hold direct neighbours only, so only owners of the relation ends are affected
+CREATE OR REPLACE FUNCTION lineage_owner_lineage_dependency_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE owner_lineage_dependency_state
+    SET version = version + 1
+    WHERE owner_id IN (SELECT o.owner_id
+                       FROM changed_lineage l
+                                JOIN data_entity de ON de.oddrn IN (l.parent_oddrn, l.child_oddrn)
+                                JOIN ownership o ON o.data_entity_id = de.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER lineage_inserted_owner_lineage_dependency_changed
+    AFTER INSERT
+    ON lineage
+    REFERENCING NEW TABLE AS changed_lineage
+    FOR EACH STATEMENT
+EXECUTE FUNCTION lineage_owner_lineage_dependency_changed();
+
+CREATE TRIGGER lineage_deleted_owner_lineage_dependency_changed
+    AFTER DELETE
+    ON lineage
+    REFERENCING OLD TABLE AS changed_lineage
+    FOR EACH STATEMENT
+EXECUTE FUNCTION lineage_owner_lineage_dependency_changed();
+
+-- hollow and deleted entities don't contribute their neighbours to the sets of their owners
+CREATE OR REPLACE FUNCTION data_entity_owner_lineage_dependency_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE owner_lineage_dependency_state
+    SET version = version + 1
+    WHERE owner_id IN (SELECT owner_id FROM ownership WHERE data_entity_id = NEW.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER data_entity_owner_lineage_dependency_changed
+    AFTER UPDATE OF hollow, deleted_at
+    ON data_entity
+    FOR EACH ROW
+    WHEN (OLD.hollow IS DISTINCT FROM NEW.hollow OR OLD.deleted_at IS DISTINCT FROM NEW.deleted_at)
+EXECUTE FUNCTION data_entity_owner_lineage_dependency_changed();
@@ -0,0 +1,52 @@
+-- generation of the data search results are built from, see ReactiveSearchResultSnapshotRepositoryImpl.
+-- A snapshot is served only while the generation it was built at is the current one. A sequence is bumped
+-- instead of a counter row, so concurrent writers don't queue up on a single row lock
+CREATE SEQUENCE IF NOT EXISTS search_data_generation;
+
+-- marks the initial value as used, so that the first bump changes last_value
+SELECT setval('search_data_generation', 1);
+
+ALTER TABLE search_result_snapshot
+    ADD COLUMN IF NOT EXISTS data_generation BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_search_data_generation() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM nextval('search_data_generation');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- search vectors, refreshed asynchronously after data entity changes
+CREATE TRIGGER search_entrypoint_search_data_changed
+    AFTER INSERT OR UPDATE OR DELETE
+    ON search_entrypoint
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_search_data_generation();
+
+-- view count updates don't change search results
+CREATE TRIGGER data_entity_search_data_changed
+    AFTER INSERT OR DELETE OR UPDATE OF hollow, deleted_at, exclude_from_search, entity_class_ids, type_id,
+        data_source_id, namespace_id, manually_created
+    ON data_entity
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_search_data_generation();
+
+-- owner, tag and group facets and the "my objects" total
+CREATE TRIGGER ownership_search_data_changed
+    AFTER INSERT OR UPDATE OR DELETE
+    ON ownership
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_search_data_generation();
+
+CREATE TRIGGER tag_to_data_entity_search_data_changed
+    AFTER INSERT OR UPDATE OR DELETE
+    ON tag_to_data_entity
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_search_data_generation();
+
+CREATE TRIGGER group_entity_relations_search_data_changed
+    AFTER INSERT OR UPDATE OR DELETE
+    ON group_entity_relations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_search_data_generation();
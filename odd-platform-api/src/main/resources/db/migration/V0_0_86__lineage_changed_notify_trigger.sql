@@ -0,0 +1,16 @@
+-- tells lineage graph indexes of all the platform nodes that the lineage table has changed,
+-- see LineageGraphIndexWorker. The payload is the index which has already applied the change itself,
+-- set by the changing transaction, or an empty string for changes no index has applied
+CREATE OR REPLACE FUNCTION notify_lineage_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('odd_lineage_changed', coalesce(current_setting('odd.lineage_index_instance', true), ''));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER lineage_changed
+    AFTER INSERT OR UPDATE OR DELETE
+    ON lineage
+    FOR EACH STATEMENT
+EXECUTE FUNCTION notify_lineage_changed();
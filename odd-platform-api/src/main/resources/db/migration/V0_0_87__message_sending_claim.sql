@@ -0,0 +1,4 @@
+-- set while the sender job is posting a message to its provider outside of any transaction,
+-- claims left by a sender which has died are released by the next one
+ALTER TABLE IF EXISTS message
+    ADD COLUMN IF NOT EXISTS sending_claimed_at TIMESTAMP WITH TIME ZONE NULL;
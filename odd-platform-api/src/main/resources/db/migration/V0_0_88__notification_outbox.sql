@@ -0,0 +1,23 @@
+-- messages are written here before the replication slot is advanced, so nothing is lost
+-- when the platform stops. next_attempt_at is pushed forward while a worker delivers a message
+-- and on every failed attempt, a message which has run out of attempts is kept as a dead letter
+CREATE TABLE IF NOT EXISTS notification_outbox
+(
+    id               BIGSERIAL PRIMARY KEY,
+    receiver_id      VARCHAR(64)              NOT NULL,
+    message          JSONB                    NOT NULL,
+    attempts         INTEGER                  NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    error            TEXT,
+    dead_lettered_at TIMESTAMP WITH TIME ZONE,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS notification_outbox_pending_idx
+    ON notification_outbox (receiver_id, next_attempt_at) WHERE dead_lettered_at IS NULL;
+
+INSERT INTO notification_outbox (receiver_id, message, attempts, error, dead_lettered_at, created_at)
+SELECT receiver_id, message, attempts, error, created_at, created_at
+FROM notification_dead_letter;
+
+DROP TABLE IF EXISTS notification_dead_letter;
@@ -0,0 +1,110 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSource;
+import org.opendatadiscovery.oddplatform.api.contract.model.IngestionJob;
+import org.opendatadiscovery.oddplatform.api.contract.model.IngestionJobStatus;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {"ingestion.async.enabled=true", "ingestion.async.poll-interval=100ms"})
+public class AsyncIngestionTest extends BaseIngestionTest {
+    private static final Duration JOB_TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    public void submittedJobIsIngestedTest() {
+        final DataSource createdDataSource = createDataSource();
+        final DataEntity dataEntity = new DataEntity()
+            .oddrn(UUID.randomUUID().toString())
+            .name(UUID.randomUUID().toString())
+            .type(DataEntityType.TABLE)
+            .dataset(new DataSet().fieldList(List.of()).rowsNumber(1L));
+        final DataEntityList dataEntityList = new DataEntityList()
+            .dataSourceOddrn(createdDataSource.getOddrn())
+            .items(List.of(dataEntity));
+
+        final IngestionJob submitted = webTestClient.post()
+            .uri("/ingestion/entities/async")
+            .body(Mono.just(dataEntityList), DataEntityList.class)
+            .exchange()
+            .expectStatus().isAccepted()
+            .expectBody(IngestionJob.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(submitted).isNotNull();
+        assertThat(submitted.getStatus()).isEqualTo(IngestionJobStatus.QUEUED);
+        assertThat(submitted.getDataSourceOddrn()).isEqualTo(createdDataSource.getOddrn());
+
+        final IngestionJob finished = awaitFinished(submitted.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(IngestionJobStatus.DONE);
+        assertThat(finished.getStartedAt()).isNotNull();
+        assertThat(finished.getFinishedAt()).isNotNull();
+        assertThat(finished.getPhaseTimingsMs()).isNotEmpty();
+
+        assertThat(extractIngestedEntitiesAndAssert(createdDataSource, 1)).containsOnlyKeys(dataEntity.getOddrn());
+    }
+
+    @Test
+    public void unknownDataSourceIsRejectedTest() {
+        final DataEntityList dataEntityList = new DataEntityList()
+            .dataSourceOddrn(UUID.randomUUID().toString())
+            .items(List.of(new DataEntity().oddrn(UUID.randomUUID().toString())));
+
+        webTestClient.post()
+            .uri("/ingestion/entities/async")
+            .body(Mono.just(dataEntityList), DataEntityList.class)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void emptyPayloadIsRejectedTest() {
+        final DataSource createdDataSource = createDataSource();
+
+        webTestClient.post()
+            .uri("/ingestion/entities/async")
+            .body(Mono.just(new DataEntityList().dataSourceOddrn(createdDataSource.getOddrn()).items(List.of())),
+                DataEntityList.class)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void unknownJobTest() {
+        webTestClient.get()
+            .uri("/ingestion/jobs/{job_id}", Long.MAX_VALUE)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    private IngestionJob awaitFinished(final long jobId) {
+        final Instant deadline = Instant.now().plus(JOB_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            final IngestionJob job = webTestClient.get()
+                .uri("/ingestion/jobs/{job_id}", jobId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(IngestionJob.class)
+                .returnResult()
+                .getResponseBody();
+            if (job != null && (job.getStatus() == IngestionJobStatus.DONE
+                || job.getStatus() == IngestionJobStatus.FAILED)) {
+                return job;
+            }
+            Mono.delay(Duration.ofMillis(100)).block();
+        }
+        throw new AssertionError("Ingestion job %d hasn't finished within %s".formatted(jobId, JOB_TIMEOUT));
+    }
+}
@@ -0,0 +1,174 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetStructure;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSource;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricHistoryPoint;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistory;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricSeriesHistoryList;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.GaugeValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Label;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Metric;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricFamily;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricPoint;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSet;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricSetList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricType;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@TestPropertySource(properties = "metrics.history.enabled=true")
+public class MetricsHistoryIngestionTest extends BaseIngestionTest {
+    private static final OffsetDateTime DAY = OffsetDateTime.of(2023, 2, 14, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final long DAY_STEP = 86_400L;
+    private static final String DATA_ENTITY_HISTORY = "/api/dataentities/{data_entity_id}/metrics/history";
+    private static final String DATASET_FIELD_HISTORY = "/api/datasetfields/{dataset_field_id}/metrics/history";
+
+    /**
+     * Metrics history ingestion test
+     *
+     * <p>Flow:
+     * 1. Ingests random dataset, gauge metrics of the dataset and of one of its fields
+     * 2. Ingests next points of the same series, which are appended to the existing daily chunks
+     * or start the chunks of the next day
+     * 3. Validates the whole history, a range starting in the middle of a chunk and downsampled history
+     * of both the dataset and the field
+     */
+    @Test
+    public void metricsHistoryTest() {
+        final DataSource createdDataSource = createDataSource();
+
+        final DataEntity datasetToIngest = IngestionModelGenerator
+            .generateSimpleDataEntity(DataEntityType.TABLE)
+            .dataset(new DataSet().fieldList(IngestionModelGenerator.generateDatasetFields(5)));
+
+        ingestAndAssert(new DataEntityList()
+            .dataSourceOddrn(createdDataSource.getOddrn())
+            .items(List.of(datasetToIngest)));
+        final long dataEntityId = extractIngestedEntityIdAndAssert(createdDataSource);
+
+        final String fieldOddrn = datasetToIngest.getDataset().getFieldList().get(0).getOddrn();
+        final long datasetFieldId = extractDatasetFieldId(dataEntityId, fieldOddrn);
+
+        ingestMetrics(new MetricSetList().items(List.of(
+            metricSet(datasetToIngest.getOddrn(), gauge("prod", 21, 10), gauge("stage", 21, 20)),
+            metricSet(fieldOddrn, gauge("prod", 21, 5))
+        )));
+        ingestMetrics(new MetricSetList().items(List.of(
+            metricSet(datasetToIngest.getOddrn(), gauge("prod", 23, 30), gauge("stage", 25, 40)),
+            metricSet(fieldOddrn, gauge("prod", 25, 15))
+        )));
+
+        final Map<String, List<MetricHistoryPoint>> history =
+            getHistory(DATA_ENTITY_HISTORY, dataEntityId, DAY, DAY.plusDays(2), null);
+        assertThat(history).containsOnlyKeys("prod", "stage");
+        assertPoints(history.get("prod"), point(21, 10), point(23, 30));
+        assertPoints(history.get("stage"), point(21, 20), point(25, 40));
+
+        // the chunk of the day starts before the range, the next day chunk has no points within it
+        final Map<String, List<MetricHistoryPoint>> rangeHistory =
+            getHistory(DATA_ENTITY_HISTORY, dataEntityId, DAY.plusHours(22), DAY.plusHours(24), null);
+        assertThat(rangeHistory).containsOnlyKeys("prod");
+        assertPoints(rangeHistory.get("prod"), point(23, 30));
+
+        final Map<String, List<MetricHistoryPoint>> downsampledHistory =
+            getHistory(DATA_ENTITY_HISTORY, dataEntityId, DAY, DAY.plusDays(2), DAY_STEP);
+        assertThat(downsampledHistory).containsOnlyKeys("prod", "stage");
+        assertPoints(downsampledHistory.get("prod"), point(0, 20));
+        assertPoints(downsampledHistory.get("stage"), point(0, 20), point(24, 40));
+
+        final Map<String, List<MetricHistoryPoint>> fieldHistory =
+            getHistory(DATASET_FIELD_HISTORY, datasetFieldId, DAY, DAY.plusDays(2), null);
+        assertThat(fieldHistory).containsOnlyKeys("prod");
+        assertPoints(fieldHistory.get("prod"), point(21, 5), point(25, 15));
+
+        final Map<String, List<MetricHistoryPoint>> downsampledFieldHistory =
+            getHistory(DATASET_FIELD_HISTORY, datasetFieldId, DAY, DAY.plusDays(2), DAY_STEP);
+        assertThat(downsampledFieldHistory).containsOnlyKeys("prod");
+        assertPoints(downsampledFieldHistory.get("prod"), point(0, 5), point(24, 15));
+    }
+
+    private long extractDatasetFieldId(final long dataEntityId, final String fieldOddrn) {
+        return webTestClient.get()
+            .uri("/api/datasets/{dataset_id}/structure", dataEntityId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(DataSetStructure.class)
+            .returnResult()
+            .getResponseBody()
+            .getFieldList()
+            .stream()
+            .filter(field -> field.getOddrn().equals(fieldOddrn))
+            .map(DataSetField::getId)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Map<String, List<MetricHistoryPoint>> getHistory(final String path,
+                                                             final long id,
+                                                             final OffsetDateTime from,
+                                                             final OffsetDateTime to,
+                                                             final Long step) {
+        final MetricSeriesHistoryList history = webTestClient.get()
+            .uri(builder -> builder.path(path)
+                .queryParam("from", from.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                .queryParam("to", to.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                .queryParamIfPresent("step", Optional.ofNullable(step))
+                .build(id))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(MetricSeriesHistoryList.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(history).isNotNull();
+        return history.getItems().stream()
+            .collect(Collectors.toMap(s -> s.getLabels().get(0).getValue(), MetricSeriesHistory::getPoints));
+    }
+
+    private void assertPoints(final List<MetricHistoryPoint> actual, final Tuple... expected) {
+        assertThat(actual)
+            .extracting(p -> p.getTimestamp().toEpochSecond(), MetricHistoryPoint::getValue)
+            .containsExactly(expected);
+    }
+
+    private Tuple point(final int hour, final double value) {
+        return tuple(DAY.plusHours(hour).toEpochSecond(), value);
+    }
+
+    private MetricSet metricSet(final String oddrn, final Metric... metrics) {
+        return new MetricSet()
+            .oddrn(oddrn)
+            .metricFamilies(List.of(new MetricFamily()
+                .name("http_requests")
+                .type(MetricType.GAUGE)
+                .unit("req/sec")
+                .metrics(List.of(metrics))));
+    }
+
+    private Metric gauge(final String env, final int hour, final long value) {
+        return new Metric()
+            .labels(List.of(new Label().name("env").value(env)))
+            .metricPoints(List.of(new MetricPoint()
+                .timestamp((int) DAY.plusHours(hour).toEpochSecond())
+                .gaugeValue(new GaugeValue().value(BigDecimal.valueOf(value)))));
+    }
+}
@@ -0,0 +1,103 @@
+package org.opendatadiscovery.oddplatform.api.ingestion;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIngestionTest;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSource;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSet;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "ingestion.streaming.chunk-size=2")
+public class StreamingIngestionTest extends BaseIngestionTest {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    /**
+     * Ingests five entities as NDJSON, which are split into three chunks.
+     */
+    @Test
+    public void streamedEntitiesAreIngestedInChunksTest() {
+        final DataSource createdDataSource = createDataSource();
+        final List<DataEntity> entities = generateEntities(5);
+
+        webTestClient.post()
+            .uri("/ingestion/entities/stream?data_source_oddrn={oddrn}", createdDataSource.getOddrn())
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(toNdjson(entities))
+            .exchange()
+            .expectStatus().isOk();
+
+        assertThat(extractIngestedEntitiesAndAssert(createdDataSource, 5))
+            .containsOnlyKeys(entities.stream().map(DataEntity::getOddrn).toList());
+    }
+
+    /**
+     * Ingests a JSON array of two valid entities followed by a malformed one. The first chunk is complete
+     * before the malformed entity is decoded, so it is kept, while the request fails with 400.
+     */
+    @Test
+    public void malformedChunkFailsStreamTest() {
+        final DataSource createdDataSource = createDataSource();
+        final List<DataEntity> entities = generateEntities(3);
+        final String body = "[" + toJson(entities.get(0)) + "," + toJson(entities.get(1)) + ","
+            + toJson(entities.get(2)).replace("\"name\"", "\"name\" \"broken\"") + "]";
+
+        webTestClient.post()
+            .uri("/ingestion/entities/stream?data_source_oddrn={oddrn}", createdDataSource.getOddrn())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(body)
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        assertThat(extractIngestedEntitiesAndAssert(createdDataSource, 2))
+            .containsOnlyKeys(entities.get(0).getOddrn(), entities.get(1).getOddrn());
+    }
+
+    @Test
+    public void unknownDataSourceTest() {
+        webTestClient.post()
+            .uri("/ingestion/entities/stream?data_source_oddrn={oddrn}", UUID.randomUUID().toString())
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(toNdjson(generateEntities(1)))
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    private List<DataEntity> generateEntities(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> {
+                final String uuid = UUID.randomUUID().toString();
+                return new DataEntity()
+                    .oddrn(uuid)
+                    .name(uuid)
+                    .type(DataEntityType.TABLE)
+                    .dataset(new DataSet().fieldList(List.of()).rowsNumber(1L));
+            })
+            .toList();
+    }
+
+    private String toNdjson(final List<DataEntity> entities) {
+        return entities.stream().map(this::toJson).collect(Collectors.joining("\n"));
+    }
+
+    private String toJson(final DataEntity entity) {
+        try {
+            return objectMapper.writeValueAsString(entity);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.opendatadiscovery.oddplatform.auth.filter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.dto.DataSourceDto;
+import org.opendatadiscovery.oddplatform.dto.TokenDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TokenPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionJobFilterTest {
+    private static final long JOB_ID = 1L;
+    private static final String DATA_SOURCE_ODDRN = "//test/datasource";
+    private static final String TOKEN = "token";
+
+    @Mock
+    private ReactiveIngestionJobRepository ingestionJobRepository;
+    @Mock
+    private ReactiveDataSourceRepository dataSourceRepository;
+    @Mock
+    private ReactiveCollectorRepository collectorRepository;
+
+    private IngestionJobFilter filter;
+    private final AtomicBoolean passed = new AtomicBoolean();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(() -> passed.set(true));
+
+    @BeforeEach
+    void setUp() {
+        filter = new IngestionJobFilter(ingestionJobRepository, dataSourceRepository, collectorRepository);
+    }
+
+    @Test
+    void shouldPassJobRequestWithDataSourceToken() {
+        mockJob();
+        final MockServerWebExchange exchange = jobExchange("Bearer " + TOKEN);
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(passed).isTrue();
+    }
+
+    @Test
+    void shouldRejectJobRequestWithForeignToken() {
+        mockJob();
+        final MockServerWebExchange exchange = jobExchange("Bearer another");
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(passed).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void shouldRejectJobRequestWithoutToken() {
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/ingestion/jobs/1"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(passed).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private void mockJob() {
+        when(ingestionJobRepository.get(JOB_ID))
+            .thenReturn(Mono.just(new IngestionJobPojo().setId(JOB_ID).setDataSourceOddrn(DATA_SOURCE_ODDRN)));
+        when(dataSourceRepository.getDtoByOddrn(DATA_SOURCE_ODDRN)).thenReturn(Mono.just(new DataSourceDto(
+            new DataSourcePojo().setOddrn(DATA_SOURCE_ODDRN), new TokenDto(new TokenPojo().setValue(TOKEN)))));
+    }
+
+    private MockServerWebExchange jobExchange(final String authorization) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/ingestion/jobs/{job_id}", JOB_ID)
+            .header(HttpHeaders.AUTHORIZATION, authorization));
+    }
+}
@@ -0,0 +1,96 @@
+package org.opendatadiscovery.oddplatform.auth.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.jooq.ResultQuery;
+import org.jooq.RowCountQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.session.MapSession;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JooqSessionRepositoryTest {
+    @Mock
+    private JooqReactiveOperations jooqReactiveOperations;
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private JooqSessionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JooqSessionRepository(
+            jooqReactiveOperations,
+            new JooqQueryHelper(DSL.using(SQLDialect.POSTGRES)),
+            transactionalOperator,
+            Duration.ofMinutes(1),
+            100
+        );
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(jooqReactiveOperations.mono(any(RowCountQuery.class))).thenReturn(Mono.just(1));
+        when(jooqReactiveOperations.flux(any(ResultQuery.class))).thenReturn(Flux.empty());
+    }
+
+    @Test
+    void touchesUnchangedSessionWithoutWritingTest() {
+        final MapSession session = savedSession();
+        clearInvocations(jooqReactiveOperations);
+
+        final MapSession found = repository.findById(session.getId()).block();
+        found.setLastAccessedTime(Instant.now());
+        StepVerifier.create(repository.save(found)).verifyComplete();
+
+        verifyNoInteractions(jooqReactiveOperations);
+
+        StepVerifier.create(repository.flushTouches()).verifyComplete();
+        verify(jooqReactiveOperations, times(1)).mono(any(RowCountQuery.class));
+    }
+
+    @Test
+    void writesChangedAttributesTest() {
+        final MapSession session = savedSession();
+        clearInvocations(jooqReactiveOperations);
+
+        final MapSession found = repository.findById(session.getId()).block();
+        found.setAttribute("attribute", "changed");
+        StepVerifier.create(repository.save(found)).verifyComplete();
+
+        verify(jooqReactiveOperations, times(1)).flux(any(ResultQuery.class));
+    }
+
+    @Test
+    void readsInvalidatedSessionFromDatabaseTest() {
+        final MapSession session = savedSession();
+        clearInvocations(jooqReactiveOperations);
+
+        repository.onNotification(session.getId());
+
+        StepVerifier.create(repository.findById(session.getId())).verifyComplete();
+        verify(jooqReactiveOperations, times(1)).flux(any(ResultQuery.class));
+    }
+
+    private MapSession savedSession() {
+        final MapSession session = new MapSession();
+        session.setAttribute("attribute", "value");
+        StepVerifier.create(repository.save(session)).verifyComplete();
+        return session;
+    }
+}
@@ -0,0 +1,115 @@
+package org.opendatadiscovery.oddplatform.datacollaboration.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.datacollaboration.dto.DataEntityMessageContext;
+import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageProviderDto;
+import org.opendatadiscovery.oddplatform.datacollaboration.dto.MessageStateDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MessagePojo;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqRecordHelper;
+import org.opendatadiscovery.oddplatform.utils.UUIDHelper;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.MESSAGE;
+
+class DataCollaborationRepositoryImplTest extends BaseIntegrationTest {
+    private static final int LIMIT = 100;
+
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+    @Autowired
+    private JooqRecordHelper jooqRecordHelper;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    private Connection connection;
+    private DataCollaborationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        connection = pgConnectionFactory.getConnection();
+        repository = new DataCollaborationRepositoryImpl(DSL.using(connection), jooqRecordHelper);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void claimedMessagesAreSkippedUntilReleasedTest() {
+        final long dataEntityId = createDataEntity();
+        final MessagePojo rateLimited = createMessage(dataEntityId);
+        final MessagePojo sent = createMessage(dataEntityId);
+
+        assertThat(claimedUuids()).contains(rateLimited.getUuid(), sent.getUuid());
+        assertThat(claimedUuids()).doesNotContain(rateLimited.getUuid(), sent.getUuid());
+
+        repository.releaseSendingClaim(rateLimited.getUuid(), rateLimited.getCreatedAt());
+        repository.enrichMessage(sent.getUuid(), sent.getCreatedAt(), UUID.randomUUID().toString());
+
+        assertThat(claimedUuids()).contains(rateLimited.getUuid()).doesNotContain(sent.getUuid());
+    }
+
+    @Test
+    void claimsOfPreviousSenderAreReleasedTest() {
+        final MessagePojo message = createMessage(createDataEntity());
+        assertThat(claimedUuids()).contains(message.getUuid());
+
+        assertThat(repository.releaseSendingClaims()).isPositive();
+
+        assertThat(claimedUuids()).contains(message.getUuid());
+    }
+
+    @Test
+    void failedTryReleasesClaimTest() {
+        final MessagePojo message = createMessage(createDataEntity());
+        assertThat(claimedUuids()).contains(message.getUuid());
+
+        repository.incrementMessageTryCount(message.getUuid());
+
+        assertThat(claimedUuids()).contains(message.getUuid());
+    }
+
+    private List<UUID> claimedUuids() {
+        return repository.claimSendingCandidates(LIMIT).stream()
+            .map(DataEntityMessageContext::message)
+            .map(MessagePojo::getUuid)
+            .toList();
+    }
+
+    private long createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+                .setOddrn(UUID.randomUUID().toString())
+                .setTypeId(DataEntityTypeDto.TABLE.getId())
+                .setHollow(false))
+            .blockOptional()
+            .orElseThrow()
+            .getId();
+    }
+
+    private MessagePojo createMessage(final long dataEntityId) {
+        final UUID uuid = UUIDHelper.generateUUIDv1();
+        final MessagePojo message = new MessagePojo()
+            .setUuid(uuid)
+            .setCreatedAt(UUIDHelper.extractDateTimeFromUUID(uuid))
+            .setDataEntityId(dataEntityId)
+            .setState(MessageStateDto.PENDING_SEND.getCode())
+            .setProvider(MessageProviderDto.SLACK.toString())
+            .setText(UUID.randomUUID().toString());
+        repository.createMessage(DSL.using(connection).newRecord(MESSAGE, message));
+        return message;
+    }
+}
@@ -0,0 +1,47 @@
+package org.opendatadiscovery.oddplatform.datacollaboration.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void queuesReservationsAfterBurstTest() {
+        final TokenBucket bucket = new TokenBucket(1, 2, clock::get);
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofSeconds(2));
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void refillsUpToBurstTest() {
+        final TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+        bucket.reserve();
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void pausedBucketWaitsForRetryAfterTest() {
+        final TokenBucket bucket = new TokenBucket(1, 5, clock::get);
+
+        bucket.pause(Duration.ofSeconds(30));
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofSeconds(31));
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,134 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingJobsProperties.JobProperties;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchDeleteHousekeepingJobTest extends BaseIntegrationTest {
+    private static final Table<Record> TABLE = DSL.table(DSL.name("housekeeping_test_row"));
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), SQLDataType.BIGINT);
+    private static final Field<Boolean> EXPIRED = DSL.field(DSL.name("expired"), SQLDataType.BOOLEAN);
+
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+
+    private Connection connection;
+    private TestJob job;
+
+    @BeforeEach
+    void setUp() {
+        connection = pgConnectionFactory.getConnection();
+        // the table lives as long as the connection, which is the one the job runs on
+        DSL.using(connection).createTemporaryTable(TABLE).column(ID).column(EXPIRED).execute();
+        job = new TestJob();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void expiredRowsAreDeletedInBatchesTest() {
+        insert(LongStream.rangeClosed(1, 10), true);
+        insert(LongStream.rangeClosed(11, 15), false);
+
+        final long deleted = job.doHousekeeping(connection, properties(3, Duration.ofHours(1)));
+
+        assertThat(deleted).isEqualTo(10);
+        assertThat(job.batches).containsExactly(
+            List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L, 8L, 9L), List.of(10L));
+        assertThat(remainingIds()).containsExactly(11L, 12L, 13L, 14L, 15L);
+    }
+
+    @Test
+    void fullLastBatchIsFollowedByEmptyOneTest() {
+        insert(LongStream.rangeClosed(1, 6), true);
+
+        final long deleted = job.doHousekeeping(connection, properties(3, Duration.ofHours(1)));
+
+        assertThat(deleted).isEqualTo(6);
+        assertThat(job.batches).containsExactly(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L));
+        assertThat(remainingIds()).isEmpty();
+    }
+
+    @Test
+    void runStopsAfterMaxRunDurationTest() {
+        insert(LongStream.rangeClosed(1, 10), true);
+
+        final long deleted = job.doHousekeeping(connection, properties(3, Duration.ZERO));
+
+        // the batch in progress is always finished, the rest is left to the next run
+        assertThat(deleted).isEqualTo(3);
+        assertThat(remainingIds()).containsExactly(4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+        assertThat(job.doHousekeeping(connection, properties(3, Duration.ofHours(1)))).isEqualTo(7);
+        assertThat(remainingIds()).isEmpty();
+    }
+
+    private void insert(final LongStream ids, final boolean expired) {
+        final DSLContext dslContext = DSL.using(connection);
+        ids.forEach(id -> dslContext.insertInto(TABLE, ID, EXPIRED).values(id, expired).execute());
+    }
+
+    private List<Long> remainingIds() {
+        return DSL.using(connection).select(ID).from(TABLE).orderBy(ID).fetch(ID);
+    }
+
+    private JobProperties properties(final int batchSize, final Duration maxRunDuration) {
+        final JobProperties properties = new JobProperties();
+        properties.setInterval(Duration.ofHours(1));
+        properties.setBatchSize(batchSize);
+        properties.setMaxRunDuration(maxRunDuration);
+        return properties;
+    }
+
+    private static class TestJob extends BatchDeleteHousekeepingJob<Long> {
+        private final List<List<Long>> batches = new ArrayList<>();
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        protected Table<?> getTable() {
+            return TABLE;
+        }
+
+        @Override
+        protected Field<Long> getKey() {
+            return ID;
+        }
+
+        @Override
+        protected Condition getExpiredCondition() {
+            return EXPIRED.isTrue();
+        }
+
+        @Override
+        protected void deleteDependants(final DSLContext dslContext, final Collection<Long> keys) {
+            batches.add(List.copyOf(keys));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.opendatadiscovery.oddplatform.notification.delivery;
+
+import java.time.Duration;
+import java.util.List;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.model.tables.records.NotificationOutboxRecord;
+import org.opendatadiscovery.oddplatform.notification.config.NotificationsProperties.DeliveryProperties;
+import org.opendatadiscovery.oddplatform.notification.dto.AlertNotificationMessage;
+import org.opendatadiscovery.oddplatform.notification.exception.NotificationSenderException;
+import org.opendatadiscovery.oddplatform.notification.sender.NotificationSender;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryWorkerTest {
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+
+    @Mock
+    private NotificationSender<AlertNotificationMessage> sender;
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+    @Captor
+    private ArgumentCaptor<AlertNotificationMessage> messageCaptor;
+
+    private NotificationDeliveryWorker<AlertNotificationMessage> worker;
+
+    @BeforeEach
+    void setUp() {
+        when(sender.receiverId()).thenReturn("Test");
+
+        final DeliveryProperties properties = new DeliveryProperties();
+        properties.setBatchSize(10);
+        properties.setPollInterval(Duration.ofMillis(10));
+        properties.setClaimTimeout(CLAIM_TIMEOUT);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(1));
+        properties.setMaxBackoff(Duration.ofSeconds(3));
+
+        worker = new NotificationDeliveryWorker<>(sender, AlertNotificationMessage.class, properties,
+            outboxRepository);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void deletesDeliveredMessageTest() throws Exception {
+        final AlertNotificationMessage message = AlertNotificationMessage.builder().updatedBy("user").build();
+        when(outboxRepository.claim("Test", 10, CLAIM_TIMEOUT))
+            .thenReturn(List.of(outboxRecord(1L, 0, message)))
+            .thenReturn(List.of());
+
+        worker.start();
+
+        verify(outboxRepository, timeout(1000)).delete(1L);
+        verify(sender).send(messageCaptor.capture());
+        assertThat(messageCaptor.getValue().getUpdatedBy()).isEqualTo("user");
+    }
+
+    @Test
+    void reschedulesFailedMessageWithBackoffTest() throws Exception {
+        doThrow(new NotificationSenderException("Unavailable", "Test")).when(sender).send(any());
+        when(outboxRepository.claim("Test", 10, CLAIM_TIMEOUT))
+            .thenReturn(List.of(outboxRecord(1L, 0, new AlertNotificationMessage()),
+                outboxRecord(2L, 1, new AlertNotificationMessage())))
+            .thenReturn(List.of());
+
+        worker.start();
+
+        verify(outboxRepository, timeout(1000)).reschedule(eq(1L), eq(1), any(), eq(Duration.ofSeconds(1)));
+        verify(outboxRepository, timeout(1000)).reschedule(eq(2L), eq(2), any(), eq(Duration.ofSeconds(2)));
+        verify(outboxRepository, never()).delete(anyLong());
+    }
+
+    @Test
+    void deadLettersMessageAfterLastAttemptTest() throws Exception {
+        doThrow(new NotificationSenderException("Unavailable", "Test")).when(sender).send(any());
+        when(outboxRepository.claim("Test", 10, CLAIM_TIMEOUT))
+            .thenReturn(List.of(outboxRecord(1L, 2, new AlertNotificationMessage())))
+            .thenReturn(List.of());
+
+        worker.start();
+
+        verify(outboxRepository, timeout(1000)).deadLetter(eq(1L), eq(3), any());
+        verify(outboxRepository, never()).reschedule(anyLong(), anyInt(), any(), any());
+    }
+
+    @Test
+    void releasesClaimedMessagesWhenInterruptedTest() throws Exception {
+        doThrow(new InterruptedException()).when(sender).send(any());
+        when(outboxRepository.claim("Test", 10, CLAIM_TIMEOUT))
+            .thenReturn(List.of(outboxRecord(1L, 0, new AlertNotificationMessage()),
+                outboxRecord(2L, 0, new AlertNotificationMessage())));
+
+        worker.start();
+        worker.join(1000);
+
+        assertThat(worker.isAlive()).isFalse();
+        verify(outboxRepository).release(List.of(1L, 2L));
+    }
+
+    private NotificationOutboxRecord outboxRecord(final long id, final int attempts,
+                                                  final AlertNotificationMessage message) {
+        return new NotificationOutboxRecord()
+            .setId(id)
+            .setReceiverId("Test")
+            .setAttempts(attempts)
+            .setMessage(JSONB.jsonb(JSONSerDeUtils.serializeJson(message)));
+    }
+}
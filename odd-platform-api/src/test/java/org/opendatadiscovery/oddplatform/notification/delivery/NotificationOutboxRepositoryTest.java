@@ -0,0 +1,148 @@
+package org.opendatadiscovery.oddplatform.notification.delivery;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.model.tables.records.NotificationOutboxRecord;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.opendatadiscovery.oddplatform.notification.dto.AlertNotificationMessage;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationOutboxRepositoryTest extends BaseIntegrationTest {
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+
+    private Connection connection;
+    private NotificationOutboxRepository outboxRepository;
+    private String slackReceiverId;
+    private String webhookReceiverId;
+
+    @BeforeEach
+    void setUp() {
+        connection = pgConnectionFactory.getConnection();
+        outboxRepository = new NotificationOutboxRepository(DSL.using(connection));
+        slackReceiverId = UUID.randomUUID().toString();
+        webhookReceiverId = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void messageIsSavedForEveryReceiverTest() {
+        final AlertNotificationMessage message = AlertNotificationMessage.builder()
+            .eventType(AlertNotificationMessage.AlertEventType.CREATED)
+            .eventAt(LocalDateTime.of(2023, 1, 1, 12, 0))
+            .updatedBy("user")
+            .build();
+
+        outboxRepository.save(List.of(slackReceiverId, webhookReceiverId), message);
+
+        assertThat(outboxRepository.claim(slackReceiverId, 10, CLAIM_TIMEOUT))
+            .singleElement()
+            .satisfies(r -> {
+                assertThat(r.getAttempts()).isZero();
+                final AlertNotificationMessage saved =
+                    JSONSerDeUtils.deserializeJson(r.getMessage().data(), AlertNotificationMessage.class);
+                assertThat(saved.getEventType()).isEqualTo(message.getEventType());
+                assertThat(saved.getEventAt()).isEqualTo(message.getEventAt());
+                assertThat(saved.getUpdatedBy()).isEqualTo(message.getUpdatedBy());
+            });
+        assertThat(outboxRepository.claim(webhookReceiverId, 10, CLAIM_TIMEOUT)).hasSize(1);
+    }
+
+    @Test
+    void claimedMessagesAreNotClaimedAgainUntilReleasedTest() {
+        saveMessages(3);
+
+        final List<NotificationOutboxRecord> first = outboxRepository.claim(slackReceiverId, 2, CLAIM_TIMEOUT);
+        final List<NotificationOutboxRecord> second = outboxRepository.claim(slackReceiverId, 2, CLAIM_TIMEOUT);
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(ids(second)).doesNotContainAnyElementsOf(ids(first));
+        assertThat(outboxRepository.claim(slackReceiverId, 2, CLAIM_TIMEOUT)).isEmpty();
+
+        outboxRepository.release(ids(first));
+
+        assertThat(ids(outboxRepository.claim(slackReceiverId, 2, CLAIM_TIMEOUT)))
+            .containsExactlyElementsOf(ids(first));
+    }
+
+    @Test
+    void rescheduledMessageIsClaimedAfterBackoffTest() {
+        saveMessages(2);
+        final List<NotificationOutboxRecord> claimed = outboxRepository.claim(slackReceiverId, 2, CLAIM_TIMEOUT);
+
+        outboxRepository.reschedule(claimed.get(0).getId(), 1, "Unavailable", Duration.ofHours(1));
+        outboxRepository.reschedule(claimed.get(1).getId(), 1, "Unavailable", Duration.ZERO);
+
+        assertThat(outboxRepository.claim(slackReceiverId, 2, CLAIM_TIMEOUT))
+            .singleElement()
+            .satisfies(r -> {
+                assertThat(r.getId()).isEqualTo(claimed.get(1).getId());
+                assertThat(r.getAttempts()).isEqualTo(1);
+                assertThat(r.getError()).isEqualTo("Unavailable");
+            });
+    }
+
+    @Test
+    void deliveredMessageIsDeletedTest() {
+        saveMessages(1);
+        final NotificationOutboxRecord claimed = outboxRepository.claim(slackReceiverId, 1, CLAIM_TIMEOUT).get(0);
+
+        outboxRepository.delete(claimed.getId());
+
+        assertThat(outboxRepository.claim(slackReceiverId, 1, CLAIM_TIMEOUT)).isEmpty();
+    }
+
+    @Test
+    void deadLettersAreReplayedOnlyForGivenReceiversTest() {
+        saveMessages(1);
+        final NotificationOutboxRecord slackMessage = outboxRepository.claim(slackReceiverId, 1, CLAIM_TIMEOUT).get(0);
+        final NotificationOutboxRecord webhookMessage =
+            outboxRepository.claim(webhookReceiverId, 1, CLAIM_TIMEOUT).get(0);
+        outboxRepository.deadLetter(slackMessage.getId(), 5, "Unavailable");
+        outboxRepository.deadLetter(webhookMessage.getId(), 5, "Unavailable");
+
+        // releasing doesn't revive a dead letter
+        outboxRepository.release(List.of(slackMessage.getId(), webhookMessage.getId()));
+        assertThat(outboxRepository.claim(slackReceiverId, 1, CLAIM_TIMEOUT)).isEmpty();
+
+        assertThat(outboxRepository.replayDeadLetters(List.of(slackReceiverId))).isEqualTo(1);
+
+        assertThat(outboxRepository.claim(slackReceiverId, 1, CLAIM_TIMEOUT))
+            .singleElement()
+            .satisfies(r -> {
+                assertThat(r.getId()).isEqualTo(slackMessage.getId());
+                assertThat(r.getAttempts()).isZero();
+                assertThat(r.getDeadLetteredAt()).isNull();
+            });
+        assertThat(outboxRepository.claim(webhookReceiverId, 1, CLAIM_TIMEOUT)).isEmpty();
+    }
+
+    private void saveMessages(final int count) {
+        for (int i = 0; i < count; i++) {
+            outboxRepository.save(List.of(slackReceiverId, webhookReceiverId), new AlertNotificationMessage());
+        }
+    }
+
+    private List<Long> ids(final List<NotificationOutboxRecord> records) {
+        return records.stream().map(NotificationOutboxRecord::getId).toList();
+    }
+}
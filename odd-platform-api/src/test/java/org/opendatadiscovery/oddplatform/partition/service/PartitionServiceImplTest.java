@@ -0,0 +1,90 @@
+package org.opendatadiscovery.oddplatform.partition.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TASK_RUN;
+
+class PartitionServiceImplTest extends BaseIntegrationTest {
+    private static final String DEFAULT_PARTITION = DATA_ENTITY_TASK_RUN.getName() + "_default";
+
+    @Autowired
+    private PartitionService partitionService;
+
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+
+    @Test
+    void defaultPartitionRowsAreMovedToCreatedPartitionTest() throws SQLException {
+        try (final Connection connection = pgConnectionFactory.getConnection()) {
+            final DSLContext dslContext = DSL.using(connection);
+            final String inRangeOddrn = insertTaskRun(dslContext, LocalDateTime.of(2100, 1, 5, 12, 0));
+            final String outOfRangeOddrn = insertTaskRun(dslContext, LocalDateTime.of(2100, 2, 1, 12, 0));
+            assertThat(count(dslContext, DEFAULT_PARTITION, inRangeOddrn)).isEqualTo(1);
+
+            final String partition = partitionService.createPartition(connection, DATA_ENTITY_TASK_RUN.getName(),
+                LocalDate.of(2100, 1, 1), LocalDate.of(2100, 1, 15));
+
+            try {
+                assertThat(count(dslContext, partition, inRangeOddrn)).isEqualTo(1);
+                assertThat(count(dslContext, DEFAULT_PARTITION, inRangeOddrn)).isZero();
+                assertThat(count(dslContext, DEFAULT_PARTITION, outOfRangeOddrn)).isEqualTo(1);
+                assertThat(count(dslContext, DATA_ENTITY_TASK_RUN.getName(), inRangeOddrn)).isEqualTo(1);
+                assertThat(connection.getAutoCommit()).isTrue();
+            } finally {
+                partitionService.detachPartition(connection, DATA_ENTITY_TASK_RUN.getName(), partition);
+                partitionService.dropPartition(connection, partition);
+                dslContext.deleteFrom(DATA_ENTITY_TASK_RUN)
+                    .where(DATA_ENTITY_TASK_RUN.ODDRN.eq(outOfRangeOddrn))
+                    .execute();
+            }
+        }
+    }
+
+    @Test
+    void existingPartitionIsKeptTest() throws SQLException {
+        try (final Connection connection = pgConnectionFactory.getConnection()) {
+            final DSLContext dslContext = DSL.using(connection);
+            final LocalDate beginDate = LocalDate.of(2101, 1, 1);
+            final LocalDate endDate = LocalDate.of(2101, 1, 15);
+
+            final String partition = partitionService
+                .createPartition(connection, DATA_ENTITY_TASK_RUN.getName(), beginDate, endDate);
+            try {
+                final String oddrn = insertTaskRun(dslContext, LocalDateTime.of(2101, 1, 5, 12, 0));
+
+                assertThat(partitionService.createPartition(connection, DATA_ENTITY_TASK_RUN.getName(),
+                    beginDate, endDate)).isEqualTo(partition);
+                assertThat(count(dslContext, partition, oddrn)).isEqualTo(1);
+            } finally {
+                partitionService.detachPartition(connection, DATA_ENTITY_TASK_RUN.getName(), partition);
+                partitionService.dropPartition(connection, partition);
+            }
+        }
+    }
+
+    private String insertTaskRun(final DSLContext dslContext, final LocalDateTime startTime) {
+        final String oddrn = UUID.randomUUID().toString();
+        dslContext.insertInto(DATA_ENTITY_TASK_RUN)
+            .set(DATA_ENTITY_TASK_RUN.ODDRN, oddrn)
+            .set(DATA_ENTITY_TASK_RUN.START_TIME, startTime)
+            .set(DATA_ENTITY_TASK_RUN.STATUS, "SUCCESS")
+            .execute();
+        return oddrn;
+    }
+
+    private int count(final DSLContext dslContext, final String table, final String oddrn) {
+        return dslContext.fetchCount(DSL.table(DSL.name(table)),
+            DSL.field(DSL.name("oddrn"), String.class).eq(oddrn));
+    }
+}
@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.repository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
@@ -13,6 +14,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTaskRunPoj
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityTaskRunRepository;
 import org.opendatadiscovery.oddplatform.utils.DataEntityTaskRunPojoEndTimeComparator;
+import org.opendatadiscovery.oddplatform.utils.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import reactor.test.StepVerifier;
 
@@ -93,6 +95,48 @@ class DataEntityRunRepositoryImplTest extends BaseIntegrationTest {
             .verifyComplete();
     }
 
+    @Test
+    public void testTaskRunsAreMatchedByOddrnAndStartTime() {
+        final DataEntityPojo de = dataEntityRepository
+            .bulkCreate(List.of(new DataEntityPojo().setOddrn(UUID.randomUUID().toString())))
+            .collectList()
+            .block()
+            .get(0);
+
+        final DataEntityTaskRunPojo run = createTaskRun(de.getOddrn(), IngestionTaskRunStatus.RUNNING)
+            .setStartTime(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(2));
+        reactiveDataEntityTaskRunRepository.bulkCreate(List.of(run)).block();
+
+        final DataEntityTaskRunPojo sameRun = new DataEntityTaskRunPojo(run)
+            .setEndTime(run.getStartTime().plusHours(1))
+            .setStatus(IngestionTaskRunStatus.SUCCESS.toString());
+        final DataEntityTaskRunPojo restartedRun = new DataEntityTaskRunPojo(run)
+            .setStartTime(run.getStartTime().plusDays(1));
+        final DataEntityTaskRunPojo newRun = createTaskRun(de.getOddrn(), IngestionTaskRunStatus.RUNNING);
+
+        // the restarted run shares the oddrn with the stored one, but is a new run
+        reactiveDataEntityTaskRunRepository.existsByKeys(List.of(sameRun, restartedRun, newRun))
+            .as(StepVerifier::create)
+            .assertNext(exists -> assertThat(exists)
+                .hasSize(3)
+                .containsEntry(Pair.of(run.getOddrn(), run.getStartTime()), true)
+                .containsEntry(Pair.of(run.getOddrn(), restartedRun.getStartTime()), false)
+                .containsEntry(Pair.of(newRun.getOddrn(), newRun.getStartTime()), false))
+            .verifyComplete();
+
+        reactiveDataEntityTaskRunRepository.bulkUpdate(List.of(sameRun)).block();
+
+        dataEntityRunRepository.getDataEntityRuns(de.getId(), null, 1, 10)
+            .as(StepVerifier::create)
+            .assertNext(page -> assertThat(page.getData())
+                .singleElement()
+                .satisfies(updated -> {
+                    assertThat(updated.getStatus()).isEqualTo(IngestionTaskRunStatus.SUCCESS.toString());
+                    assertThat(updated.getEndTime()).isEqualTo(sameRun.getEndTime());
+                }))
+            .verifyComplete();
+    }
+
     private DataEntityTaskRunPojo createTaskRun(final String deOddrn,
                                                 final IngestionTaskRunStatus status) {
         return new DataEntityTaskRunPojo()
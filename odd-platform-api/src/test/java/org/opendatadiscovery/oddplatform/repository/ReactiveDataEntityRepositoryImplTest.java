@@ -0,0 +1,157 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.List;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
+import org.opendatadiscovery.oddplatform.dto.TagDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.GroupEntityRelationsPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.GroupParentGroupRelationsPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToDataEntityPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupParentGroupRelationRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ReactiveDataEntityRepositoryImplTest extends BaseIntegrationTest {
+    private static final JSONB DATASET_ATTRIBUTES =
+        JSONB.jsonb("{\"DATA_SET\": {\"rows_count\": 100, \"fields_count\": 5}}");
+
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveTagRepository tagRepository;
+    @Autowired
+    private ReactiveGroupEntityRelationRepository groupEntityRelationRepository;
+    @Autowired
+    private ReactiveGroupParentGroupRelationRepository groupParentGroupRelationRepository;
+    @Autowired
+    private ReactiveLineageRepository lineageRepository;
+
+    @Test
+    void datasetDetailsContainTagsParentGroupsAndConsumersTest() {
+        final DataEntityPojo dataset = createDataEntity(DataEntityClassDto.DATA_SET, DATASET_ATTRIBUTES);
+        final DataEntityPojo group = createDataEntity(DataEntityClassDto.DATA_ENTITY_GROUP, null);
+        final TagPojo internalTag = createTag();
+        final TagPojo externalTag = createTag();
+        final TagPojo deletedTag = tagRepository.delete(createTag().getId()).block();
+        tagRepository.createDataEntityRelations(List.of(
+            tagRelation(internalTag, dataset, false),
+            tagRelation(externalTag, dataset, true),
+            tagRelation(deletedTag, dataset, false)
+        )).blockLast();
+        groupEntityRelationRepository.createRelations(List.of(
+            new GroupEntityRelationsPojo().setGroupOddrn(group.getOddrn()).setDataEntityOddrn(dataset.getOddrn())
+        )).block();
+        lineageRepository.batchInsertLineages(List.of(
+            lineage(dataset.getOddrn(), createDataEntity(DataEntityClassDto.DATA_SET, null).getOddrn()),
+            lineage(dataset.getOddrn(), createDataEntity(DataEntityClassDto.DATA_SET, null).getOddrn())
+        )).blockLast();
+
+        dataEntityRepository.getDetails(dataset.getId())
+            .as(StepVerifier::create)
+            .assertNext(details -> {
+                assertThat(details.getTags())
+                    .extracting(t -> t.tagPojo().getId(), TagDto::usedCount, TagDto::external)
+                    .containsExactlyInAnyOrder(
+                        tuple(internalTag.getId(), 1L, false),
+                        tuple(externalTag.getId(), 1L, true)
+                    );
+                assertThat(details.getParentGroups())
+                    .extracting(DataEntityPojo::getOddrn)
+                    .containsExactly(group.getOddrn());
+                assertThat(details.getDataSetDetailsDto())
+                    .isEqualTo(new DataEntityDimensionsDto.DataSetDetailsDto(100L, 5L, 2L));
+                assertThat(details.getGroupsDto()).isNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void groupDetailsContainEntitiesAndChildrenCountTest() {
+        final DataEntityPojo group = createDataEntity(DataEntityClassDto.DATA_ENTITY_GROUP, null);
+        final DataEntityPojo firstEntity = createDataEntity(DataEntityClassDto.DATA_SET, null);
+        final DataEntityPojo secondEntity = createDataEntity(DataEntityClassDto.DATA_SET, null);
+        final DataEntityPojo childGroup = createDataEntity(DataEntityClassDto.DATA_ENTITY_GROUP, null);
+        groupEntityRelationRepository.createRelations(List.of(
+            new GroupEntityRelationsPojo().setGroupOddrn(group.getOddrn()).setDataEntityOddrn(firstEntity.getOddrn()),
+            new GroupEntityRelationsPojo().setGroupOddrn(group.getOddrn()).setDataEntityOddrn(secondEntity.getOddrn())
+        )).block();
+        groupParentGroupRelationRepository.createRelations(List.of(
+            new GroupParentGroupRelationsPojo(childGroup.getOddrn(), group.getOddrn())
+        )).block();
+
+        dataEntityRepository.getDetails(group.getId())
+            .as(StepVerifier::create)
+            .assertNext(details -> {
+                final DataEntityDimensionsDto.DataEntityGroupDimensionsDto groupsDto = details.getGroupsDto();
+                assertThat(groupsDto.entities())
+                    .extracting(DataEntityPojo::getOddrn)
+                    .containsExactlyInAnyOrder(firstEntity.getOddrn(), secondEntity.getOddrn());
+                assertThat(groupsDto.itemsCount()).isEqualTo(3);
+                assertThat(groupsDto.hasChildren()).isTrue();
+                assertThat(details.getTags()).isEmpty();
+                assertThat(details.getParentGroups()).isEmpty();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void detailsWithoutRelationsTest() {
+        final DataEntityPojo dataset = createDataEntity(DataEntityClassDto.DATA_SET, DATASET_ATTRIBUTES);
+
+        dataEntityRepository.getDetails(dataset.getId())
+            .as(StepVerifier::create)
+            .assertNext(details -> {
+                assertThat(details.getDataEntity().getOddrn()).isEqualTo(dataset.getOddrn());
+                assertThat(details.getTags()).isEmpty();
+                assertThat(details.getParentGroups()).isEmpty();
+                assertThat(details.getDataSetDetailsDto())
+                    .isEqualTo(new DataEntityDimensionsDto.DataSetDetailsDto(100L, 5L, 0L));
+            })
+            .verifyComplete();
+    }
+
+    private DataEntityPojo createDataEntity(final DataEntityClassDto entityClass, final JSONB specificAttributes) {
+        return dataEntityRepository.create(new DataEntityPojo()
+                .setOddrn(UUID.randomUUID().toString())
+                .setEntityClassIds(new Integer[] {entityClass.getId()})
+                .setSpecificAttributes(specificAttributes)
+                .setHollow(false))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private TagPojo createTag() {
+        return tagRepository.create(new TagPojo().setName(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private TagToDataEntityPojo tagRelation(final TagPojo tag, final DataEntityPojo dataEntity,
+                                            final boolean external) {
+        return new TagToDataEntityPojo()
+            .setTagId(tag.getId())
+            .setDataEntityId(dataEntity.getId())
+            .setExternal(external);
+    }
+
+    private LineagePojo lineage(final String parentOddrn, final String childOddrn) {
+        return new LineagePojo()
+            .setParentOddrn(parentOddrn)
+            .setChildOddrn(childOddrn)
+            .setEstablisherOddrn(childOddrn);
+    }
+}
@@ -0,0 +1,175 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.LabelOrigin;
+import org.opendatadiscovery.oddplatform.dto.dataset.DatasetFieldStatisticsDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetStructurePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelToDatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldStatisticsRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetStructureRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetVersionRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLabelRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveDatasetFieldStatisticsRepositoryImplTest extends BaseIntegrationTest {
+    private static final JSONB STATS = JSONB.jsonb("{\"string_stats\": {\"max_length\": 10}}");
+
+    @Autowired
+    private ReactiveDatasetFieldStatisticsRepository statisticsRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveDatasetVersionRepository datasetVersionRepository;
+    @Autowired
+    private ReactiveDatasetFieldRepository datasetFieldRepository;
+    @Autowired
+    private ReactiveDatasetStructureRepository datasetStructureRepository;
+    @Autowired
+    private ReactiveLabelRepository labelRepository;
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    private TransactionalOperator transactionalOperator;
+
+    @BeforeEach
+    void setUp() {
+        transactionalOperator = TransactionalOperator.create(transactionManager);
+    }
+
+    @Test
+    void statisticsAreAppliedToLatestDatasetVersionTest() {
+        final String datasetOddrn = createDataset();
+        final String fieldOddrn = UUID.randomUUID().toString();
+        final DatasetFieldPojo previousField = createField(datasetOddrn, 1L, fieldOddrn);
+        final DatasetFieldPojo latestField = createField(datasetOddrn, 2L, fieldOddrn);
+
+        final List<DatasetFieldStatisticsDto> statistics = List.of(
+            new DatasetFieldStatisticsDto(fieldOddrn, STATS, Set.of()),
+            new DatasetFieldStatisticsDto(UUID.randomUUID().toString(), STATS, Set.of())
+        );
+
+        applyInTransaction(statistics)
+            .as(StepVerifier::create)
+            .assertNext(applied -> assertThat(applied).isEqualTo(1))
+            .verifyComplete();
+
+        assertThat(datasetFieldRepository.get(latestField.getId()).block().getStats()).isEqualTo(STATS);
+        assertThat(datasetFieldRepository.get(previousField.getId()).block().getStats()).isNull();
+    }
+
+    @Test
+    void statisticsLabelsReplaceStagedFieldRelationsTest() {
+        final String datasetOddrn = createDataset();
+        final DatasetFieldPojo field = createField(datasetOddrn, 1L, UUID.randomUUID().toString());
+        final DatasetFieldPojo untouchedField = createField(datasetOddrn, 1L, UUID.randomUUID().toString());
+        final LabelPojo staleLabel = createLabel();
+        final LabelPojo keptLabel = createLabel();
+        final LabelPojo newLabel = createLabel();
+        labelRepository.createRelations(List.of(
+            relation(staleLabel, field),
+            relation(keptLabel, field),
+            relation(staleLabel, untouchedField)
+        )).blockLast();
+
+        final List<DatasetFieldStatisticsDto> statistics = List.of(
+            new DatasetFieldStatisticsDto(field.getOddrn(), STATS, Set.of(keptLabel.getId(), newLabel.getId()))
+        );
+
+        transactionalOperator.transactional(statisticsRepository.stage(statistics)
+                .thenMany(statisticsRepository.applyStatisticsLabels())
+                .collectList())
+            .as(StepVerifier::create)
+            .assertNext(changedFieldIds -> assertThat(changedFieldIds).containsOnly(field.getId()))
+            .verifyComplete();
+
+        labelRepository.listLabelRelations(List.of(field.getId(), untouchedField.getId()),
+                LabelOrigin.EXTERNAL_STATISTICS)
+            .map(r -> List.of(r.getDatasetFieldId(), r.getLabelId()))
+            .collectList()
+            .as(StepVerifier::create)
+            .assertNext(relations -> assertThat(relations).containsExactlyInAnyOrder(
+                List.of(field.getId(), keptLabel.getId()),
+                List.of(field.getId(), newLabel.getId()),
+                List.of(untouchedField.getId(), staleLabel.getId())
+            ))
+            .verifyComplete();
+    }
+
+    @Test
+    void stagingTablesAreDroppedOnCommitTest() {
+        final String datasetOddrn = createDataset();
+        final DatasetFieldPojo field = createField(datasetOddrn, 1L, UUID.randomUUID().toString());
+        final List<DatasetFieldStatisticsDto> statistics =
+            List.of(new DatasetFieldStatisticsDto(field.getOddrn(), STATS, Set.of()));
+
+        applyInTransaction(statistics).block();
+
+        // rows staged by the previous transaction mustn't be applied again
+        applyInTransaction(List.of(new DatasetFieldStatisticsDto(UUID.randomUUID().toString(), STATS, Set.of())))
+            .as(StepVerifier::create)
+            .assertNext(applied -> assertThat(applied).isZero())
+            .verifyComplete();
+    }
+
+    private Mono<Integer> applyInTransaction(final List<DatasetFieldStatisticsDto> statistics) {
+        return transactionalOperator.transactional(statisticsRepository.stage(statistics)
+            .then(statisticsRepository.applyStatistics()));
+    }
+
+    private String createDataset() {
+        return dataEntityRepository.create(new DataEntityPojo().setOddrn(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow()
+            .getOddrn();
+    }
+
+    private DatasetFieldPojo createField(final String datasetOddrn, final long version, final String fieldOddrn) {
+        final DatasetVersionPojo datasetVersion = datasetVersionRepository.create(new DatasetVersionPojo()
+                .setDatasetOddrn(datasetOddrn)
+                .setVersion(version)
+                .setVersionHash(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+        final DatasetFieldPojo field = datasetFieldRepository.create(new DatasetFieldPojo()
+                .setOddrn(fieldOddrn)
+                .setName(fieldOddrn))
+            .blockOptional()
+            .orElseThrow();
+        datasetStructureRepository.bulkCreateHeadless(List.of(new DatasetStructurePojo()
+                .setDatasetVersionId(datasetVersion.getId())
+                .setDatasetFieldId(field.getId())))
+            .block();
+        return field;
+    }
+
+    private LabelPojo createLabel() {
+        return labelRepository.create(new LabelPojo().setName(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private LabelToDatasetFieldPojo relation(final LabelPojo label, final DatasetFieldPojo field) {
+        return new LabelToDatasetFieldPojo()
+            .setLabelId(label.getId())
+            .setDatasetFieldId(field.getId())
+            .setOrigin(LabelOrigin.EXTERNAL_STATISTICS.toString());
+    }
+}
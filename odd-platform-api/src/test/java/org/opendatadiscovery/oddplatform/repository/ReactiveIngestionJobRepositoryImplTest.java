@@ -0,0 +1,109 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionJobStatusDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.IngestionJobPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveIngestionJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every test gets its own database, as jobs are claimed from the whole queue.
+ */
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ReactiveIngestionJobRepositoryImplTest extends BaseIntegrationTest {
+    private static final Duration RUNNING_TIMEOUT = Duration.ofHours(1);
+
+    @Autowired
+    private ReactiveIngestionJobRepository ingestionJobRepository;
+
+    @Test
+    public void submittedJobIsQueuedTest() {
+        final IngestionJobPojo job = submit(UUID.randomUUID().toString());
+
+        ingestionJobRepository.get(job.getId())
+            .as(StepVerifier::create)
+            .assertNext(actual -> {
+                assertThat(actual.getStatus()).isEqualTo(IngestionJobStatusDto.QUEUED.getCode());
+                assertThat(actual.getPayload()).isNotNull();
+                assertThat(actual.getCreatedAt()).isNotNull();
+                assertThat(actual.getStartedAt()).isNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    public void claimPreservesDataSourceOrderingTest() {
+        final String firstDataSource = UUID.randomUUID().toString();
+        final String secondDataSource = UUID.randomUUID().toString();
+        final IngestionJobPojo first = submit(firstDataSource);
+        final IngestionJobPojo second = submit(firstDataSource);
+        final IngestionJobPojo third = submit(secondDataSource);
+
+        assertClaimed(RUNNING_TIMEOUT, first);
+        // the second job waits for the first one of the same data source, while other data sources go on
+        assertClaimed(RUNNING_TIMEOUT, third);
+        ingestionJobRepository.claimNext(RUNNING_TIMEOUT).as(StepVerifier::create).verifyComplete();
+
+        ingestionJobRepository.markAsDone(first.getId(), JSONB.jsonb("{}")).block();
+        assertClaimed(RUNNING_TIMEOUT, second);
+    }
+
+    @Test
+    public void failedJobDoesNotBlockDataSourceTest() {
+        final String dataSource = UUID.randomUUID().toString();
+        final IngestionJobPojo first = submit(dataSource);
+        final IngestionJobPojo second = submit(dataSource);
+
+        assertClaimed(RUNNING_TIMEOUT, first);
+        ingestionJobRepository.markAsFailed(first.getId(), "error", JSONB.jsonb("{}")).block();
+
+        assertClaimed(RUNNING_TIMEOUT, second);
+        ingestionJobRepository.get(first.getId())
+            .as(StepVerifier::create)
+            .assertNext(actual -> {
+                assertThat(actual.getStatus()).isEqualTo(IngestionJobStatusDto.FAILED.getCode());
+                assertThat(actual.getErrorMessage()).isEqualTo("error");
+                assertThat(actual.getFinishedAt()).isNotNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    public void abandonedJobIsRetriedTest() {
+        final IngestionJobPojo job = submit(UUID.randomUUID().toString());
+
+        assertClaimed(RUNNING_TIMEOUT, job);
+        ingestionJobRepository.claimNext(RUNNING_TIMEOUT).as(StepVerifier::create).verifyComplete();
+
+        // with no timeout left, the running job counts as abandoned by its worker and is claimed again
+        assertClaimed(Duration.ZERO, job);
+    }
+
+    private IngestionJobPojo submit(final String dataSourceOddrn) {
+        return ingestionJobRepository.create(new IngestionJobPojo()
+                .setDataSourceOddrn(dataSourceOddrn)
+                .setPayload(JSONB.jsonb("{}"))
+                .setStatus(IngestionJobStatusDto.QUEUED.getCode()))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private void assertClaimed(final Duration runningTimeout, final IngestionJobPojo expected) {
+        ingestionJobRepository.claimNext(runningTimeout)
+            .as(StepVerifier::create)
+            .assertNext(claimed -> {
+                assertThat(claimed.getId()).isEqualTo(expected.getId());
+                assertThat(claimed.getStatus()).isEqualTo(IngestionJobStatusDto.RUNNING.getCode());
+                assertThat(claimed.getStartedAt()).isNotNull();
+            })
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,171 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnershipPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TitlePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerLineageDependencyRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnershipRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTitleRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNER_LINEAGE_DEPENDENCY;
+
+class ReactiveOwnerLineageDependencyRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private ReactiveOwnerLineageDependencyRepository dependencyRepository;
+    @Autowired
+    private ReactiveOwnerRepository ownerRepository;
+    @Autowired
+    private ReactiveTitleRepository titleRepository;
+    @Autowired
+    private ReactiveOwnershipRepository ownershipRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveLineageRepository lineageRepository;
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    @Test
+    void ownershipChangesBumpVersionTest() {
+        final long ownerId = createOwner();
+        final long otherOwnerId = createOwner();
+        final DataEntityPojo dataEntity = createDataEntity();
+        assertThat(dependencyRepository.registerOwner(ownerId).block()).isEqualTo(1L);
+        dependencyRepository.registerOwner(otherOwnerId).block();
+
+        final OwnershipPojo ownership = createOwnership(ownerId, dataEntity.getId());
+        assertVersion(ownerId, 2L);
+
+        ownershipRepository.delete(ownership.getId()).block();
+        assertVersion(ownerId, 3L);
+        assertVersion(otherOwnerId, 1L);
+    }
+
+    @Test
+    void lineageChangesBumpVersionOfOwnersOfRelationEndsTest() {
+        final long parentOwnerId = createOwner();
+        final long childOwnerId = createOwner();
+        final long otherOwnerId = createOwner();
+        final DataEntityPojo parent = createDataEntity();
+        final DataEntityPojo child = createDataEntity();
+        createOwnership(parentOwnerId, parent.getId());
+        createOwnership(childOwnerId, child.getId());
+        createOwnership(otherOwnerId, createDataEntity().getId());
+        List.of(parentOwnerId, childOwnerId, otherOwnerId)
+            .forEach(ownerId -> dependencyRepository.registerOwner(ownerId).block());
+
+        final String establisherOddrn = UUID.randomUUID().toString();
+        lineageRepository.bulkCreate(List.of(new LineagePojo()
+            .setParentOddrn(parent.getOddrn())
+            .setChildOddrn(child.getOddrn())
+            .setEstablisherOddrn(establisherOddrn))).blockLast();
+        assertVersion(parentOwnerId, 2L);
+        assertVersion(childOwnerId, 2L);
+
+        lineageRepository.batchDeleteByEstablisherOddrn(List.of(establisherOddrn)).blockLast();
+        assertVersion(parentOwnerId, 3L);
+        assertVersion(childOwnerId, 3L);
+        assertVersion(otherOwnerId, 1L);
+    }
+
+    @Test
+    void hollowAndDeletedChangesBumpVersionTest() {
+        final long ownerId = createOwner();
+        final DataEntityPojo dataEntity = createDataEntity();
+        createOwnership(ownerId, dataEntity.getId());
+        dependencyRepository.registerOwner(ownerId).block();
+
+        // other changes of the entity don't affect the dependencies
+        dataEntityRepository.setInternalName(dataEntity.getId(), "Orders").block();
+        assertVersion(ownerId, 1L);
+
+        dataEntityRepository.update(new DataEntityPojo(dataEntity).setHollow(true)).block();
+        assertVersion(ownerId, 2L);
+
+        dataEntityRepository.delete(dataEntity.getId()).block();
+        assertVersion(ownerId, 3L);
+    }
+
+    @Test
+    void staleRefreshIsSkippedTest() {
+        final long ownerId = createOwner();
+        dependencyRepository.registerOwner(ownerId).block();
+        createOwnership(ownerId, createDataEntity().getId());
+
+        dependencyRepository.replaceDependencies(ownerId, 2L, Map.of(
+            LineageStreamKind.UPSTREAM, List.of("//upstream"),
+            LineageStreamKind.DOWNSTREAM, List.of("//downstream")
+        )).block();
+        // a refresh which has computed its dependencies for an older version finishes last
+        dependencyRepository.replaceDependencies(ownerId, 1L, Map.of(
+            LineageStreamKind.UPSTREAM, List.of("//stale")
+        )).block();
+
+        dependencyRepository.getState(ownerId)
+            .as(StepVerifier::create)
+            .assertNext(state -> assertThat(state.getRefreshedVersion()).isEqualTo(2L))
+            .verifyComplete();
+        assertThat(getDependencies(ownerId)).containsExactlyInAnyOrder("//upstream", "//downstream");
+        assertThat(dependencyRepository.getStaleOwnerIds(Integer.MAX_VALUE).collectList().block())
+            .doesNotContain(ownerId);
+    }
+
+    private long createOwner() {
+        return ownerRepository.create(new OwnerPojo().setName(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow()
+            .getId();
+    }
+
+    private DataEntityPojo createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+                .setOddrn(UUID.randomUUID().toString())
+                .setHollow(false))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private OwnershipPojo createOwnership(final long ownerId, final long dataEntityId) {
+        final TitlePojo title = titleRepository.create(new TitlePojo().setName(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+        return ownershipRepository.create(new OwnershipPojo()
+                .setOwnerId(ownerId)
+                .setDataEntityId(dataEntityId)
+                .setTitleId(title.getId()))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private void assertVersion(final long ownerId, final long expected) {
+        dependencyRepository.getState(ownerId)
+            .as(StepVerifier::create)
+            .assertNext(state -> assertThat(state.getVersion()).isEqualTo(expected))
+            .verifyComplete();
+    }
+
+    private Collection<String> getDependencies(final long ownerId) {
+        return jooqReactiveOperations.flux(DSL.selectFrom(OWNER_LINEAGE_DEPENDENCY)
+                .where(OWNER_LINEAGE_DEPENDENCY.OWNER_ID.eq(ownerId)))
+            .map(r -> r.get(OWNER_LINEAGE_DEPENDENCY.DATA_ENTITY_ODDRN))
+            .collectList()
+            .block();
+    }
+}
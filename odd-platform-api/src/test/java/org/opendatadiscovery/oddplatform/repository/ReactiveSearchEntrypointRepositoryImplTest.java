@@ -0,0 +1,126 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.List;
+import java.util.UUID;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnershipPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TitlePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnershipRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTitleRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT;
+
+/**
+ * Every test gets its own database, as dirty data entities are claimed from the whole set.
+ */
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ReactiveSearchEntrypointRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private ReactiveSearchEntrypointRepository searchEntrypointRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveOwnerRepository ownerRepository;
+    @Autowired
+    private ReactiveTitleRepository titleRepository;
+    @Autowired
+    private ReactiveOwnershipRepository ownershipRepository;
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    @Test
+    public void dirtyDataEntitiesAreClaimedOnceTest() {
+        final OwnerPojo owner = createOwner();
+        final DataEntityPojo first = createDataEntity();
+        final DataEntityPojo second = createDataEntity();
+        createOwnership(owner, first);
+        createOwnership(owner, second);
+
+        searchEntrypointRepository.markDirtyByOwner(owner.getId())
+            .as(StepVerifier::create)
+            .expectNext(2)
+            .verifyComplete();
+        // repeated marks collapse into the already existing rows
+        searchEntrypointRepository.markDirty(List.of(first.getId()))
+            .as(StepVerifier::create)
+            .expectNext(0)
+            .verifyComplete();
+
+        searchEntrypointRepository.claimDirty(1)
+            .as(StepVerifier::create)
+            .assertNext(claimed -> assertThat(claimed).hasSize(1).isSubsetOf(first.getId(), second.getId()))
+            .verifyComplete();
+        searchEntrypointRepository.claimDirty(10)
+            .as(StepVerifier::create)
+            .assertNext(claimed -> assertThat(claimed).hasSize(1).isSubsetOf(first.getId(), second.getId()))
+            .verifyComplete();
+        searchEntrypointRepository.claimDirty(10)
+            .as(StepVerifier::create)
+            .assertNext(claimed -> assertThat(claimed).isEmpty())
+            .verifyComplete();
+    }
+
+    @Test
+    public void ownerVectorsAreRecalculatedForLiveDataEntitiesTest() {
+        final OwnerPojo owner = createOwner();
+        final DataEntityPojo live = createDataEntity();
+        final DataEntityPojo deleted = createDataEntity();
+        createOwnership(owner, live);
+        createOwnership(owner, deleted);
+        dataEntityRepository.delete(deleted.getId()).block();
+
+        searchEntrypointRepository.markDirtyByOwner(owner.getId()).block();
+        final List<Long> claimed = searchEntrypointRepository.claimDirty(10).blockOptional().orElseThrow();
+        assertThat(claimed).containsExactlyInAnyOrder(live.getId(), deleted.getId());
+
+        searchEntrypointRepository.recalculateVectors(claimed).block();
+
+        jooqReactiveOperations.flux(DSL.select(SEARCH_ENTRYPOINT.DATA_ENTITY_ID)
+                .from(SEARCH_ENTRYPOINT)
+                .where(SEARCH_ENTRYPOINT.DATA_ENTITY_ID.in(claimed))
+                .and(SEARCH_ENTRYPOINT.OWNER_VECTOR.isNotNull()))
+            .map(r -> r.get(SEARCH_ENTRYPOINT.DATA_ENTITY_ID))
+            .collectList()
+            .as(StepVerifier::create)
+            .assertNext(ids -> assertThat(ids).containsExactly(live.getId()))
+            .verifyComplete();
+    }
+
+    private OwnerPojo createOwner() {
+        return ownerRepository.create(new OwnerPojo().setName(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private DataEntityPojo createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+                .setOddrn(UUID.randomUUID().toString())
+                .setExternalName(UUID.randomUUID().toString())
+                .setHollow(false))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private void createOwnership(final OwnerPojo owner, final DataEntityPojo dataEntity) {
+        final TitlePojo title = titleRepository.create(new TitlePojo().setName(UUID.randomUUID().toString()))
+            .blockOptional()
+            .orElseThrow();
+        ownershipRepository.create(new OwnershipPojo()
+                .setOwnerId(owner.getId())
+                .setTitleId(title.getId())
+                .setDataEntityId(dataEntity.getId()))
+            .block();
+    }
+}
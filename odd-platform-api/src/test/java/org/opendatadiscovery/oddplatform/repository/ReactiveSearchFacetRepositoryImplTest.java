@@ -0,0 +1,88 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchFacetsPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveSearchFacetRepositoryImplTest extends BaseIntegrationTest {
+    private static final OffsetDateTime ACCESSED_AT =
+        OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS).minusDays(1);
+
+    @Autowired
+    private ReactiveSearchFacetRepository searchFacetRepository;
+
+    @Test
+    void lastAccessTimesAreWrittenInOneBatchTest() {
+        final UUID accessedLater = createSearch("later").getId();
+        final UUID accessedEarlier = createSearch("earlier").getId();
+        final UUID notAccessed = createSearch("not accessed").getId();
+
+        searchFacetRepository.updateLastAccessedAt(Map.of(
+                accessedLater, ACCESSED_AT.plusHours(1),
+                // another node has already written a later access
+                accessedEarlier, ACCESSED_AT.minusHours(1),
+                UUID.randomUUID(), ACCESSED_AT.plusHours(1)
+            ))
+            .as(StepVerifier::create)
+            .assertNext(updated -> assertThat(updated).isEqualTo(1))
+            .verifyComplete();
+
+        assertLastAccessedAt(accessedLater, ACCESSED_AT.plusHours(1));
+        assertLastAccessedAt(accessedEarlier, ACCESSED_AT);
+        assertLastAccessedAt(notAccessed, ACCESSED_AT);
+    }
+
+    @Test
+    void emptyLastAccessTimesTest() {
+        searchFacetRepository.updateLastAccessedAt(Map.of())
+            .as(StepVerifier::create)
+            .assertNext(updated -> assertThat(updated).isZero())
+            .verifyComplete();
+    }
+
+    @Test
+    void updatedStateIsNotServedFromCacheTest() {
+        final SearchFacetsPojo search = createSearch("orders");
+        // caches the state
+        assertQueryString(search.getId(), "orders");
+
+        searchFacetRepository.update(new SearchFacetsPojo(search).setQueryString("customers")).block();
+
+        assertQueryString(search.getId(), "customers");
+    }
+
+    private SearchFacetsPojo createSearch(final String query) {
+        return searchFacetRepository.create(new SearchFacetsPojo()
+                .setId(UUID.randomUUID())
+                .setQueryString(query)
+                .setFilters(JSONB.jsonb("{}"))
+                .setLastAccessedAt(ACCESSED_AT))
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private void assertLastAccessedAt(final UUID id, final OffsetDateTime expected) {
+        searchFacetRepository.get(id)
+            .as(StepVerifier::create)
+            .assertNext(pojo -> assertThat(pojo.getLastAccessedAt()).isAtSameInstantAs(expected))
+            .verifyComplete();
+    }
+
+    private void assertQueryString(final UUID id, final String expected) {
+        searchFacetRepository.get(id)
+            .as(StepVerifier::create)
+            .assertNext(pojo -> assertThat(pojo.getQueryString()).isEqualTo(expected))
+            .verifyComplete();
+    }
+}
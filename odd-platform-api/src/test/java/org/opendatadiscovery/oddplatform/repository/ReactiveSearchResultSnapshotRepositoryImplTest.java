@@ -0,0 +1,116 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.SearchFilterId;
+import org.opendatadiscovery.oddplatform.dto.SearchResultSnapshotDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.SearchFacetsPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchResultSnapshotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactiveSearchResultSnapshotRepositoryImplTest extends BaseIntegrationTest {
+    private static final String STATE_HASH = "hash";
+    private static final long OWNER_ID = 1L;
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final SearchResultSnapshotDto SNAPSHOT = new SearchResultSnapshotDto(
+        Map.of(SearchFilterId.builder().entityId(1L).name("DATA_SET").build(), 3L), 3L, 1L, List.of(3L, 1L, 2L), 3);
+
+    @Autowired
+    private ReactiveSearchResultSnapshotRepository searchResultSnapshotRepository;
+    @Autowired
+    private ReactiveSearchFacetRepository searchFacetRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    private UUID searchId;
+
+    @BeforeEach
+    void setUp() {
+        searchId = searchFacetRepository.create(new SearchFacetsPojo()
+                .setId(UUID.randomUUID())
+                .setQueryString("")
+                .setFilters(JSONB.jsonb("{}")))
+            .blockOptional()
+            .orElseThrow()
+            .getId();
+    }
+
+    @Test
+    public void snapshotOfCurrentGenerationIsServedTest() {
+        final long generation = searchResultSnapshotRepository.getDataGeneration().blockOptional().orElseThrow();
+        searchResultSnapshotRepository.save(searchId, STATE_HASH, OWNER_ID, generation, SNAPSHOT).block();
+
+        searchResultSnapshotRepository.get(searchId, STATE_HASH, OWNER_ID, 1, 2, TTL)
+            .as(StepVerifier::create)
+            .assertNext(snapshot -> {
+                assertThat(snapshot.entityClassFacet()).isEqualTo(SNAPSHOT.entityClassFacet());
+                assertThat(snapshot.total()).isEqualTo(3L);
+                assertThat(snapshot.myObjectsTotal()).isEqualTo(1L);
+                assertThat(snapshot.dataEntityIds()).containsExactly(1L, 2L);
+                assertThat(snapshot.hitsCount()).isEqualTo(3);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    public void dataChangeInvalidatesSnapshotTest() {
+        final long generation = searchResultSnapshotRepository.getDataGeneration().blockOptional().orElseThrow();
+        searchResultSnapshotRepository.save(searchId, STATE_HASH, OWNER_ID, generation, SNAPSHOT).block();
+
+        createDataEntity();
+
+        searchResultSnapshotRepository.getDataGeneration()
+            .as(StepVerifier::create)
+            .assertNext(current -> assertThat(current).isGreaterThan(generation))
+            .verifyComplete();
+        searchResultSnapshotRepository.get(searchId, STATE_HASH, OWNER_ID, 0, 3, TTL)
+            .as(StepVerifier::create)
+            .verifyComplete();
+    }
+
+    @Test
+    public void snapshotBuiltDuringDataChangeIsStaleTest() {
+        // the generation is taken before the search queries, and the data changes while they run
+        final long generation = searchResultSnapshotRepository.getDataGeneration().blockOptional().orElseThrow();
+        createDataEntity();
+        searchResultSnapshotRepository.save(searchId, STATE_HASH, OWNER_ID, generation, SNAPSHOT).block();
+
+        searchResultSnapshotRepository.get(searchId, STATE_HASH, OWNER_ID, 0, 3, TTL)
+            .as(StepVerifier::create)
+            .verifyComplete();
+    }
+
+    @Test
+    public void viewCountDoesNotInvalidateSnapshotTest() {
+        final DataEntityPojo dataEntity = createDataEntity();
+        final long generation = searchResultSnapshotRepository.getDataGeneration().blockOptional().orElseThrow();
+        searchResultSnapshotRepository.save(searchId, STATE_HASH, OWNER_ID, generation, SNAPSHOT).block();
+
+        dataEntityRepository.incrementViewCounts(Map.of(dataEntity.getId(), 1L)).block();
+
+        searchResultSnapshotRepository.get(searchId, STATE_HASH, OWNER_ID, 0, 3, TTL)
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    private DataEntityPojo createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+                .setOddrn(UUID.randomUUID().toString())
+                .setHollow(false))
+            .blockOptional()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,53 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+
+class JooqReactiveOperationsTest extends BaseIntegrationTest {
+    private static final Pattern BIND_MARKER = Pattern.compile("\\?|\\$\\d+");
+
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    @Test
+    void smallInListIsPaddedTest() {
+        final var query = DSL.selectCount().from(DATA_ENTITY).where(DATA_ENTITY.ID.in(ids(3)));
+
+        jooqReactiveOperations.mono(query)
+            .as(StepVerifier::create)
+            .assertNext(r -> assertThat(r.value1()).isNotNull())
+            .verifyComplete();
+
+        assertThat(bindMarkers(query.getSQL())).isEqualTo(4);
+    }
+
+    @Test
+    void inListIsNotPaddedBeyondBindValuesLimitTest() {
+        // padding 20000 values to the next power of 2 would need 32768 bind values
+        final var query = DSL.selectCount().from(DATA_ENTITY).where(DATA_ENTITY.ID.in(ids(20_000)));
+
+        jooqReactiveOperations.mono(query)
+            .as(StepVerifier::create)
+            .assertNext(r -> assertThat(r.value1()).isNotNull())
+            .verifyComplete();
+
+        assertThat(bindMarkers(query.getSQL())).isEqualTo(20_000);
+    }
+
+    private long bindMarkers(final String sql) {
+        return BIND_MARKER.matcher(sql).results().count();
+    }
+
+    private List<Long> ids(final int size) {
+        return LongStream.range(-size, 0).boxed().toList();
+    }
+}
@@ -0,0 +1,47 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.ExecuteContext;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.SqlProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JooqStatementMetricsListenerTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JooqStatementMetricsListener listener =
+        new JooqStatementMetricsListener(meterRegistry, new SqlProperties());
+
+    @Test
+    void recordsRenderTimeAndDistinctStatementsTest() {
+        render("select 1 where id in ($1, $2)");
+        render("select 1 where id in ($1, $2)");
+        render("select 1 where id in ($1, $2, $3, $4)");
+
+        assertThat(meterRegistry.get("odd_jooq_render_time").timer().count()).isEqualTo(3);
+        assertThat(cacheResults("hit")).isEqualTo(1);
+        assertThat(cacheResults("miss")).isEqualTo(2);
+    }
+
+    private void render(final String sql) {
+        final ExecuteContext ctx = mock(ExecuteContext.class);
+        when(ctx.data(any())).thenReturn(System.nanoTime());
+        when(ctx.sql()).thenReturn(sql);
+
+        listener.renderStart(ctx);
+        listener.renderEnd(ctx);
+    }
+
+    private double cacheResults(final String result) {
+        final FunctionCounter counter = meterRegistry.get("cache.gets")
+            .tag("cache", "odd_jooq_distinct_statements")
+            .tag("result", result)
+            .functionCounter();
+        return counter.count();
+    }
+}
@@ -1,12 +1,18 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetails;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetailsSection;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataField;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldOrigin;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldType;
@@ -15,15 +21,20 @@ import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValueLi
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValueUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetadataObject;
 import org.opendatadiscovery.oddplatform.auth.AuthIdentityProvider;
+import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
 import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
+import org.opendatadiscovery.oddplatform.dto.term.TermRefDto;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityMapper;
 import org.opendatadiscovery.oddplatform.mapper.MetadataFieldMapper;
 import org.opendatadiscovery.oddplatform.mapper.MetadataFieldValueMapper;
 import org.opendatadiscovery.oddplatform.mapper.TagMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityFilledPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldValuePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TermPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityStatisticsRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityTaskRunRepository;
@@ -33,7 +44,6 @@ import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepo
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveMetadataFieldValueRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
-import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -42,6 +52,8 @@ import reactor.test.StepVerifier;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,11 +93,11 @@ public class DataEntityServiceTest {
     @Mock
     private ReactiveDataEntityStatisticsRepository dataEntityStatisticsRepository;
     @Mock
-    private ReactiveTagRepository tagRepository;
-    @Mock
     private DataEntityFilledService dataEntityFilledService;
     @Mock
     private MetadataFieldService metadataFieldService;
+    @Mock
+    private DataEntityViewCounter dataEntityViewCounter;
 
     @BeforeEach
     public void beforeAll() {
@@ -94,6 +106,7 @@ public class DataEntityServiceTest {
             tagService,
             dataEntityFilledService,
             metadataFieldService,
+            dataEntityViewCounter,
             metadataFieldValueRepository,
             metadataFieldRepository,
             reactiveDataEntityRepository,
@@ -104,7 +117,6 @@ public class DataEntityServiceTest {
             reactiveSearchEntrypointRepository,
             reactiveGroupEntityRelationRepository,
             dataEntityStatisticsRepository,
-            tagRepository,
             dataEntityMapper,
             metadataFieldMapper,
             metadataFieldValueMapper,
@@ -135,7 +147,7 @@ public class DataEntityServiceTest {
             .thenReturn(Flux.fromIterable(List.of(valuePojo)));
         when(metadataFieldValueMapper.mapDto(new MetadataDto(fieldPojoAfterCreation, valuePojo)))
             .thenReturn(metadataFieldValue);
-        when(reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId)).thenReturn(Mono.just(1));
+        when(reactiveSearchEntrypointRepository.markDirty(List.of(dataEntityId))).thenReturn(Mono.just(1));
         when(dataEntityFilledService.markEntityFilled(anyLong(), any()))
             .thenReturn(Mono.just(new DataEntityFilledPojo()));
 
@@ -168,7 +180,7 @@ public class DataEntityServiceTest {
         when(metadataFieldValueRepository.update(valuePojo)).thenReturn(Mono.just(valuePojo));
         when(metadataFieldValueMapper.mapDto(new MetadataDto(metadataFieldPojo, valuePojo)))
             .thenReturn(metadataFieldValue);
-        when(reactiveSearchEntrypointRepository.updateMetadataVectors(dataEntityId)).thenReturn(Mono.just(1));
+        when(reactiveSearchEntrypointRepository.markDirty(List.of(dataEntityId))).thenReturn(Mono.just(1));
 
         final Mono<MetadataFieldValue> result =
             dataEntityService.upsertMetadataFieldValue(dataEntityId, fieldId, formData);
@@ -178,6 +190,95 @@ public class DataEntityServiceTest {
             .verify();
     }
 
+    @Test
+    public void getDetailsWithMetadataSectionTest() {
+        final DataEntityDetailsDto details = mockDetails();
+        final List<MetadataDto> metadata = List.of(new MetadataDto(new MetadataFieldPojo().setId(1L), null));
+        when(metadataFieldRepository.getDtosByDataEntityId(details.getDataEntity().getId()))
+            .thenReturn(Mono.just(metadata));
+
+        final DataEntityDetailsDto result = getDetails(details, List.of(DataEntityDetailsSection.METADATA));
+
+        assertThat(result.getMetadata()).isEqualTo(metadata);
+        assertThat(result.getDatasetVersions()).isNull();
+        assertThat(result.getTerms()).isNull();
+        verifyNoInteractions(datasetVersionRepository, reactiveTermRepository);
+    }
+
+    @Test
+    public void getDetailsWithDatasetVersionsSectionTest() {
+        final DataEntityDetailsDto details = mockDetails();
+        final List<DatasetVersionPojo> versions = List.of(new DatasetVersionPojo().setId(1L).setVersion(1L));
+        when(datasetVersionRepository.getVersions(details.getDataEntity().getOddrn()))
+            .thenReturn(Mono.just(versions));
+
+        final DataEntityDetailsDto result = getDetails(details, List.of(DataEntityDetailsSection.DATASET_VERSIONS));
+
+        assertThat(result.getDatasetVersions()).isEqualTo(versions);
+        assertThat(result.getMetadata()).isNull();
+        assertThat(result.getTerms()).isNull();
+        verifyNoInteractions(metadataFieldRepository, reactiveTermRepository);
+    }
+
+    @Test
+    public void getDetailsWithTermsSectionTest() {
+        final DataEntityDetailsDto details = mockDetails();
+        final TermRefDto term = TermRefDto.builder().term(new TermPojo().setId(1L)).build();
+        when(reactiveTermRepository.getDataEntityTerms(details.getDataEntity().getId()))
+            .thenReturn(Flux.just(term));
+
+        final DataEntityDetailsDto result = getDetails(details, List.of(DataEntityDetailsSection.TERMS));
+
+        assertThat(result.getTerms()).containsExactly(term);
+        assertThat(result.getMetadata()).isNull();
+        assertThat(result.getDatasetVersions()).isNull();
+        verifyNoInteractions(metadataFieldRepository, datasetVersionRepository);
+    }
+
+    @Test
+    public void getDetailsWithoutSectionsTest() {
+        final DataEntityDetailsDto details = mockDetails();
+        when(metadataFieldRepository.getDtosByDataEntityId(details.getDataEntity().getId()))
+            .thenReturn(Mono.just(List.of()));
+        when(datasetVersionRepository.getVersions(details.getDataEntity().getOddrn()))
+            .thenReturn(Mono.just(List.of()));
+        when(reactiveTermRepository.getDataEntityTerms(details.getDataEntity().getId()))
+            .thenReturn(Flux.empty());
+
+        final DataEntityDetailsDto result = getDetails(details, List.of());
+
+        assertThat(result.getMetadata()).isEmpty();
+        assertThat(result.getDatasetVersions()).isEmpty();
+        assertThat(result.getTerms()).isEmpty();
+    }
+
+    private DataEntityDetailsDto mockDetails() {
+        final DataEntityPojo dataEntity = new DataEntityPojo()
+            .setId(1L)
+            .setOddrn(UUID.randomUUID().toString())
+            .setEntityClassIds(new Integer[] {DataEntityClassDto.DATA_SET.getId()});
+        final DataEntityDetailsDto details = DataEntityDetailsDto.detailsBuilder()
+            .dataEntity(dataEntity)
+            .specificAttributes(Map.of())
+            .build();
+        when(reactiveDataEntityRepository.getDetails(dataEntity.getId())).thenReturn(Mono.just(details));
+        when(reactiveDataEntityRepository.listAllByOddrns(Set.of(), false)).thenReturn(Flux.empty());
+        when(dataEntityMapper.mapDtoDetails(any())).thenReturn(new DataEntityDetails());
+        return details;
+    }
+
+    private DataEntityDetailsDto getDetails(final DataEntityDetailsDto details,
+                                            final Collection<DataEntityDetailsSection> sections) {
+        StepVerifier.create(dataEntityService.getDetails(details.getDataEntity().getId(), sections))
+            .expectNextCount(1)
+            .expectComplete()
+            .verify();
+
+        final ArgumentCaptor<DataEntityDetailsDto> captor = ArgumentCaptor.forClass(DataEntityDetailsDto.class);
+        verify(dataEntityMapper).mapDtoDetails(captor.capture());
+        return captor.getValue();
+    }
+
     private MetadataFieldPojo createFieldPojo(final Long id, final String name, final MetadataFieldType type,
                                               final MetadataFieldOrigin origin) {
         return new MetadataFieldPojo()
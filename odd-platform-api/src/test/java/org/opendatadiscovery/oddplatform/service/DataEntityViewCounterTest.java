@@ -0,0 +1,66 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataEntityViewCounterTest {
+    @Mock
+    private ReactiveDataEntityRepository reactiveDataEntityRepository;
+
+    private DataEntityViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewCounter = new DataEntityViewCounter(reactiveDataEntityRepository, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void aggregatesViewsUntilFlushTest() {
+        assertThat(viewCounter.registerView(1L, 10L)).isEqualTo(11L);
+        assertThat(viewCounter.registerView(1L, 10L)).isEqualTo(12L);
+        assertThat(viewCounter.registerView(2L, null)).isEqualTo(1L);
+
+        when(reactiveDataEntityRepository.incrementViewCounts(any())).thenReturn(Mono.just(2));
+        StepVerifier.create(viewCounter.flush()).verifyComplete();
+        verify(reactiveDataEntityRepository).incrementViewCounts(Map.of(1L, 2L, 2L, 1L));
+
+        // flushed views are a part of the persisted count now
+        assertThat(viewCounter.registerView(1L, 12L)).isEqualTo(13L);
+    }
+
+    @Test
+    void keepsViewsWhenFlushFailsTest() {
+        viewCounter.registerView(1L, 0L);
+
+        when(reactiveDataEntityRepository.incrementViewCounts(any()))
+            .thenReturn(Mono.error(new IllegalStateException("Database is unavailable")))
+            .thenReturn(Mono.just(1));
+        StepVerifier.create(viewCounter.flush()).verifyError(IllegalStateException.class);
+
+        viewCounter.registerView(1L, 0L);
+        StepVerifier.create(viewCounter.flush()).verifyComplete();
+        verify(reactiveDataEntityRepository, times(1)).incrementViewCounts(Map.of(1L, 2L));
+    }
+
+    @Test
+    void skipsEmptyFlushTest() {
+        StepVerifier.create(viewCounter.flush()).verifyComplete();
+        verifyNoInteractions(reactiveDataEntityRepository);
+    }
+}
@@ -38,6 +38,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.service.lineage.LineageGraphIndex;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -63,7 +64,7 @@ class LineageServiceTest {
     @BeforeEach
     void setUp() {
         lineageService = new LineageServiceImpl(lineageRepository, dataEntityRepository, groupEntityRelationRepository,
-            lineageMapper);
+            lineageMapper, new LineageGraphIndex());
         lineageMapper.setDataEntityMapper(
             new DataEntityMapperImpl(
                 new DataSourceMapperImpl(
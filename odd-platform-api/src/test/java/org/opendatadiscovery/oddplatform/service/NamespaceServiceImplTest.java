@@ -171,7 +171,7 @@ class NamespaceServiceImplTest {
 
         when(namespaceRepository.get(eq(namespaceId))).thenReturn(Mono.just(namespace));
         when(namespaceRepository.update(eq(appliedFormPojo))).thenReturn(Mono.just(updatedPojo));
-        when(searchEntrypointRepository.updateChangedNamespaceVector(eq(namespaceId))).thenReturn(Mono.just(0));
+        when(searchEntrypointRepository.markDirtyByNamespace(eq(namespaceId))).thenReturn(Mono.just(0));
         when(termSearchEntrypointRepository.updateChangedNamespaceVector(eq(namespaceId))).thenReturn(Mono.just(0));
         when(namespaceMapper.applyToPojo(eq(namespace), eq(form))).thenReturn(appliedFormPojo);
         when(namespaceMapper.mapPojo(eq(updatedPojo))).thenReturn(expected);
@@ -182,7 +182,7 @@ class NamespaceServiceImplTest {
 
         verify(namespaceRepository, times(1)).get(eq(namespaceId));
         verify(namespaceRepository, times(1)).update(eq(appliedFormPojo));
-        verify(searchEntrypointRepository, only()).updateChangedNamespaceVector(eq(namespaceId));
+        verify(searchEntrypointRepository, only()).markDirtyByNamespace(eq(namespaceId));
         verify(termSearchEntrypointRepository, only()).updateChangedNamespaceVector(eq(namespaceId));
         verify(namespaceMapper, times(1)).applyToPojo(eq(namespace), eq(form));
         verify(namespaceMapper, times(1)).mapPojo(eq(updatedPojo));
@@ -201,7 +201,7 @@ class NamespaceServiceImplTest {
 
         verify(namespaceRepository, times(1)).get(eq(nonExistentNamespaceId));
         verify(namespaceRepository, never()).update(any());
-        verify(searchEntrypointRepository, never()).updateChangedNamespaceVector(anyLong());
+        verify(searchEntrypointRepository, never()).markDirtyByNamespace(anyLong());
         verify(termSearchEntrypointRepository, never()).updateChangedNamespaceVector(anyLong());
         verify(namespaceMapper, never()).applyToPojo(any(), any());
         verify(namespaceMapper, never()).mapPojo(any());
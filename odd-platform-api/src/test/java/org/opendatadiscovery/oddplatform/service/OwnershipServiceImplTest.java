@@ -91,7 +91,7 @@ class OwnershipServiceImplTest {
         when(ownerService.getOrCreate(anyString())).thenReturn(Mono.just(owner));
         when(titleService.getOrCreate(anyString())).thenReturn(Mono.just(title));
         when(ownershipRepository.create(any(OwnershipPojo.class))).thenReturn(Mono.just(ownershipPojo));
-        when(searchEntrypointRepository.updateChangedOwnershipVectors(anyLong())).thenReturn(Mono.just(1));
+        when(searchEntrypointRepository.markDirtyByOwnership(anyLong())).thenReturn(Mono.just(1));
         when(ownershipMapper.mapDto(any(OwnershipDto.class))).thenReturn(ownership);
         when(dataEntityFilledService.markEntityFilled(anyLong(), any()))
             .thenReturn(Mono.just(new DataEntityFilledPojo()));
@@ -112,7 +112,7 @@ class OwnershipServiceImplTest {
         verify(titleService, only()).getOrCreate(any(String.class));
         verify(ownershipRepository, times(1)).create(any(OwnershipPojo.class));
         verify(searchEntrypointRepository, times(1))
-            .updateChangedOwnershipVectors(testOwnershipId);
+            .markDirtyByOwnership(testOwnershipId);
         verify(ownershipMapper, only()).mapDto(any(OwnershipDto.class));
     }
 
@@ -138,7 +138,7 @@ class OwnershipServiceImplTest {
         when(ownershipRepository.get(testOwnershipId)).thenReturn(Mono.just(new OwnershipDto()));
         when(titleService.getOrCreate(any(String.class))).thenReturn(Mono.just(titlePojo));
         when(ownershipRepository.updateTitle(testOwnershipId, testTitleId)).thenReturn(Mono.just(testOwnershipPojo));
-        when(searchEntrypointRepository.updateChangedOwnershipVectors(anyLong())).thenReturn(Mono.just(1));
+        when(searchEntrypointRepository.markDirtyByOwnership(anyLong())).thenReturn(Mono.just(1));
         when(ownershipMapper.mapDto(any(OwnershipDto.class))).thenReturn(ownership);
 
         final Mono<Ownership> actualOwnershipMono = ownershipService.update(testOwnershipId, ownershipUpdateFormData);
@@ -156,7 +156,7 @@ class OwnershipServiceImplTest {
         verify(ownershipRepository, times(1)).updateTitle(testOwnershipId, testTitleId);
         verify(ownershipRepository, times(2)).get(testOwnershipId);
         verify(searchEntrypointRepository, times(1))
-            .updateChangedOwnershipVectors(testOwnershipId);
+            .markDirtyByOwnership(testOwnershipId);
         verify(ownershipMapper, only()).mapDto(any(OwnershipDto.class));
         verify(titleService, only()).getOrCreate(any(String.class));
     }
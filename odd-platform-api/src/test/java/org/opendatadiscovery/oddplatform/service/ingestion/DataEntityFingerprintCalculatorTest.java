@@ -0,0 +1,75 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityType;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetadataExtension;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataEntityFingerprintCalculatorTest {
+    private static final long DATA_SOURCE_ID = 1L;
+
+    private final DataEntityFingerprintCalculator calculator = new DataEntityFingerprintCalculator();
+
+    @Test
+    public void sameContentTest() {
+        assertThat(calculator.calculate(dataEntity(Map.of("a", 1), "tag"), DATA_SOURCE_ID))
+            .isEqualTo(calculator.calculate(dataEntity(Map.of("a", 1), "tag"), DATA_SOURCE_ID));
+    }
+
+    @Test
+    public void metadataOrderDoesNotMatterTest() {
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("a", 1);
+        metadata.put("b", "value");
+
+        final Map<String, Object> reversedMetadata = new LinkedHashMap<>();
+        reversedMetadata.put("b", "value");
+        reversedMetadata.put("a", 1);
+
+        assertThat(calculator.calculate(dataEntity(metadata, "tag"), DATA_SOURCE_ID))
+            .isEqualTo(calculator.calculate(dataEntity(reversedMetadata, "tag"), DATA_SOURCE_ID));
+    }
+
+    @Test
+    public void changedContentTest() {
+        final String fingerprint = calculator.calculate(dataEntity(Map.of("a", 1), "tag"), DATA_SOURCE_ID);
+
+        assertThat(calculator.calculate(dataEntity(Map.of("a", 2), "tag"), DATA_SOURCE_ID))
+            .isNotEqualTo(fingerprint);
+        assertThat(calculator.calculate(dataEntity(Map.of("a", 1), "another_tag"), DATA_SOURCE_ID))
+            .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void dataSourceChangeTest() {
+        final DataEntity dataEntity = dataEntity(Map.of("a", 1), "tag");
+
+        assertThat(calculator.calculate(dataEntity, DATA_SOURCE_ID + 1))
+            .isNotEqualTo(calculator.calculate(dataEntity, DATA_SOURCE_ID));
+    }
+
+    @Test
+    public void updatedAtDoesNotMatterTest() {
+        final DataEntity dataEntity = dataEntity(Map.of("a", 1), "tag");
+        final String fingerprint = calculator.calculate(dataEntity, DATA_SOURCE_ID);
+
+        assertThat(calculator.calculate(dataEntity.updatedAt(OffsetDateTime.now()), DATA_SOURCE_ID))
+            .isEqualTo(fingerprint);
+    }
+
+    private DataEntity dataEntity(final Map<String, Object> metadata, final String tag) {
+        return new DataEntity()
+            .oddrn("//postgresql/host/localhost/databases/db/tables/table")
+            .name("table")
+            .type(DataEntityType.TABLE)
+            .metadata(List.of(new MetadataExtension().metadata(metadata)))
+            .tags(List.of(new Tag().name(tag)));
+    }
+}
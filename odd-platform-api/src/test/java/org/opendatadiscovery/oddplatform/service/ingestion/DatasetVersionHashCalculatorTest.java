@@ -0,0 +1,74 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import org.apache.commons.lang3.BooleanUtils;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.api.ingestion.utils.IngestionModelGenerator;
+import org.opendatadiscovery.oddplatform.dto.ingestion.HashableDatasetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasetVersionHashCalculatorTest {
+    private final DatasetVersionHashCalculator calculator = new DatasetVersionHashCalculator();
+
+    @Test
+    public void emptyStructureTest() {
+        assertThat(calculator.calculateStructureHash(List.of())).isEqualTo("0");
+        assertThat(calculator.calculateStructureHashFromPojos(List.of())).isEqualTo("0");
+    }
+
+    @Test
+    public void sameHashAsSerializedDocumentTest() throws NoSuchAlgorithmException {
+        final List<DataSetField> fields = IngestionModelGenerator.generateDatasetFields(100);
+
+        assertThat(calculator.calculateStructureHash(fields)).isEqualTo(documentHash(fields));
+    }
+
+    @Test
+    public void sameHashForPojosTest() {
+        final List<DataSetField> fields = IngestionModelGenerator.generateDatasetFields(100);
+        final List<DatasetFieldPojo> pojos = fields.stream()
+            .map(f -> new DatasetFieldPojo()
+                .setName(f.getName())
+                .setOddrn(f.getOddrn())
+                .setParentFieldOddrn(f.getParentFieldOddrn())
+                .setType(JSONB.jsonb(JSONSerDeUtils.serializeJson(f.getType())))
+                .setIsKey(f.getIsKey())
+                .setIsValue(f.getIsValue())
+                .setIsPrimaryKey(f.getIsPrimaryKey()))
+            .toList();
+
+        assertThat(calculator.calculateStructureHashFromPojos(pojos))
+            .isEqualTo(calculator.calculateStructureHash(fields));
+    }
+
+    /**
+     * Reference implementation which hashes the whole serialized JSON document of sorted fields.
+     */
+    private String documentHash(final List<DataSetField> fields) throws NoSuchAlgorithmException {
+        final List<HashableDatasetField> sortedFields = fields.stream()
+            .map(f -> HashableDatasetField.builder()
+                .name(f.getName())
+                .oddrn(f.getOddrn())
+                .parentFieldOddrn(f.getParentFieldOddrn())
+                .type(f.getType())
+                .isKey(BooleanUtils.toBoolean(f.getIsKey()))
+                .isValue(BooleanUtils.toBoolean(f.getIsValue()))
+                .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
+                .build())
+            .sorted(Comparator.comparing(HashableDatasetField::getOddrn))
+            .toList();
+
+        final byte[] document = JSONSerDeUtils.serializeJson(sortedFields).getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(document));
+    }
+}
@@ -0,0 +1,104 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.config.properties.IngestionProperties;
+import org.opendatadiscovery.oddplatform.dto.DataSourceDto;
+import org.opendatadiscovery.oddplatform.exception.NotFoundException;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntity;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataEntityList;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.springframework.core.codec.DecodingException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingIngestionServiceImplTest {
+    private static final String DATA_SOURCE_ODDRN = "//test/datasource";
+
+    @Mock
+    private IngestionService ingestionService;
+    @Mock
+    private ReactiveDataSourceRepository dataSourceRepository;
+    @Captor
+    private ArgumentCaptor<DataEntityList> chunksCaptor;
+
+    private StreamingIngestionService streamingIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        final IngestionProperties properties = new IngestionProperties();
+        properties.getStreaming().setChunkSize(2);
+        properties.getStreaming().setMaxInFlightChunks(1);
+
+        streamingIngestionService = new StreamingIngestionServiceImpl(ingestionService, dataSourceRepository,
+            properties);
+    }
+
+    @Test
+    void shouldIngestStreamInChunks() {
+        when(dataSourceRepository.getDtoByOddrn(DATA_SOURCE_ODDRN))
+            .thenReturn(Mono.just(new DataSourceDto(new DataSourcePojo().setOddrn(DATA_SOURCE_ODDRN), null)));
+        when(ingestionService.ingest(chunksCaptor.capture())).thenReturn(Mono.empty());
+
+        StepVerifier.create(streamingIngestionService.ingest(DATA_SOURCE_ODDRN, Flux.fromIterable(entities(5))))
+            .verifyComplete();
+
+        assertThat(chunksCaptor.getAllValues())
+            .allMatch(chunk -> DATA_SOURCE_ODDRN.equals(chunk.getDataSourceOddrn()))
+            .extracting(chunk -> chunk.getItems().stream().map(DataEntity::getOddrn).toList())
+            .containsExactly(List.of("e0", "e1"), List.of("e2", "e3"), List.of("e4"));
+    }
+
+    @Test
+    void shouldStopOnMalformedChunk() {
+        when(dataSourceRepository.getDtoByOddrn(DATA_SOURCE_ODDRN))
+            .thenReturn(Mono.just(new DataSourceDto(new DataSourcePojo().setOddrn(DATA_SOURCE_ODDRN), null)));
+        when(ingestionService.ingest(chunksCaptor.capture())).thenReturn(Mono.empty());
+
+        // the third entity can't be decoded, so the second chunk is never complete
+        final Flux<DataEntity> stream = Flux.fromIterable(entities(2))
+            .concatWith(Flux.just(new DataEntity().oddrn("e2")))
+            .concatWith(Flux.error(new DecodingException("JSON decoding error")));
+
+        StepVerifier.create(streamingIngestionService.ingest(DATA_SOURCE_ODDRN, stream))
+            .verifyError(DecodingException.class);
+
+        verify(ingestionService, times(1)).ingest(any(DataEntityList.class));
+        assertThat(chunksCaptor.getValue().getItems())
+            .extracting(DataEntity::getOddrn)
+            .containsExactly("e0", "e1");
+    }
+
+    @Test
+    void shouldNotReadStreamOfUnknownDataSource() {
+        when(dataSourceRepository.getDtoByOddrn(DATA_SOURCE_ODDRN)).thenReturn(Mono.empty());
+
+        StepVerifier.create(streamingIngestionService.ingest(DATA_SOURCE_ODDRN, Flux.fromIterable(entities(1))))
+            .verifyError(NotFoundException.class);
+
+        verifyNoInteractions(ingestionService);
+    }
+
+    private List<DataEntity> entities(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new DataEntity().oddrn("e" + i))
+            .toList();
+    }
+}
@@ -0,0 +1,119 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricFamilyRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricLabelValueRepository;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricSeriesRepository;
+import org.opendatadiscovery.oddplatform.utils.MetricUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricDictionaryCacheTest {
+    @Mock
+    private MetricEntityRepository metricEntityRepository;
+    @Mock
+    private MetricFamilyRepository metricFamilyRepository;
+    @Mock
+    private MetricLabelRepository metricLabelRepository;
+    @Mock
+    private MetricLabelValueRepository metricLabelValueRepository;
+    @Mock
+    private MetricSeriesRepository metricSeriesRepository;
+
+    private MetricDictionaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MetricDictionaryCache(metricEntityRepository, metricFamilyRepository, metricLabelRepository,
+            metricLabelValueRepository, metricSeriesRepository, 1000, Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldWriteOnlyMissedEntities() {
+        when(metricEntityRepository.registerMetricEntityOddrns(any()))
+            .thenReturn(Flux.just(new MetricEntityPojo().setId(1).setEntityOddrn("//a")))
+            .thenReturn(Flux.just(new MetricEntityPojo().setId(2).setEntityOddrn("//b")));
+
+        StepVerifier.create(cache.getOrCreateEntities(Set.of("//a")))
+            .assertNext(entities -> assertThat(entities.get("//a").getId()).isEqualTo(1))
+            .verifyComplete();
+        StepVerifier.create(cache.getOrCreateEntities(Set.of("//a", "//b")))
+            .assertNext(entities -> {
+                assertThat(entities.get("//a").getId()).isEqualTo(1);
+                assertThat(entities.get("//b").getId()).isEqualTo(2);
+            })
+            .verifyComplete();
+
+        verify(metricEntityRepository).registerMetricEntityOddrns(Set.of("//a"));
+        verify(metricEntityRepository).registerMetricEntityOddrns(Set.of("//b"));
+    }
+
+    @Test
+    void shouldWriteFamilyWhenDescriptionChanges() {
+        final MetricFamilyPojo family = new MetricFamilyPojo().setName("rows").setUnit("").setType("GAUGE");
+        final MetricFamilyPojo described = new MetricFamilyPojo(family).setDescription("Rows count");
+        final MetricFamilyPojo redescribed = new MetricFamilyPojo(family).setDescription("Rows number");
+        when(metricFamilyRepository.createOrUpdateMetricFamilies(anyCollection()))
+            .thenReturn(Flux.just(new MetricFamilyPojo(family).setId(1)))
+            .thenReturn(Flux.just(new MetricFamilyPojo(described).setId(1)))
+            .thenReturn(Flux.just(new MetricFamilyPojo(redescribed).setId(1)))
+            .thenReturn(Flux.just(new MetricFamilyPojo(family).setId(1)));
+        final String key = MetricUtils.buildMetricFamilyKey(family);
+
+        StepVerifier.create(cache.getOrCreateFamilies(Map.of(key, family))).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.getOrCreateFamilies(Map.of(key, family))).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.getOrCreateFamilies(Map.of(key, described))).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.getOrCreateFamilies(Map.of(key, described))).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.getOrCreateFamilies(Map.of(key, redescribed)))
+            .assertNext(families -> assertThat(families.get(key).getDescription()).isEqualTo("Rows number"))
+            .verifyComplete();
+        // the upsert clears a description as well
+        StepVerifier.create(cache.getOrCreateFamilies(Map.of(key, family)))
+            .assertNext(families -> assertThat(families.get(key).getDescription()).isNull())
+            .verifyComplete();
+
+        verify(metricFamilyRepository, times(4)).createOrUpdateMetricFamilies(anyCollection());
+    }
+
+    @Test
+    void shouldCacheSeriesByTheirKey() {
+        final MetricSeriesPojo series = new MetricSeriesPojo()
+            .setMetricEntityId(1)
+            .setMetricFamilyId(2)
+            .setValueType(0)
+            .setMetricLabelsIds(new Integer[] {3, 4});
+        when(metricSeriesRepository.createOrUpdateMetricSeries(anyList()))
+            .thenReturn(Flux.just(new MetricSeriesPojo(series).setId(10)));
+
+        StepVerifier.create(cache.getOrCreateSeries(List.of(series, new MetricSeriesPojo(series))))
+            .assertNext(s -> assertThat(s).hasSize(1))
+            .verifyComplete();
+        StepVerifier.create(cache.getOrCreateSeries(List.of(new MetricSeriesPojo(series))))
+            .assertNext(s -> assertThat(s.get(MetricDictionaryCache.SeriesKey.of(series)).getId()).isEqualTo(10))
+            .verifyComplete();
+
+        verify(metricSeriesRepository, times(1)).createOrUpdateMetricSeries(anyList());
+    }
+}
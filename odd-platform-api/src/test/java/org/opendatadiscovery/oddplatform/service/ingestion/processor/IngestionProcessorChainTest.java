@@ -0,0 +1,90 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.processor;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IngestionProcessorChainTest {
+    private final IngestionRequest request = IngestionRequest.builder()
+        .newEntities(List.of())
+        .existingEntities(List.of())
+        .build();
+
+    @Test
+    public void independentProcessorDoesNotWaitForEarlierPhaseTest() {
+        final Queue<String> completed = new ConcurrentLinkedQueue<>();
+
+        final IngestionProcessorChain chain = new IngestionProcessorChain(List.of(
+            new TestProcessor("lineage", IngestionProcessingPhase.MAIN, completed, Duration.ofMillis(300),
+                Set.of(), Set.of(IngestionResource.LINEAGE)),
+            new TestProcessor("activity", IngestionProcessingPhase.FINALIZING, completed, Duration.ZERO,
+                Set.of(IngestionResource.DATA_ENTITY), Set.of(IngestionResource.ACTIVITY))
+        ));
+
+        chain.processIngestionRequest(request).block();
+
+        assertThat(completed).containsExactly("activity", "lineage");
+    }
+
+    @Test
+    public void dependentProcessorWaitsForEarlierPhaseTest() {
+        final Queue<String> completed = new ConcurrentLinkedQueue<>();
+
+        final IngestionProcessorChain chain = new IngestionProcessorChain(List.of(
+            new TestProcessor("alert", IngestionProcessingPhase.FINALIZING, completed, Duration.ZERO,
+                Set.of(IngestionResource.DATA_QUALITY_TEST_RELATION), Set.of(IngestionResource.ALERT)),
+            new TestProcessor("dq_relations", IngestionProcessingPhase.MAIN, completed, Duration.ofMillis(300),
+                Set.of(), Set.of(IngestionResource.DATA_QUALITY_TEST_RELATION))
+        ));
+
+        chain.processIngestionRequest(request).block();
+
+        assertThat(completed).containsExactly("dq_relations", "alert");
+    }
+
+    @Test
+    public void undeclaredProcessorWaitsForAllEarlierPhasesTest() {
+        final Queue<String> completed = new ConcurrentLinkedQueue<>();
+        final Set<IngestionResource> all = EnumSet.allOf(IngestionResource.class);
+
+        final IngestionProcessorChain chain = new IngestionProcessorChain(List.of(
+            new TestProcessor("lineage", IngestionProcessingPhase.MAIN, completed, Duration.ofMillis(300),
+                Set.of(), Set.of(IngestionResource.LINEAGE)),
+            new TestProcessor("custom", IngestionProcessingPhase.FINALIZING, completed, Duration.ZERO, all, all)
+        ));
+
+        chain.processIngestionRequest(request).block();
+
+        assertThat(completed).containsExactly("lineage", "custom");
+    }
+
+    private record TestProcessor(String name,
+                                 IngestionProcessingPhase phase,
+                                 Queue<String> completed,
+                                 Duration delay,
+                                 Set<IngestionResource> reads,
+                                 Set<IngestionResource> writes) implements IngestionRequestProcessor {
+        @Override
+        public Mono<Void> process(final IngestionRequest request) {
+            return Mono.delay(delay).doOnNext(ignored -> completed.add(name)).then();
+        }
+
+        @Override
+        public boolean shouldProcess(final IngestionRequest request) {
+            return true;
+        }
+
+        @Override
+        public IngestionProcessingPhase getPhase() {
+            return phase;
+        }
+    }
+}
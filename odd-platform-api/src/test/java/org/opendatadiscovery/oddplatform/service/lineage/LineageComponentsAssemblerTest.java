@@ -0,0 +1,56 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineageComponentsAssemblerTest {
+    @Test
+    void shouldSplitRelationsIntoComponentsRegardlessOfDirection() {
+        final LineagePojo ab = relation("a", "b");
+        final LineagePojo cb = relation("c", "b");
+        final LineagePojo de = relation("d", "e");
+
+        final Map<String, Set<LineagePojo>> components =
+            LineageComponentsAssembler.assemble(List.of("a", "b", "c", "d", "e", "f"), List.of(ab, cb, de));
+
+        assertThat(components).containsOnlyKeys("a", "d", "f");
+        assertThat(components.get("a")).containsExactlyInAnyOrder(ab, cb);
+        assertThat(components.get("d")).containsExactly(de);
+        assertThat(components.get("f")).isEmpty();
+    }
+
+    @Test
+    void shouldRepresentComponentWithItsFirstEntity() {
+        final LineagePojo ab = relation("a", "b");
+
+        assertThat(LineageComponentsAssembler.assemble(List.of("b", "a"), List.of(ab)))
+            .containsOnlyKeys("b");
+    }
+
+    @Test
+    void shouldJoinLongChains() {
+        final List<String> oddrns = IntStream.range(0, 20_000).mapToObj(i -> "//entity/" + i).toList();
+        final List<LineagePojo> relations = new ArrayList<>();
+        for (int i = 1; i < oddrns.size(); i++) {
+            relations.add(i % 2 == 0
+                ? relation(oddrns.get(i - 1), oddrns.get(i))
+                : relation(oddrns.get(i), oddrns.get(i - 1)));
+        }
+
+        final Map<String, Set<LineagePojo>> components = LineageComponentsAssembler.assemble(oddrns, relations);
+
+        assertThat(components).containsOnlyKeys(oddrns.get(0));
+        assertThat(components.get(oddrns.get(0))).hasSize(relations.size());
+    }
+
+    private LineagePojo relation(final String parentOddrn, final String childOddrn) {
+        return new LineagePojo().setParentOddrn(parentOddrn).setChildOddrn(childOddrn);
+    }
+}
@@ -0,0 +1,141 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LineageGraphIndexTest {
+    private LineageGraphIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        final LineageGraphIndex.LineageGraph graph = new LineageGraphIndex.LineageGraph();
+        List.of(
+            relation("a", "b", "a"),
+            relation("a", "b", "b"),
+            relation("b", "c", "c"),
+            relation("c", "d", "c"),
+            relation("d", "b", "d"),
+            relation("x", "c", "x")
+        ).forEach(graph::add);
+
+        index = new LineageGraphIndex();
+        index.replace(graph);
+    }
+
+    @Test
+    public void depthBoundedTraversalTest() {
+        assertThat(index.getRelations(Set.of("a"), 1, LineageStreamKind.DOWNSTREAM))
+            .containsExactlyInAnyOrder(edge("a", "b"));
+
+        assertThat(index.getRelations(Set.of("a"), 2, LineageStreamKind.DOWNSTREAM))
+            .containsExactlyInAnyOrder(edge("a", "b"), edge("b", "c"));
+
+        // cycle b -> c -> d -> b is traversed only once
+        assertThat(index.getRelations(Set.of("a"), 10, LineageStreamKind.DOWNSTREAM))
+            .containsExactlyInAnyOrder(edge("a", "b"), edge("b", "c"), edge("c", "d"), edge("d", "b"));
+
+        assertThat(index.getRelations(Set.of("c"), 2, LineageStreamKind.UPSTREAM))
+            .containsExactlyInAnyOrder(edge("b", "c"), edge("x", "c"), edge("a", "b"), edge("d", "b"));
+
+        assertThat(index.getRelations(Set.of("unknown"), 5, LineageStreamKind.UPSTREAM)).isEmpty();
+    }
+
+    @Test
+    public void relationsBetweenTest() {
+        assertThat(index.getRelationsBetween(List.of("b", "c", "x")))
+            .containsExactlyInAnyOrder(edge("b", "c"), edge("x", "c"));
+    }
+
+    @Test
+    public void countsTest() {
+        assertThat(index.getRelationsCount()).isEqualTo(6);
+        assertThat(index.getChildrenCount(Set.of("a", "d", "c")))
+            .isEqualTo(Map.of("a", 1, "d", 1, "c", 1));
+        assertThat(index.getParentCount(Set.of("b", "c", "a")))
+            .isEqualTo(Map.of("b", 2, "c", 2));
+    }
+
+    @Test
+    public void incrementalUpdatesTest() {
+        // edge a -> b is still established by b
+        index.removeRelations(List.of(relation("a", "b", "a")));
+        assertThat(index.getRelations(Set.of("a"), 1, LineageStreamKind.DOWNSTREAM))
+            .containsExactly(edge("a", "b"));
+
+        index.removeRelations(List.of(relation("a", "b", "b")));
+        assertThat(index.getRelations(Set.of("a"), 1, LineageStreamKind.DOWNSTREAM)).isEmpty();
+        assertThat(index.getParentCount(Set.of("b"))).isEqualTo(Map.of("b", 1));
+
+        index.addRelations(List.of(relation("a", "e", "e")));
+        assertThat(index.getRelations(Set.of("e"), 1, LineageStreamKind.UPSTREAM))
+            .containsExactly(edge("a", "e"));
+        assertThat(index.getRelationsCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void changesDuringRebuildAreReplayedTest() {
+        index.startRebuild();
+        // the lineage table has been read before these changes were committed
+        final LineageGraphIndex.LineageGraph graph = new LineageGraphIndex.LineageGraph();
+        graph.add(relation("a", "b", "a"));
+        graph.add(relation("b", "c", "c"));
+        index.removeRelations(List.of(relation("b", "c", "c")));
+        index.addRelations(List.of(relation("c", "e", "e")));
+
+        // the current graph is kept up to date until the new one replaces it
+        assertThat(index.getRelations(Set.of("c"), 1, LineageStreamKind.DOWNSTREAM))
+            .containsExactlyInAnyOrder(edge("c", "d"), edge("c", "e"));
+
+        index.replace(graph);
+        assertThat(index.getRelations(Set.of("a"), 3, LineageStreamKind.DOWNSTREAM))
+            .containsExactly(edge("a", "b"));
+        assertThat(index.getRelations(Set.of("e"), 1, LineageStreamKind.UPSTREAM))
+            .containsExactly(edge("c", "e"));
+        assertThat(index.getRelationsCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void changesBeforeFirstBuildAreReplayedTest() {
+        final LineageGraphIndex coldIndex = new LineageGraphIndex();
+        // picked up by the build itself
+        coldIndex.addRelations(List.of(relation("a", "b", "a")));
+        coldIndex.startRebuild();
+        coldIndex.addRelations(List.of(relation("b", "c", "c")));
+        assertThat(coldIndex.isReady()).isFalse();
+
+        final LineageGraphIndex.LineageGraph graph = new LineageGraphIndex.LineageGraph();
+        graph.add(relation("a", "b", "a"));
+        coldIndex.replace(graph);
+
+        assertThat(coldIndex.getRelations(Set.of("a"), 2, LineageStreamKind.DOWNSTREAM))
+            .containsExactlyInAnyOrder(edge("a", "b"), edge("b", "c"));
+    }
+
+    @Test
+    public void cancelledRebuildTest() {
+        index.startRebuild();
+        index.cancelRebuild();
+        index.addRelations(List.of(relation("c", "e", "e")));
+
+        final LineageGraphIndex.LineageGraph graph = new LineageGraphIndex.LineageGraph();
+        graph.add(relation("a", "b", "a"));
+        index.replace(graph);
+
+        assertThat(index.getRelationsCount()).isEqualTo(1);
+    }
+
+    private LineagePojo relation(final String parent, final String child, final String establisher) {
+        return new LineagePojo(parent, child, establisher);
+    }
+
+    private LineagePojo edge(final String parent, final String child) {
+        return new LineagePojo(parent, child, null);
+    }
+}
@@ -0,0 +1,91 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.config.properties.LineageProperties;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.wakeup.PostgreSQLWakeupService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LineageGraphIndexWorkerTest {
+    @Mock
+    private ReactiveLineageRepository lineageRepository;
+    @Mock
+    private PostgreSQLWakeupService wakeupService;
+
+    private final LineageGraphIndex index = new LineageGraphIndex();
+    private final LineageProperties properties = new LineageProperties();
+    private LineageGraphIndexWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new LineageGraphIndexWorker(index, lineageRepository, properties, wakeupService);
+        when(lineageRepository.listAllRelations())
+            .thenReturn(Flux.just(new LineagePojo("a", "b", "a")))
+            .thenReturn(Flux.just(new LineagePojo("a", "b", "a"), new LineagePojo("b", "c", "c")));
+    }
+
+    @Test
+    void changeOfAnotherNodeRebuildsIndexTest() {
+        worker.rebuild().block();
+        worker.onNotification("another-instance");
+
+        StepVerifier.create(worker.refresh()).verifyComplete();
+
+        verify(lineageRepository, times(2)).listAllRelations();
+        assertThat(index.getRelations(Set.of("a"), 2, LineageStreamKind.DOWNSTREAM)).hasSize(2);
+
+        // the rebuild has consumed the notification
+        StepVerifier.create(worker.refresh()).verifyComplete();
+        verify(lineageRepository, times(2)).listAllRelations();
+    }
+
+    @Test
+    void ownChangeDoesNotRebuildIndexTest() {
+        worker.rebuild().block();
+        worker.onNotification(index.getInstanceId());
+
+        StepVerifier.create(worker.refresh()).verifyComplete();
+
+        verify(lineageRepository, times(1)).listAllRelations();
+        verify(lineageRepository, never()).countRelations();
+    }
+
+    @Test
+    void reconnectRebuildsIndexTest() {
+        worker.rebuild().block();
+        worker.onReconnect();
+
+        StepVerifier.create(worker.refresh()).verifyComplete();
+
+        verify(lineageRepository, times(2)).listAllRelations();
+    }
+
+    @Test
+    void divergedRelationsCountRebuildsIndexTest() {
+        properties.getIndex().setConsistencyCheckInterval(Duration.ZERO);
+        when(lineageRepository.countRelations()).thenReturn(Mono.just(2L));
+        worker.rebuild().block();
+
+        StepVerifier.create(worker.refresh()).verifyComplete();
+
+        verify(lineageRepository, times(2)).listAllRelations();
+        assertThat(index.getRelationsCount()).isEqualTo(2);
+    }
+}
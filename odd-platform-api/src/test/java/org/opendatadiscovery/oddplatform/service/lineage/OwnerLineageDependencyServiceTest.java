@@ -0,0 +1,109 @@
+package org.opendatadiscovery.oddplatform.service.lineage;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerLineageDependencyStatePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerLineageDependencyRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OwnerLineageDependencyServiceTest {
+    private static final long OWNER_ID = 1L;
+
+    @Mock
+    private ReactiveOwnerLineageDependencyRepository dependencyRepository;
+    @Mock
+    private ReactiveLineageRepository lineageRepository;
+    @Mock
+    private LineageGraphIndex lineageGraphIndex;
+    @Captor
+    private ArgumentCaptor<Map<LineageStreamKind, Collection<String>>> dependenciesCaptor;
+
+    private OwnerLineageDependencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OwnerLineageDependencyService(dependencyRepository, lineageRepository, lineageGraphIndex,
+            Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldSkipRefreshedDependencies() {
+        when(dependencyRepository.getState(OWNER_ID)).thenReturn(Mono.just(state(3L, 3L)));
+
+        StepVerifier.create(service.ensureRefreshed(OWNER_ID)).verifyComplete();
+
+        verify(dependencyRepository, never()).registerOwner(anyLong());
+        verifyNoInteractions(lineageRepository, lineageGraphIndex);
+    }
+
+    @Test
+    void shouldMaterializeDirectNeighboursOfStaleOwner() {
+        final Set<String> owned = Set.of("a", "b");
+        when(dependencyRepository.getState(OWNER_ID)).thenReturn(Mono.just(state(4L, 3L)));
+        when(dependencyRepository.registerOwner(OWNER_ID)).thenReturn(Mono.just(4L));
+        when(dependencyRepository.getOwnedOddrns(OWNER_ID)).thenReturn(Flux.fromIterable(owned));
+        when(dependencyRepository.replaceDependencies(eq(OWNER_ID), eq(4L), dependenciesCaptor.capture()))
+            .thenReturn(Mono.empty());
+        when(lineageGraphIndex.isReady()).thenReturn(true);
+        when(lineageGraphIndex.getRelations(owned, 1, LineageStreamKind.DOWNSTREAM))
+            .thenReturn(List.of(relation("a", "b"), relation("b", "c"), relation("a", "d")));
+        when(lineageGraphIndex.getRelations(owned, 1, LineageStreamKind.UPSTREAM))
+            .thenReturn(List.of(relation("e", "a")));
+
+        StepVerifier.create(service.ensureRefreshed(OWNER_ID)).verifyComplete();
+
+        final Map<LineageStreamKind, Collection<String>> dependencies = dependenciesCaptor.getValue();
+        assertThat(dependencies.get(LineageStreamKind.DOWNSTREAM)).containsExactlyInAnyOrder("c", "d");
+        assertThat(dependencies.get(LineageStreamKind.UPSTREAM)).containsExactly("e");
+        verifyNoInteractions(lineageRepository);
+    }
+
+    @Test
+    void shouldRegisterUnknownOwner() {
+        when(dependencyRepository.getState(OWNER_ID)).thenReturn(Mono.empty());
+        when(dependencyRepository.registerOwner(OWNER_ID)).thenReturn(Mono.just(1L));
+        when(dependencyRepository.getOwnedOddrns(OWNER_ID)).thenReturn(Flux.empty());
+        when(dependencyRepository.replaceDependencies(eq(OWNER_ID), eq(1L), dependenciesCaptor.capture()))
+            .thenReturn(Mono.empty());
+
+        StepVerifier.create(service.ensureRefreshed(OWNER_ID)).verifyComplete();
+
+        assertThat(dependenciesCaptor.getValue().values()).allMatch(Collection::isEmpty);
+        verifyNoInteractions(lineageRepository, lineageGraphIndex);
+    }
+
+    private OwnerLineageDependencyStatePojo state(final long version, final long refreshedVersion) {
+        return new OwnerLineageDependencyStatePojo()
+            .setOwnerId(OWNER_ID)
+            .setVersion(version)
+            .setRefreshedVersion(refreshedVersion);
+    }
+
+    private LineagePojo relation(final String parent, final String child) {
+        return new LineagePojo().setParentOddrn(parent).setChildOddrn(child);
+    }
+}
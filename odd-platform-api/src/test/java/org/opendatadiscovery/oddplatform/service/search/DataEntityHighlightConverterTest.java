@@ -0,0 +1,152 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataEntitySearchHighlight;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetStructureHighlight;
+import org.opendatadiscovery.oddplatform.api.contract.model.Label;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetadataFieldValue;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
+import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
+import org.opendatadiscovery.oddplatform.dto.DatasetStructureDto;
+import org.opendatadiscovery.oddplatform.dto.LabelDto;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataDto;
+import org.opendatadiscovery.oddplatform.dto.metadata.MetadataOrigin;
+import org.opendatadiscovery.oddplatform.mapper.LabelMapper;
+import org.opendatadiscovery.oddplatform.mapper.MetadataFieldValueMapper;
+import org.opendatadiscovery.oddplatform.mapper.TagMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetadataFieldValuePojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataEntityHighlightConverterTest {
+    private static final TsQueryHighlighter HIGHLIGHTER = new TsQueryHighlighter("orders");
+
+    @Mock
+    private TagMapper tagMapper;
+    @Mock
+    private MetadataFieldValueMapper metadataMapper;
+    @Mock
+    private LabelMapper labelMapper;
+
+    private DataEntityHighlightConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new DataEntityHighlightConverter(tagMapper, metadataMapper, labelMapper);
+    }
+
+    @Test
+    void datasetFieldsHighlightTest() {
+        final LabelDto matchedLabel = label("orders");
+        final Label highlightedLabel = new Label().name("<b>orders</b>");
+        when(labelMapper.mapToHighlightedLabel(matchedLabel, "<b>orders</b>")).thenReturn(highlightedLabel);
+
+        final DatasetStructureDto structure = structure(
+            field("orders_id", null, null, List.of()),
+            field("customer", "Customer orders", "Customer", List.of(label("pii"))),
+            field("status", null, "Orders status", null),
+            field("label_only", null, null, List.of(label("pii"), matchedLabel)),
+            field("amount", "Total amount", null, List.of(label("pii")))
+        );
+
+        final DataEntitySearchHighlight highlight = converter.highlight(details(List.of()), structure, HIGHLIGHTER);
+
+        assertThat(highlight.getDatasetStructure())
+            .extracting(DataSetStructureHighlight::getName,
+                DataSetStructureHighlight::getInternalDescription,
+                DataSetStructureHighlight::getExternalDescription,
+                DataSetStructureHighlight::getLabels)
+            .containsExactly(
+                tuple("<b>orders</b>_id", null, null, null),
+                // an unmatched name is still returned to show which field the description belongs to
+                tuple("customer", "Customer <b>orders</b>", null, null),
+                tuple("status", null, "<b>Orders</b> status", null),
+                tuple("label_only", null, null, List.of(highlightedLabel))
+            );
+        assertThat(highlight.getMetadata()).isEmpty();
+    }
+
+    @Test
+    void metadataHighlightTest() {
+        final MetadataDto externalValue = metadata("owner", "orders team", MetadataOrigin.EXTERNAL);
+        final MetadataDto internalName = metadata("orders_count", null, MetadataOrigin.INTERNAL);
+        final MetadataDto unmatched = metadata("rows", "100", MetadataOrigin.INTERNAL);
+        final MetadataFieldValue externalHighlight = new MetadataFieldValue().value("<b>orders</b> team");
+        final MetadataFieldValue internalHighlight = new MetadataFieldValue().value("");
+        when(metadataMapper.mapHighlightedDto(externalValue, "owner", "<b>orders</b> team"))
+            .thenReturn(externalHighlight);
+        when(metadataMapper.mapHighlightedDto(internalName, "<b>orders</b>_count", ""))
+            .thenReturn(internalHighlight);
+
+        final DataEntitySearchHighlight highlight = converter.highlight(
+            details(List.of(externalValue, internalName, unmatched)), structure(), HIGHLIGHTER);
+
+        // internal metadata goes first, regardless of the order it was loaded in
+        assertThat(highlight.getMetadata()).containsExactly(internalHighlight, externalHighlight);
+        assertThat(highlight.getDatasetStructure()).isNull();
+    }
+
+    @Test
+    void noMatchesTest() {
+        final DataEntitySearchHighlight highlight = converter.highlight(
+            details(List.of(metadata("rows", "100", MetadataOrigin.EXTERNAL))),
+            structure(field("amount", "Total amount", null, List.of(label("pii")))),
+            HIGHLIGHTER);
+
+        assertThat(highlight.getDataEntity()).isNull();
+        assertThat(highlight.getMetadata()).isEmpty();
+        assertThat(highlight.getDatasetStructure()).isNull();
+        verify(metadataMapper, never()).mapHighlightedDto(any(), any(), any());
+        verifyNoInteractions(labelMapper, tagMapper);
+    }
+
+    private DataEntityDetailsDto details(final List<MetadataDto> metadata) {
+        return DataEntityDetailsDto.detailsBuilder()
+            .dataEntity(new DataEntityPojo().setInternalName("Sales").setExternalName("sales"))
+            .metadata(metadata)
+            .build();
+    }
+
+    private DatasetStructureDto structure(final DatasetFieldDto... fields) {
+        return DatasetStructureDto.builder().datasetFields(List.of(fields)).build();
+    }
+
+    private DatasetFieldDto field(final String name,
+                                  final String internalDescription,
+                                  final String externalDescription,
+                                  final List<LabelDto> labels) {
+        return DatasetFieldDto.builder()
+            .datasetFieldPojo(new DatasetFieldPojo()
+                .setName(name)
+                .setInternalDescription(internalDescription)
+                .setExternalDescription(externalDescription))
+            .labels(labels)
+            .build();
+    }
+
+    private LabelDto label(final String name) {
+        return new LabelDto(new LabelPojo().setName(name), false);
+    }
+
+    private MetadataDto metadata(final String name, final String value, final MetadataOrigin origin) {
+        return new MetadataDto(
+            new MetadataFieldPojo().setName(name).setOrigin(origin.name()),
+            new MetadataFieldValuePojo().setValue(value));
+    }
+}
@@ -0,0 +1,79 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchFacetRepository;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchFacetAccessTrackerTest {
+    @Mock
+    private ReactiveSearchFacetRepository searchFacetRepository;
+
+    @Captor
+    private ArgumentCaptor<Map<UUID, OffsetDateTime>> accessesCaptor;
+
+    private SearchFacetAccessTracker accessTracker;
+
+    @BeforeEach
+    void setUp() {
+        accessTracker = new SearchFacetAccessTracker(searchFacetRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void flushesLatestAccessOfEverySearchTest() {
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        accessTracker.registerAccess(first);
+        accessTracker.registerAccess(second);
+        accessTracker.registerAccess(first);
+
+        when(searchFacetRepository.updateLastAccessedAt(any())).thenReturn(Mono.just(2));
+        StepVerifier.create(accessTracker.flush()).verifyComplete();
+        verify(searchFacetRepository).updateLastAccessedAt(accessesCaptor.capture());
+        assertThat(accessesCaptor.getValue()).containsOnlyKeys(first, second);
+
+        // flushed accesses aren't written again
+        StepVerifier.create(accessTracker.flush()).verifyComplete();
+        verify(searchFacetRepository, times(1)).updateLastAccessedAt(any());
+    }
+
+    @Test
+    void keepsAccessesWhenFlushFailsTest() {
+        final UUID searchId = UUID.randomUUID();
+        accessTracker.registerAccess(searchId);
+
+        when(searchFacetRepository.updateLastAccessedAt(any()))
+            .thenReturn(Mono.error(new IllegalStateException("Database is unavailable")))
+            .thenReturn(Mono.just(1));
+        StepVerifier.create(accessTracker.flush()).verifyError(IllegalStateException.class);
+        StepVerifier.create(accessTracker.flush()).verifyComplete();
+
+        verify(searchFacetRepository, times(2)).updateLastAccessedAt(accessesCaptor.capture());
+        assertThat(accessesCaptor.getAllValues().get(1)).containsOnlyKeys(searchId);
+    }
+
+    @Test
+    void skipsEmptyFlushTest() {
+        StepVerifier.create(accessTracker.flush()).verifyComplete();
+        verifyNoInteractions(searchFacetRepository);
+    }
+}
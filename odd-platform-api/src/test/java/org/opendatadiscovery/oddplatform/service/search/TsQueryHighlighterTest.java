@@ -0,0 +1,40 @@
+package org.opendatadiscovery.oddplatform.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TsQueryHighlighterTest {
+
+    @Test
+    public void stemmedPrefixMatchTest() {
+        final TsQueryHighlighter highlighter = new TsQueryHighlighter("table");
+
+        assertThat(highlighter.highlight("Orders tables, order_table and tablespace"))
+            .isEqualTo("Orders <b>tables</b>, order_<b>table</b> and <b>tablespace</b>");
+    }
+
+    @Test
+    public void stopWordsAreIgnoredTest() {
+        final TsQueryHighlighter highlighter = new TsQueryHighlighter("the orders");
+
+        assertThat(highlighter.highlight("The order of the day")).isEqualTo("The <b>order</b> of the day");
+        assertThat(new TsQueryHighlighter("the").highlight("the table")).isNull();
+    }
+
+    @Test
+    public void wordsWithDigitsAreNotStemmedTest() {
+        final TsQueryHighlighter highlighter = new TsQueryHighlighter("v2");
+
+        assertThat(highlighter.highlight("events_v2 events_v3")).isEqualTo("events_<b>v2</b> events_v3");
+    }
+
+    @Test
+    public void noMatchTest() {
+        final TsQueryHighlighter highlighter = new TsQueryHighlighter("customer");
+
+        assertThat(highlighter.highlight("orders table")).isNull();
+        assertThat(highlighter.highlight(null)).isNull();
+        assertThat(new TsQueryHighlighter("").highlight("orders table")).isNull();
+    }
+}
@@ -0,0 +1,52 @@
+package org.opendatadiscovery.oddplatform.utils.timeseries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GorillaChunkCodecTest {
+    private static final long START = 1_700_000_000L;
+
+    @Test
+    void shouldRoundTripEmptyChunk() {
+        assertThat(GorillaChunkCodec.decode(GorillaChunkCodec.encode(List.of()))).isEmpty();
+        assertThat(GorillaChunkCodec.decode(null)).isEmpty();
+    }
+
+    @Test
+    void shouldRoundTripIrregularPoints() {
+        final Random random = new Random(42);
+        final List<MetricHistoryPointDto> points = new ArrayList<>();
+        long timestamp = START;
+        for (int i = 0; i < 1000; i++) {
+            timestamp += 1 + random.nextInt(i % 10 == 0 ? 100_000 : 120);
+            final double value = switch (i % 4) {
+                case 0 -> random.nextDouble() * 1e6;
+                case 1 -> -random.nextInt(1000);
+                case 2 -> i % 3 == 0 ? Double.NaN : Double.MAX_VALUE;
+                default -> 0.0;
+            };
+            points.add(new MetricHistoryPointDto(timestamp, value));
+        }
+
+        assertThat(GorillaChunkCodec.decode(GorillaChunkCodec.encode(points))).isEqualTo(points);
+    }
+
+    @Test
+    void shouldCompressRegularlyCollectedPoints() {
+        final List<MetricHistoryPointDto> points = new ArrayList<>();
+        for (int i = 0; i < 1440; i++) {
+            points.add(new MetricHistoryPointDto(START + i * 60L, 100 + i / 100));
+        }
+
+        final byte[] chunk = GorillaChunkCodec.encode(points);
+
+        assertThat(GorillaChunkCodec.decode(chunk)).isEqualTo(points);
+        // 16 bytes per raw point
+        assertThat(chunk.length).isLessThan(points.size());
+    }
+}
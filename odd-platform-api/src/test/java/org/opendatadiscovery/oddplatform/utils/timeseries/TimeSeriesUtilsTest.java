@@ -0,0 +1,57 @@
+package org.opendatadiscovery.oddplatform.utils.timeseries;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricHistoryPointDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSeriesUtilsTest {
+    private static final long START = 1_700_000_000L;
+
+    @Test
+    void shouldFloorTimestampsToBucketStart() {
+        assertThat(TimeSeriesUtils.bucketStart(START, Duration.ofMinutes(1))).isEqualTo(1_699_999_980L);
+        assertThat(TimeSeriesUtils.bucketStart(1_699_999_980L, Duration.ofMinutes(1))).isEqualTo(1_699_999_980L);
+        assertThat(TimeSeriesUtils.bucketStart(-1, Duration.ofMinutes(1))).isEqualTo(-60L);
+    }
+
+    @Test
+    void shouldMergePointsReplacingSameTimestamps() {
+        final List<MetricHistoryPointDto> existing = List.of(
+            new MetricHistoryPointDto(START, 1),
+            new MetricHistoryPointDto(START + 60, 2)
+        );
+
+        assertThat(TimeSeriesUtils.merge(existing, List.of(
+            new MetricHistoryPointDto(START + 120, 4),
+            new MetricHistoryPointDto(START + 60, 3),
+            new MetricHistoryPointDto(START - 60, 0)
+        ))).containsExactly(
+            new MetricHistoryPointDto(START - 60, 0),
+            new MetricHistoryPointDto(START, 1),
+            new MetricHistoryPointDto(START + 60, 3),
+            new MetricHistoryPointDto(START + 120, 4)
+        );
+    }
+
+    @Test
+    void shouldDownsampleIntoStepStarts() {
+        final List<MetricHistoryPointDto> points = List.of(
+            new MetricHistoryPointDto(START, 1),
+            new MetricHistoryPointDto(START + 30, 3),
+            new MetricHistoryPointDto(START + 70, 10)
+        );
+
+        assertThat(TimeSeriesUtils.downsample(points, Duration.ofMinutes(1))).containsExactly(
+            new MetricHistoryPointDto(TimeSeriesUtils.bucketStart(START, Duration.ofMinutes(1)), 2),
+            new MetricHistoryPointDto(TimeSeriesUtils.bucketStart(START + 70, Duration.ofMinutes(1)), 10)
+        );
+    }
+
+    @Test
+    void shouldDownsampleEmptyPoints() {
+        assertThat(TimeSeriesUtils.downsample(List.of(), Duration.ofMinutes(1))).isEmpty();
+    }
+}
@@ -0,0 +1,148 @@
+package org.opendatadiscovery.oddplatform.wakeup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgreSQLWakeupServiceImplTest extends BaseIntegrationTest {
+    // nothing notifies this channel in tests, data collaboration is disabled
+    private static final WakeupChannel CHANNEL = WakeupChannel.MESSAGE_EVENT_PENDING;
+    // way longer than any of the awaits below, so an await can only return in time by being notified
+    private static final Duration FALLBACK_INTERVAL = Duration.ofMinutes(1);
+    private static final long TIMEOUT_SECONDS = 15;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+
+    private final Semaphore reconnects = new Semaphore(0);
+    private final BlockingQueue<String> payloads = new LinkedBlockingQueue<>();
+    private RecordingConnectionFactory listenerConnectionFactory;
+    private PostgreSQLWakeupServiceImpl wakeupService;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        listenerConnectionFactory = new RecordingConnectionFactory(dataSourceProperties);
+        wakeupService = new PostgreSQLWakeupServiceImpl(listenerConnectionFactory, FALLBACK_INTERVAL);
+        wakeupService.subscribe(CHANNEL, new WakeupListener() {
+            @Override
+            public void onNotification(final String payload) {
+                payloads.add(payload);
+            }
+
+            @Override
+            public void onReconnect() {
+                reconnects.release();
+            }
+        });
+        wakeupService.startListening();
+
+        awaitConnection();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wakeupService.stopListening();
+    }
+
+    @Test
+    void notificationDuringAwaitWakesUpWaiterTest() throws Exception {
+        final CompletableFuture<Boolean> awaited = awaitAsync();
+        // lets the waiter block on the channel before it gets notified
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertThat(awaited).isNotDone();
+
+        sendNotification(CHANNEL, "payload");
+
+        assertThat(awaited.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(payloads.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("payload");
+    }
+
+    @Test
+    void notificationWakesUpWaiterAfterReconnectTest() throws Exception {
+        terminate(listenerConnectionFactory.backendPids.take());
+
+        // the waiter is woken up by the reconnect as notifications might have been lost meanwhile
+        awaitConnection();
+
+        final CompletableFuture<Boolean> awaited = awaitAsync();
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertThat(awaited).isNotDone();
+
+        sendNotification(CHANNEL, "payload");
+
+        assertThat(awaited.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(payloads.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("payload");
+    }
+
+    private void awaitConnection() throws InterruptedException {
+        assertThat(reconnects.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        // every connect wakes all the channels up, the signal is consumed before testing notifications
+        assertThat(wakeupService.await(CHANNEL)).isTrue();
+    }
+
+    private CompletableFuture<Boolean> awaitAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return wakeupService.await(CHANNEL);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private void sendNotification(final WakeupChannel channel, final String payload) throws SQLException {
+        try (final Connection connection = pgConnectionFactory.getConnection();
+             final PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel.getChannelName());
+            statement.setString(2, payload);
+            statement.execute();
+        }
+    }
+
+    private void terminate(final int backendPid) throws SQLException {
+        try (final Connection connection = pgConnectionFactory.getConnection();
+             final PreparedStatement statement = connection.prepareStatement("SELECT pg_terminate_backend(?)")) {
+            statement.setInt(1, backendPid);
+            statement.execute();
+        }
+    }
+
+    private static class RecordingConnectionFactory extends PGConnectionFactory {
+        private final BlockingQueue<Integer> backendPids = new LinkedBlockingQueue<>();
+
+        RecordingConnectionFactory(final DataSourceProperties dataSourceProperties) {
+            super(dataSourceProperties);
+        }
+
+        @Override
+        public Connection getConnection() {
+            final Connection connection = super.getConnection();
+            try {
+                backendPids.add(connection.unwrap(PGConnection.class).getBackendPID());
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return connection;
+        }
+    }
+}